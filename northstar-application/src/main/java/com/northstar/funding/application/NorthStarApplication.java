@@ -24,6 +24,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
         "com.northstar.funding.persistence",    // Database repositories and services
         "com.northstar.funding.crawler",        // Search result processing
         "com.northstar.funding.search",         // Search adapters (SearXNG, etc.)
+        "com.northstar.funding.searchadapters", // Search workflow and query cache warm-up
         "com.northstar.funding.workflow"        // Kafka workflow consumers
 })
 public class NorthStarApplication {
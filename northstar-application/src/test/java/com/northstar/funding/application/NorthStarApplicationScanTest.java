@@ -0,0 +1,53 @@
+package com.northstar.funding.application;
+
+import com.northstar.funding.querygeneration.service.QueryCacheService;
+import com.northstar.funding.searchadapters.SearchAdapter;
+import com.northstar.funding.searchadapters.workflow.QueryCacheWarmer;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.ClassPathBeanDefinitionScanner;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test that NorthStarApplication's component scan registers startup beans from other modules.
+ *
+ * <p>Scans NorthStarApplication's scanBasePackages for the bean under test only, with
+ * its collaborators mocked, so no database, Kafka or LLM is needed.
+ */
+class NorthStarApplicationScanTest {
+
+    @Test
+    void queryCacheWarmer_shouldBeScannedAndWarmCacheWhenApplicationIsReady() {
+        // Given
+        QueryCacheService queryCacheService = mock(QueryCacheService.class);
+        SearchAdapter searchAdapter = mock(SearchAdapter.class);
+
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean(QueryCacheService.class, () -> queryCacheService);
+            context.registerBean(SearchAdapter.class, () -> searchAdapter);
+
+            ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(context, false);
+            scanner.addIncludeFilter(new AssignableTypeFilter(QueryCacheWarmer.class));
+            scanner.scan(NorthStarApplication.class.getAnnotation(SpringBootApplication.class).scanBasePackages());
+            context.refresh();
+
+            // When
+            context.publishEvent(new ApplicationReadyEvent(
+                    new SpringApplication(NorthStarApplication.class), new String[0], context, Duration.ZERO));
+
+            // Then
+            assertThat(context.getBeansOfType(QueryCacheWarmer.class)).hasSize(1);
+            verify(queryCacheService).warmUp(anyList());
+        }
+    }
+}
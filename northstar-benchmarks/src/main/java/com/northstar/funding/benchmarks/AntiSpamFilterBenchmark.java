@@ -0,0 +1,92 @@
+package com.northstar.funding.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.northstar.funding.crawler.antispam.AntiSpamFilterImpl;
+import com.northstar.funding.crawler.antispam.CrossCategorySpamDetector;
+import com.northstar.funding.crawler.antispam.DomainMetadataMismatchDetector;
+import com.northstar.funding.crawler.antispam.KeywordStuffingDetector;
+import com.northstar.funding.crawler.antispam.SpamAnalysisResult;
+import com.northstar.funding.crawler.antispam.UnnaturalKeywordListDetector;
+import com.northstar.funding.domain.SearchResult;
+
+/**
+ * Throughput of the full anti-spam pipeline (all four detectors, including the
+ * commons-text CosineSimilarity in DomainMetadataMismatchDetector) and of each
+ * detector on its own, so a regression can be attributed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AntiSpamFilterBenchmark {
+
+    private KeywordStuffingDetector keywordStuffingDetector;
+    private DomainMetadataMismatchDetector domainMetadataMismatchDetector;
+    private UnnaturalKeywordListDetector unnaturalKeywordListDetector;
+    private CrossCategorySpamDetector crossCategorySpamDetector;
+    private AntiSpamFilterImpl antiSpamFilter;
+
+    @Setup
+    public void setUp() {
+        keywordStuffingDetector = new KeywordStuffingDetector();
+        domainMetadataMismatchDetector = new DomainMetadataMismatchDetector();
+        unnaturalKeywordListDetector = new UnnaturalKeywordListDetector();
+        crossCategorySpamDetector = new CrossCategorySpamDetector();
+        antiSpamFilter = new AntiSpamFilterImpl(
+                keywordStuffingDetector,
+                domainMetadataMismatchDetector,
+                unnaturalKeywordListDetector,
+                crossCategorySpamDetector
+        );
+    }
+
+    @Benchmark
+    public SpamAnalysisResult analyzeForSpam(CorpusCursor cursor) {
+        SearchResultCorpus.Entry entry = cursor.next();
+        SearchResult result = SearchResult.builder()
+                .url(entry.url())
+                .domain(entry.domain())
+                .title(entry.title())
+                .description(entry.description())
+                .build();
+        return antiSpamFilter.analyzeForSpam(result);
+    }
+
+    @Benchmark
+    public boolean keywordStuffing(CorpusCursor cursor) {
+        SearchResultCorpus.Entry entry = cursor.next();
+        return keywordStuffingDetector.detect(entry.title() + " " + entry.description());
+    }
+
+    @Benchmark
+    public boolean domainMetadataMismatch(CorpusCursor cursor) {
+        SearchResultCorpus.Entry entry = cursor.next();
+        return domainMetadataMismatchDetector.detect(entry.domain(), entry.title(), entry.description());
+    }
+
+    @Benchmark
+    public boolean unnaturalKeywordList(CorpusCursor cursor) {
+        SearchResultCorpus.Entry entry = cursor.next();
+        return unnaturalKeywordListDetector.detect(entry.title() + " " + entry.description());
+    }
+
+    @Benchmark
+    public boolean crossCategory(CorpusCursor cursor) {
+        SearchResultCorpus.Entry entry = cursor.next();
+        return crossCategorySpamDetector.detect(entry.domain(), entry.title(), entry.description());
+    }
+}
@@ -0,0 +1,38 @@
+package com.northstar.funding.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all benchmarks with the GC profiler attached, reporting both
+ * throughput (ops/ms) and allocation rate (gc.alloc.rate.norm, bytes/op).
+ *
+ * <p>Usage:
+ * <pre>{@code
+ * mvn -pl northstar-benchmarks -am package -DskipTests
+ * java -jar northstar-benchmarks/target/benchmarks.jar -prof gc          # all suites
+ * java -jar northstar-benchmarks/target/benchmarks.jar AntiSpam -prof gc # one suite
+ * java -jar northstar-benchmarks/target/benchmarks.jar KafkaProducer    # producer profiles (embedded broker)
+ * java -jar northstar-benchmarks/target/benchmarks.jar EventSerde -prof gc # JSON vs compact event format
+ * }</pre>
+ *
+ * <p>Or from an IDE: run this class; an optional first argument filters by regex.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        // Entry point only
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "com\\.northstar\\.funding\\.benchmarks\\..*";
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
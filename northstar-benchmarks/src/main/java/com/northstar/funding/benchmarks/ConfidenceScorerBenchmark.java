@@ -0,0 +1,44 @@
+package com.northstar.funding.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.northstar.funding.crawler.scoring.ConfidenceScorer;
+import com.northstar.funding.crawler.scoring.DomainCredibilityService;
+
+/**
+ * Throughput of {@link ConfidenceScorer#calculateConfidence(String, String, String)}
+ * (keyword matching + BigDecimal arithmetic) over the corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfidenceScorerBenchmark {
+
+    private ConfidenceScorer confidenceScorer;
+
+    @Setup
+    public void setUp() {
+        confidenceScorer = new ConfidenceScorer(new DomainCredibilityService());
+    }
+
+    @Benchmark
+    public BigDecimal calculateConfidence(CorpusCursor cursor) {
+        SearchResultCorpus.Entry entry = cursor.next();
+        return confidenceScorer.calculateConfidence(entry.title(), entry.description(), entry.url());
+    }
+}
@@ -0,0 +1,29 @@
+package com.northstar.funding.benchmarks;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-thread cursor cycling through the corpus, so each benchmark invocation
+ * sees a different entry and JIT cannot specialise on a single constant input.
+ */
+@State(Scope.Thread)
+public class CorpusCursor {
+
+    private List<SearchResultCorpus.Entry> entries;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        entries = SearchResultCorpus.load();
+    }
+
+    public SearchResultCorpus.Entry next() {
+        SearchResultCorpus.Entry entry = entries.get(index);
+        index = (index + 1) % entries.size();
+        return entry;
+    }
+}
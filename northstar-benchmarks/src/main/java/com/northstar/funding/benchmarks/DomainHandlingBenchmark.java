@@ -0,0 +1,86 @@
+package com.northstar.funding.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.northstar.funding.crawler.adapter.AbstractSearchProviderAdapter;
+import com.northstar.funding.crawler.scoring.DomainCredibilityService;
+import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.domain.SearchResult;
+
+import io.vavr.control.Try;
+
+/**
+ * Throughput of per-URL domain handling:
+ * {@link DomainCredibilityService#getTldScore(String)} and
+ * {@code AbstractSearchProviderAdapter.normalizeDomain(String)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainHandlingBenchmark {
+
+    private DomainCredibilityService domainCredibilityService;
+    private ProbeAdapter adapter;
+
+    @Setup
+    public void setUp() {
+        domainCredibilityService = new DomainCredibilityService();
+        adapter = new ProbeAdapter();
+    }
+
+    @Benchmark
+    public BigDecimal getTldScore(CorpusCursor cursor) {
+        return domainCredibilityService.getTldScore(cursor.next().url());
+    }
+
+    @Benchmark
+    public String normalizeDomain(CorpusCursor cursor) {
+        return adapter.normalize(cursor.next().url());
+    }
+
+    /**
+     * Minimal adapter exposing the protected normalizeDomain helper; never performs I/O.
+     */
+    static final class ProbeAdapter extends AbstractSearchProviderAdapter {
+
+        ProbeAdapter() {
+            super(SearchEngineType.SEARXNG, 5, 20, Integer.MAX_VALUE);
+        }
+
+        String normalize(String url) {
+            return normalizeDomain(url);
+        }
+
+        @Override
+        public Try<List<SearchResult>> executeSearch(String query, int maxResults, UUID discoverySessionId) {
+            return Try.success(List.of());
+        }
+
+        @Override
+        public boolean supportsKeywordQueries() {
+            return true;
+        }
+
+        @Override
+        public boolean supportsAIOptimizedQueries() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.northstar.funding.benchmarks;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.northstar.funding.kafka.events.SearchResultEvent;
+import com.northstar.funding.kafka.serde.CompactEventDeserializer;
+import com.northstar.funding.kafka.serde.CompactEventSerializer;
+import com.northstar.funding.kafka.serde.EventFormat;
+
+/**
+ * Serialize + deserialize throughput of {@link SearchResultEvent}s built from the corpus,
+ * for each {@link EventFormat} producers can write.
+ *
+ * <p>Both formats are read back through {@link CompactEventDeserializer}, as consumers do.
+ * At the end of each trial the average value size in bytes/event is printed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerdeBenchmark {
+
+    private static final String TOPIC = "search-results-raw";
+
+    @Param({"JSON", "COMPACT"})
+    public String format;
+
+    private Serializer<Object> serializer;
+    private CompactEventDeserializer deserializer;
+    private List<SearchResultEvent> events;
+    private int index;
+    private long bytes;
+    private long count;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer = EventFormat.valueOf(format) == EventFormat.COMPACT
+                ? new CompactEventSerializer()
+                : new JsonSerializer<>();
+        // Same JSON settings the consumer factory uses, plus type headers so JSON values can be typed
+        deserializer = new CompactEventDeserializer();
+        deserializer.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, "com.northstar.funding.kafka.events",
+                JsonDeserializer.USE_TYPE_INFO_HEADERS, true), false);
+
+        events = new ArrayList<>();
+        for (SearchResultCorpus.Entry entry : SearchResultCorpus.load()) {
+            events.add(SearchResultEvent.builder()
+                    .requestId(UUID.randomUUID())
+                    .sessionId(UUID.randomUUID())
+                    .url(entry.url())
+                    .title(entry.title())
+                    .description(entry.description())
+                    .searchEngine("SEARXNG")
+                    .timestamp(Instant.now())
+                    .query("Bulgaria education grants")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        SearchResultEvent event = events.get(index);
+        index = (index + 1) % events.size();
+        RecordHeaders headers = new RecordHeaders();
+        byte[] data = serializer.serialize(TOPIC, headers, event);
+        bytes += data.length;
+        count++;
+        return deserializer.deserialize(TOPIC, headers, data);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n[%s] events=%d bytes/event=%.1f%n", format, count, count > 0 ? (double) bytes / count : 0);
+        serializer.close();
+        deserializer.close();
+    }
+}
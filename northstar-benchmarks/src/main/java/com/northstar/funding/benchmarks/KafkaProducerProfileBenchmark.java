@@ -0,0 +1,131 @@
+package com.northstar.funding.benchmarks;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import com.northstar.funding.kafka.config.KafkaConfig;
+import com.northstar.funding.kafka.config.ProducerProfile;
+import com.northstar.funding.kafka.events.SearchResultEvent;
+
+/**
+ * Events/s and bytes on the wire for each {@link ProducerProfile}, publishing
+ * {@link SearchResultEvent}s built from the corpus to an embedded KRaft broker.
+ *
+ * <p>The score is send() calls per second; each iteration ends with a flush, so
+ * every counted event reached the broker. At the end of each trial the producer's
+ * own metrics are printed: total events, outgoing bytes, bytes/event and the
+ * compression ratio, which is where the profiles differ most.
+ *
+ * <p>Events are keyed by session ID (20 sessions) as in the workflow, so batches
+ * spread over the topic's 3 partitions the same way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class KafkaProducerProfileBenchmark {
+
+    private static final String TOPIC = "benchmark-search-results";
+    private static final int SESSIONS = 20;
+
+    @Param({"LATENCY", "BULK"})
+    public String profile;
+
+    private EmbeddedKafkaKraftBroker broker;
+    private KafkaProducer<String, Object> producer;
+    private List<SearchResultEvent> events;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, 3, TOPIC);
+        broker.afterPropertiesSet();
+
+        Map<String, Object> props = KafkaConfig.producerProperties(
+                broker.getBrokersAsString(), ProducerProfile.valueOf(profile));
+        producer = new KafkaProducer<>(props);
+
+        List<UUID> sessions = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            sessions.add(UUID.randomUUID());
+        }
+        events = new ArrayList<>();
+        List<SearchResultCorpus.Entry> entries = SearchResultCorpus.load();
+        for (int i = 0; i < entries.size(); i++) {
+            SearchResultCorpus.Entry entry = entries.get(i);
+            events.add(SearchResultEvent.builder()
+                    .requestId(UUID.randomUUID())
+                    .sessionId(sessions.get(i % SESSIONS))
+                    .url(entry.url())
+                    .title(entry.title())
+                    .description(entry.description())
+                    .searchEngine("SEARXNG")
+                    .timestamp(Instant.now())
+                    .query("Bulgaria education grants")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public Future<RecordMetadata> send() {
+        SearchResultEvent event = events.get(index);
+        index = (index + 1) % events.size();
+        return producer.send(new ProducerRecord<>(TOPIC, event.getSessionId().toString(), event));
+    }
+
+    @TearDown(Level.Iteration)
+    public void flush() {
+        producer.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        producer.flush();
+        double records = metric("record-send-total");
+        double bytes = metric("outgoing-byte-total");
+        System.out.printf("%n[%s] events=%.0f wireBytes=%.0f bytes/event=%.1f compression-rate-avg=%.3f "
+                        + "batch-size-avg=%.0f records-per-request-avg=%.1f%n",
+                profile, records, bytes, records > 0 ? bytes / records : 0,
+                metric("compression-rate-avg"), metric("batch-size-avg"), metric("records-per-request-avg"));
+        producer.close();
+        broker.destroy();
+    }
+
+    private double metric(String name) {
+        for (Map.Entry<MetricName, ? extends Metric> entry : producer.metrics().entrySet()) {
+            MetricName metricName = entry.getKey();
+            if (metricName.name().equals(name) && metricName.group().equals("producer-metrics")) {
+                Object value = entry.getValue().metricValue();
+                return value instanceof Number number ? number.doubleValue() : 0;
+            }
+        }
+        return 0;
+    }
+}
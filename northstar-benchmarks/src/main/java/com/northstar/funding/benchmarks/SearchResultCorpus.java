@@ -0,0 +1,65 @@
+package com.northstar.funding.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Realistic search result metadata used as benchmark input.
+ *
+ * <p>Loaded from {@code corpus/search-results-bg-en.tsv}: a mix of Bulgarian and
+ * English titles/descriptions from legitimate funders, neutral pages and spam,
+ * roughly matching what the nightly workflow receives from the providers.
+ */
+public final class SearchResultCorpus {
+
+    static final String RESOURCE = "/corpus/search-results-bg-en.tsv";
+
+    private SearchResultCorpus() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * One search result row.
+     */
+    public record Entry(String url, String domain, String title, String description) {
+    }
+
+    /**
+     * Load all corpus entries (comment lines starting with '#' are skipped).
+     */
+    public static List<Entry> load() {
+        try (InputStream in = SearchResultCorpus.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Corpus not found on classpath: " + RESOURCE);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            List<Entry> entries = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t", 3);
+                if (columns.length == 3) {
+                    entries.add(new Entry(columns[0], domainOf(columns[0]), columns[1], columns[2]));
+                }
+            }
+            return List.copyOf(entries);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String domainOf(String url) {
+        String host = URI.create(url).getHost().toLowerCase(Locale.ROOT);
+        return host.startsWith("www.") ? host.substring(4) : host;
+    }
+}
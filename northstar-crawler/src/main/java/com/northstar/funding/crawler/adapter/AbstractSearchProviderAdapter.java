@@ -1,17 +1,33 @@
 package com.northstar.funding.crawler.adapter;
 
+import com.northstar.funding.crawler.adapter.json.ResultStreamParser;
+import com.northstar.funding.crawler.adapter.limit.ClusterQuota;
+import com.northstar.funding.crawler.adapter.limit.LimiterMetrics;
+import com.northstar.funding.crawler.adapter.limit.ProviderLimiter;
+import com.northstar.funding.crawler.config.SearchProviderConfig;
 import com.northstar.funding.crawler.exception.AuthenticationException;
 import com.northstar.funding.crawler.exception.ProviderTimeoutException;
 import com.northstar.funding.crawler.exception.RateLimitException;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
+import com.northstar.funding.crawler.provider.ProviderCapabilities;
+import com.northstar.funding.crawler.provider.ProviderResults;
+import com.northstar.funding.crawler.provider.SearchProviderMetrics;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.domain.SearchResult;
+import com.northstar.funding.persistence.service.ProviderQuotaService;
+import org.springframework.beans.factory.annotation.Autowired;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -19,39 +35,100 @@ import java.util.concurrent.atomic.AtomicLong;
  * Abstract base class for search provider adapters.
  *
  * Provides common functionality:
- * - HTTP client initialization with timeout configuration
+ * - HTTP through the shared SearchHttpTransport (pooled HTTP/2 connections, compression)
  * - Domain normalization (lowercase, remove www, remove protocol)
  * - Rate limit tracking (thread-safe in-memory counter with daily reset)
+ * - Cluster-wide daily quota leased in blocks from the shared ledger (when available)
+ * - Request limiting (token bucket QPS, adaptive concurrency, 429 backoff honouring Retry-After)
  * - Common error handling (HTTP status codes → custom exceptions)
- * - SearchResult entity population helpers
+ * - SearchResult entity population helpers (including streamed results)
  *
  * Thread Safety: All implementations are thread-safe for Virtual Thread execution.
  */
 public abstract class AbstractSearchProviderAdapter implements SearchProviderAdapter {
 
-    protected final HttpClient httpClient;
+    private static final Duration DEADLINE_GRACE = Duration.ofSeconds(2);
+
+    protected final SearchEngineType providerType;
     protected final int maxResults;
     protected final int timeoutSeconds;
     protected final int dailyRateLimit;
+    protected final ProviderLimiter limiter;
 
     // Thread-safe rate limiting
     private final AtomicInteger currentUsageCount = new AtomicInteger(0);
     private final AtomicLong lastResetTimestamp = new AtomicLong(System.currentTimeMillis());
 
+    // Shared daily quota across nodes; null when no ledger is wired (unit tests, unlimited providers)
+    private volatile ClusterQuota clusterQuota;
+
+    // Null for adapters that override the HTTP call (test doubles, benchmarks)
+    private final SearchHttpTransport httpTransport;
+
+    /**
+     * Constructor for subclasses that do not send requests through {@link #sendLimited}.
+     *
+     * @param providerType Search engine this adapter calls
+     * @param timeoutSeconds HTTP request timeout in seconds
+     * @param maxResults Maximum results per search
+     * @param dailyRateLimit Daily API call limit
+     */
+    protected AbstractSearchProviderAdapter(SearchEngineType providerType, int timeoutSeconds, int maxResults,
+                                            int dailyRateLimit) {
+        this(providerType, timeoutSeconds, maxResults, dailyRateLimit, new SearchProviderConfig.Limiter(), null);
+    }
+
     /**
-     * Constructor for subclasses.
+     * Constructor for subclasses with request limiter configuration.
      *
+     * @param providerType Search engine this adapter calls
      * @param timeoutSeconds HTTP request timeout in seconds
      * @param maxResults Maximum results per search
      * @param dailyRateLimit Daily API call limit
+     * @param limiterConfig QPS, concurrency and backoff limits for this provider
+     * @param httpTransport shared HTTP transport
      */
-    protected AbstractSearchProviderAdapter(int timeoutSeconds, int maxResults, int dailyRateLimit) {
+    protected AbstractSearchProviderAdapter(SearchEngineType providerType, int timeoutSeconds, int maxResults,
+                                            int dailyRateLimit, SearchProviderConfig.Limiter limiterConfig,
+                                            SearchHttpTransport httpTransport) {
+        this.providerType = providerType;
+        this.httpTransport = httpTransport;
         this.timeoutSeconds = timeoutSeconds;
         this.maxResults = maxResults;
         this.dailyRateLimit = dailyRateLimit;
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(timeoutSeconds))
-                .build();
+        this.limiter = new ProviderLimiter(providerType.name(), limiterConfig);
+    }
+
+    /**
+     * Draw the daily quota from the cluster-wide ledger instead of per JVM.
+     * Skipped for unlimited (self-hosted) providers.
+     *
+     * @param quotaService quota ledger service
+     * @param searchProviderConfig provides the lease block size
+     */
+    @Autowired(required = false)
+    public void setQuotaService(ProviderQuotaService quotaService, SearchProviderConfig searchProviderConfig) {
+        if (dailyRateLimit == Integer.MAX_VALUE) {
+            return;
+        }
+        this.clusterQuota = new ClusterQuota(providerType.name(),
+                (quotaDate, blockSize) -> quotaService.lease(providerType, quotaDate, dailyRateLimit, blockSize),
+                searchProviderConfig.getLeaseBlock());
+    }
+
+    /**
+     * Publish this adapter's limiter through Micrometer.
+     *
+     * @param providerMetrics provider meters
+     */
+    @Autowired(required = false)
+    public void setProviderMetrics(SearchProviderMetrics providerMetrics) {
+        providerMetrics.bindLimiter(limiter, "adapter");
+    }
+
+    @Override
+    public SearchEngineType getProviderType() {
+        return providerType;
     }
 
     @Override
@@ -65,8 +142,93 @@ public abstract class AbstractSearchProviderAdapter implements SearchProviderAda
         return dailyRateLimit;
     }
 
+    /**
+     * Deadline = HTTP timeout + grace period for response parsing and scheduling.
+     */
+    @Override
+    public Duration getDeadline() {
+        return Duration.ofSeconds(timeoutSeconds).plus(DEADLINE_GRACE);
+    }
+
+    @Override
+    public LimiterMetrics getLimiterMetrics() {
+        return limiter.metrics();
+    }
+
+    /**
+     * Adapters run their own ProviderLimiter, so callers add no limiter of their own.
+     */
+    @Override
+    public ProviderCapabilities getCapabilities() {
+        boolean dailyQuota = dailyRateLimit != Integer.MAX_VALUE;
+        return new ProviderCapabilities(
+                supportsKeywordQueries(),
+                supportsAIOptimizedQueries(),
+                dailyQuota,
+                !dailyQuota,
+                true);
+    }
+
+    /**
+     * Start a request to the provider with this adapter's timeout.
+     *
+     * @param uri request URI
+     * @return request builder; callers add headers and the method
+     */
+    protected HttpRequest.Builder newRequest(URI uri) {
+        return HttpRequest.newBuilder()
+                .uri(uri)
+                .timeout(Duration.ofSeconds(timeoutSeconds));
+    }
+
+    /**
+     * Send a request through the provider's limiter and the shared transport.
+     *
+     * Parks the calling thread until the limiter admits the request. A 429 response
+     * starts a backoff window (Retry-After when present) and is retried up to
+     * maxRetries times if the backoff fits within maxWaitMs; otherwise the 429 response
+     * is returned for the caller to map to RateLimitException.
+     *
+     * The caller owns the (already decompressed) body and must close it, which frees
+     * the pooled connection; the bodies of retried 429 responses are closed here.
+     *
+     * @param request HTTP request
+     * @return HTTP response (any status)
+     * @throws RateLimitException if the limiter cannot admit the request within maxWaitMs
+     */
+    protected HttpResponse<InputStream> sendLimited(HttpRequest request) throws Exception {
+        for (int attempt = 0; ; attempt++) {
+            try (ProviderLimiter.Permit permit = limiter.acquire()) {
+                HttpResponse<InputStream> response;
+                try {
+                    response = httpTransport.send(request);
+                } catch (java.net.http.HttpTimeoutException e) {
+                    permit.onDropped();
+                    throw e;
+                }
+
+                int statusCode = response.statusCode();
+                if (statusCode == 429) {
+                    Duration retryAfter = ProviderLimiter.parseRetryAfter(
+                            response.headers().firstValue("Retry-After").orElse(null)).orElse(null);
+                    Duration backoff = permit.onThrottled(retryAfter);
+                    if (attempt < limiter.maxRetries() && limiter.canWait(backoff)) {
+                        response.body().close();
+                        continue; // next acquire() parks until the backoff window ends
+                    }
+                } else if (statusCode >= 500) {
+                    permit.onDropped();
+                } else {
+                    permit.onSuccess();
+                }
+                return response;
+            }
+        }
+    }
+
     /**
      * Increment the API usage counter and check rate limit.
+     * A call refused by either the local limit or the cluster quota is not counted.
      *
      * @throws RateLimitException if rate limit exceeded
      */
@@ -74,7 +236,13 @@ public abstract class AbstractSearchProviderAdapter implements SearchProviderAda
         checkAndResetRateLimitIfNeeded();
         int newCount = currentUsageCount.incrementAndGet();
         if (newCount > dailyRateLimit) {
-            throw new RateLimitException(getProviderType().name(), dailyRateLimit);
+            currentUsageCount.decrementAndGet();
+            throw new RateLimitException(providerType.name(), dailyRateLimit);
+        }
+        ClusterQuota quota = clusterQuota;
+        if (quota != null && !quota.tryAcquire()) {
+            currentUsageCount.decrementAndGet();
+            throw new RateLimitException(providerType.name(), dailyRateLimit);
         }
     }
 
@@ -96,36 +264,14 @@ public abstract class AbstractSearchProviderAdapter implements SearchProviderAda
     }
 
     /**
-     * Normalize domain name: lowercase, remove protocol, remove www.
-     *
-     * Examples:
-     * - "https://www.example.com/path" → "example.com"
-     * - "HTTP://EXAMPLE.COM" → "example.com"
-     * - "www.example.com" → "example.com"
+     * Normalize domain name: lowercase, remove protocol, remove www
+     * (see {@link ProviderResults#normalizeDomain}).
      *
      * @param url URL or domain string
      * @return Normalized domain name
      */
     protected String normalizeDomain(String url) {
-        if (url == null || url.isBlank()) {
-            return "";
-        }
-
-        String normalized = url.toLowerCase().trim();
-
-        // Remove protocol
-        normalized = normalized.replaceFirst("^https?://", "");
-
-        // Remove www.
-        normalized = normalized.replaceFirst("^www\\.", "");
-
-        // Extract domain (remove path, query, fragment)
-        int slashIndex = normalized.indexOf('/');
-        if (slashIndex != -1) {
-            normalized = normalized.substring(0, slashIndex);
-        }
-
-        return normalized;
+        return ProviderResults.normalizeDomain(url);
     }
 
     /**
@@ -159,6 +305,49 @@ public abstract class AbstractSearchProviderAdapter implements SearchProviderAda
                 .searchDate(LocalDateTime.now().toLocalDate());
     }
 
+    /**
+     * Convert streamed results to SearchResult entities for this provider.
+     * Results without a URL are dropped; missing titles and descriptions become "".
+     *
+     * @param rawResults results read by a {@link ResultStreamParser}
+     * @param discoverySessionId Discovery session UUID
+     * @return SearchResult entities in response order
+     */
+    protected List<SearchResult> toSearchResults(List<ResultStreamParser.RawResult> rawResults,
+                                                 UUID discoverySessionId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        return rawResults.stream()
+                .filter(result -> result.url() != null && !result.url().isBlank())
+                .map(result -> SearchResult.builder()
+                        .url(result.url())
+                        .domain(normalizeDomain(result.url()))
+                        .title(result.title() != null ? result.title() : "")
+                        .description(result.description() != null ? result.description() : "")
+                        .rankPosition(result.position())
+                        .searchEngine(getProviderType())
+                        .discoveredAt(now)
+                        .searchDate(today)
+                        .discoverySessionId(discoverySessionId)
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Read the start of an error response body for exception messages, then close it.
+     *
+     * @param body response body stream
+     * @return up to the first 512 bytes of the body as text
+     */
+    protected static String errorSnippet(InputStream body) {
+        try (body) {
+            return new String(body.readNBytes(512), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
     /**
      * Execute an HTTP GET request with timeout and error handling.
      *
@@ -170,9 +359,7 @@ public abstract class AbstractSearchProviderAdapter implements SearchProviderAda
      * @throws RateLimitException if 429 status code
      */
     protected String executeHttpGet(URI uri, String... headers) throws Exception {
-        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                .uri(uri)
-                .timeout(Duration.ofSeconds(timeoutSeconds))
+        HttpRequest.Builder requestBuilder = newRequest(uri)
                 .GET();
 
         // Add headers (key-value pairs)
@@ -185,22 +372,24 @@ public abstract class AbstractSearchProviderAdapter implements SearchProviderAda
         HttpRequest request = requestBuilder.build();
 
         try {
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<InputStream> response = sendLimited(request);
 
             // Handle HTTP errors
             int statusCode = response.statusCode();
-            if (statusCode == 401 || statusCode == 403) {
-                throw new AuthenticationException(
-                        getProviderType().name(),
-                        "Invalid or missing API key (HTTP " + statusCode + ")"
-                );
-            } else if (statusCode == 429) {
-                throw new RateLimitException(getProviderType().name(), dailyRateLimit);
-            } else if (statusCode >= 400) {
-                throw new RuntimeException("HTTP " + statusCode + ": " + response.body());
+            if (statusCode >= 400) {
+                String error = errorSnippet(response.body());
+                if (statusCode == 401 || statusCode == 403) {
+                    throw new AuthenticationException(
+                            getProviderType().name(),
+                            "Invalid or missing API key (HTTP " + statusCode + ")"
+                    );
+                } else if (statusCode == 429) {
+                    throw new RateLimitException(getProviderType().name(), dailyRateLimit);
+                }
+                throw new RuntimeException("HTTP " + statusCode + ": " + error);
             }
 
-            return response.body();
+            return SearchHttpTransport.readString(response.body());
 
         } catch (java.net.http.HttpTimeoutException e) {
             throw new ProviderTimeoutException(
@@ -223,9 +412,7 @@ public abstract class AbstractSearchProviderAdapter implements SearchProviderAda
      * @throws RateLimitException if 429 status code
      */
     protected String executeHttpPost(URI uri, String jsonBody, String... headers) throws Exception {
-        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                .uri(uri)
-                .timeout(Duration.ofSeconds(timeoutSeconds))
+        HttpRequest.Builder requestBuilder = newRequest(uri)
                 .POST(HttpRequest.BodyPublishers.ofString(jsonBody));
 
         // Add default Content-Type
@@ -241,22 +428,24 @@ public abstract class AbstractSearchProviderAdapter implements SearchProviderAda
         HttpRequest request = requestBuilder.build();
 
         try {
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<InputStream> response = sendLimited(request);
 
             // Handle HTTP errors
             int statusCode = response.statusCode();
-            if (statusCode == 401 || statusCode == 403) {
-                throw new AuthenticationException(
-                        getProviderType().name(),
-                        "Invalid or missing API key (HTTP " + statusCode + ")"
-                );
-            } else if (statusCode == 429) {
-                throw new RateLimitException(getProviderType().name(), dailyRateLimit);
-            } else if (statusCode >= 400) {
-                throw new RuntimeException("HTTP " + statusCode + ": " + response.body());
+            if (statusCode >= 400) {
+                String error = errorSnippet(response.body());
+                if (statusCode == 401 || statusCode == 403) {
+                    throw new AuthenticationException(
+                            getProviderType().name(),
+                            "Invalid or missing API key (HTTP " + statusCode + ")"
+                    );
+                } else if (statusCode == 429) {
+                    throw new RateLimitException(getProviderType().name(), dailyRateLimit);
+                }
+                throw new RuntimeException("HTTP " + statusCode + ": " + error);
             }
 
-            return response.body();
+            return SearchHttpTransport.readString(response.body());
 
         } catch (java.net.http.HttpTimeoutException e) {
             throw new ProviderTimeoutException(
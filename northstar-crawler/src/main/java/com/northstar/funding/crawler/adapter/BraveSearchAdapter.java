@@ -1,8 +1,9 @@
 package com.northstar.funding.crawler.adapter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.northstar.funding.crawler.adapter.brave.BraveSearchResponse;
+import com.northstar.funding.crawler.adapter.json.ResultStreamParser;
 import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
 import com.northstar.funding.crawler.exception.AuthenticationException;
 import com.northstar.funding.crawler.exception.ProviderTimeoutException;
 import com.northstar.funding.domain.SearchEngineType;
@@ -11,15 +12,13 @@ import io.vavr.control.Try;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,19 +38,25 @@ import java.util.UUID;
 public class BraveSearchAdapter extends AbstractSearchProviderAdapter {
 
     private final SearchProviderConfig.BraveSearchConfig config;
-    private final ObjectMapper objectMapper;
+    private final ResultStreamParser resultParser;
 
     public BraveSearchAdapter(
             SearchProviderConfig searchProviderConfig,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            SearchHttpTransport httpTransport
     ) {
         super(
+                SearchEngineType.BRAVE,
                 searchProviderConfig.getBraveSearch().getTimeout() / 1000, // convert ms to seconds
                 searchProviderConfig.getBraveSearch().getMaxResults(),
-                searchProviderConfig.getBraveSearch().getRateLimit().getDaily()
+                searchProviderConfig.getBraveSearch().getRateLimit().getDaily(),
+                searchProviderConfig.getBraveSearch().getLimiter(),
+                httpTransport
         );
         this.config = searchProviderConfig.getBraveSearch();
-        this.objectMapper = objectMapper;
+        this.resultParser = new ResultStreamParser(objectMapper.getFactory(), "web.results",
+                new ResultStreamParser.Fields("url", "title", "description", null),
+                searchProviderConfig.getMaxDescriptionLength());
 
         log.info("BraveSearchAdapter initialized - baseUrl={}, timeout={}ms, rateLimit={}",
                 config.getBaseUrl(), config.getTimeout(), config.getRateLimit().getDaily());
@@ -86,38 +91,34 @@ public class BraveSearchAdapter extends AbstractSearchProviderAdapter {
 
             log.debug("Executing BraveSearch query: {}", query);
 
-            // Execute request
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            // Execute request; the body is streamed and parsed as it arrives
+            HttpResponse<InputStream> response = sendLimited(request);
 
-            // Check response status
-            if (response.statusCode() == 401 || response.statusCode() == 403) {
-                throw new AuthenticationException("BraveSearch", "API key invalid or unauthorized");
-            }
-
-            if (response.statusCode() == 429) {
-                throw new com.northstar.funding.crawler.exception.RateLimitException(
-                        "BraveSearch",
-                        config.getRateLimit().getDaily()
-                );
-            }
+            try (InputStream body = response.body()) {
+                // Check response status
+                if (response.statusCode() == 401 || response.statusCode() == 403) {
+                    throw new AuthenticationException("BraveSearch", "API key invalid or unauthorized");
+                }
 
-            if (response.statusCode() != 200) {
-                throw new RuntimeException("BraveSearch API returned status " + response.statusCode());
-            }
+                if (response.statusCode() == 429) {
+                    throw new com.northstar.funding.crawler.exception.RateLimitException(
+                            "BraveSearch",
+                            config.getRateLimit().getDaily()
+                    );
+                }
 
-            // Parse JSON response
-            BraveSearchResponse braveResponse = objectMapper.readValue(
-                    response.body(),
-                    BraveSearchResponse.class
-            );
+                if (response.statusCode() != 200) {
+                    throw new RuntimeException("BraveSearch API returned status " + response.statusCode());
+                }
 
-            // Convert to SearchResult entities
-            List<SearchResult> results = convertToSearchResults(braveResponse, query, discoverySessionId);
+                // Parse web.results and convert to SearchResult entities
+                List<SearchResult> results = toSearchResults(resultParser.parse(body, maxResults), discoverySessionId);
 
-            log.info("BraveSearch completed: {} -> {} results (usage: {}/{})",
-                    query, results.size(), getCurrentUsageCount(), getRateLimit());
+                log.info("BraveSearch completed: {} -> {} results (usage: {}/{})",
+                        query, results.size(), getCurrentUsageCount(), getRateLimit());
 
-            return results;
+                return results;
+            }
 
         }).recoverWith(throwable -> {
             if (throwable instanceof java.net.http.HttpTimeoutException) {
@@ -131,8 +132,8 @@ public class BraveSearchAdapter extends AbstractSearchProviderAdapter {
     }
 
     @Override
-    public SearchEngineType getProviderType() {
-        return SearchEngineType.BRAVE;
+    public boolean isAvailable() {
+        return config.getApiKey() != null && !config.getApiKey().isBlank();
     }
 
     @Override
@@ -144,39 +145,4 @@ public class BraveSearchAdapter extends AbstractSearchProviderAdapter {
     public boolean supportsAIOptimizedQueries() {
         return false; // BraveSearch is traditional keyword search
     }
-
-    /**
-     * Convert BraveSearch API response to SearchResult entities.
-     */
-    private List<SearchResult> convertToSearchResults(
-            BraveSearchResponse response,
-            String query,
-            UUID discoverySessionId
-    ) {
-        if (response.getWeb() == null || response.getWeb().getResults() == null) {
-            return List.of();
-        }
-
-        LocalDateTime now = LocalDateTime.now();
-        LocalDate today = LocalDate.now();
-
-        return response.getWeb().getResults().stream()
-                .map(webResult -> {
-                    String domain = normalizeDomain(webResult.getUrl());
-                    int position = response.getWeb().getResults().indexOf(webResult) + 1;
-
-                    return SearchResult.builder()
-                            .url(webResult.getUrl())
-                            .domain(domain)
-                            .title(webResult.getTitle() != null ? webResult.getTitle() : "")
-                            .description(webResult.getDescription() != null ? webResult.getDescription() : "")
-                            .rankPosition(position)
-                            .searchEngine(SearchEngineType.BRAVE)
-                            .discoveredAt(now)
-                            .searchDate(today)
-                            .discoverySessionId(discoverySessionId)
-                            .build();
-                })
-                .toList();
-    }
 }
@@ -1,8 +1,9 @@
 package com.northstar.funding.crawler.adapter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.northstar.funding.crawler.adapter.perplexica.PerplexicaResponse;
+import com.northstar.funding.crawler.adapter.json.ResultStreamParser;
 import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
 import com.northstar.funding.crawler.exception.ProviderTimeoutException;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.domain.SearchResult;
@@ -10,12 +11,11 @@ import io.vavr.control.Try;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,18 +39,26 @@ public class PerplexicaAdapter extends AbstractSearchProviderAdapter {
 
     private final SearchProviderConfig.PerplexicaConfig config;
     private final ObjectMapper objectMapper;
+    private final ResultStreamParser resultParser;
 
     public PerplexicaAdapter(
             SearchProviderConfig searchProviderConfig,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            SearchHttpTransport httpTransport
     ) {
         super(
+                SearchEngineType.PERPLEXICA,
                 searchProviderConfig.getPerplexica().getTimeout() / 1000, // convert ms to seconds
                 searchProviderConfig.getPerplexica().getMaxResults(),
-                searchProviderConfig.getPerplexica().getRateLimit().getDaily()
+                searchProviderConfig.getPerplexica().getRateLimit().getDaily(),
+                searchProviderConfig.getPerplexica().getLimiter(),
+                httpTransport
         );
         this.config = searchProviderConfig.getPerplexica();
         this.objectMapper = objectMapper;
+        this.resultParser = new ResultStreamParser(objectMapper.getFactory(), "sources",
+                new ResultStreamParser.Fields("metadata.url", "metadata.title", "pageContent", null),
+                searchProviderConfig.getMaxDescriptionLength());
 
         log.info("PerplexicaAdapter initialized - baseUrl={}, timeout={}ms, focusMode={}",
                 config.getBaseUrl(), config.getTimeout(), config.getFocusMode());
@@ -58,6 +66,20 @@ public class PerplexicaAdapter extends AbstractSearchProviderAdapter {
 
     @Override
     public Try<List<SearchResult>> executeSearch(String query, int maxResults, UUID discoverySessionId) {
+        return search(config.getBaseUrl(), query, maxResults, discoverySessionId);
+    }
+
+    /**
+     * Hedged duplicates go to hedge-base-url when a second Perplexica instance is configured.
+     */
+    @Override
+    public Try<List<SearchResult>> executeHedge(String query, int maxResults, UUID discoverySessionId) {
+        String hedgeBaseUrl = config.getHedgeBaseUrl();
+        return search(hedgeBaseUrl != null && !hedgeBaseUrl.isBlank() ? hedgeBaseUrl : config.getBaseUrl(),
+                query, maxResults, discoverySessionId);
+    }
+
+    private Try<List<SearchResult>> search(String baseUrl, String query, int maxResults, UUID discoverySessionId) {
         return Try.of(() -> {
             // Check and increment rate limit (unlimited for self-hosted, but keep for consistency)
             incrementUsageAndCheckLimit();
@@ -72,7 +94,7 @@ public class PerplexicaAdapter extends AbstractSearchProviderAdapter {
 
             // Build HTTP request
             HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(config.getBaseUrl()))
+                    .uri(URI.create(baseUrl))
                     .header("Content-Type", "application/json")
                     .timeout(Duration.ofMillis(config.getTimeout()))
                     .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
@@ -81,29 +103,23 @@ public class PerplexicaAdapter extends AbstractSearchProviderAdapter {
             log.debug("Executing Perplexica query: {} (focusMode={}, optimizationMode={})",
                     query, config.getFocusMode(), config.getOptimizationMode());
 
-            // Execute request
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            // Check response status
-            if (response.statusCode() != 200) {
-                throw new RuntimeException("Perplexica API returned status " + response.statusCode()
-                        + ": " + response.body());
-            }
+            // Execute request; the body is streamed and parsed as it arrives
+            HttpResponse<InputStream> response = sendLimited(request);
 
-            // Parse JSON response
-            PerplexicaResponse perplexicaResponse = objectMapper.readValue(
-                    response.body(),
-                    PerplexicaResponse.class
-            );
+            try (InputStream body = response.body()) {
+                // Check response status
+                if (response.statusCode() != 200) {
+                    throw new RuntimeException("Perplexica API returned status " + response.statusCode()
+                            + ": " + errorSnippet(body));
+                }
 
-            // Convert to SearchResult entities
-            List<SearchResult> results = convertToSearchResults(perplexicaResponse, query, discoverySessionId, maxResults);
+                // Parse the first maxResults sources (page content cut while reading) and convert
+                List<SearchResult> results = toSearchResults(resultParser.parse(body, maxResults), discoverySessionId);
 
-            log.info("Perplexica completed: {} -> {} results (answer: {})",
-                    query, results.size(),
-                    perplexicaResponse.getMessage() != null ? "yes" : "no");
+                log.info("Perplexica completed: {} -> {} results", query, results.size());
 
-            return results;
+                return results;
+            }
 
         }).recoverWith(throwable -> {
             if (throwable instanceof java.net.http.HttpTimeoutException) {
@@ -116,11 +132,6 @@ public class PerplexicaAdapter extends AbstractSearchProviderAdapter {
         });
     }
 
-    @Override
-    public SearchEngineType getProviderType() {
-        return SearchEngineType.PERPLEXICA;
-    }
-
     @Override
     public boolean supportsKeywordQueries() {
         return true; // Perplexica handles both keyword and natural language
@@ -130,50 +141,4 @@ public class PerplexicaAdapter extends AbstractSearchProviderAdapter {
     public boolean supportsAIOptimizedQueries() {
         return true; // Perplexica is specifically designed for AI-optimized queries
     }
-
-    /**
-     * Convert Perplexica API response to SearchResult entities.
-     */
-    private List<SearchResult> convertToSearchResults(
-            PerplexicaResponse response,
-            String query,
-            UUID discoverySessionId,
-            int maxResults
-    ) {
-        if (response.getSources() == null) {
-            return List.of();
-        }
-
-        LocalDateTime now = LocalDateTime.now();
-        LocalDate today = LocalDate.now();
-
-        return response.getSources().stream()
-                .limit(maxResults)
-                .filter(source -> source.getMetadata() != null && source.getMetadata().getUrl() != null)
-                .map(source -> {
-                    String url = source.getMetadata().getUrl();
-                    String domain = normalizeDomain(url);
-                    int position = response.getSources().indexOf(source) + 1;
-
-                    String title = source.getMetadata().getTitle() != null
-                            ? source.getMetadata().getTitle()
-                            : "";
-                    String description = source.getPageContent() != null
-                            ? source.getPageContent()
-                            : "";
-
-                    return SearchResult.builder()
-                            .url(url)
-                            .domain(domain)
-                            .title(title)
-                            .description(description)
-                            .rankPosition(position)
-                            .searchEngine(SearchEngineType.PERPLEXICA)
-                            .discoveredAt(now)
-                            .searchDate(today)
-                            .discoverySessionId(discoverySessionId)
-                            .build();
-                })
-                .toList();
-    }
 }
@@ -1,5 +1,7 @@
 package com.northstar.funding.crawler.adapter;
 
+import com.northstar.funding.crawler.provider.ProviderCapabilities;
+import com.northstar.funding.crawler.provider.SearchProvider;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.domain.SearchResult;
 import io.vavr.control.Try;
@@ -7,15 +9,16 @@ import io.vavr.control.Try;
 import java.util.List;
 
 /**
- * Contract for search provider adapters.
+ * Contract for the crawler's search provider adapters.
  *
  * Each implementation (BraveSearchAdapter, SearxngAdapter, SerperAdapter, PerplexicaAdapter)
  * must implement this interface to provide standardized search capabilities.
+ * Extends the SearchProvider SPI with query-style and quota details.
  *
  * Thread Safety: Implementations MUST be thread-safe for Virtual Thread execution.
  * Error Handling: Use Vavr Try monad to encapsulate success/failure states.
  */
-public interface SearchProviderAdapter {
+public interface SearchProviderAdapter extends SearchProvider {
 
     /**
      * Execute a search query and return normalized results.
@@ -38,6 +41,7 @@ public interface SearchProviderAdapter {
      * - MUST handle authentication errors (throw AuthenticationException if API key invalid)
      * - MUST complete within provider-specific timeout (see research.md)
      */
+    @Override
     Try<List<SearchResult>> executeSearch(String query, int maxResults, java.util.UUID discoverySessionId);
 
     /**
@@ -49,6 +53,7 @@ public interface SearchProviderAdapter {
      * - MUST return non-null SearchEngineType
      * - MUST return same value on every invocation (stateless)
      */
+    @Override
     SearchEngineType getProviderType();
 
     /**
@@ -110,4 +115,19 @@ public interface SearchProviderAdapter {
      * - SearxngAdapter MUST return Integer.MAX_VALUE (no limit, self-hosted)
      */
     int getRateLimit();
+
+    /**
+     * Capabilities derived from the query styles and rate limit above.
+     * Adapters without a daily limit are self-hosted.
+     */
+    @Override
+    default ProviderCapabilities getCapabilities() {
+        boolean dailyQuota = getRateLimit() != Integer.MAX_VALUE;
+        return new ProviderCapabilities(
+                supportsKeywordQueries(),
+                supportsAIOptimizedQueries(),
+                dailyQuota,
+                !dailyQuota,
+                false);
+    }
 }
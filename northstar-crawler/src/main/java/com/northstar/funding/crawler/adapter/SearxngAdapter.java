@@ -1,8 +1,9 @@
 package com.northstar.funding.crawler.adapter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.northstar.funding.crawler.adapter.searxng.SearxngResponse;
+import com.northstar.funding.crawler.adapter.json.ResultStreamParser;
 import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
 import com.northstar.funding.crawler.exception.ProviderTimeoutException;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.domain.SearchResult;
@@ -10,14 +11,13 @@ import io.vavr.control.Try;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -38,19 +38,25 @@ import java.util.UUID;
 public class SearxngAdapter extends AbstractSearchProviderAdapter {
 
     private final SearchProviderConfig.SearxngConfig config;
-    private final ObjectMapper objectMapper;
+    private final ResultStreamParser resultParser;
 
     public SearxngAdapter(
             SearchProviderConfig searchProviderConfig,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            SearchHttpTransport httpTransport
     ) {
         super(
+                SearchEngineType.SEARXNG,
                 searchProviderConfig.getSearxng().getTimeout() / 1000, // convert ms to seconds
                 searchProviderConfig.getSearxng().getMaxResults(),
-                Integer.MAX_VALUE // No rate limit for self-hosted
+                Integer.MAX_VALUE, // No rate limit for self-hosted
+                searchProviderConfig.getSearxng().getLimiter(),
+                httpTransport
         );
         this.config = searchProviderConfig.getSearxng();
-        this.objectMapper = objectMapper;
+        this.resultParser = new ResultStreamParser(objectMapper.getFactory(), "results",
+                new ResultStreamParser.Fields("url", "title", "content", null),
+                searchProviderConfig.getMaxDescriptionLength());
 
         log.info("SearxngAdapter initialized - baseUrl={}, timeout={}ms, format={}",
                 config.getBaseUrl(), config.getTimeout(), config.getFormat());
@@ -58,6 +64,20 @@ public class SearxngAdapter extends AbstractSearchProviderAdapter {
 
     @Override
     public Try<List<SearchResult>> executeSearch(String query, int maxResults, UUID discoverySessionId) {
+        return search(config.getBaseUrl(), query, maxResults, discoverySessionId);
+    }
+
+    /**
+     * Hedged duplicates go to hedge-base-url when a second SearXNG instance is configured.
+     */
+    @Override
+    public Try<List<SearchResult>> executeHedge(String query, int maxResults, UUID discoverySessionId) {
+        String hedgeBaseUrl = config.getHedgeBaseUrl();
+        return search(hedgeBaseUrl != null && !hedgeBaseUrl.isBlank() ? hedgeBaseUrl : config.getBaseUrl(),
+                query, maxResults, discoverySessionId);
+    }
+
+    private Try<List<SearchResult>> search(String baseUrl, String query, int maxResults, UUID discoverySessionId) {
         return Try.of(() -> {
             // No rate limiting for self-hosted SearXNG
             incrementUsageAndCheckLimit();
@@ -65,7 +85,7 @@ public class SearxngAdapter extends AbstractSearchProviderAdapter {
             // Build request URL
             String encodedQuery = URLEncoder.encode(query, StandardCharsets.UTF_8);
             String url = String.format("%s?q=%s&format=%s",
-                    config.getBaseUrl(),
+                    baseUrl,
                     encodedQuery,
                     config.getFormat()
             );
@@ -80,32 +100,23 @@ public class SearxngAdapter extends AbstractSearchProviderAdapter {
 
             log.debug("Executing SearXNG query: {}", query);
 
-            // Execute request
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            // Check response status
-            if (response.statusCode() != 200) {
-                throw new RuntimeException("SearXNG returned status " + response.statusCode());
-            }
-
-            // Parse JSON response
-            SearxngResponse searxngResponse = objectMapper.readValue(
-                    response.body(),
-                    SearxngResponse.class
-            );
+            // Execute request; the body is streamed and parsed as it arrives
+            HttpResponse<InputStream> response = sendLimited(request);
 
-            // Convert to SearchResult entities
-            List<SearchResult> results = convertToSearchResults(searxngResponse, query, discoverySessionId);
+            try (InputStream body = response.body()) {
+                // Check response status
+                if (response.statusCode() != 200) {
+                    throw new RuntimeException("SearXNG returned status " + response.statusCode());
+                }
 
-            // Limit to maxResults
-            List<SearchResult> limitedResults = results.stream()
-                    .limit(maxResults)
-                    .toList();
+                // Parse the first maxResults results and convert to SearchResult entities
+                List<SearchResult> results = toSearchResults(resultParser.parse(body, maxResults), discoverySessionId);
 
-            log.info("SearXNG completed: {} -> {} results (usage: {})",
-                    query, limitedResults.size(), getCurrentUsageCount());
+                log.info("SearXNG completed: {} -> {} results (usage: {})",
+                        query, results.size(), getCurrentUsageCount());
 
-            return limitedResults;
+                return results;
+            }
 
         }).recoverWith(throwable -> {
             if (throwable instanceof java.net.http.HttpTimeoutException) {
@@ -118,11 +129,6 @@ public class SearxngAdapter extends AbstractSearchProviderAdapter {
         });
     }
 
-    @Override
-    public SearchEngineType getProviderType() {
-        return SearchEngineType.SEARXNG;
-    }
-
     @Override
     public boolean supportsKeywordQueries() {
         return true;
@@ -132,39 +138,4 @@ public class SearxngAdapter extends AbstractSearchProviderAdapter {
     public boolean supportsAIOptimizedQueries() {
         return false; // SearXNG is traditional keyword search
     }
-
-    /**
-     * Convert SearXNG API response to SearchResult entities.
-     */
-    private List<SearchResult> convertToSearchResults(
-            SearxngResponse response,
-            String query,
-            UUID discoverySessionId
-    ) {
-        if (response.getResults() == null) {
-            return List.of();
-        }
-
-        LocalDateTime now = LocalDateTime.now();
-        LocalDate today = LocalDate.now();
-
-        return response.getResults().stream()
-                .map(result -> {
-                    String domain = normalizeDomain(result.getUrl());
-                    int position = response.getResults().indexOf(result) + 1;
-
-                    return SearchResult.builder()
-                            .url(result.getUrl())
-                            .domain(domain)
-                            .title(result.getTitle() != null ? result.getTitle() : "")
-                            .description(result.getContent() != null ? result.getContent() : "")
-                            .rankPosition(position)
-                            .searchEngine(SearchEngineType.SEARXNG)
-                            .discoveredAt(now)
-                            .searchDate(today)
-                            .discoverySessionId(discoverySessionId)
-                            .build();
-                })
-                .toList();
-    }
 }
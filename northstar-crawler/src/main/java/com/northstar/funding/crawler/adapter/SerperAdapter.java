@@ -1,8 +1,9 @@
 package com.northstar.funding.crawler.adapter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.northstar.funding.crawler.adapter.serper.SerperResponse;
+import com.northstar.funding.crawler.adapter.json.ResultStreamParser;
 import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
 import com.northstar.funding.crawler.exception.AuthenticationException;
 import com.northstar.funding.crawler.exception.ProviderTimeoutException;
 import com.northstar.funding.domain.SearchEngineType;
@@ -11,12 +12,11 @@ import io.vavr.control.Try;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,18 +39,26 @@ public class SerperAdapter extends AbstractSearchProviderAdapter {
 
     private final SearchProviderConfig.SerperConfig config;
     private final ObjectMapper objectMapper;
+    private final ResultStreamParser resultParser;
 
     public SerperAdapter(
             SearchProviderConfig searchProviderConfig,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            SearchHttpTransport httpTransport
     ) {
         super(
+                SearchEngineType.SERPER,
                 searchProviderConfig.getSerper().getTimeout() / 1000, // convert ms to seconds
                 searchProviderConfig.getSerper().getMaxResults(),
-                searchProviderConfig.getSerper().getRateLimit().getDaily()
+                searchProviderConfig.getSerper().getRateLimit().getDaily(),
+                searchProviderConfig.getSerper().getLimiter(),
+                httpTransport
         );
         this.config = searchProviderConfig.getSerper();
         this.objectMapper = objectMapper;
+        this.resultParser = new ResultStreamParser(objectMapper.getFactory(), "organic",
+                new ResultStreamParser.Fields("link", "title", "snippet", "position"),
+                searchProviderConfig.getMaxDescriptionLength());
 
         log.info("SerperAdapter initialized - baseUrl={}, timeout={}ms, rateLimit={}",
                 config.getBaseUrl(), config.getTimeout(), config.getRateLimit().getDaily());
@@ -85,38 +93,34 @@ public class SerperAdapter extends AbstractSearchProviderAdapter {
 
             log.debug("Executing Serper query: {}", query);
 
-            // Execute request
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            // Execute request; the body is streamed and parsed as it arrives
+            HttpResponse<InputStream> response = sendLimited(request);
 
-            // Check response status
-            if (response.statusCode() == 401 || response.statusCode() == 403) {
-                throw new AuthenticationException("Serper", "API key invalid or unauthorized");
-            }
-
-            if (response.statusCode() == 429) {
-                throw new com.northstar.funding.crawler.exception.RateLimitException(
-                        "Serper",
-                        config.getRateLimit().getDaily()
-                );
-            }
+            try (InputStream body = response.body()) {
+                // Check response status
+                if (response.statusCode() == 401 || response.statusCode() == 403) {
+                    throw new AuthenticationException("Serper", "API key invalid or unauthorized");
+                }
 
-            if (response.statusCode() != 200) {
-                throw new RuntimeException("Serper API returned status " + response.statusCode());
-            }
+                if (response.statusCode() == 429) {
+                    throw new com.northstar.funding.crawler.exception.RateLimitException(
+                            "Serper",
+                            config.getRateLimit().getDaily()
+                    );
+                }
 
-            // Parse JSON response
-            SerperResponse serperResponse = objectMapper.readValue(
-                    response.body(),
-                    SerperResponse.class
-            );
+                if (response.statusCode() != 200) {
+                    throw new RuntimeException("Serper API returned status " + response.statusCode());
+                }
 
-            // Convert to SearchResult entities
-            List<SearchResult> results = convertToSearchResults(serperResponse, query, discoverySessionId);
+                // Parse organic results and convert to SearchResult entities
+                List<SearchResult> results = toSearchResults(resultParser.parse(body, maxResults), discoverySessionId);
 
-            log.info("Serper completed: {} -> {} results (usage: {}/{})",
-                    query, results.size(), getCurrentUsageCount(), getRateLimit());
+                log.info("Serper completed: {} -> {} results (usage: {}/{})",
+                        query, results.size(), getCurrentUsageCount(), getRateLimit());
 
-            return results;
+                return results;
+            }
 
         }).recoverWith(throwable -> {
             if (throwable instanceof java.net.http.HttpTimeoutException) {
@@ -130,8 +134,8 @@ public class SerperAdapter extends AbstractSearchProviderAdapter {
     }
 
     @Override
-    public SearchEngineType getProviderType() {
-        return SearchEngineType.SERPER;
+    public boolean isAvailable() {
+        return config.getApiKey() != null && !config.getApiKey().isBlank();
     }
 
     @Override
@@ -143,40 +147,4 @@ public class SerperAdapter extends AbstractSearchProviderAdapter {
     public boolean supportsAIOptimizedQueries() {
         return false; // Serper is traditional Google search
     }
-
-    /**
-     * Convert Serper API response to SearchResult entities.
-     */
-    private List<SearchResult> convertToSearchResults(
-            SerperResponse response,
-            String query,
-            UUID discoverySessionId
-    ) {
-        if (response.getOrganic() == null) {
-            return List.of();
-        }
-
-        LocalDateTime now = LocalDateTime.now();
-        LocalDate today = LocalDate.now();
-
-        return response.getOrganic().stream()
-                .map(result -> {
-                    String domain = normalizeDomain(result.getLink());
-                    int position = result.getPosition() != null ? result.getPosition() :
-                                   response.getOrganic().indexOf(result) + 1;
-
-                    return SearchResult.builder()
-                            .url(result.getLink())
-                            .domain(domain)
-                            .title(result.getTitle() != null ? result.getTitle() : "")
-                            .description(result.getSnippet() != null ? result.getSnippet() : "")
-                            .rankPosition(position)
-                            .searchEngine(SearchEngineType.SERPER)
-                            .discoveredAt(now)
-                            .searchDate(today)
-                            .discoverySessionId(discoverySessionId)
-                            .build();
-                })
-                .toList();
-    }
 }
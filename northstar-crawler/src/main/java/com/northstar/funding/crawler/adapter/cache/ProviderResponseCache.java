@@ -0,0 +1,263 @@
+package com.northstar.funding.crawler.adapter.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.domain.SearchResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local disk cache of parsed provider responses, keyed by (provider, normalized query, max results).
+ *
+ * The nightly crawl repeats the same category queries every week, and each repeat of a
+ * paid provider costs quota. A successful response is stored as gzip-compressed JSON
+ * together with the day it was fetched, and served through that day plus the provider's
+ * {@code cache-ttl-days} (0 disables caching for the provider). Failures are never cached.
+ *
+ * Cached results are returned as new SearchResult objects attributed to the calling
+ * discovery session, discovered now, so they flow through processing like fresh ones.
+ *
+ * Entries are written to a temporary file and moved into place, so concurrent readers
+ * (other threads or crawler processes sharing the directory) never see a partial entry.
+ * Any read or write error is logged and treated as a miss.
+ */
+@Component
+@Slf4j
+public class ProviderResponseCache {
+
+    private static final String SUFFIX = ".json.gz";
+
+    private final SearchProviderConfig config;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final Clock clock;
+
+    @Autowired
+    public ProviderResponseCache(SearchProviderConfig config, ObjectMapper objectMapper) {
+        this(config, objectMapper, Clock.systemDefaultZone());
+    }
+
+    ProviderResponseCache(SearchProviderConfig config, ObjectMapper objectMapper, Clock clock) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(config.getResponseCache().getDirectory());
+        this.clock = clock;
+    }
+
+    /**
+     * Drop expired entries left by earlier runs.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void purgeOnStartup() {
+        if (config.getResponseCache().isEnabled()) {
+            int purged = purgeExpired();
+            log.info("Search response cache at {}: {} expired entries purged", directory, purged);
+        }
+    }
+
+    /**
+     * Look up a cached response.
+     *
+     * @param provider Search provider
+     * @param query Query as sent to the provider
+     * @param maxResults Requested result count
+     * @param discoverySessionId Session the cached results are attributed to
+     * @return Cached results for this session, or empty on a miss
+     */
+    public Optional<List<SearchResult>> get(SearchEngineType provider, String query, int maxResults,
+                                            UUID discoverySessionId) {
+        int ttlDays = ttlDays(provider);
+        if (ttlDays <= 0) {
+            return Optional.empty();
+        }
+
+        String normalizedQuery = normalizeQuery(query);
+        Path file = entryFile(provider, normalizedQuery, maxResults);
+        CachedResponse cached;
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            cached = objectMapper.readValue(in, CachedResponse.class);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Unreadable search response cache entry {}, ignoring: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+
+        // The file name is a hash; confirm the entry is really for this request
+        if (!provider.name().equals(cached.provider()) || !normalizedQuery.equals(cached.query())
+                || cached.maxResults() != maxResults) {
+            return Optional.empty();
+        }
+        if (today().isAfter(LocalDate.parse(cached.fetchedOn()).plusDays(ttlDays))) {
+            delete(file);
+            return Optional.empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<SearchResult> results = cached.results().stream()
+                .map(result -> SearchResult.builder()
+                        .url(result.url())
+                        .domain(result.domain())
+                        .title(result.title())
+                        .description(result.description())
+                        .rankPosition(result.rankPosition())
+                        .searchQuery(result.searchQuery())
+                        .searchEngine(provider)
+                        .discoveredAt(now)
+                        .searchDate(now.toLocalDate())
+                        .discoverySessionId(discoverySessionId)
+                        .build())
+                .toList();
+        return Optional.of(results);
+    }
+
+    /**
+     * Store a successful response.
+     *
+     * @param provider Search provider
+     * @param query Query as sent to the provider
+     * @param maxResults Requested result count
+     * @param results Parsed results
+     */
+    public void put(SearchEngineType provider, String query, int maxResults, List<SearchResult> results) {
+        if (ttlDays(provider) <= 0 || results == null) {
+            return;
+        }
+
+        String normalizedQuery = normalizeQuery(query);
+        CachedResponse entry = new CachedResponse(
+                provider.name(),
+                normalizedQuery,
+                maxResults,
+                today().toString(),
+                results.stream()
+                        .map(result -> new CachedResult(result.getUrl(), result.getDomain(), result.getTitle(),
+                                result.getDescription(), result.getRankPosition(), result.getSearchQuery()))
+                        .toList());
+
+        Path file = entryFile(provider, normalizedQuery, maxResults);
+        Path temp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                objectMapper.writeValue(out, entry);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Cached {} results for {} query '{}'", results.size(), provider, normalizedQuery);
+        } catch (IOException e) {
+            log.warn("Failed to cache {} response for '{}': {}", provider, normalizedQuery, e.getMessage());
+            if (temp != null) {
+                delete(temp);
+            }
+        }
+    }
+
+    /**
+     * Delete entries older than the longest provider TTL, and leftover temporary files.
+     *
+     * @return Number of files deleted
+     */
+    public int purgeExpired() {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        int maxTtlDays = Arrays.stream(SearchEngineType.values()).mapToInt(this::ttlDays).max().orElse(0);
+        Instant cutoff = today().minusDays(maxTtlDays).atStartOfDay(clock.getZone()).toInstant();
+
+        int purged = 0;
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && delete(file)) {
+                    purged++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to purge search response cache {}: {}", directory, e.getMessage());
+        }
+        return purged;
+    }
+
+    /**
+     * Normalize a query for the cache key: trimmed, lower-cased, single spaces.
+     */
+    public static String normalizeQuery(String query) {
+        if (query == null) {
+            return "";
+        }
+        return query.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private int ttlDays(SearchEngineType provider) {
+        return config.getResponseCache().isEnabled() ? config.cacheTtlDays(provider) : 0;
+    }
+
+    private Path entryFile(SearchEngineType provider, String normalizedQuery, int maxResults) {
+        return directory.resolve(provider.name().toLowerCase(Locale.ROOT))
+                .resolve(sha256(normalizedQuery + "\n" + maxResults) + SUFFIX);
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    private static boolean delete(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Could not delete search response cache file {}: {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Stored form of one response.
+     */
+    record CachedResponse(String provider, String query, int maxResults, String fetchedOn,
+                          List<CachedResult> results) {
+    }
+
+    /**
+     * Stored form of one result: everything except per-session fields.
+     */
+    record CachedResult(String url, String domain, String title, String description, Integer rankPosition,
+                        String searchQuery) {
+    }
+}
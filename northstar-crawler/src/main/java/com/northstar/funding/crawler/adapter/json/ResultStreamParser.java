@@ -0,0 +1,198 @@
+package com.northstar.funding.crawler.adapter.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming parser for the result array of a provider's JSON response.
+ *
+ * Walks the response with the Jackson streaming API instead of binding it to a DTO tree:
+ * - Descends to the result array (e.g. {@code web.results} for Brave) and skips everything else
+ * - Reads only the configured fields of each result; other values are skipped without
+ *   being buffered as Strings
+ * - Stops after {@code maxResults} results and closes the stream, so the rest of the body
+ *   is never read
+ * - Cuts descriptions to {@code maxDescriptionLength} characters as they are read
+ *
+ * Peak memory per response is then bounded by maxResults small results rather than the
+ * whole body (Perplexica sources carry full page content).
+ *
+ * Instances are immutable and thread-safe.
+ */
+public class ResultStreamParser {
+
+    private final JsonFactory jsonFactory;
+    private final String[] arrayPath;
+    private final Fields fields;
+    private final int maxDescriptionLength;
+
+    /**
+     * @param jsonFactory factory from the application ObjectMapper
+     * @param arrayPath dotted path from the root object to the result array (e.g. "web.results")
+     * @param fields dotted paths of the wanted fields inside each result
+     * @param maxDescriptionLength longest description kept, in characters (0 or less = no limit)
+     */
+    public ResultStreamParser(JsonFactory jsonFactory, String arrayPath, Fields fields, int maxDescriptionLength) {
+        this.jsonFactory = jsonFactory;
+        this.arrayPath = arrayPath.split("\\.");
+        this.fields = fields;
+        this.maxDescriptionLength = maxDescriptionLength > 0 ? maxDescriptionLength : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Field paths inside one result. Nested fields use dots (e.g. "metadata.url");
+     * position may be null when the provider doesn't send one.
+     */
+    public record Fields(String url, String title, String description, String position) {
+    }
+
+    /**
+     * One result as read from the response. Position is the provider's own rank when
+     * sent, otherwise the 1-based index in the result array.
+     */
+    public record RawResult(String url, String title, String description, int position) {
+    }
+
+    /**
+     * Read up to maxResults results. Closes the stream.
+     *
+     * @param body response body
+     * @param maxResults maximum results to read
+     * @return results in response order; empty if the result array is missing
+     * @throws IOException if the body is not valid JSON
+     */
+    public List<RawResult> parse(InputStream body, int maxResults) throws IOException {
+        List<RawResult> results = new ArrayList<>(Math.max(0, Math.min(maxResults, 100)));
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (maxResults <= 0 || !moveToArray(parser)) {
+                return results;
+            }
+
+            int index = 0;
+            JsonToken token;
+            while (results.size() < maxResults && (token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                index++;
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                Map<String, String> values = new HashMap<>(8);
+                readObject(parser, "", values);
+                results.add(new RawResult(
+                        values.get(fields.url()),
+                        values.get(fields.title()),
+                        values.get(fields.description()),
+                        position(values.get(fields.position()), index)));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Advance to the START_ARRAY of the result array.
+     *
+     * @return false if the root isn't an object or the path doesn't lead to an array
+     */
+    private boolean moveToArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        for (int depth = 0; depth < arrayPath.length; depth++) {
+            boolean last = depth == arrayPath.length - 1;
+            if (!moveToField(parser, arrayPath[depth])) {
+                return false;
+            }
+            JsonToken value = parser.nextToken();
+            if (last) {
+                return value == JsonToken.START_ARRAY;
+            }
+            if (value != JsonToken.START_OBJECT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skip fields of the current object until the named one; the parser is left on its name.
+     */
+    private static boolean moveToField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (name.equals(parser.currentName())) {
+                return true;
+            }
+            parser.nextToken();
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * Read the wanted scalar fields of the object the parser is on, descending only into
+     * objects that lead to a wanted field.
+     */
+    private void readObject(JsonParser parser, String prefix, Map<String, String> values) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String path = prefix + parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT && isParentOfWanted(path)) {
+                readObject(parser, path + ".", values);
+            } else if (value.isScalarValue() && value != JsonToken.VALUE_NULL && isWanted(path)) {
+                values.put(path, path.equals(fields.description()) ? truncatedText(parser) : parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Text of the current value, cut to maxDescriptionLength without copying the rest.
+     */
+    private String truncatedText(JsonParser parser) throws IOException {
+        int length = parser.getTextLength();
+        if (length <= maxDescriptionLength) {
+            return parser.getText();
+        }
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int cut = maxDescriptionLength;
+        if (Character.isHighSurrogate(text[offset + cut - 1])) {
+            cut--; // don't split a surrogate pair
+        }
+        return new String(text, offset, cut);
+    }
+
+    private boolean isWanted(String path) {
+        return path.equals(fields.url()) || path.equals(fields.title())
+                || path.equals(fields.description()) || path.equals(fields.position());
+    }
+
+    private boolean isParentOfWanted(String path) {
+        String parent = path + ".";
+        return startsWith(fields.url(), parent) || startsWith(fields.title(), parent)
+                || startsWith(fields.description(), parent) || startsWith(fields.position(), parent);
+    }
+
+    private static boolean startsWith(String field, String prefix) {
+        return field != null && field.startsWith(prefix);
+    }
+
+    private static int position(String value, int index) {
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                // fall back to the array index
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,122 @@
+package com.northstar.funding.crawler.adapter.limit;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD concurrency limit.
+ *
+ * - Success while the limit is actually in use: additive increase (+1 per limit's worth of successes)
+ * - Throttle (429) or drop (timeout, 5xx): multiplicative decrease by the configured ratio
+ *
+ * Callers above the limit wait (parking virtual threads) until a slot frees or their timeout expires.
+ */
+final class AdaptiveConcurrencyLimit {
+
+    /**
+     * How a request finished, as seen by the limit.
+     */
+    enum Outcome {
+        SUCCESS,
+        THROTTLED,
+        DROPPED,
+        IGNORED
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double decreaseRatio;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double decreaseRatio) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.decreaseRatio = decreaseRatio;
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+    }
+
+    /**
+     * Take a slot, waiting up to the timeout.
+     *
+     * @return true if a slot was taken, false on timeout
+     */
+    boolean acquire(long timeoutNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            waiting++;
+            try {
+                long remaining = timeoutNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = slotFreed.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release a slot and adjust the limit for the outcome.
+     */
+    void release(Outcome outcome) {
+        lock.lock();
+        try {
+            // Only grow when the limit is the constraint, otherwise it drifts up while idle
+            boolean saturated = inFlight * 2 >= (int) limit;
+            inFlight--;
+            switch (outcome) {
+                case SUCCESS -> {
+                    if (saturated) {
+                        limit = Math.min(maxLimit, limit + 1.0 / limit);
+                    }
+                }
+                case THROTTLED, DROPPED -> limit = Math.max(minLimit, limit * decreaseRatio);
+                case IGNORED -> {
+                    // No signal
+                }
+            }
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int waiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.northstar.funding.crawler.adapter.limit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Node-local view of a provider's cluster-wide daily quota.
+ *
+ * Units are leased from a shared ledger in blocks and spent locally, so only one
+ * call in blockSize touches the ledger. A block left over at day change is
+ * discarded; unused units of a node's last block are never handed back, which
+ * errs on the side of staying under the provider's quota.
+ *
+ * If the ledger is unreachable the call is admitted and the node falls back to
+ * its in-memory daily counter, so a database outage does not stop searches.
+ *
+ * Uses a ReentrantLock rather than synchronized so waiting virtual threads
+ * are never pinned to a carrier thread.
+ */
+@Slf4j
+public final class ClusterQuota {
+
+    /**
+     * Shared ledger leasing units of one provider's daily quota.
+     */
+    @FunctionalInterface
+    public interface Ledger {
+
+        /**
+         * @param quotaDate quota day
+         * @param blockSize units requested
+         * @return units granted, 0 when the day's quota is exhausted
+         */
+        int lease(LocalDate quotaDate, int blockSize);
+    }
+
+    private final String providerName;
+    private final Ledger ledger;
+    private final int blockSize;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private LocalDate quotaDate;
+    private int remaining;
+    private boolean exhausted;
+
+    /**
+     * @param providerName provider name for logging
+     * @param ledger shared ledger
+     * @param blockSize units leased per ledger round trip, at least 1
+     */
+    public ClusterQuota(String providerName, Ledger ledger, int blockSize) {
+        this(providerName, ledger, blockSize, Clock.systemDefaultZone());
+    }
+
+    ClusterQuota(String providerName, Ledger ledger, int blockSize, Clock clock) {
+        this.providerName = providerName;
+        this.ledger = ledger;
+        this.blockSize = Math.max(1, blockSize);
+        this.clock = clock;
+    }
+
+    /**
+     * Take one unit of today's quota, leasing a new block when the local one is spent.
+     *
+     * @return false if the cluster-wide quota for today is exhausted
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            LocalDate today = LocalDate.now(clock);
+            if (!today.equals(quotaDate)) {
+                quotaDate = today;
+                remaining = 0;
+                exhausted = false;
+            }
+
+            if (remaining == 0 && !exhausted) {
+                int granted;
+                try {
+                    granted = ledger.lease(today, blockSize);
+                } catch (RuntimeException e) {
+                    log.warn("Quota ledger unavailable for {}, using node-local limit: {}",
+                            providerName, e.getMessage());
+                    return true;
+                }
+                remaining = granted;
+                exhausted = granted == 0;
+                log.debug("Leased {} quota units for {} ({})", granted, providerName, today);
+            }
+
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return units leased by this node and not yet spent
+     */
+    public int remainingLocal() {
+        lock.lock();
+        try {
+            return remaining;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
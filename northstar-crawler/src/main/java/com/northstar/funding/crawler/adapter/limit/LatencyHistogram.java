@@ -0,0 +1,120 @@
+package com.northstar.funding.crawler.adapter.limit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Rolling latency histogram with log-scaled millisecond buckets.
+ *
+ * Bucket i holds latencies up to 1.1^i ms, so any percentile is reported within 10%
+ * (rounded up) between 1ms and ~3 minutes; slower samples share the last bucket.
+ *
+ * Samples live in two generations of one window each: percentiles cover the last
+ * one to two windows, so thresholds follow the provider when it speeds up or slows down.
+ *
+ * Recording is lock-free; a sample racing a window rotation may land in the
+ * generation being retired.
+ */
+public final class LatencyHistogram {
+
+    private static final double GROWTH = 1.1;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+    private static final int BUCKETS = 128;
+
+    private final long windowNanos;
+
+    private volatile AtomicLongArray current = new AtomicLongArray(BUCKETS);
+    private volatile AtomicLongArray previous = new AtomicLongArray(BUCKETS);
+    private volatile long windowStartNanos = System.nanoTime();
+
+    /**
+     * @param window length of one generation, must be positive
+     */
+    public LatencyHistogram(Duration window) {
+        if (window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Record one observed latency.
+     */
+    public void record(Duration latency) {
+        rotateIfDue();
+        current.incrementAndGet(bucket(latency.toMillis()));
+    }
+
+    /**
+     * @return samples in the current and previous window
+     */
+    public long count() {
+        rotateIfDue();
+        AtomicLongArray cur = current;
+        AtomicLongArray prev = previous;
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += cur.get(i) + prev.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Latency below which the given fraction of samples fall.
+     *
+     * @param quantile fraction between 0 and 1 (0.95 for p95)
+     * @return bucket upper bound of the quantile, Duration.ZERO without samples
+     */
+    public Duration percentile(double quantile) {
+        rotateIfDue();
+        AtomicLongArray cur = current;
+        AtomicLongArray prev = previous;
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = cur.get(i) + prev.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(1.0, Math.max(0.0, quantile)) * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Duration.ofMillis(upperBound(i));
+            }
+        }
+        return Duration.ofMillis(upperBound(BUCKETS - 1));
+    }
+
+    private void rotateIfDue() {
+        long now = System.nanoTime();
+        if (now - windowStartNanos < windowNanos) {
+            return;
+        }
+        synchronized (this) {
+            long elapsed = now - windowStartNanos;
+            if (elapsed < windowNanos) {
+                return;
+            }
+            // After two idle windows the current generation is stale as well
+            previous = elapsed < 2 * windowNanos ? current : new AtomicLongArray(BUCKETS);
+            current = new AtomicLongArray(BUCKETS);
+            windowStartNanos = now;
+        }
+    }
+
+    static int bucket(long millis) {
+        if (millis <= 1) {
+            return 0;
+        }
+        return (int) Math.min(BUCKETS - 1, Math.ceil(Math.log(millis) / LOG_GROWTH));
+    }
+
+    static long upperBound(int bucket) {
+        return Math.max(1, (long) Math.floor(Math.pow(GROWTH, bucket)));
+    }
+}
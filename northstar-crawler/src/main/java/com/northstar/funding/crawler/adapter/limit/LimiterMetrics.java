@@ -0,0 +1,32 @@
+package com.northstar.funding.crawler.adapter.limit;
+
+/**
+ * Point-in-time view of a provider's limiter state.
+ *
+ * @param provider provider name
+ * @param qps configured sustained requests per second (0 = unlimited)
+ * @param availableTokens tokens available right now
+ * @param concurrencyLimit current adaptive concurrency limit
+ * @param inFlight requests currently holding a permit
+ * @param waiting callers parked waiting for a concurrency slot
+ * @param backoffRemainingMillis time left in the current Retry-After/backoff window
+ * @param permitsGranted total permits granted
+ * @param throttledCount total 429 responses recorded
+ * @param droppedCount total timeouts and 5xx responses recorded
+ * @param rejectedCount total callers that gave up after the maximum wait
+ * @param parkedMillis total time callers spent parked on the limiter
+ */
+public record LimiterMetrics(
+        String provider,
+        double qps,
+        double availableTokens,
+        int concurrencyLimit,
+        int inFlight,
+        int waiting,
+        long backoffRemainingMillis,
+        long permitsGranted,
+        long throttledCount,
+        long droppedCount,
+        long rejectedCount,
+        long parkedMillis) {
+}
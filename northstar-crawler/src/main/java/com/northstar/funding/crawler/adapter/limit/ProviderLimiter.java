@@ -0,0 +1,228 @@
+package com.northstar.funding.crawler.adapter.limit;
+
+import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.crawler.exception.RateLimitException;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-provider request limiter.
+ *
+ * Admission runs three gates in order, parking the calling (virtual) thread at each:
+ * 1. Backoff window - set by 429 responses, honouring Retry-After when present,
+ *    otherwise exponential from initialBackoffMs up to maxBackoffMs
+ * 2. Token bucket - sustained QPS with a bounded burst (skipped when qps is 0)
+ * 3. Adaptive concurrency - AIMD limit on in-flight requests
+ *
+ * A caller that cannot be admitted within maxWaitMs gets a RateLimitException.
+ * The daily quota is not enforced here; AbstractSearchProviderAdapter still owns it.
+ *
+ * Thread Safety: safe for concurrent use from any number of virtual threads.
+ */
+public final class ProviderLimiter {
+
+    private final String provider;
+    private final SearchProviderConfig.Limiter config;
+    private final TokenBucket tokenBucket;
+    private final AdaptiveConcurrencyLimit concurrency;
+
+    private final AtomicLong blockedUntilNanos = new AtomicLong(System.nanoTime());
+    private final AtomicInteger consecutiveThrottles = new AtomicInteger();
+    private final LongAdder permitsGranted = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder parkedNanos = new LongAdder();
+
+    public ProviderLimiter(String provider, SearchProviderConfig.Limiter config) {
+        this.provider = provider;
+        this.config = config;
+        this.tokenBucket = config.getQps() > 0 ? new TokenBucket(config.getQps(), config.getBurst()) : null;
+        this.concurrency = new AdaptiveConcurrencyLimit(
+                config.getInitialConcurrency(),
+                config.getMinConcurrency(),
+                config.getMaxConcurrency(),
+                config.getDecreaseRatio());
+    }
+
+    /**
+     * Wait for admission and take a permit.
+     *
+     * @return permit to report the outcome on and close when the request completes
+     * @throws RateLimitException if admission would take longer than maxWaitMs
+     * @throws InterruptedException if interrupted while parked
+     */
+    public Permit acquire() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getMaxWaitMs());
+
+        // 1. Backoff window
+        long blocked = blockedUntilNanos.get() - System.nanoTime();
+        if (blocked > 0) {
+            if (System.nanoTime() + blocked > deadline) {
+                throw reject();
+            }
+            park(blocked);
+        }
+
+        // 2. Token bucket
+        if (tokenBucket != null) {
+            long wait = tokenBucket.reserve();
+            if (System.nanoTime() + wait > deadline) {
+                tokenBucket.cancel();
+                throw reject();
+            }
+            park(wait);
+        }
+
+        // 3. Concurrency slot
+        long start = System.nanoTime();
+        boolean admitted = concurrency.acquire(deadline - start);
+        parkedNanos.add(System.nanoTime() - start);
+        if (!admitted) {
+            throw reject();
+        }
+
+        permitsGranted.increment();
+        return new Permit();
+    }
+
+    /**
+     * @return maximum retries of a throttled request
+     */
+    public int maxRetries() {
+        return config.getMaxRetries();
+    }
+
+    /**
+     * @return true if a caller could wait out this delay within maxWaitMs
+     */
+    public boolean canWait(Duration delay) {
+        return delay.toMillis() <= config.getMaxWaitMs();
+    }
+
+    /**
+     * @return snapshot of the limiter state
+     */
+    public LimiterMetrics metrics() {
+        return new LimiterMetrics(
+                provider,
+                config.getQps(),
+                tokenBucket != null ? tokenBucket.availableTokens() : Double.POSITIVE_INFINITY,
+                concurrency.limit(),
+                concurrency.inFlight(),
+                concurrency.waiting(),
+                Math.max(0, TimeUnit.NANOSECONDS.toMillis(blockedUntilNanos.get() - System.nanoTime())),
+                permitsGranted.sum(),
+                throttled.sum(),
+                dropped.sum(),
+                rejected.sum(),
+                TimeUnit.NANOSECONDS.toMillis(parkedNanos.sum()));
+    }
+
+    /**
+     * Parse a Retry-After header value: delay in seconds or an HTTP date.
+     *
+     * @param value header value (nullable)
+     * @return delay from now, empty if absent or unparseable
+     */
+    public static Optional<Duration> parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        String trimmed = value.trim();
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed))));
+        } catch (NumberFormatException e) {
+            // Fall through to HTTP date
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(ZonedDateTime.now(at.getZone()), at);
+            return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Duration onThrottled(Duration retryAfter) {
+        throttled.increment();
+        int attempt = consecutiveThrottles.incrementAndGet();
+        Duration delay = retryAfter != null ? retryAfter : exponentialBackoff(attempt);
+        long until = System.nanoTime() + delay.toNanos();
+        blockedUntilNanos.accumulateAndGet(until, Math::max);
+        return delay;
+    }
+
+    private Duration exponentialBackoff(int attempt) {
+        long millis = config.getInitialBackoffMs() << Math.min(attempt - 1, 20);
+        return Duration.ofMillis(Math.min(millis, config.getMaxBackoffMs()));
+    }
+
+    private RateLimitException reject() {
+        rejected.increment();
+        return new RateLimitException(provider, Duration.ofMillis(config.getMaxWaitMs()));
+    }
+
+    private void park(long nanos) throws InterruptedException {
+        if (nanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            parkedNanos.add(nanos);
+        }
+    }
+
+    /**
+     * Admission to send one request. Report the outcome once, then close.
+     * Closing without an outcome releases the slot without adjusting the limit.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private AdaptiveConcurrencyLimit.Outcome outcome = AdaptiveConcurrencyLimit.Outcome.IGNORED;
+        private boolean closed;
+
+        private Permit() {
+        }
+
+        /**
+         * The provider answered normally.
+         */
+        public void onSuccess() {
+            consecutiveThrottles.set(0);
+            outcome = AdaptiveConcurrencyLimit.Outcome.SUCCESS;
+        }
+
+        /**
+         * The provider answered 429. Starts or extends the backoff window.
+         *
+         * @param retryAfter Retry-After delay, or null to use exponential backoff
+         * @return the backoff applied
+         */
+        public Duration onThrottled(Duration retryAfter) {
+            outcome = AdaptiveConcurrencyLimit.Outcome.THROTTLED;
+            return ProviderLimiter.this.onThrottled(retryAfter);
+        }
+
+        /**
+         * The request timed out or the provider failed (5xx).
+         */
+        public void onDropped() {
+            dropped.increment();
+            outcome = AdaptiveConcurrencyLimit.Outcome.DROPPED;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                concurrency.release(outcome);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.northstar.funding.crawler.adapter.limit;
+
+import com.northstar.funding.crawler.adapter.SearchProviderAdapter;
+import com.northstar.funding.persistence.service.ProviderQuotaService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Reconciles the provider quota ledger with provider_api_usage at startup.
+ *
+ * Raises today's leased count for every quota-limited provider to at least the
+ * calls already recorded, so a node starting mid-day (or after the ledger was
+ * reset) does not lease quota that was already spent.
+ */
+@Component
+@Slf4j
+public class ProviderQuotaReconciler {
+
+    private final ProviderQuotaService quotaService;
+    private final List<SearchProviderAdapter> adapters;
+
+    public ProviderQuotaReconciler(ProviderQuotaService quotaService, List<SearchProviderAdapter> adapters) {
+        this.quotaService = quotaService;
+        this.adapters = adapters != null ? adapters : List.of();
+    }
+
+    /**
+     * Reconcile once the application is ready.
+     * Failures are logged only; leasing then continues from the ledger as-is.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        for (SearchProviderAdapter adapter : adapters) {
+            if (adapter.getRateLimit() == Integer.MAX_VALUE) {
+                continue;
+            }
+            try {
+                quotaService.reconcile(adapter.getProviderType(), adapter.getRateLimit());
+            } catch (Exception e) {
+                log.warn("Quota reconciliation failed for {}: {}", adapter.getProviderType(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.northstar.funding.crawler.adapter.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Budget capping extra attempts (retries, hedges) at a fraction of primary requests.
+ *
+ * Every primary request deposits {@code ratio} of a token, every extra attempt
+ * withdraws a whole one. The balance starts at, and never exceeds, {@code reserve}
+ * tokens: a burst of up to reserve extra attempts is allowed, after which they are
+ * limited to ratio x primary traffic. When the provider slows down for everyone,
+ * the budget runs dry instead of doubling the load on it.
+ */
+public final class RetryBudget {
+
+    // Balance is kept in thousandths of a token
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final AtomicLong balance;
+    private final LongAdder withdrawn = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param ratio extra attempts allowed per primary request (0.1 = 10%)
+     * @param reserve tokens available up front and maximum balance, at least 1
+     */
+    public RetryBudget(double ratio, int reserve) {
+        this.depositPerRequest = Math.round(Math.max(0, ratio) * SCALE);
+        this.maxBalance = Math.max(1, reserve) * SCALE;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    /**
+     * A primary request was sent.
+     */
+    public void onRequest() {
+        balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxBalance, current + deposit));
+    }
+
+    /**
+     * Take a token for one extra attempt.
+     *
+     * @return true if the attempt fits the budget
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                rejected.increment();
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                withdrawn.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return tokens in the budget (each extra attempt needs a whole one)
+     */
+    public double balance() {
+        return balance.get() / (double) SCALE;
+    }
+
+    /**
+     * @return extra attempts granted so far
+     */
+    public long withdrawn() {
+        return withdrawn.sum();
+    }
+
+    /**
+     * @return extra attempts refused because the budget was empty
+     */
+    public long rejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,86 @@
+package com.northstar.funding.crawler.adapter.limit;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket pacing requests to a fixed rate with a bounded burst.
+ *
+ * Reservations may drive the balance negative: each caller is told how long to
+ * wait for its token, so concurrent callers are spaced out in arrival order
+ * instead of all retrying when a token appears.
+ *
+ * Uses a ReentrantLock rather than synchronized so waiting virtual threads
+ * are never pinned to a carrier thread.
+ */
+final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * @param permitsPerSecond sustained rate, must be positive
+     * @param burst maximum tokens accumulated while idle, at least 1
+     */
+    TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.tokensPerNano = permitsPerSecond / NANOS_PER_SECOND;
+        this.capacity = Math.max(1, burst);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Reserve one token.
+     *
+     * @return nanoseconds the caller must wait before using the token, 0 if available now
+     */
+    long reserve() {
+        lock.lock();
+        try {
+            refill();
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Return a reserved token the caller gave up on.
+     */
+    void cancel() {
+        lock.lock();
+        try {
+            tokens = Math.min(capacity, tokens + 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return tokens available right now (0 while callers are queued for future tokens)
+     */
+    double availableTokens() {
+        lock.lock();
+        try {
+            refill();
+            return Math.max(0, tokens);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -32,6 +32,23 @@ public interface AntiSpamFilter {
      */
     SpamAnalysisResult analyzeForSpam(SearchResult result);
 
+    /**
+     * Analyze search result for spam, optionally stopping at the first detection.
+     *
+     * Use {@code stopAtFirstDetection = true} when only the verdict (and primary
+     * indicator) is needed, e.g. filtering before deduplication. Detection strategies
+     * run in the same order as {@link #analyzeForSpam(SearchResult)}, so isSpam,
+     * primaryIndicator and rejectionReason are identical; confidenceScore then only
+     * reflects the first detection.
+     *
+     * @param result SearchResult to analyze (title, description, domain)
+     * @param stopAtFirstDetection true to skip remaining strategies once spam is detected
+     * @return SpamAnalysisResult with spam verdict and detection reasons
+     */
+    default SpamAnalysisResult analyzeForSpam(SearchResult result, boolean stopAtFirstDetection) {
+        return analyzeForSpam(result);
+    }
+
     /**
      * Detect keyword stuffing by analyzing unique word ratio.
      *
@@ -15,6 +15,10 @@ import org.springframework.stereotype.Service;
  *
  * Returns isSpam=true if ANY strategy detects spam.
  * Primary indicator is the FIRST detection that triggered.
+ *
+ * Title and description are tokenized once into {@link TextFeatures}, which all
+ * detectors consume. In short-circuit mode the remaining strategies are skipped
+ * after the first detection.
  */
 @Service
 @Slf4j
@@ -39,6 +43,11 @@ public class AntiSpamFilterImpl implements AntiSpamFilter {
 
     @Override
     public SpamAnalysisResult analyzeForSpam(SearchResult result) {
+        return analyzeForSpam(result, false);
+    }
+
+    @Override
+    public SpamAnalysisResult analyzeForSpam(SearchResult result, boolean stopAtFirstDetection) {
         if (result == null) {
             return SpamAnalysisResult.notSpam();
         }
@@ -48,12 +57,11 @@ public class AntiSpamFilterImpl implements AntiSpamFilter {
         SpamIndicator primaryIndicator = null;
         String rejectionReason = null;
 
-        // Combine title + description for text analysis
-        String combinedText = (result.getTitle() != null ? result.getTitle() : "") + " " +
-                              (result.getDescription() != null ? result.getDescription() : "");
+        // Tokenize title + description once for all strategies
+        TextFeatures features = TextFeatures.of(result.getTitle(), result.getDescription());
 
         // Strategy 1: Keyword Stuffing
-        if (detectKeywordStuffing(combinedText)) {
+        if (keywordStuffingDetector.detect(features)) {
             detectionCount++;
             if (primaryIndicator == null) {
                 primaryIndicator = SpamIndicator.KEYWORD_STUFFING;
@@ -62,7 +70,8 @@ public class AntiSpamFilterImpl implements AntiSpamFilter {
         }
 
         // Strategy 2: Domain-Metadata Mismatch
-        if (detectDomainMetadataMismatch(result.getDomain(), result.getTitle(), result.getDescription())) {
+        if ((!stopAtFirstDetection || detectionCount == 0)
+                && domainMetadataMismatchDetector.detect(result.getDomain(), features)) {
             detectionCount++;
             if (primaryIndicator == null) {
                 primaryIndicator = SpamIndicator.DOMAIN_METADATA_MISMATCH;
@@ -71,7 +80,8 @@ public class AntiSpamFilterImpl implements AntiSpamFilter {
         }
 
         // Strategy 3: Unnatural Keyword List
-        if (detectUnnaturalKeywordList(combinedText)) {
+        if ((!stopAtFirstDetection || detectionCount == 0)
+                && unnaturalKeywordListDetector.detect(features)) {
             detectionCount++;
             if (primaryIndicator == null) {
                 primaryIndicator = SpamIndicator.UNNATURAL_KEYWORD_LIST;
@@ -80,7 +90,8 @@ public class AntiSpamFilterImpl implements AntiSpamFilter {
         }
 
         // Strategy 4: Cross-Category Spam
-        if (detectCrossCategorySpam(result.getDomain(), result.getTitle(), result.getDescription())) {
+        if ((!stopAtFirstDetection || detectionCount == 0)
+                && crossCategorySpamDetector.detect(result.getDomain(), features)) {
             detectionCount++;
             if (primaryIndicator == null) {
                 primaryIndicator = SpamIndicator.CROSS_CATEGORY_SPAM;
@@ -46,17 +46,27 @@ public class CrossCategorySpamDetector {
      * @return true if domain is scammer industry but metadata is education
      */
     public boolean detect(String domain, String title, String description) {
+        return detect(domain, TextFeatures.of(title, description));
+    }
+
+    /**
+     * Detect cross-category spam using pre-extracted metadata features.
+     *
+     * @param domain Domain name
+     * @param metadata Features of title + description
+     * @return true if domain is scammer industry but metadata is education
+     */
+    public boolean detect(String domain, TextFeatures metadata) {
         if (domain == null || domain.isBlank()) {
             return false;
         }
 
-        String domainLower = domain.toLowerCase();
-        String metadata = ((title != null ? title : "") + " " + (description != null ? description : "")).toLowerCase();
-
         if (metadata.isBlank()) {
             return false;
         }
 
+        String domainLower = domain.toLowerCase();
+
         // Check if domain contains scammer keywords
         boolean domainIsScammer = containsAnyKeyword(domainLower, GAMBLING_KEYWORDS) ||
                                   containsAnyKeyword(domainLower, ESSAY_MILL_KEYWORDS);
@@ -66,7 +76,7 @@ public class CrossCategorySpamDetector {
         }
 
         // Check if metadata contains education keywords
-        boolean metadataIsEducation = containsAnyKeyword(metadata, EDUCATION_KEYWORDS);
+        boolean metadataIsEducation = containsAnyKeyword(metadata.lowerText(), EDUCATION_KEYWORDS);
 
         // Cross-category spam if scammer domain + education metadata
         return metadataIsEducation;
@@ -32,11 +32,21 @@ public class DomainMetadataMismatchDetector {
      * @return true if domain and metadata are unrelated (similarity < 0.15)
      */
     public boolean detect(String domain, String title, String description) {
+        return detect(domain, TextFeatures.of(title, description));
+    }
+
+    /**
+     * Detect domain-metadata mismatch using pre-extracted metadata features.
+     *
+     * @param domain Domain name (e.g., "casinowinners.com")
+     * @param metadata Features of title + description
+     * @return true if domain and metadata are unrelated (similarity < 0.15)
+     */
+    public boolean detect(String domain, TextFeatures metadata) {
         if (domain == null || domain.isBlank()) {
             return false;
         }
 
-        String metadata = (title != null ? title : "") + " " + (description != null ? description : "");
         if (metadata.isBlank()) {
             return false;
         }
@@ -49,7 +59,7 @@ public class DomainMetadataMismatchDetector {
 
         // Calculate cosine similarity
         Map<CharSequence, Integer> domainVector = buildWordVector(domainKeywords);
-        Map<CharSequence, Integer> metadataVector = buildWordVector(metadata);
+        Map<CharSequence, Integer> metadataVector = buildWordVector(metadata.wordFrequencies());
 
         Double similarity = cosineSimilarity.cosineSimilarity(domainVector, metadataVector);
 
@@ -76,13 +86,17 @@ public class DomainMetadataMismatchDetector {
      * Build word frequency vector for cosine similarity.
      */
     private Map<CharSequence, Integer> buildWordVector(String text) {
-        Map<CharSequence, Integer> vector = new HashMap<>();
-        String normalized = text.toLowerCase();
-        String[] words = normalized.split("\\s+");
+        return buildWordVector(TextFeatures.of(text).wordFrequencies());
+    }
 
-        for (String word : words) {
-            if (word.length() > 2) { // Ignore very short words
-                vector.put(word, vector.getOrDefault(word, 0) + 1);
+    /**
+     * Build word frequency vector for cosine similarity from token frequencies.
+     */
+    private Map<CharSequence, Integer> buildWordVector(Map<String, Integer> wordFrequencies) {
+        Map<CharSequence, Integer> vector = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : wordFrequencies.entrySet()) {
+            if (entry.getKey().length() > 2) { // Ignore very short words
+                vector.put(entry.getKey(), entry.getValue());
             }
         }
 
@@ -2,10 +2,6 @@ package com.northstar.funding.crawler.antispam;
 
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
-
 /**
  * Detects keyword stuffing in search result text.
  *
@@ -33,22 +29,20 @@ public class KeywordStuffingDetector {
      * @return true if keyword stuffing detected (unique ratio < 0.5)
      */
     public boolean detect(String text) {
-        if (text == null || text.isBlank()) {
-            return false; // Empty text is not spam
-        }
-
-        // Normalize text: lowercase, split on whitespace
-        String normalized = text.toLowerCase().trim();
-        String[] words = normalized.split("\\s+");
+        return detect(TextFeatures.of(text));
+    }
 
-        if (words.length == 0) {
-            return false;
+    /**
+     * Detect keyword stuffing using pre-extracted text features.
+     *
+     * @param features Features of the text to analyze (title + description combined)
+     * @return true if keyword stuffing detected (unique ratio < 0.5)
+     */
+    public boolean detect(TextFeatures features) {
+        if (features.isBlank() || features.totalWords() == 0) {
+            return false; // Empty text is not spam
         }
 
-        // Calculate unique word ratio
-        Set<String> uniqueWords = new HashSet<>(Arrays.asList(words));
-        double uniqueRatio = (double) uniqueWords.size() / words.length;
-
-        return uniqueRatio < UNIQUE_RATIO_THRESHOLD;
+        return features.uniqueRatio() < UNIQUE_RATIO_THRESHOLD;
     }
 }
@@ -0,0 +1,201 @@
+package com.northstar.funding.crawler.antispam;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Text features shared by all spam detectors, extracted in a single pass.
+ *
+ * AntiSpamFilterImpl builds one instance per search result (title + description)
+ * so the detectors no longer lowercase, regex-split and hash the same text four times.
+ *
+ * Features:
+ * - Lowercased text (for substring keyword checks)
+ * - Whitespace tokens with frequencies (for unique ratio and cosine similarity)
+ * - Number of distinct common words present as whole words (for natural language check)
+ *
+ * Tokenization matches the previous {@code split("\\s+")} behaviour: tokens are maximal
+ * runs of characters other than space, tab, newline, vertical tab, form feed and carriage
+ * return. Whole-word matching matches the previous {@code \b...\b} regexes: words are
+ * maximal runs of ASCII letters, digits and underscore.
+ *
+ * Instances are immutable and safe to share between threads.
+ */
+public final class TextFeatures {
+
+    /**
+     * Common English words that appear in natural text (articles, prepositions, etc.).
+     */
+    static final List<String> COMMON_WORDS = List.of(
+            "the", "a", "an", "of", "for", "to", "in", "with", "on", "at",
+            "by", "from", "as", "is", "are", "was", "were", "be", "been",
+            "and", "or", "but", "if", "this", "that", "these", "those"
+    );
+
+    private static final Map<String, Integer> COMMON_WORD_BITS = commonWordBits();
+
+    private static final TextFeatures EMPTY = new TextFeatures("", "", Map.of(), 0, 0);
+
+    private final String text;
+    private final String lowerText;
+    private final Map<String, Integer> wordFrequencies;
+    private final int totalWords;
+    private final int commonWordCount;
+
+    private TextFeatures(String text, String lowerText, Map<String, Integer> wordFrequencies,
+                         int totalWords, int commonWordCount) {
+        this.text = text;
+        this.lowerText = lowerText;
+        this.wordFrequencies = wordFrequencies;
+        this.totalWords = totalWords;
+        this.commonWordCount = commonWordCount;
+    }
+
+    /**
+     * Extract features from title and description, combined as {@code title + " " + description}.
+     *
+     * @param title Page title (nullable)
+     * @param description Page description (nullable)
+     * @return extracted features
+     */
+    public static TextFeatures of(String title, String description) {
+        return of((title != null ? title : "") + " " + (description != null ? description : ""));
+    }
+
+    /**
+     * Extract features from a single text.
+     *
+     * @param text Text to analyze (nullable)
+     * @return extracted features, empty for null text
+     */
+    public static TextFeatures of(String text) {
+        if (text == null || text.isEmpty()) {
+            return EMPTY;
+        }
+
+        String lowerText = text.toLowerCase();
+        Map<String, Integer> frequencies = new HashMap<>();
+        int totalWords = 0;
+        int commonWordMask = 0;
+
+        int length = lowerText.length();
+        int tokenStart = -1;
+        int wordStart = -1;
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? lowerText.charAt(i) : ' ';
+
+            // Whitespace tokens
+            if (isRegexWhitespace(c)) {
+                if (tokenStart >= 0) {
+                    frequencies.merge(lowerText.substring(tokenStart, i), 1, Integer::sum);
+                    totalWords++;
+                    tokenStart = -1;
+                }
+            } else if (tokenStart < 0) {
+                tokenStart = i;
+            }
+
+            // Whole words for common-word matching
+            if (isWordChar(c)) {
+                if (wordStart < 0) {
+                    wordStart = i;
+                }
+            } else if (wordStart >= 0) {
+                commonWordMask |= commonWordBit(lowerText, wordStart, i);
+                wordStart = -1;
+            }
+        }
+
+        return new TextFeatures(text, lowerText, Collections.unmodifiableMap(frequencies),
+                totalWords, Integer.bitCount(commonWordMask));
+    }
+
+    /**
+     * @return the original (combined) text
+     */
+    public String text() {
+        return text;
+    }
+
+    /**
+     * @return the text lowercased once with the default locale
+     */
+    public String lowerText() {
+        return lowerText;
+    }
+
+    /**
+     * @return true if the text is empty or whitespace only
+     */
+    public boolean isBlank() {
+        return text.isBlank();
+    }
+
+    /**
+     * @return lowercase whitespace token frequencies (read-only)
+     */
+    public Map<String, Integer> wordFrequencies() {
+        return wordFrequencies;
+    }
+
+    /**
+     * @return number of whitespace tokens
+     */
+    public int totalWords() {
+        return totalWords;
+    }
+
+    /**
+     * @return number of distinct tokens
+     */
+    public int uniqueWords() {
+        return wordFrequencies.size();
+    }
+
+    /**
+     * @return unique words / total words, or 1.0 when there are no words
+     */
+    public double uniqueRatio() {
+        return totalWords == 0 ? 1.0 : (double) wordFrequencies.size() / totalWords;
+    }
+
+    /**
+     * @return number of distinct {@link #COMMON_WORDS} present as whole words
+     */
+    public int commonWordCount() {
+        return commonWordCount;
+    }
+
+    /**
+     * Characters matched by the regex {@code \s} (without UNICODE_CHARACTER_CLASS).
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Characters matched by the regex {@code \w} (without UNICODE_CHARACTER_CLASS).
+     */
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static int commonWordBit(String lowerText, int start, int end) {
+        // Common words are 1-5 characters; skip the lookup (and substring) for anything longer
+        if (end - start > 5) {
+            return 0;
+        }
+        Integer bit = COMMON_WORD_BITS.get(lowerText.substring(start, end));
+        return bit != null ? bit : 0;
+    }
+
+    private static Map<String, Integer> commonWordBits() {
+        Map<String, Integer> bits = new HashMap<>();
+        for (int i = 0; i < COMMON_WORDS.size(); i++) {
+            bits.put(COMMON_WORDS.get(i), 1 << i);
+        }
+        return Map.copyOf(bits);
+    }
+}
@@ -1,9 +1,15 @@
 package com.northstar.funding.crawler.config;
 
+import com.northstar.funding.domain.SearchEngineType;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Configuration properties for search provider adapters.
  *
@@ -21,6 +27,42 @@ public class SearchProviderConfig {
     private SearxngConfig searxng = new SearxngConfig();
     private PerplexicaConfig perplexica = new PerplexicaConfig();
 
+    // Daily quota units a node leases from the shared ledger per round trip
+    private int leaseBlock = 5;
+
+    // Descriptions are cut to this many characters while responses are parsed (0 = no limit)
+    private int maxDescriptionLength = 1000;
+
+    private ResponseCache responseCache = new ResponseCache();
+
+    private Http http = new Http();
+
+    private Hedging hedging = new Hedging();
+
+    /**
+     * Days a cached response for the provider is served (see ResponseCache).
+     */
+    public int cacheTtlDays(SearchEngineType provider) {
+        return switch (provider) {
+            case BRAVE -> braveSearch.getCacheTtlDays();
+            case SERPER -> serper.getCacheTtlDays();
+            case SEARXNG -> searxng.getCacheTtlDays();
+            case PERPLEXICA -> perplexica.getCacheTtlDays();
+        };
+    }
+
+    /**
+     * Request limiter settings of the provider (see ProviderLimiter).
+     */
+    public Limiter limiter(SearchEngineType provider) {
+        return switch (provider) {
+            case BRAVE -> braveSearch.getLimiter();
+            case SERPER -> serper.getLimiter();
+            case SEARXNG -> searxng.getLimiter();
+            case PERPLEXICA -> perplexica.getLimiter();
+        };
+    }
+
     /**
      * BraveSearch configuration (keyword queries).
      */
@@ -31,6 +73,8 @@ public class SearchProviderConfig {
         private int timeout = 5000;  // 5 seconds (milliseconds)
         private int maxResults = 20;
         private RateLimit rateLimit = new RateLimit(50);  // Conservative: 50/day
+        private int cacheTtlDays = 7;  // Paid: weekly repeats are served from cache
+        private Limiter limiter = new Limiter();
     }
 
     /**
@@ -43,6 +87,8 @@ public class SearchProviderConfig {
         private int timeout = 5000;  // 5 seconds (milliseconds)
         private int maxResults = 20;
         private RateLimit rateLimit = new RateLimit(60);  // Conservative: 60/day
+        private int cacheTtlDays = 7;  // Paid: weekly repeats are served from cache
+        private Limiter limiter = new Limiter();
     }
 
     /**
@@ -55,6 +101,9 @@ public class SearchProviderConfig {
         private int maxResults = 20;
         private String format = "json";
         private RateLimit rateLimit = new RateLimit(Integer.MAX_VALUE);  // Unlimited (self-hosted)
+        private int cacheTtlDays = 1;  // Free, but spares upstream engines
+        private Limiter limiter = new Limiter();
+        private String hedgeBaseUrl;  // Second instance for hedged requests (null = base-url)
     }
 
     /**
@@ -68,6 +117,62 @@ public class SearchProviderConfig {
         private String focusMode = "webSearch";  // Perplexica focus mode
         private String optimizationMode = "balanced";  // Perplexica optimization mode
         private RateLimit rateLimit = new RateLimit(Integer.MAX_VALUE);  // Unlimited (self-hosted)
+        private int cacheTtlDays = 3;  // Slow LLM answers
+        private Limiter limiter = new Limiter();
+        private String hedgeBaseUrl;  // Second instance for hedged requests (null = base-url)
+    }
+
+    /**
+     * Search response cache configuration (see ProviderResponseCache).
+     *
+     * A response fetched on day D is served through day D + cache-ttl-days of its
+     * provider; 0 disables caching for that provider.
+     */
+    @Data
+    public static class ResponseCache {
+        private boolean enabled = true;
+        private String directory = System.getProperty("java.io.tmpdir") + "/northstar-search-cache";
+    }
+
+    /**
+     * Shared HTTP transport configuration (see SearchHttpTransport).
+     *
+     * host-connections overrides max-connections-per-host for single hosts
+     * (e.g. {@code api.search.brave.com: 4}).
+     *
+     * Idle connection keep-alive is not set here: it is the JVM-wide
+     * {@code -Djdk.httpclient.keepalive.timeout} flag.
+     */
+    @Data
+    public static class Http {
+        private int connectTimeoutMs = 5000;
+        private boolean http2 = true;                // Negotiated via ALPN; plain http:// stays HTTP/1.1
+        private int maxConnectionsPerHost = 8;
+        private Map<String, Integer> hostConnections = new HashMap<>();
+        private long poolWaitMs = 10_000;            // Longest a request waits for a connection slot
+        private boolean compression = true;          // Accept-Encoding: gzip, deflate
+    }
+
+    /**
+     * Hedged request configuration (see SearchProviderGateway).
+     *
+     * Off by default. When enabled, a call to one of the listed providers that has not
+     * answered by the provider's observed latency percentile is sent again to its hedge
+     * endpoint (e.g. searxng.hedge-base-url), and the first successful answer wins.
+     * Hedges are paid from a per-provider RetryBudget so they stay a bounded share of
+     * primary requests.
+     */
+    @Data
+    public static class Hedging {
+        private boolean enabled = false;
+        // Paid APIs are left out: a hedge would spend daily quota
+        private Set<SearchEngineType> providers = EnumSet.of(SearchEngineType.SEARXNG, SearchEngineType.PERPLEXICA);
+        private double percentile = 0.95;   // Hedge once a call is slower than this share of recent calls
+        private int minSamples = 20;        // No hedging until this many latencies are recorded
+        private long minDelayMs = 50;       // Floor for the hedge delay
+        private long windowSeconds = 300;   // Latencies older than one to two windows are forgotten
+        private double budgetRatio = 0.1;   // Hedges allowed per primary request
+        private int budgetReserve = 10;     // Hedges allowed up front (burst)
     }
 
     /**
@@ -85,4 +190,23 @@ public class SearchProviderConfig {
             this.daily = daily;
         }
     }
+
+    /**
+     * Request limiter configuration (see ProviderLimiter).
+     *
+     * Defaults are permissive (no QPS cap); per-provider rates belong in application.yml.
+     */
+    @Data
+    public static class Limiter {
+        private double qps = 0;                 // Sustained requests/second (0 = unlimited)
+        private int burst = 1;                  // Tokens accumulated while idle
+        private int initialConcurrency = 4;     // Starting in-flight limit
+        private int minConcurrency = 1;
+        private int maxConcurrency = 16;
+        private double decreaseRatio = 0.5;     // Multiplicative decrease on 429/timeout/5xx
+        private long initialBackoffMs = 250;    // First backoff without Retry-After, doubles per 429
+        private long maxBackoffMs = 30_000;
+        private long maxWaitMs = 10_000;        // Longest a caller parks before RateLimitException
+        private int maxRetries = 1;             // Retries of a 429 after its backoff
+    }
 }
@@ -1,10 +1,13 @@
 package com.northstar.funding.crawler.exception;
 
+import java.time.Duration;
+
 /**
  * Exception thrown when a search provider's rate limit is exceeded.
  *
  * This indicates that the daily quota for a specific provider has been
- * reached and no more requests can be made until the quota resets.
+ * reached and no more requests can be made until the quota resets, or that
+ * the provider's limiter could not admit a request within its maximum wait.
  */
 public class RateLimitException extends SearchProviderException {
 
@@ -25,6 +28,13 @@ public class RateLimitException extends SearchProviderException {
         this.dailyLimit = dailyLimit;
     }
 
+    public RateLimitException(String providerName, Duration maxWait) {
+        super(String.format("Rate limiter for provider '%s' could not admit request within %d ms",
+                providerName, maxWait.toMillis()));
+        this.providerName = providerName;
+        this.dailyLimit = 0;
+    }
+
     public String getProviderName() {
         return providerName;
     }
@@ -0,0 +1,494 @@
+package com.northstar.funding.crawler.http;
+
+import com.northstar.funding.crawler.config.SearchProviderConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.net.ssl.SSLSession;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Shared HTTP transport for all search provider adapters.
+ *
+ * One JDK HttpClient for every provider, so connections (and their TLS sessions) are
+ * pooled and reused across adapters and requests instead of each adapter keeping its own:
+ * - HTTP/2 over TLS where the provider negotiates it (ALPN), HTTP/1.1 otherwise;
+ *   plain http:// hosts (self-hosted SearXNG/Perplexica) always use HTTP/1.1
+ * - Per-host connection limits ({@code max-connections-per-host}, overridable per host);
+ *   callers wait up to {@code pool-wait-ms} for a slot
+ * - Compressed responses: advertises gzip/deflate and decodes them transparently
+ * - Micrometer meters per host ({@code northstar.search.http.*}, tagged {@code host}):
+ *   requests, failures, estimated new vs reused connections, HTTP/2 and compressed
+ *   responses, in-flight requests, pool wait and time to response headers
+ *   (also as {@link TransportMetrics} snapshots). New vs reused connection counts are
+ *   estimates; DNS resolution is not measured separately, since the JDK client resolves
+ *   inside its connection setup without a resolver hook; it is part of connection=new time
+ *
+ * How long idle connections stay pooled is the JVM-wide JDK setting
+ * {@code -Djdk.httpclient.keepalive.timeout=<seconds>} (default 30), read once when the
+ * JDK's pool is first used. It is a launch flag (see the northstar-application
+ * spring-boot-maven-plugin configuration), not per-transport configuration; this class
+ * only reads it to estimate connection reuse.
+ *
+ * Response bodies are streams and hold their host's connection slot until closed;
+ * callers must close them (try-with-resources).
+ *
+ * Thread Safety: safe for concurrent use from Virtual Threads.
+ */
+@Component
+@Slf4j
+public class SearchHttpTransport {
+
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+    private static final String KEEPALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+    private static final long JDK_DEFAULT_KEEPALIVE_SECONDS = 30;
+
+    private final SearchProviderConfig.Http settings;
+    private final MeterRegistry registry;
+    private final HttpClient client;
+    private final long keepAliveNanos;
+    private final Map<String, HostState> hosts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SearchHttpTransport(SearchProviderConfig searchProviderConfig, ObjectProvider<MeterRegistry> registry) {
+        this(searchProviderConfig.getHttp(), registry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    /**
+     * Transport outside Spring (tests, tools), with meters in a local registry.
+     */
+    public SearchHttpTransport(SearchProviderConfig.Http settings) {
+        this(settings, new SimpleMeterRegistry());
+    }
+
+    public SearchHttpTransport(SearchProviderConfig.Http settings, MeterRegistry registry) {
+        this.settings = settings;
+        this.registry = registry;
+        long keepAliveSeconds = Long.getLong(KEEPALIVE_PROPERTY, JDK_DEFAULT_KEEPALIVE_SECONDS);
+        this.keepAliveNanos = TimeUnit.SECONDS.toNanos(Math.max(1, keepAliveSeconds));
+        this.client = HttpClient.newBuilder()
+                .version(settings.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(settings.getConnectTimeoutMs()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        log.info("SearchHttpTransport initialized - http2={}, keepAlive={}s, maxConnectionsPerHost={}, compression={}",
+                settings.isHttp2(), keepAliveSeconds, settings.getMaxConnectionsPerHost(),
+                settings.isCompression());
+    }
+
+    /**
+     * Send a request and return the (decoded) response body as a stream.
+     *
+     * The body must be closed; closing it frees the host's connection slot.
+     *
+     * @param request HTTP request (its timeout is kept)
+     * @return HTTP response (any status)
+     * @throws IOException if the request fails, or no connection slot frees up within pool-wait-ms
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public HttpResponse<InputStream> send(HttpRequest request) throws IOException, InterruptedException {
+        URI uri = request.uri();
+        String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : "";
+        HostState state = hosts.computeIfAbsent(host, this::newHostState);
+
+        state.acquire();
+        boolean bodyHandedOver = false;
+        try {
+            Timer responseTimer = state.opensConnection() ? state.newConnectionResponses : state.reusedConnectionResponses;
+
+            long start = System.nanoTime();
+            HttpResponse<InputStream> response = client.send(prepare(request), HttpResponse.BodyHandlers.ofInputStream());
+            responseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            boolean http2 = response.version() == HttpClient.Version.HTTP_2;
+            if (http2) {
+                state.http2Responses.incrementAndGet();
+            }
+            InputStream body = decode(response.body(), response.headers(), state);
+            bodyHandedOver = true;
+            return new StreamResponse(response, new SlotReleasingInputStream(body, state, http2));
+
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            state.failures.incrementAndGet();
+            throw e;
+        } finally {
+            if (!bodyHandedOver) {
+                state.release(false, false);
+            }
+        }
+    }
+
+    /**
+     * Read a whole response body as UTF-8 text and close it.
+     */
+    public static String readString(InputStream body) throws IOException {
+        try (body) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * @return metrics per host, busiest first
+     */
+    public List<TransportMetrics> metrics() {
+        return hosts.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingLong(TransportMetrics::requests).reversed())
+                .toList();
+    }
+
+    /**
+     * Copy the request with the negotiated protocol version and Accept-Encoding.
+     */
+    private HttpRequest prepare(HttpRequest request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request, (name, value) -> true);
+        if (!"https".equalsIgnoreCase(request.uri().getScheme())) {
+            // No h2c upgrade attempts against plain-HTTP self-hosted services
+            builder.version(HttpClient.Version.HTTP_1_1);
+        }
+        if (settings.isCompression() && request.headers().firstValue("Accept-Encoding").isEmpty()) {
+            builder.header("Accept-Encoding", ACCEPT_ENCODING);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Wrap the body in a decoder for its Content-Encoding. The decoder reads the stream
+     * header lazily, on the caller's first read, so nothing blocks here.
+     */
+    private static InputStream decode(InputStream body, HttpHeaders headers, HostState state) {
+        String encoding = headers.firstValue("Content-Encoding").orElse("").trim().toLowerCase(Locale.ROOT);
+        return switch (encoding) {
+            case "gzip", "x-gzip" -> {
+                state.compressedResponses.incrementAndGet();
+                yield new LazyDecodingInputStream(body, true);
+            }
+            case "deflate" -> {
+                state.compressedResponses.incrementAndGet();
+                yield new LazyDecodingInputStream(body, false);
+            }
+            default -> body;
+        };
+    }
+
+    private HostState newHostState(String host) {
+        int limit = settings.getHostConnections().getOrDefault(host, settings.getMaxConnectionsPerHost());
+        HostState state = new HostState(host, Math.max(1, limit));
+        state.bind();
+        return state;
+    }
+
+    /**
+     * Connection slots, estimated pool state and counters for one host.
+     */
+    private final class HostState {
+
+        private final Tags tags;
+        private final int maxConnections;
+        private final Semaphore slots;
+        private final Timer poolWait;
+        private final Timer newConnectionResponses;
+        private final Timer reusedConnectionResponses;
+
+        // Estimated pool: idle HTTP/1.1 connections, live HTTP/2 connection, last activity
+        private int idleConnections;
+        private boolean http2Connection;
+        private long lastActivityNanos;
+        private int inFlight;
+
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong estimatedNewConnections = new AtomicLong();
+        private final AtomicLong estimatedReusedConnections = new AtomicLong();
+        private final AtomicLong http2Responses = new AtomicLong();
+        private final AtomicLong compressedResponses = new AtomicLong();
+
+        HostState(String host, int maxConnections) {
+            this.tags = Tags.of("host", host);
+            this.maxConnections = maxConnections;
+            this.slots = new Semaphore(maxConnections, true);
+            this.poolWait = Timer.builder("northstar.search.http.pool.wait")
+                    .description("Time spent waiting for a connection slot")
+                    .tags(tags)
+                    .register(registry);
+            this.newConnectionResponses = responseTimer("new");
+            this.reusedConnectionResponses = responseTimer("reused");
+        }
+
+        private Timer responseTimer(String connection) {
+            return Timer.builder("northstar.search.http.response")
+                    .description("Time to response headers; connection=new includes TCP/TLS setup (estimated)")
+                    .tags(tags.and("connection", connection))
+                    .register(registry);
+        }
+
+        /**
+         * Publish this host's counters. Meters read them on scrape.
+         */
+        void bind() {
+            counter("northstar.search.http.requests", "Requests sent", s -> s.requests.get());
+            counter("northstar.search.http.failures", "Requests that failed before a response arrived",
+                    s -> s.failures.get());
+            counter("northstar.search.http.connections.new.estimated",
+                    "Requests estimated to have opened a connection", s -> s.estimatedNewConnections.get());
+            counter("northstar.search.http.connections.reused.estimated",
+                    "Requests estimated to have reused a pooled connection", s -> s.estimatedReusedConnections.get());
+            counter("northstar.search.http.responses.http2", "Responses received over HTTP/2",
+                    s -> s.http2Responses.get());
+            counter("northstar.search.http.responses.compressed", "Responses received gzip/deflate encoded",
+                    s -> s.compressedResponses.get());
+            Gauge.builder("northstar.search.http.in.flight", this, s -> s.snapshotInFlight())
+                    .description("Requests whose response body is still open")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("northstar.search.http.max.connections", this, s -> s.maxConnections)
+                    .description("Connection limit for the host")
+                    .tags(tags)
+                    .register(registry);
+        }
+
+        private void counter(String name, String description, ToDoubleFunction<HostState> value) {
+            FunctionCounter.builder(name, this, value)
+                    .description(description)
+                    .tags(tags)
+                    .register(registry);
+        }
+
+        void acquire() throws IOException, InterruptedException {
+            long start = System.nanoTime();
+            boolean acquired = slots.tryAcquire(settings.getPoolWaitMs(), TimeUnit.MILLISECONDS);
+            poolWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                failures.incrementAndGet();
+                throw new IOException("No connection available within " + settings.getPoolWaitMs() + "ms");
+            }
+            requests.incrementAndGet();
+        }
+
+        /**
+         * Take a connection from the estimated pool.
+         *
+         * @return true if this request is expected to open a new connection
+         */
+        synchronized boolean opensConnection() {
+            long now = System.nanoTime();
+            if (now - lastActivityNanos > keepAliveNanos && inFlight == 0) {
+                // Everything idle past keep-alive has been closed by the pool
+                idleConnections = 0;
+                http2Connection = false;
+            }
+            inFlight++;
+            lastActivityNanos = now;
+            if (http2Connection) {
+                estimatedReusedConnections.incrementAndGet();
+                return false;
+            }
+            if (idleConnections > 0) {
+                idleConnections--;
+                estimatedReusedConnections.incrementAndGet();
+                return false;
+            }
+            estimatedNewConnections.incrementAndGet();
+            return true;
+        }
+
+        synchronized int snapshotInFlight() {
+            return inFlight;
+        }
+
+        void release(boolean completed, boolean http2) {
+            synchronized (this) {
+                if (inFlight > 0) {
+                    inFlight--;
+                }
+                lastActivityNanos = System.nanoTime();
+                if (completed) {
+                    if (http2) {
+                        http2Connection = true;
+                    } else if (idleConnections < maxConnections) {
+                        idleConnections++;
+                    }
+                }
+            }
+            slots.release();
+        }
+
+        synchronized TransportMetrics snapshot(String host) {
+            return new TransportMetrics(
+                    host,
+                    requests.get(),
+                    failures.get(),
+                    inFlight,
+                    maxConnections,
+                    estimatedNewConnections.get(),
+                    estimatedReusedConnections.get(),
+                    http2Responses.get(),
+                    compressedResponses.get(),
+                    (long) poolWait.totalTime(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * Body stream that frees its host's connection slot when closed. A body read to the
+     * end leaves its connection reusable; one closed early does not.
+     */
+    private static final class SlotReleasingInputStream extends FilterInputStream {
+
+        private final HostState state;
+        private final boolean http2;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private boolean endOfStream;
+
+        SlotReleasingInputStream(InputStream in, HostState state, boolean http2) {
+            super(in);
+            this.state = state;
+            this.http2 = http2;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            endOfStream |= b == -1;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            endOfStream |= n == -1;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    // HTTP/2 streams can be cancelled without losing the connection
+                    state.release(endOfStream || http2, http2);
+                }
+            }
+        }
+    }
+
+    /**
+     * gzip/deflate decoder created on first read.
+     */
+    private static final class LazyDecodingInputStream extends FilterInputStream {
+
+        private final boolean gzip;
+        private InputStream decoder;
+
+        LazyDecodingInputStream(InputStream in, boolean gzip) {
+            super(in);
+            this.gzip = gzip;
+        }
+
+        private InputStream decoder() throws IOException {
+            if (decoder == null) {
+                decoder = gzip ? new GZIPInputStream(in) : new InflaterInputStream(in);
+            }
+            return decoder;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return decoder().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return decoder().read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return decoder == null ? 0 : decoder.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (decoder != null) {
+                decoder.close();
+            } else {
+                in.close();
+            }
+        }
+    }
+
+    /**
+     * Response with the decoded, slot-releasing body in place of the raw stream.
+     */
+    private record StreamResponse(HttpResponse<InputStream> raw, InputStream body) implements HttpResponse<InputStream> {
+
+        @Override
+        public int statusCode() {
+            return raw.statusCode();
+        }
+
+        @Override
+        public HttpRequest request() {
+            return raw.request();
+        }
+
+        @Override
+        public Optional<HttpResponse<InputStream>> previousResponse() {
+            return raw.previousResponse();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return raw.headers();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return raw.sslSession();
+        }
+
+        @Override
+        public URI uri() {
+            return raw.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return raw.version();
+        }
+    }
+}
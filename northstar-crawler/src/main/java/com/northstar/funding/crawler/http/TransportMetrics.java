@@ -0,0 +1,44 @@
+package com.northstar.funding.crawler.http;
+
+/**
+ * Point-in-time view of the shared HTTP transport for one host.
+ *
+ * The same values are published as {@code northstar.search.http.*} meters.
+ *
+ * Connection counts are estimates derived from the pool's keep-alive rules (the JDK client
+ * does not report connection events): a request to a host with no idle connection inside
+ * the keep-alive window is counted as opening a new one, HTTP/2 requests share one
+ * connection per host. DNS lookups are not timed on their own; they are part of the time to
+ * response headers of requests that open a connection.
+ *
+ * @param host request host
+ * @param requests total requests sent
+ * @param failures requests that failed before a response arrived
+ * @param inFlight requests whose response body is still open
+ * @param maxConnections connection limit for the host
+ * @param estimatedNewConnections requests estimated to have opened a connection (TCP + TLS handshake)
+ * @param estimatedReusedConnections requests estimated to have reused a pooled connection
+ * @param http2Responses responses received over HTTP/2
+ * @param compressedResponses responses received gzip/deflate encoded
+ * @param poolWaitMillis total time callers waited for a connection slot
+ */
+public record TransportMetrics(
+        String host,
+        long requests,
+        long failures,
+        int inFlight,
+        int maxConnections,
+        long estimatedNewConnections,
+        long estimatedReusedConnections,
+        long http2Responses,
+        long compressedResponses,
+        long poolWaitMillis) {
+
+    /**
+     * @return estimated share of requests that reused a pooled connection (0 when idle)
+     */
+    public double estimatedReuseRatio() {
+        long total = estimatedNewConnections + estimatedReusedConnections;
+        return total == 0 ? 0 : (double) estimatedReusedConnections / total;
+    }
+}
@@ -46,6 +46,33 @@ public interface MultiProviderSearchOrchestrator {
         UUID discoverySessionId
     );
 
+    /**
+     * Execute search query across all configured providers, processing results as they arrive.
+     *
+     * @param keywordQuery Query for traditional search engines (BraveSearch, SearXNG, Serper)
+     * @param aiOptimizedQuery Query for AI-optimized search (Perplexica)
+     * @param maxResultsPerProvider Maximum results to request from each provider
+     * @param discoverySessionId UUID of discovery session for tracking
+     * @return Try containing SearchExecutionResult with aggregated results and errors
+     *
+     * Contract:
+     * - MUST execute all 4 providers in parallel using Virtual Thread executor
+     * - MUST apply anti-spam, blacklist and domain deduplication to each provider's
+     *   results as soon as that provider completes (no allOf barrier before filtering)
+     * - MUST enforce a per-provider deadline (SearchProviderAdapter.getDeadline())
+     * - MUST keep results from completed providers when others miss their deadline
+     * - MUST report missed deadlines as ProviderError with ErrorType.TIMEOUT
+     * - MUST produce the same aggregated results as executeMultiProviderSearch for
+     *   the same provider responses (highest-ranked result per domain)
+     * - MUST return Failure<Exception> only if all 4 providers fail
+     */
+    Try<SearchExecutionResult> executeMultiProviderSearchStreaming(
+        String keywordQuery,
+        String aiOptimizedQuery,
+        int maxResultsPerProvider,
+        UUID discoverySessionId
+    );
+
     /**
      * Execute search on single provider (used internally by orchestrator).
      *
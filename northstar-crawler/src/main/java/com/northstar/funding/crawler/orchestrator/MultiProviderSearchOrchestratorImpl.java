@@ -7,8 +7,9 @@ import com.northstar.funding.crawler.adapter.SearxngAdapter;
 import com.northstar.funding.crawler.adapter.SerperAdapter;
 import com.northstar.funding.crawler.antispam.AntiSpamFilter;
 import com.northstar.funding.crawler.antispam.SpamAnalysisResult;
+import com.northstar.funding.crawler.provider.SearchProvider;
+import com.northstar.funding.crawler.provider.SearchProviderGateway;
 import com.northstar.funding.domain.DiscoverySession;
-import com.northstar.funding.domain.Domain;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.domain.SearchResult;
 import com.northstar.funding.domain.SessionStatus;
@@ -17,14 +18,16 @@ import com.northstar.funding.persistence.service.DomainService;
 import com.northstar.funding.persistence.service.SearchResultService;
 import io.vavr.control.Try;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -34,16 +37,23 @@ import java.util.stream.Collectors;
  * applies anti-spam filtering, performs domain deduplication, and updates session statistics.
  *
  * Flow:
- * 1. Execute all 4 providers in parallel (CompletableFuture.allOf)
+ * 1. Execute all 4 providers in parallel through SearchProviderGateway (CompletableFuture.allOf)
+ *    (slow SearXNG/Perplexica calls are hedged when search.providers.hedging is enabled)
  * 2. Apply anti-spam filtering to all results
  * 3. Check blacklist and perform domain deduplication
  * 4. Save SearchResult entities
  * 5. Update DiscoverySession statistics
+ *
+ * executeMultiProviderSearchStreaming (used by ScheduledCrawlService) filters each
+ * provider as it completes instead of waiting at the allOf barrier, and interrupts
+ * providers that miss their deadline.
  */
 @Service
 @Slf4j
 public class MultiProviderSearchOrchestratorImpl implements MultiProviderSearchOrchestrator {
 
+    private static final Duration DEFAULT_PROVIDER_DEADLINE = Duration.ofSeconds(15);
+
     private final BraveSearchAdapter braveSearchAdapter;
     private final SearxngAdapter searxngAdapter;
     private final SerperAdapter serperAdapter;
@@ -52,8 +62,11 @@ public class MultiProviderSearchOrchestratorImpl implements MultiProviderSearchO
     private final DomainService domainService;
     private final SearchResultService searchResultService;
     private final DiscoverySessionService discoverySessionService;
-    private final ExecutorService virtualThreadExecutor;
 
+    // Cache, usage tracking and limiter hooks around each provider call
+    private final SearchProviderGateway providerGateway;
+
+    @Autowired
     public MultiProviderSearchOrchestratorImpl(
             BraveSearchAdapter braveSearchAdapter,
             SearxngAdapter searxngAdapter,
@@ -63,7 +76,7 @@ public class MultiProviderSearchOrchestratorImpl implements MultiProviderSearchO
             DomainService domainService,
             SearchResultService searchResultService,
             DiscoverySessionService discoverySessionService,
-            @Qualifier("searchExecutor") ExecutorService virtualThreadExecutor
+            SearchProviderGateway providerGateway
     ) {
         this.braveSearchAdapter = braveSearchAdapter;
         this.searxngAdapter = searxngAdapter;
@@ -73,7 +86,7 @@ public class MultiProviderSearchOrchestratorImpl implements MultiProviderSearchO
         this.domainService = domainService;
         this.searchResultService = searchResultService;
         this.discoverySessionService = discoverySessionService;
-        this.virtualThreadExecutor = virtualThreadExecutor;
+        this.providerGateway = providerGateway;
 
         log.info("MultiProviderSearchOrchestratorImpl initialized with 4 providers (Brave, SearXNG, Serper, Perplexica) and Virtual Thread executor");
     }
@@ -159,6 +172,53 @@ public class MultiProviderSearchOrchestratorImpl implements MultiProviderSearchO
         }
     }
 
+    @Override
+    public Try<SearchExecutionResult> executeMultiProviderSearchStreaming(
+            String keywordQuery,
+            String aiOptimizedQuery,
+            int maxResultsPerProvider,
+            UUID discoverySessionId
+    ) {
+        log.info("Starting streaming multi-provider search: keyword='{}', ai='{}', maxResults={}, sessionId={}",
+                keywordQuery, aiOptimizedQuery, maxResultsPerProvider, discoverySessionId);
+
+        long startTime = System.currentTimeMillis();
+        StreamingAggregator aggregator = new StreamingAggregator();
+
+        // Each provider is filtered as soon as it completes, bounded by its own deadline
+        List<CompletableFuture<Void>> pipelines = List.of(
+                streamProvider(braveSearchAdapter, keywordQuery, maxResultsPerProvider, discoverySessionId, aggregator),
+                streamProvider(searxngAdapter, keywordQuery, maxResultsPerProvider, discoverySessionId, aggregator),
+                streamProvider(serperAdapter, keywordQuery, maxResultsPerProvider, discoverySessionId, aggregator),
+                streamProvider(perplexicaAdapter, aiOptimizedQuery, maxResultsPerProvider, discoverySessionId, aggregator)
+        );
+
+        try {
+            CompletableFuture.allOf(pipelines.toArray(CompletableFuture[]::new)).join();
+
+            Map<SearchEngineType, List<SearchResult>> successfulResults = aggregator.rawResults();
+            List<ProviderError> errors = aggregator.errors();
+
+            if (successfulResults.isEmpty()) {
+                return Try.failure(new RuntimeException("All search providers failed: " + errors));
+            }
+
+            List<SearchResult> aggregatedResults = aggregator.aggregatedResults();
+            SessionStatistics statistics = calculateStatistics(successfulResults, aggregatedResults, errors.size());
+
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("Streaming multi-provider search completed in {}ms: {} results, {} errors",
+                    duration, aggregatedResults.size(), errors.size());
+
+            return Try.success(new SearchExecutionResult(aggregatedResults, errors, statistics));
+
+        } catch (Exception e) {
+            long duration = System.currentTimeMillis() - startTime;
+            log.error("Streaming multi-provider search failed after {}ms: {}", duration, e.getMessage(), e);
+            return Try.failure(e);
+        }
+    }
+
     @Override
     public Try<List<SearchResult>> executeSingleProvider(
             SearchProviderAdapter adapter,
@@ -166,7 +226,7 @@ public class MultiProviderSearchOrchestratorImpl implements MultiProviderSearchO
             int maxResults,
             UUID discoverySessionId
     ) {
-        return adapter.executeSearch(query, maxResults, discoverySessionId);
+        return providerGateway.search(adapter, query, maxResults, discoverySessionId);
     }
 
     @Override
@@ -185,7 +245,7 @@ public class MultiProviderSearchOrchestratorImpl implements MultiProviderSearchO
         // Step 1: Apply anti-spam filtering
         List<SearchResult> nonSpamResults = allResults.stream()
                 .filter(result -> {
-                    SpamAnalysisResult spamAnalysis = antiSpamFilter.analyzeForSpam(result);
+                    SpamAnalysisResult spamAnalysis = antiSpamFilter.analyzeForSpam(result, true);
                     if (spamAnalysis.isSpam()) {
                         log.debug("Spam filtered: domain={}, reason={}",
                                 result.getDomain(), spamAnalysis.rejectionReason());
@@ -204,9 +264,8 @@ public class MultiProviderSearchOrchestratorImpl implements MultiProviderSearchO
         for (SearchResult result : nonSpamResults) {
             String domain = result.getDomain();
 
-            // Check if domain is blacklisted
-            Optional<Domain> existingDomain = domainService.findByDomainName(domain);
-            if (existingDomain.isPresent() && existingDomain.get().getStatus() == com.northstar.funding.domain.DomainStatus.BLACKLISTED) {
+            // Check if domain is blacklisted (in-process index, no I/O once loaded)
+            if (domainService.isBlacklisted(domain)) {
                 log.debug("Blacklisted domain skipped: {}", domain);
                 continue;
             }
@@ -257,38 +316,91 @@ public class MultiProviderSearchOrchestratorImpl implements MultiProviderSearchO
      * Execute a single provider asynchronously using Virtual Threads.
      */
     private CompletableFuture<ProviderSearchResult> executeProviderAsync(
-            SearchProviderAdapter adapter,
+            SearchProvider adapter,
             String query,
             int maxResults,
             UUID discoverySessionId
     ) {
-        return CompletableFuture.supplyAsync(() -> {
-            Try<List<SearchResult>> result = adapter.executeSearch(query, maxResults, discoverySessionId);
+        return providerGateway.searchAsync(adapter, query, maxResults, discoverySessionId)
+                .thenApply(result -> toProviderSearchResult(adapter, query, result));
+    }
 
-            if (result.isSuccess()) {
-                return new ProviderSearchResult(
-                        adapter.getProviderType(),
-                        result.get(),
-                        null
-                );
-            } else {
-                // Convert Throwable to ProviderError
-                Throwable error = result.getCause();
-                ProviderError providerError = new ProviderError(
+    /**
+     * Convert a provider's Try into a ProviderSearchResult, classifying failures.
+     */
+    private ProviderSearchResult toProviderSearchResult(
+            SearchProvider adapter,
+            String query,
+            Try<List<SearchResult>> result
+    ) {
+        if (result.isSuccess()) {
+            return new ProviderSearchResult(
+                    adapter.getProviderType(),
+                    result.get(),
+                    null
+            );
+        } else {
+            // Convert Throwable to ProviderError
+            Throwable error = result.getCause();
+            ProviderError providerError = new ProviderError(
+                    adapter.getProviderType(),
+                    error.getMessage(),
+                    classifyErrorType(error),
+                    LocalDateTime.now(),
+                    query
+            );
+
+            return new ProviderSearchResult(
+                    adapter.getProviderType(),
+                    List.of(),
+                    providerError
+            );
+        }
+    }
+
+    /**
+     * Run one provider with its own deadline and feed its results into the aggregator
+     * as soon as they arrive. A missed deadline is recorded as a TIMEOUT error and
+     * interrupts the provider call, which aborts its HTTP request.
+     */
+    private CompletableFuture<Void> streamProvider(
+            SearchProvider adapter,
+            String query,
+            int maxResults,
+            UUID discoverySessionId,
+            StreamingAggregator aggregator
+    ) {
+        Duration deadline = adapter.getDeadline();
+        if (deadline == null || deadline.isZero() || deadline.isNegative()) {
+            deadline = DEFAULT_PROVIDER_DEADLINE;
+        }
+
+        ProviderSearchResult timedOut = new ProviderSearchResult(
+                adapter.getProviderType(),
+                List.of(),
+                new ProviderError(
                         adapter.getProviderType(),
-                        error.getMessage(),
-                        classifyErrorType(error),
+                        "Provider deadline exceeded after " + deadline.toMillis() + "ms",
+                        ProviderError.ErrorType.TIMEOUT,
                         LocalDateTime.now(),
                         query
-                );
+                )
+        );
 
-                return new ProviderSearchResult(
-                        adapter.getProviderType(),
-                        List.of(),
-                        providerError
-                );
-            }
-        }, virtualThreadExecutor);
+        // orTimeout completes the gateway's own future, so the gateway cancels the call
+        return providerGateway.searchAsync(adapter, query, maxResults, discoverySessionId)
+                .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((result, error) -> {
+                    if (error == null) {
+                        return toProviderSearchResult(adapter, query, result);
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    return cause instanceof TimeoutException
+                            ? timedOut
+                            : toProviderSearchResult(adapter, query, Try.failure(cause));
+                })
+                .thenAccept(aggregator::accept);
     }
 
     /**
@@ -341,6 +453,68 @@ public class MultiProviderSearchOrchestratorImpl implements MultiProviderSearchO
         );
     }
 
+    /**
+     * Incremental anti-spam, blacklist and deduplication state for streaming mode.
+     *
+     * Filtering runs on the completing provider's thread; only the merge into the
+     * shared maps is synchronized. Keeping the lowest rank per domain makes the
+     * outcome independent of arrival order.
+     */
+    private final class StreamingAggregator {
+
+        private final Map<SearchEngineType, List<SearchResult>> rawResults = new EnumMap<>(SearchEngineType.class);
+        private final Map<String, SearchResult> bestByDomain = new HashMap<>();
+        private final List<ProviderError> errors = new ArrayList<>();
+
+        void accept(ProviderSearchResult providerResult) {
+            if (!providerResult.isSuccess()) {
+                log.warn("Provider {} failed: {}", providerResult.provider(), providerResult.error().errorMessage());
+                synchronized (this) {
+                    errors.add(providerResult.error());
+                }
+                return;
+            }
+
+            List<SearchResult> accepted = new ArrayList<>();
+            for (SearchResult result : providerResult.results()) {
+                SpamAnalysisResult spamAnalysis = antiSpamFilter.analyzeForSpam(result, true);
+                if (spamAnalysis.isSpam()) {
+                    log.debug("Spam filtered: domain={}, reason={}", result.getDomain(), spamAnalysis.rejectionReason());
+                    continue;
+                }
+                if (domainService.isBlacklisted(result.getDomain())) {
+                    log.debug("Blacklisted domain skipped: {}", result.getDomain());
+                    continue;
+                }
+                accepted.add(result);
+            }
+
+            synchronized (this) {
+                rawResults.put(providerResult.provider(), providerResult.results());
+                for (SearchResult result : accepted) {
+                    bestByDomain.merge(result.getDomain(), result,
+                            (current, candidate) -> candidate.getRankPosition() < current.getRankPosition()
+                                    ? candidate : current);
+                }
+            }
+
+            log.info("Provider {} streamed: {} results -> {} accepted",
+                    providerResult.provider(), providerResult.results().size(), accepted.size());
+        }
+
+        synchronized Map<SearchEngineType, List<SearchResult>> rawResults() {
+            return new EnumMap<>(rawResults);
+        }
+
+        synchronized List<SearchResult> aggregatedResults() {
+            return new ArrayList<>(bestByDomain.values());
+        }
+
+        synchronized List<ProviderError> errors() {
+            return new ArrayList<>(errors);
+        }
+    }
+
     /**
      * Internal record for provider search results.
      */
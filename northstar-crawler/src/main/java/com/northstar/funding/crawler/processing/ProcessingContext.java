@@ -12,13 +12,13 @@ import java.util.UUID;
  * - Session correlation (UUID)
  * - Confidence threshold (constant)
  * - Domain deduplication tracking (HashSet)
- * - Processing outcome counters (spam, blacklist, duplicates, candidates)
+ * - Processing outcome counters (spam, blacklist, duplicates, seen recently, candidates)
  * <p>
  * Responsibilities:
  * - Track session ID for logging correlation
  * - Maintain confidence threshold (0.60 constant)
  * - Track seen domains for deduplication
- * - Count processing outcomes (spam, blacklist, duplicates, candidates, invalid URLs)
+ * - Count processing outcomes (spam, blacklist, duplicates, seen recently, candidates, invalid URLs)
  * - Generate final ProcessingStatistics
  */
 public class ProcessingContext {
@@ -28,6 +28,7 @@ public class ProcessingContext {
     private int spamTldFiltered;
     private int blacklistedSkipped;
     private int duplicatesSkipped;
+    private int recentlySeenSkipped;
     private int highConfidenceCreated;
     private int lowConfidenceCreated;
     private int invalidUrlsSkipped;
@@ -75,6 +76,13 @@ public class ProcessingContext {
         blacklistedSkipped++;
     }
 
+    /**
+     * Records that a result seen recently by an earlier session was skipped.
+     */
+    public void recordRecentlySeen() {
+        recentlySeenSkipped++;
+    }
+
     /**
      * Records that a low-confidence result was created.
      * <p>
@@ -113,6 +121,7 @@ public class ProcessingContext {
                 .spamTldFiltered(spamTldFiltered)
                 .blacklistedSkipped(blacklistedSkipped)
                 .duplicatesSkipped(duplicatesSkipped)
+                .recentlySeenSkipped(recentlySeenSkipped)
                 .highConfidenceCreated(highConfidenceCreated)
                 .lowConfidenceCreated(lowConfidenceCreated)
                 .invalidUrlsSkipped(invalidUrlsSkipped)
@@ -141,6 +150,10 @@ public class ProcessingContext {
         return duplicatesSkipped;
     }
 
+    public int getRecentlySeenSkipped() {
+        return recentlySeenSkipped;
+    }
+
     public int getHighConfidenceCreated() {
         return highConfidenceCreated;
     }
@@ -11,6 +11,7 @@ import lombok.Data;
  * - Spam TLDs filtered out
  * - Blacklisted domains skipped
  * - Duplicate domains skipped
+ * - Results seen recently by an earlier session skipped
  * - High-confidence candidates created (PENDING_CRAWL)
  * - Low-confidence candidates created (SKIPPED_LOW_CONFIDENCE)
  *
@@ -40,6 +41,11 @@ public class ProcessingStatistics {
      */
     private int duplicatesSkipped;
 
+    /**
+     * Results skipped because their URL or domain was seen recently by an earlier session
+     */
+    private int recentlySeenSkipped;
+
     /**
      * High-confidence candidates created (>= 0.60 confidence)
      */
@@ -70,6 +76,7 @@ public class ProcessingStatistics {
      * @return total results processed
      */
     public int getTotalProcessed() {
-        return spamTldFiltered + blacklistedSkipped + duplicatesSkipped + getTotalCandidatesCreated();
+        return spamTldFiltered + blacklistedSkipped + duplicatesSkipped + recentlySeenSkipped
+            + getTotalCandidatesCreated();
     }
 }
@@ -5,6 +5,7 @@ import com.northstar.funding.crawler.scoring.ConfidenceScorer;
 import com.northstar.funding.crawler.scoring.DomainCredibilityService;
 import com.northstar.funding.domain.FundingSourceCandidate;
 import com.northstar.funding.persistence.repository.FundingSourceCandidateRepository;
+import com.northstar.funding.persistence.seen.RecentlySeenIndex;
 import com.northstar.funding.persistence.service.DomainService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +13,9 @@ import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -22,9 +25,10 @@ import java.util.UUID;
  * 1. Spam TLD filtering (before deduplication)
  * 2. Domain extraction and deduplication
  * 3. Blacklist checking
- * 4. Confidence scoring
- * 5. Candidate creation
- * 6. Statistics tracking
+ * 4. Cross-session "seen recently" check (before scoring)
+ * 5. Confidence scoring
+ * 6. Candidate creation
+ * 7. Statistics tracking
  *
  * Implements the two-phase judging workflow:
  * - Phase 1: Metadata-based confidence scoring (this class)
@@ -41,38 +45,64 @@ public class SearchResultProcessor {
     private final CandidateCreationService candidateCreationService;
     private final DomainService domainService;
     private final FundingSourceCandidateRepository candidateRepository;
+    private final RecentlySeenIndex recentlySeenIndex;
 
     public SearchResultProcessor(
         DomainCredibilityService domainCredibilityService,
         ConfidenceScorer confidenceScorer,
         CandidateCreationService candidateCreationService,
         DomainService domainService,
-        FundingSourceCandidateRepository candidateRepository
+        FundingSourceCandidateRepository candidateRepository,
+        RecentlySeenIndex recentlySeenIndex
     ) {
         this.domainCredibilityService = domainCredibilityService;
         this.confidenceScorer = confidenceScorer;
         this.candidateCreationService = candidateCreationService;
         this.domainService = domainService;
         this.candidateRepository = candidateRepository;
+        this.recentlySeenIndex = recentlySeenIndex;
     }
 
     /**
      * Process search results into candidates with statistics tracking.
      * <p>
-     * Orchestrates 7-stage pipeline:
+     * Orchestrates 8-stage pipeline:
      * 1. Domain extraction and validation
      * 2. Spam TLD filtering
-     * 3. Duplicate detection
+     * 3. Duplicate detection (within this call)
      * 4. Blacklist checking
+     * 4b. Seen recently (URL or domain found by an earlier session within the look-back windows)
      * 5. Confidence scoring
      * 6. Threshold filtering
-     * 7. Candidate creation
+     * 7. Candidate creation (recorded in the seen index once saved)
      *
      * @param searchResults list of search results to process
      * @param sessionId discovery session ID
      * @return processing statistics
      */
     public ProcessingStatistics processSearchResults(List<SearchResult> searchResults, UUID sessionId) {
+        return process(searchResults, sessionId, false);
+    }
+
+    /**
+     * Process search results into candidates using set-based persistence.
+     * <p>
+     * Runs stages 1-6 exactly as {@link #processSearchResults(List, UUID)}, collecting
+     * the surviving results instead of saving them one by one. Stage 7 then resolves
+     * every domain in one multi-row upsert and writes all candidates in a single JDBC
+     * batch, replacing 2-3 round trips per result with two per call.
+     * <p>
+     * Statistics are identical to the per-result mode.
+     *
+     * @param searchResults list of search results to process
+     * @param sessionId discovery session ID
+     * @return processing statistics
+     */
+    public ProcessingStatistics processSearchResultsBatched(List<SearchResult> searchResults, UUID sessionId) {
+        return process(searchResults, sessionId, true);
+    }
+
+    private ProcessingStatistics process(List<SearchResult> searchResults, UUID sessionId, boolean batched) {
         MDC.put("sessionId", sessionId.toString());
         try {
             logger.info("Processing {} search results for session {}",
@@ -85,6 +115,7 @@ public class SearchResultProcessor {
                     .spamTldFiltered(0)
                     .blacklistedSkipped(0)
                     .duplicatesSkipped(0)
+                    .recentlySeenSkipped(0)
                     .highConfidenceCreated(0)
                     .lowConfidenceCreated(0)
                     .invalidUrlsSkipped(0)
@@ -92,6 +123,7 @@ public class SearchResultProcessor {
             }
 
             ProcessingContext context = new ProcessingContext(sessionId);
+            List<PendingCandidate> pending = new ArrayList<>();
 
             // Process each result through pipeline
             for (SearchResult result : searchResults) {
@@ -116,6 +148,11 @@ public class SearchResultProcessor {
                     continue;  // Blacklisted, skip
                 }
 
+                // Stage 4b: Check earlier sessions before paying for scoring
+                if (isRecentlySeen(result, domain.get(), context)) {
+                    continue;  // Seen recently, skip
+                }
+
                 // Stage 5: Calculate confidence
                 java.math.BigDecimal confidence = calculateConfidence(result);
 
@@ -123,14 +160,24 @@ public class SearchResultProcessor {
                 classifyConfidence(confidence, context);
 
                 // Stage 7: Create candidate (BOTH high and low confidence create candidates)
-                createAndSaveCandidate(result, domain.get(), confidence, context);
+                if (batched) {
+                    pending.add(new PendingCandidate(result, domain.get(), confidence));
+                } else {
+                    createAndSaveCandidate(result, domain.get(), confidence, context);
+                    recentlySeenIndex.record(domain.get(), result.getUrl());
+                }
+            }
+
+            if (batched) {
+                saveCandidatesBatch(pending, context);
+                pending.forEach(candidate -> recentlySeenIndex.record(candidate.domain(), candidate.result().getUrl()));
             }
 
             ProcessingStatistics stats = context.buildStatistics(searchResults.size());
             logger.info("Processing complete: {} total, {} spam filtered, {} duplicates, {} blacklisted, " +
-                       "{} high confidence, {} low confidence, {} invalid URLs",
+                       "{} seen recently, {} high confidence, {} low confidence, {} invalid URLs",
                        stats.getTotalResults(), stats.getSpamTldFiltered(), stats.getDuplicatesSkipped(),
-                       stats.getBlacklistedSkipped(), stats.getHighConfidenceCreated(),
+                       stats.getBlacklistedSkipped(), stats.getRecentlySeenSkipped(), stats.getHighConfidenceCreated(),
                        stats.getLowConfidenceCreated(), stats.getInvalidUrlsSkipped());
 
             return stats;
@@ -218,6 +265,28 @@ public class SearchResultProcessor {
         return false;
     }
 
+    /**
+     * Check if the result was already found by an earlier session.
+     * <p>
+     * Stage 4b of processing pipeline (runs before scoring). Probabilistic: see
+     * {@link RecentlySeenIndex} for the look-back windows and false positive rate.
+     * <p>
+     * Package-private for unit testing.
+     *
+     * @param result Search result with URL
+     * @param domain Domain name
+     * @param context Processing context for tracking
+     * @return true if seen recently (should skip), false if new
+     */
+    boolean isRecentlySeen(SearchResult result, String domain, ProcessingContext context) {
+        if (recentlySeenIndex.isRecentlySeen(domain, result.getUrl())) {
+            context.recordRecentlySeen();
+            logger.debug("Recently seen result skipped: {}", result.getUrl());
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Calculate confidence score for search result.
      * <p>
@@ -295,4 +364,47 @@ public class SearchResultProcessor {
         candidateRepository.save(candidate);
         logger.info("Created candidate for {}", result.getUrl());
     }
+
+    /**
+     * Create and save all pending candidates with set-based persistence.
+     * <p>
+     * Stage 7 of processing pipeline (batched mode): one domain upsert for all
+     * distinct domains, then one JDBC batch insert for all candidates.
+     * <p>
+     * Package-private for unit testing.
+     *
+     * @param pending Results that survived stages 1-6 (domains already unique)
+     * @param context Processing context (session ID)
+     */
+    void saveCandidatesBatch(List<PendingCandidate> pending, ProcessingContext context) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, UUID> domainIds = domainService.registerOrGetDomains(
+            pending.stream().map(PendingCandidate::domain).toList(),
+            context.getSessionId()
+        );
+
+        List<FundingSourceCandidate> candidates = new ArrayList<>(pending.size());
+        for (PendingCandidate candidate : pending) {
+            candidates.add(candidateCreationService.createCandidate(
+                candidate.result().getTitle(),
+                candidate.result().getDescription(),
+                candidate.result().getUrl(),
+                domainIds.get(candidate.domain()),
+                context.getSessionId(),
+                candidate.confidence()
+            ));
+        }
+
+        candidateRepository.insertAll(candidates);
+        logger.info("Created {} candidates in one batch", candidates.size());
+    }
+
+    /**
+     * Search result that passed all filters and awaits batched persistence.
+     */
+    record PendingCandidate(SearchResult result, String domain, BigDecimal confidence) {
+    }
 }
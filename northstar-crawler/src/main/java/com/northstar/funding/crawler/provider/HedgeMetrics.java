@@ -0,0 +1,33 @@
+package com.northstar.funding.crawler.provider;
+
+/**
+ * Point-in-time view of a provider's latency histogram and hedging.
+ *
+ * @param provider provider name
+ * @param samples successful call latencies in the histogram window
+ * @param p50Millis median latency
+ * @param thresholdMillis latency at the configured hedging percentile (p95 by default)
+ * @param hedgeDelayMillis delay before a duplicate is sent, 0 while too few samples to hedge
+ * @param hedgesSent duplicates sent
+ * @param hedgesWon duplicates that answered first
+ * @param budgetRejected duplicates skipped because the retry budget was empty
+ * @param budgetBalance tokens left in the retry budget
+ */
+public record HedgeMetrics(
+        String provider,
+        long samples,
+        long p50Millis,
+        long thresholdMillis,
+        long hedgeDelayMillis,
+        long hedgesSent,
+        long hedgesWon,
+        long budgetRejected,
+        double budgetBalance) {
+
+    /**
+     * @return share of sent duplicates that beat the primary request (0 when none were sent)
+     */
+    public double winRatio() {
+        return hedgesSent == 0 ? 0 : (double) hedgesWon / hedgesSent;
+    }
+}
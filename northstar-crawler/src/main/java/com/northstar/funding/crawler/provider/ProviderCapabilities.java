@@ -0,0 +1,33 @@
+package com.northstar.funding.crawler.provider;
+
+/**
+ * What a search provider supports and which shared hooks it needs.
+ *
+ * @param keywordQueries accepts short keyword queries (Brave, Serper, SearXNG)
+ * @param aiOptimizedQueries accepts long conceptual queries (Perplexica)
+ * @param dailyQuota calls are paid or capped per day, so cache hits save quota
+ * @param selfHosted runs on our own infrastructure (no API key, no provider quota)
+ * @param selfLimited applies its own request limiter; SearchProviderGateway only wraps
+ *                    providers that don't
+ */
+public record ProviderCapabilities(
+        boolean keywordQueries,
+        boolean aiOptimizedQueries,
+        boolean dailyQuota,
+        boolean selfHosted,
+        boolean selfLimited) {
+
+    /**
+     * Keyword search API with a daily quota (Brave, Serper).
+     */
+    public static ProviderCapabilities keywordApi(boolean selfLimited) {
+        return new ProviderCapabilities(true, false, true, false, selfLimited);
+    }
+
+    /**
+     * Self-hosted keyword metasearch (SearXNG).
+     */
+    public static ProviderCapabilities selfHostedKeyword(boolean selfLimited) {
+        return new ProviderCapabilities(true, false, false, true, selfLimited);
+    }
+}
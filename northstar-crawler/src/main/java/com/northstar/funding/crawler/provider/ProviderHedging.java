@@ -0,0 +1,100 @@
+package com.northstar.funding.crawler.provider;
+
+import com.northstar.funding.crawler.adapter.limit.LatencyHistogram;
+import com.northstar.funding.crawler.adapter.limit.RetryBudget;
+import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.domain.SearchEngineType;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-provider latency histograms and retry budgets behind SearchProviderGateway's
+ * hedged requests.
+ */
+final class ProviderHedging {
+
+    private final SearchProviderConfig.Hedging config;
+    private final Map<SearchEngineType, ProviderState> states = new EnumMap<>(SearchEngineType.class);
+
+    ProviderHedging(SearchProviderConfig.Hedging config) {
+        this.config = config;
+        Duration window = Duration.ofSeconds(Math.max(1, config.getWindowSeconds()));
+        for (SearchEngineType type : SearchEngineType.values()) {
+            states.put(type, new ProviderState(
+                    new LatencyHistogram(window),
+                    new RetryBudget(config.getBudgetRatio(), config.getBudgetReserve())));
+        }
+    }
+
+    boolean appliesTo(SearchEngineType provider) {
+        return config.getProviders() != null && config.getProviders().contains(provider);
+    }
+
+    void recordLatency(SearchEngineType provider, Duration latency) {
+        states.get(provider).histogram.record(latency);
+    }
+
+    /**
+     * A primary request is about to be sent; funds the retry budget.
+     */
+    void onPrimary(SearchEngineType provider) {
+        states.get(provider).budget.onRequest();
+    }
+
+    /**
+     * @return how long to wait for the primary request before hedging, null while the
+     *         histogram has fewer than min-samples latencies
+     */
+    Duration hedgeDelay(SearchEngineType provider) {
+        LatencyHistogram histogram = states.get(provider).histogram;
+        if (histogram.count() < config.getMinSamples()) {
+            return null;
+        }
+        Duration threshold = histogram.percentile(config.getPercentile());
+        Duration floor = Duration.ofMillis(config.getMinDelayMs());
+        return threshold.compareTo(floor) < 0 ? floor : threshold;
+    }
+
+    /**
+     * @return true if the retry budget pays for one duplicate request
+     */
+    boolean tryHedge(SearchEngineType provider) {
+        ProviderState state = states.get(provider);
+        if (!state.budget.tryWithdraw()) {
+            return false;
+        }
+        state.hedgesSent.increment();
+        return true;
+    }
+
+    void onHedgeWon(SearchEngineType provider) {
+        states.get(provider).hedgesWon.increment();
+    }
+
+    HedgeMetrics metrics(SearchEngineType provider) {
+        ProviderState state = states.get(provider);
+        Duration delay = hedgeDelay(provider);
+        return new HedgeMetrics(
+                provider.name(),
+                state.histogram.count(),
+                state.histogram.percentile(0.5).toMillis(),
+                state.histogram.percentile(config.getPercentile()).toMillis(),
+                delay != null ? delay.toMillis() : 0,
+                state.hedgesSent.sum(),
+                state.hedgesWon.sum(),
+                state.budget.rejected(),
+                state.budget.balance()
+        );
+    }
+
+    private record ProviderState(LatencyHistogram histogram, RetryBudget budget,
+                                 LongAdder hedgesSent, LongAdder hedgesWon) {
+
+        ProviderState(LatencyHistogram histogram, RetryBudget budget) {
+            this(histogram, budget, new LongAdder(), new LongAdder());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.northstar.funding.crawler.provider;
+
+import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.domain.SearchResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result normalization shared by all SearchProvider implementations, so results look
+ * the same whichever adapter stack produced them (and can share the response cache).
+ */
+public final class ProviderResults {
+
+    private ProviderResults() {
+    }
+
+    /**
+     * Normalize domain name: lowercase, remove protocol, remove www, drop path.
+     *
+     * Examples:
+     * - "https://www.example.com/path" → "example.com"
+     * - "HTTP://EXAMPLE.COM" → "example.com"
+     * - "www.example.com" → "example.com"
+     *
+     * @param url URL or domain string
+     * @return Normalized domain name ("" for null or blank input)
+     */
+    public static String normalizeDomain(String url) {
+        if (url == null || url.isBlank()) {
+            return "";
+        }
+
+        String normalized = url.toLowerCase().trim();
+
+        // Remove protocol
+        normalized = normalized.replaceFirst("^https?://", "");
+
+        // Remove www.
+        normalized = normalized.replaceFirst("^www\\.", "");
+
+        // Extract domain (remove path, query, fragment)
+        int slashIndex = normalized.indexOf('/');
+        if (slashIndex != -1) {
+            normalized = normalized.substring(0, slashIndex);
+        }
+
+        return normalized;
+    }
+
+    /**
+     * Fill in the fields the SearchProvider contract requires on results from adapters
+     * that only set url/title/description.
+     *
+     * Results without a URL are dropped; missing ranks become the 1-based position in
+     * the list; missing titles and descriptions become "".
+     *
+     * @param provider search engine that produced the results
+     * @param results results in provider ranking order
+     * @param maxResults maximum results to keep
+     * @param discoverySessionId discovery session UUID
+     * @return normalized results (new instances)
+     */
+    public static List<SearchResult> normalize(SearchEngineType provider, List<SearchResult> results,
+                                               int maxResults, UUID discoverySessionId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<SearchResult> normalized = new ArrayList<>(Math.min(results.size(), Math.max(0, maxResults)));
+        int position = 0;
+        for (SearchResult result : results) {
+            position++;
+            if (normalized.size() >= maxResults) {
+                break;
+            }
+            if (result.getUrl() == null || result.getUrl().isBlank()) {
+                continue;
+            }
+            normalized.add(SearchResult.builder()
+                    .url(result.getUrl())
+                    .domain(normalizeDomain(result.getUrl()))
+                    .title(result.getTitle() != null ? result.getTitle() : "")
+                    .description(result.getDescription() != null ? result.getDescription() : "")
+                    .rankPosition(result.getRankPosition() != null ? result.getRankPosition() : position)
+                    .searchEngine(provider)
+                    .discoveredAt(result.getDiscoveredAt() != null ? result.getDiscoveredAt() : now)
+                    .searchDate(now.toLocalDate())
+                    .discoverySessionId(discoverySessionId)
+                    .build());
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,91 @@
+package com.northstar.funding.crawler.provider;
+
+import com.northstar.funding.crawler.adapter.limit.LimiterMetrics;
+import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.domain.SearchResult;
+import io.vavr.control.Try;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service provider interface for search engines.
+ *
+ * Single contract for every provider implementation, whichever stack it comes from:
+ * - crawler adapters (SearchProviderAdapter: Brave, SearXNG, Serper, Perplexica)
+ * - search-adapters workflow adapters (SearchAdapter: Brave, Serper, SearXNG)
+ * - legacy search.adapter.SearchAdapter (SearXNG)
+ *
+ * Callers (MultiProviderSearchOrchestratorImpl, SearchWorkflowService) go through
+ * SearchProviderGateway, which adds the shared response cache, usage tracking and a
+ * request limiter for providers without their own.
+ *
+ * Thread Safety: Implementations MUST be thread-safe for Virtual Thread execution.
+ * executeSearch blocks the calling thread on I/O and is meant to run on a virtual thread.
+ * The only async entry point is SearchProviderGateway.searchAsync, which runs the call
+ * with the shared hooks and interrupts it when the caller cancels.
+ */
+public interface SearchProvider {
+
+    /**
+     * Execute a search query and return normalized results.
+     *
+     * @param query Search query string
+     * @param maxResults Maximum number of results to return
+     * @param discoverySessionId UUID of the discovery session for tracking
+     * @return Try containing List of SearchResult entities (empty list if no results, Failure if error)
+     *
+     * Contract:
+     * - MUST return Success with an empty list if no results found, never null
+     * - MUST return Failure if provider error (network, auth, timeout, rate limit)
+     * - MUST return at most maxResults results
+     * - MUST set url, normalized domain, rankPosition, searchEngine, discoveredAt,
+     *   searchDate and discoverySessionId on every result
+     */
+    Try<List<SearchResult>> executeSearch(String query, int maxResults, UUID discoverySessionId);
+
+    /**
+     * Execute the duplicate of a slow search (hedged request).
+     *
+     * Same contract as executeSearch. Providers with a second endpoint (e.g. another
+     * SearXNG instance) send the duplicate there; by default it repeats executeSearch.
+     */
+    default Try<List<SearchResult>> executeHedge(String query, int maxResults, UUID discoverySessionId) {
+        return executeSearch(query, maxResults, discoverySessionId);
+    }
+
+    /**
+     * @return SearchEngineType this provider searches (stable across calls)
+     */
+    SearchEngineType getProviderType();
+
+    /**
+     * @return supported query styles and the shared hooks this provider needs
+     */
+    ProviderCapabilities getCapabilities();
+
+    /**
+     * @return true if the provider is configured (API key, endpoint) and can be called
+     */
+    default boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Get the deadline callers allow this provider before giving up on it.
+     *
+     * Contract:
+     * - SHOULD exceed the provider's HTTP timeout so the provider reports its own timeout first
+     */
+    default Duration getDeadline() {
+        return Duration.ofSeconds(15);
+    }
+
+    /**
+     * @return the provider's own limiter state, or null if it has none (see ProviderCapabilities.selfLimited)
+     */
+    default LimiterMetrics getLimiterMetrics() {
+        return null;
+    }
+}
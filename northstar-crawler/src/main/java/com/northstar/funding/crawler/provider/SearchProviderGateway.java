@@ -0,0 +1,408 @@
+package com.northstar.funding.crawler.provider;
+
+import com.northstar.funding.crawler.adapter.cache.ProviderResponseCache;
+import com.northstar.funding.crawler.adapter.limit.LimiterMetrics;
+import com.northstar.funding.crawler.adapter.limit.ProviderLimiter;
+import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.domain.SearchResult;
+import com.northstar.funding.persistence.service.ApiUsageTrackingService;
+import io.vavr.control.Try;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared execution path for every SearchProvider call.
+ *
+ * Hooks applied around the provider, in order:
+ * 1. Response cache - a cached (provider, query) response is returned without calling
+ *    the provider and tracked as a cache hit
+ * 2. Hedging (opt-in, search.providers.hedging) - a call to a hedged provider that has
+ *    not answered by the provider's observed latency percentile (p95 by default) is
+ *    duplicated through {@link SearchProvider#executeHedge}; the first successful answer
+ *    wins and the other request is cancelled. Duplicates are paid from a per-provider RetryBudget so hedging cannot
+ *    multiply the load
+ * 3. Request limiter - providers that don't limit themselves
+ *    ({@link ProviderCapabilities#selfLimited()} false) get a ProviderLimiter built from
+ *    search.providers.&lt;provider&gt;.limiter, applied to primary and duplicate requests;
+ *    failures count as drops for its AIMD limit
+ * 4. Usage tracking - every provider call is recorded in provider_api_usage (buffered);
+ *    a hedged duplicate is a second billed call and gets its own row
+ * 5. Successful responses are added to the cache
+ *
+ * Cache, tracking, limiter and hedging hooks are optional: the plain constructor (unit
+ * tests, services created outside Spring) runs providers with none of them.
+ *
+ * Thread Safety: safe for concurrent use from Virtual Threads.
+ */
+@Component
+@Slf4j
+public class SearchProviderGateway {
+
+    private final ExecutorService executor;
+    private final SearchProviderConfig searchProviderConfig;
+    private final Map<SearchEngineType, ProviderLimiter> limiters = new ConcurrentHashMap<>();
+
+    // Latency histograms and retry budgets; null unless search.providers.hedging.enabled
+    private final ProviderHedging hedging;
+
+    // Records every provider call in provider_api_usage; null when not wired (unit tests)
+    private ApiUsageTrackingService apiUsageTrackingService;
+
+    // Answers repeated (provider, query) searches from disk; null when not wired (unit tests)
+    private ProviderResponseCache responseCache;
+
+    // Publishes gateway limiters, hedging and call timings through Micrometer; null when not wired (unit tests)
+    private SearchProviderMetrics providerMetrics;
+
+    @Autowired
+    public SearchProviderGateway(
+            @Qualifier("searchExecutor") ExecutorService executor,
+            SearchProviderConfig searchProviderConfig
+    ) {
+        this.executor = executor;
+        this.searchProviderConfig = searchProviderConfig;
+        this.hedging = searchProviderConfig.getHedging() != null && searchProviderConfig.getHedging().isEnabled()
+                ? new ProviderHedging(searchProviderConfig.getHedging())
+                : null;
+    }
+
+    /**
+     * Gateway without shared limiters or hedging.
+     *
+     * @param executor executor for {@link #searchAsync} (Virtual Threads)
+     */
+    public SearchProviderGateway(ExecutorService executor) {
+        this.executor = executor;
+        this.searchProviderConfig = null;
+        this.hedging = null;
+    }
+
+    @Autowired(required = false)
+    public void setApiUsageTrackingService(ApiUsageTrackingService apiUsageTrackingService) {
+        this.apiUsageTrackingService = apiUsageTrackingService;
+    }
+
+    @Autowired(required = false)
+    public void setResponseCache(ProviderResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Autowired(required = false)
+    public void setProviderMetrics(SearchProviderMetrics providerMetrics) {
+        this.providerMetrics = providerMetrics;
+        if (hedging != null) {
+            for (SearchEngineType type : SearchEngineType.values()) {
+                if (hedging.appliesTo(type)) {
+                    providerMetrics.bindHedging(type, () -> hedging.metrics(type));
+                }
+            }
+        }
+    }
+
+    /**
+     * Execute one provider search on the calling thread with the shared hooks.
+     *
+     * @return provider results, or Failure with the provider (or limiter) error
+     */
+    public Try<List<SearchResult>> search(
+            SearchProvider provider,
+            String query,
+            int maxResults,
+            UUID discoverySessionId
+    ) {
+        SearchEngineType providerType = provider.getProviderType();
+        long start = System.currentTimeMillis();
+        if (responseCache != null) {
+            Optional<List<SearchResult>> cached = responseCache.get(providerType, query, maxResults, discoverySessionId);
+            if (cached.isPresent()) {
+                log.debug("Cache hit: provider={}, query='{}', {} results", providerType, query, cached.get().size());
+                if (apiUsageTrackingService != null) {
+                    apiUsageTrackingService.trackCacheHit(providerType, query, cached.get().size(),
+                            System.currentTimeMillis() - start);
+                }
+                return Try.success(cached.get());
+            }
+        }
+
+        Try<List<SearchResult>> result = hedging != null && hedging.appliesTo(providerType)
+                ? hedgedSearch(provider, query, maxResults, discoverySessionId)
+                : trackedSearch(provider, false, query, maxResults, discoverySessionId);
+        if (responseCache != null && result.isSuccess()) {
+            responseCache.put(providerType, query, maxResults, result.get());
+        }
+        return result;
+    }
+
+    /**
+     * Execute one provider search on the gateway's executor with the shared hooks.
+     * This is the only async entry point for provider searches.
+     *
+     * Callers that stop waiting (cancel, orTimeout) interrupt the provider call, which
+     * aborts its HTTP request instead of leaving it running in the background.
+     *
+     * @return future with the Try of {@link #search}; it only completes exceptionally
+     *         when the caller completes it so
+     */
+    public CompletableFuture<Try<List<SearchResult>>> searchAsync(
+            SearchProvider provider,
+            String query,
+            int maxResults,
+            UUID discoverySessionId
+    ) {
+        CompletableFuture<Try<List<SearchResult>>> future = new CompletableFuture<>();
+        Future<?> task = executor.submit(() -> {
+            try {
+                future.complete(search(provider, query, maxResults, discoverySessionId));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                task.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Limiter state of a provider: its own limiter, or the one the gateway applies.
+     *
+     * @return limiter snapshot, or null if the provider is not rate limited
+     */
+    public LimiterMetrics limiterMetrics(SearchProvider provider) {
+        LimiterMetrics own = provider.getLimiterMetrics();
+        if (own != null) {
+            return own;
+        }
+        ProviderLimiter shared = limiters.get(provider.getProviderType());
+        return shared != null ? shared.metrics() : null;
+    }
+
+    /**
+     * Hedging state of every hedged provider.
+     *
+     * @return latency and hedge snapshot per provider (empty when hedging is disabled)
+     */
+    public Map<SearchEngineType, HedgeMetrics> hedgeMetrics() {
+        Map<SearchEngineType, HedgeMetrics> metrics = new EnumMap<>(SearchEngineType.class);
+        if (hedging != null) {
+            for (SearchEngineType type : SearchEngineType.values()) {
+                if (hedging.appliesTo(type)) {
+                    metrics.put(type, hedging.metrics(type));
+                }
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Run the primary request and, if it is still running after the provider's hedge
+     * delay and the retry budget allows, a duplicate. The first success wins and the
+     * other request is cancelled, interrupting its HTTP call; if the caller is
+     * interrupted (e.g. {@link #searchAsync} cancelled at its deadline) both are.
+     */
+    private Try<List<SearchResult>> hedgedSearch(
+            SearchProvider provider,
+            String query,
+            int maxResults,
+            UUID discoverySessionId
+    ) {
+        SearchEngineType providerType = provider.getProviderType();
+        hedging.onPrimary(providerType);
+        Duration delay = hedging.hedgeDelay(providerType);
+        if (delay == null) {
+            // Too few latencies yet to know what slow means for this provider
+            return timedSearch(provider, false, query, maxResults, discoverySessionId);
+        }
+
+        BlockingQueue<Attempt> finished = new LinkedBlockingQueue<>();
+        Future<?> primary = submitAttempt(finished, provider, false, query, maxResults, discoverySessionId);
+        Future<?> hedge = null;
+        try {
+            Attempt fast = finished.poll(delay.toMillis(), TimeUnit.MILLISECONDS);
+            if (fast != null) {
+                return fast.result();
+            }
+
+            if (!hedging.tryHedge(providerType)) {
+                log.debug("Hedge skipped, retry budget empty: provider={}, query='{}'", providerType, query);
+                return finished.take().result();
+            }
+
+            log.debug("Hedging provider={} after {}ms: query='{}'", providerType, delay.toMillis(), query);
+            hedge = submitAttempt(finished, provider, true, query, maxResults, discoverySessionId);
+
+            // First success wins; if it failed, the other request decides
+            Attempt winner = finished.take();
+            if (winner.result().isFailure()) {
+                winner = finished.take();
+            }
+            if (winner.hedge() && winner.result().isSuccess()) {
+                hedging.onHedgeWon(providerType);
+            }
+            return winner.result();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Try.failure(e);
+        } finally {
+            // No-ops for finished requests; stops the loser or, when interrupted, both
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Start one request of a hedged search; its outcome is added to finished.
+     */
+    private Future<?> submitAttempt(
+            BlockingQueue<Attempt> finished,
+            SearchProvider provider,
+            boolean hedge,
+            String query,
+            int maxResults,
+            UUID discoverySessionId
+    ) {
+        return executor.submit(() -> {
+            Try<List<SearchResult>> result;
+            try {
+                result = timedSearch(provider, hedge, query, maxResults, discoverySessionId);
+            } catch (RuntimeException e) {
+                result = Try.failure(e);
+            }
+            finished.add(new Attempt(hedge, result));
+        });
+    }
+
+    /**
+     * Tracked search whose latency, when successful, feeds the provider's histogram.
+     *
+     * Failed calls stay out of the histogram on purpose: fast failures (connection
+     * refused, limiter rejections) would pull the percentile down and trigger needless
+     * hedges, and timeouts would push it up to the timeout. They are still timed in
+     * northstar.search.provider.calls (outcome=failure).
+     */
+    private Try<List<SearchResult>> timedSearch(
+            SearchProvider provider,
+            boolean hedge,
+            String query,
+            int maxResults,
+            UUID discoverySessionId
+    ) {
+        long start = System.nanoTime();
+        Try<List<SearchResult>> result = trackedSearch(provider, hedge, query, maxResults, discoverySessionId);
+        if (result.isSuccess()) {
+            hedging.recordLatency(provider.getProviderType(), Duration.ofNanos(System.nanoTime() - start));
+        }
+        return result;
+    }
+
+    /**
+     * Limited search recorded as one provider_api_usage row and one call timing, so a
+     * primary request and its hedge are tracked as the two calls they are.
+     */
+    private Try<List<SearchResult>> trackedSearch(
+            SearchProvider provider,
+            boolean hedge,
+            String query,
+            int maxResults,
+            UUID discoverySessionId
+    ) {
+        long start = System.nanoTime();
+        Try<List<SearchResult>> result = limitedSearch(provider, hedge, query, maxResults, discoverySessionId);
+        long elapsed = System.nanoTime() - start;
+        SearchEngineType providerType = provider.getProviderType();
+        if (apiUsageTrackingService != null) {
+            apiUsageTrackingService.trackUsage(providerType, query, result, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+        if (providerMetrics != null) {
+            providerMetrics.recordCall(providerType, hedge, result.isSuccess(), elapsed);
+        }
+        return result;
+    }
+
+    private Try<List<SearchResult>> limitedSearch(
+            SearchProvider provider,
+            boolean hedge,
+            String query,
+            int maxResults,
+            UUID discoverySessionId
+    ) {
+        ProviderLimiter limiter = limiterFor(provider);
+        if (limiter == null) {
+            return execute(provider, hedge, query, maxResults, discoverySessionId);
+        }
+
+        try (ProviderLimiter.Permit permit = limiter.acquire()) {
+            Try<List<SearchResult>> result = execute(provider, hedge, query, maxResults, discoverySessionId);
+            if (result.isSuccess()) {
+                permit.onSuccess();
+            } else {
+                permit.onDropped();
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Try.failure(e);
+        } catch (RuntimeException e) {
+            // RateLimitException when the limiter cannot admit the call within maxWaitMs
+            return Try.failure(e);
+        }
+    }
+
+    private static Try<List<SearchResult>> execute(
+            SearchProvider provider,
+            boolean hedge,
+            String query,
+            int maxResults,
+            UUID discoverySessionId
+    ) {
+        return hedge
+                ? provider.executeHedge(query, maxResults, discoverySessionId)
+                : provider.executeSearch(query, maxResults, discoverySessionId);
+    }
+
+    private ProviderLimiter limiterFor(SearchProvider provider) {
+        if (searchProviderConfig == null) {
+            return null;
+        }
+        ProviderCapabilities capabilities = provider.getCapabilities();
+        if (capabilities != null && capabilities.selfLimited()) {
+            return null;
+        }
+        SearchEngineType providerType = provider.getProviderType();
+        return limiters.computeIfAbsent(providerType, type -> {
+            ProviderLimiter limiter = new ProviderLimiter(type.name(), searchProviderConfig.limiter(type));
+            if (providerMetrics != null) {
+                providerMetrics.bindLimiter(limiter, "gateway");
+            }
+            return limiter;
+        });
+    }
+
+    /**
+     * Outcome of one request of a hedged search.
+     */
+    private record Attempt(boolean hedge, Try<List<SearchResult>> result) {
+    }
+}
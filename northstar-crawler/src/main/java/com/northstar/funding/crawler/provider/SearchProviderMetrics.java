@@ -0,0 +1,178 @@
+package com.northstar.funding.crawler.provider;
+
+import com.northstar.funding.crawler.adapter.limit.LimiterMetrics;
+import com.northstar.funding.crawler.adapter.limit.ProviderLimiter;
+import com.northstar.funding.domain.SearchEngineType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Micrometer meters for search provider limiters, hedging and gateway calls.
+ *
+ * <p>Limiters:
+ * <ul>
+ *   <li>{@code northstar.search.limiter.qps} / {@code .tokens} - configured rate and tokens available</li>
+ *   <li>{@code northstar.search.limiter.concurrency} / {@code .in.flight} / {@code .waiting} - adaptive limit and its use</li>
+ *   <li>{@code northstar.search.limiter.backoff} - time left in the current 429 backoff window</li>
+ *   <li>{@code northstar.search.limiter.permits} / {@code .throttled} / {@code .dropped} / {@code .rejected} - outcomes</li>
+ *   <li>{@code northstar.search.limiter.parked} - time callers spent waiting for admission</li>
+ * </ul>
+ *
+ * <p>Every limiter meter is tagged with {@code provider} and {@code limiter}: {@code adapter} for
+ * limiters an adapter runs itself, {@code gateway} for those SearchProviderGateway applies.
+ *
+ * <p>Hedging (tagged {@code provider}):
+ * <ul>
+ *   <li>{@code northstar.search.hedging.sent} / {@code .won} - duplicates sent and duplicates that answered first</li>
+ *   <li>{@code northstar.search.hedging.budget.rejected} / {@code .budget.balance} - retry budget refusals and tokens left</li>
+ *   <li>{@code northstar.search.hedging.threshold} / {@code .delay} - latency percentile and resulting hedge delay</li>
+ * </ul>
+ *
+ * <p>{@code northstar.search.provider.calls} times every provider call the gateway makes,
+ * failed ones included, tagged {@code provider}, {@code request} (primary|hedge) and
+ * {@code outcome} (success|failure).
+ *
+ * <p>Registered with the application's registry (exported by actuator) when there is
+ * one, otherwise with a local SimpleMeterRegistry.
+ */
+@Component
+public class SearchProviderMetrics {
+
+    private final MeterRegistry registry;
+
+    @Autowired
+    public SearchProviderMetrics(ObjectProvider<MeterRegistry> registry) {
+        this(registry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    public SearchProviderMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Publish a limiter's state. Meters read the limiter on scrape; nothing is recorded per request.
+     *
+     * @param limiter provider limiter
+     * @param owner "adapter" or "gateway"
+     */
+    public void bindLimiter(ProviderLimiter limiter, String owner) {
+        Tags tags = Tags.of(
+                "provider", limiter.metrics().provider().toLowerCase(Locale.ROOT),
+                "limiter", owner);
+
+        gauge("northstar.search.limiter.qps", "Configured sustained requests per second (0 = unlimited)",
+                limiter, tags, LimiterMetrics::qps);
+        gauge("northstar.search.limiter.tokens", "Token bucket tokens available",
+                limiter, tags, LimiterMetrics::availableTokens);
+        gauge("northstar.search.limiter.concurrency", "Current adaptive concurrency limit",
+                limiter, tags, LimiterMetrics::concurrencyLimit);
+        gauge("northstar.search.limiter.in.flight", "Requests holding a limiter permit",
+                limiter, tags, LimiterMetrics::inFlight);
+        gauge("northstar.search.limiter.waiting", "Callers parked waiting for a concurrency slot",
+                limiter, tags, LimiterMetrics::waiting);
+        Gauge.builder("northstar.search.limiter.backoff", limiter, l -> l.metrics().backoffRemainingMillis())
+                .description("Time left in the current Retry-After/backoff window")
+                .baseUnit("milliseconds")
+                .tags(tags)
+                .register(registry);
+
+        counter("northstar.search.limiter.permits", "Limiter permits granted",
+                limiter, tags, LimiterMetrics::permitsGranted);
+        counter("northstar.search.limiter.throttled", "429 responses recorded by the limiter",
+                limiter, tags, LimiterMetrics::throttledCount);
+        counter("northstar.search.limiter.dropped", "Timeouts and 5xx responses recorded by the limiter",
+                limiter, tags, LimiterMetrics::droppedCount);
+        counter("northstar.search.limiter.rejected", "Callers that gave up after the maximum limiter wait",
+                limiter, tags, LimiterMetrics::rejectedCount);
+        FunctionCounter.builder("northstar.search.limiter.parked", limiter, l -> l.metrics().parkedMillis())
+                .description("Total time callers spent parked on the limiter")
+                .baseUnit("milliseconds")
+                .tags(tags)
+                .register(registry);
+    }
+
+    /**
+     * Publish a hedged provider's state. Meters read the snapshot on scrape.
+     *
+     * @param provider hedged provider
+     * @param hedging current hedging snapshot for the provider
+     */
+    public void bindHedging(SearchEngineType provider, Supplier<HedgeMetrics> hedging) {
+        Tags tags = Tags.of("provider", provider.name().toLowerCase(Locale.ROOT));
+
+        hedgeCounter("northstar.search.hedging.sent", "Duplicate requests sent", hedging, tags,
+                HedgeMetrics::hedgesSent);
+        hedgeCounter("northstar.search.hedging.won", "Duplicate requests that answered first", hedging, tags,
+                HedgeMetrics::hedgesWon);
+        hedgeCounter("northstar.search.hedging.budget.rejected", "Duplicates skipped because the retry budget was empty",
+                hedging, tags, HedgeMetrics::budgetRejected);
+        Gauge.builder("northstar.search.hedging.budget.balance", hedging, h -> h.get().budgetBalance())
+                .description("Tokens left in the retry budget")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("northstar.search.hedging.threshold", hedging, h -> h.get().thresholdMillis())
+                .description("Successful call latency at the hedging percentile")
+                .baseUnit("milliseconds")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("northstar.search.hedging.delay", hedging, h -> h.get().hedgeDelayMillis())
+                .description("Delay before a duplicate is sent (0 while too few samples to hedge)")
+                .baseUnit("milliseconds")
+                .tags(tags)
+                .register(registry);
+    }
+
+    /**
+     * Record one provider call made by the gateway.
+     *
+     * @param provider called provider
+     * @param hedge true for a hedged duplicate
+     * @param success whether the call returned results
+     * @param nanos call duration, including limiter wait
+     */
+    public void recordCall(SearchEngineType provider, boolean hedge, boolean success, long nanos) {
+        Timer.builder("northstar.search.provider.calls")
+                .description("Provider calls made by the search gateway")
+                .tags("provider", provider.name().toLowerCase(Locale.ROOT),
+                        "request", hedge ? "hedge" : "primary",
+                        "outcome", success ? "success" : "failure")
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void hedgeCounter(String name, String description, Supplier<HedgeMetrics> hedging, Tags tags,
+                              ToDoubleFunction<HedgeMetrics> value) {
+        FunctionCounter.builder(name, hedging, h -> value.applyAsDouble(h.get()))
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+
+    private void gauge(String name, String description, ProviderLimiter limiter, Tags tags,
+                       ToDoubleFunction<LimiterMetrics> value) {
+        Gauge.builder(name, limiter, l -> value.applyAsDouble(l.metrics()))
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+
+    private void counter(String name, String description, ProviderLimiter limiter, Tags tags,
+                         ToDoubleFunction<LimiterMetrics> value) {
+        FunctionCounter.builder(name, limiter, l -> value.applyAsDouble(l.metrics()))
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
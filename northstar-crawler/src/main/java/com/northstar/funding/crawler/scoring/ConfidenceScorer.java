@@ -4,6 +4,7 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -20,7 +21,9 @@ import java.util.Set;
  * Score range: 0.00 (no confidence) to 1.00 (maximum confidence)
  * Threshold: >= 0.60 for PENDING_CRAWL status
  *
- * All scores use BigDecimal with scale 2 for precision.
+ * All scores use BigDecimal with scale 2 for precision. Internally, keywords are
+ * matched in a single Aho–Corasick pass per text and the score is accumulated as
+ * fixed-point hundredths; BigDecimal is only created for the returned value.
  */
 @Service
 public class ConfidenceScorer {
@@ -59,12 +62,23 @@ public class ConfidenceScorer {
         "council", "съвет", "chamber"
     );
 
-    // Score increments
-    private static final BigDecimal TITLE_KEYWORD_SCORE = new BigDecimal("0.15");
-    private static final BigDecimal DESCRIPTION_KEYWORD_SCORE = new BigDecimal("0.10");
-    private static final BigDecimal GEOGRAPHIC_SCORE = new BigDecimal("0.15");
-    private static final BigDecimal ORGANIZATION_SCORE = new BigDecimal("0.15");
-    private static final BigDecimal COMPOUND_BOOST = new BigDecimal("0.15");
+    // Keyword category bits (see KeywordAutomaton)
+    private static final int FUNDING = 1;
+    private static final int GEOGRAPHIC = 1 << 1;
+    private static final int ORGANIZATION = 1 << 2;
+
+    private static final KeywordAutomaton KEYWORDS = KeywordAutomaton.compile(
+        List.of(FUNDING_KEYWORDS, GEOGRAPHIC_KEYWORDS, ORGANIZATION_KEYWORDS)
+    );
+
+    // Score increments, fixed-point in hundredths (0.15 = 15)
+    private static final int TITLE_KEYWORD_SCORE = 15;
+    private static final int DESCRIPTION_KEYWORD_SCORE = 10;
+    private static final int GEOGRAPHIC_SCORE = 15;
+    private static final int ORGANIZATION_SCORE = 15;
+    private static final int COMPOUND_BOOST = 15;
+    private static final int MAX_SCORE = 100;
+    private static final int SCALE = 2;
 
     public ConfidenceScorer(DomainCredibilityService domainCredibilityService) {
         this.domainCredibilityService = domainCredibilityService;
@@ -89,97 +103,80 @@ public class ConfidenceScorer {
      */
     public BigDecimal calculateConfidence(String title, String description, String url) {
         // Start with TLD score
-        BigDecimal score = domainCredibilityService.getTldScore(url);
+        BigDecimal tldScore = domainCredibilityService.getTldScore(url);
 
+        // One automaton pass per text yields all keyword categories at once
+        int titleMatches = matchKeywords(title);
+        int descriptionMatches = matchKeywords(description);
+        int anyMatches = titleMatches | descriptionMatches;
+
+        int bonus = 0;
         int signalCount = 0;
 
         // Check for funding keywords in title
-        if (containsFundingKeywords(title)) {
-            score = score.add(TITLE_KEYWORD_SCORE);
+        if ((titleMatches & FUNDING) != 0) {
+            bonus += TITLE_KEYWORD_SCORE;
             signalCount++;
         }
 
         // Check for funding keywords in description
-        if (containsFundingKeywords(description)) {
-            score = score.add(DESCRIPTION_KEYWORD_SCORE);
+        if ((descriptionMatches & FUNDING) != 0) {
+            bonus += DESCRIPTION_KEYWORD_SCORE;
             signalCount++;
         }
 
         // Check for geographic relevance
-        if (hasGeographicMatch(title) || hasGeographicMatch(description)) {
-            score = score.add(GEOGRAPHIC_SCORE);
+        if ((anyMatches & GEOGRAPHIC) != 0) {
+            bonus += GEOGRAPHIC_SCORE;
             signalCount++;
         }
 
         // Check for organization type
-        if (hasOrganizationType(title) || hasOrganizationType(description)) {
-            score = score.add(ORGANIZATION_SCORE);
+        if ((anyMatches & ORGANIZATION) != 0) {
+            bonus += ORGANIZATION_SCORE;
             signalCount++;
         }
 
         // Compound boost: Multiple signals indicate high quality
         if (signalCount >= 3) {
-            score = score.add(COMPOUND_BOOST);
+            bonus += COMPOUND_BOOST;
         }
 
-        // Cap at 1.00 maximum
-        if (score.compareTo(BigDecimal.ONE) > 0) {
-            return BigDecimal.ONE.setScale(2, RoundingMode.HALF_UP);
+        // TLD scores carry scale 2; anything finer keeps the exact BigDecimal path
+        if (tldScore.scale() > SCALE) {
+            return clamp(tldScore.add(BigDecimal.valueOf(bonus, SCALE)));
         }
 
-        // Floor at 0.00 minimum (even spam TLDs with keywords get >= 0.00)
-        if (score.compareTo(BigDecimal.ZERO) < 0) {
-            return BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
-        }
-
-        return score.setScale(2, RoundingMode.HALF_UP);
+        // Cap at 1.00 maximum, floor at 0.00 minimum (even spam TLDs with keywords get >= 0.00)
+        long score = tldScore.movePointRight(SCALE).longValueExact() + bonus;
+        score = Math.max(0, Math.min(MAX_SCORE, score));
+        return BigDecimal.valueOf(score, SCALE);
     }
 
     /**
-     * Check if text contains funding-related keywords.
+     * Lowercase the text once and scan it for all keyword categories.
      *
      * @param text Text to check (nullable)
-     * @return true if funding keywords found, false otherwise
+     * @return category bitmask (FUNDING/GEOGRAPHIC/ORGANIZATION), 0 for null or blank text
      */
-    private boolean containsFundingKeywords(String text) {
+    private int matchKeywords(String text) {
         if (text == null || text.isBlank()) {
-            return false;
+            return 0;
         }
 
-        String lowerText = text.toLowerCase();
-        return FUNDING_KEYWORDS.stream()
-            .anyMatch(lowerText::contains);
+        return KEYWORDS.match(text.toLowerCase());
     }
 
     /**
-     * Check if text contains geographic relevance keywords.
-     *
-     * @param text Text to check (nullable)
-     * @return true if geographic match found, false otherwise
+     * Cap at 1.00 and floor at 0.00, returning scale 2.
      */
-    private boolean hasGeographicMatch(String text) {
-        if (text == null || text.isBlank()) {
-            return false;
+    private BigDecimal clamp(BigDecimal score) {
+        if (score.compareTo(BigDecimal.ONE) > 0) {
+            return BigDecimal.ONE.setScale(SCALE, RoundingMode.HALF_UP);
         }
-
-        String lowerText = text.toLowerCase();
-        return GEOGRAPHIC_KEYWORDS.stream()
-            .anyMatch(lowerText::contains);
-    }
-
-    /**
-     * Check if text contains organization type keywords.
-     *
-     * @param text Text to check (nullable)
-     * @return true if organization type detected, false otherwise
-     */
-    private boolean hasOrganizationType(String text) {
-        if (text == null || text.isBlank()) {
-            return false;
+        if (score.compareTo(BigDecimal.ZERO) < 0) {
+            return BigDecimal.ZERO.setScale(SCALE, RoundingMode.HALF_UP);
         }
-
-        String lowerText = text.toLowerCase();
-        return ORGANIZATION_KEYWORDS.stream()
-            .anyMatch(lowerText::contains);
+        return score.setScale(SCALE, RoundingMode.HALF_UP);
     }
 }
@@ -0,0 +1,165 @@
+package com.northstar.funding.crawler.scoring;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Precompiled Aho–Corasick automaton over categorised keywords.
+ *
+ * Scans a text once and returns a bitmask of the categories whose keywords occur
+ * anywhere in it as substrings, i.e. bit {@code i} is set iff
+ * {@code categories.get(i).stream().anyMatch(text::contains)}.
+ *
+ * Matching is case-sensitive; callers lowercase the text first. Transitions are
+ * stored per state as a sorted {@code char[]} with parallel target indices, so a
+ * scan performs no allocation. Instances are immutable and thread-safe.
+ */
+final class KeywordAutomaton {
+
+    private static final int ROOT = 0;
+
+    // Per-state sorted transition labels and their target states
+    private final char[][] labels;
+    private final int[][] targets;
+
+    // Failure link per state (longest proper suffix that is also a trie prefix)
+    private final int[] fail;
+
+    // Category bits matched on reaching a state, including those inherited via failure links
+    private final int[] output;
+
+    // All category bits, used to stop scanning early once everything matched
+    private final int allCategories;
+
+    private KeywordAutomaton(char[][] labels, int[][] targets, int[] fail, int[] output, int allCategories) {
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.output = output;
+        this.allCategories = allCategories;
+    }
+
+    /**
+     * Compile an automaton where keywords of {@code categories.get(i)} set bit {@code i}.
+     *
+     * @param categories keyword sets, at most 31; empty keywords are ignored
+     * @return compiled automaton
+     */
+    static KeywordAutomaton compile(List<Set<String>> categories) {
+        if (categories.size() > 31) {
+            throw new IllegalArgumentException("At most 31 keyword categories supported");
+        }
+
+        // 1. Build the trie
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        outputs.add(0);
+
+        int allCategories = 0;
+        for (int category = 0; category < categories.size(); category++) {
+            int bit = 1 << category;
+            allCategories |= bit;
+            for (String keyword : categories.get(category)) {
+                if (keyword.isEmpty()) {
+                    continue;
+                }
+                int state = ROOT;
+                for (int i = 0; i < keyword.length(); i++) {
+                    Integer next = trie.get(state).get(keyword.charAt(i));
+                    if (next == null) {
+                        next = trie.size();
+                        trie.add(new TreeMap<>());
+                        outputs.add(0);
+                        trie.get(state).put(keyword.charAt(i), next);
+                    }
+                    state = next;
+                }
+                outputs.set(state, outputs.get(state) | bit);
+            }
+        }
+
+        // 2. Flatten transitions into sorted arrays
+        int stateCount = trie.size();
+        char[][] labels = new char[stateCount][];
+        int[][] targets = new int[stateCount][];
+        int[] output = new int[stateCount];
+        for (int state = 0; state < stateCount; state++) {
+            Map<Character, Integer> edges = trie.get(state);
+            labels[state] = new char[edges.size()];
+            targets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                labels[state][i] = edge.getKey();
+                targets[state][i] = edge.getValue();
+                i++;
+            }
+            output[state] = outputs.get(state);
+        }
+
+        // 3. Breadth-first failure links, merging outputs along them
+        int[] fail = new int[stateCount];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            fail[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < labels[state].length; i++) {
+                char c = labels[state][i];
+                int child = targets[state][i];
+                int f = fail[state];
+                int next = step(labels, targets, f, c);
+                while (next < 0 && f != ROOT) {
+                    f = fail[f];
+                    next = step(labels, targets, f, c);
+                }
+                fail[child] = next < 0 ? ROOT : next;
+                output[child] |= output[fail[child]];
+                queue.add(child);
+            }
+        }
+
+        return new KeywordAutomaton(labels, targets, fail, output, allCategories);
+    }
+
+    /**
+     * Scan the text once and return the bitmask of matched categories.
+     *
+     * @param text Text to scan (nullable)
+     * @return category bitmask, 0 if nothing matched or text is null
+     */
+    int match(String text) {
+        if (text == null) {
+            return 0;
+        }
+
+        int matched = 0;
+        int state = ROOT;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            int next = step(labels, targets, state, c);
+            while (next < 0 && state != ROOT) {
+                state = fail[state];
+                next = step(labels, targets, state, c);
+            }
+            state = next < 0 ? ROOT : next;
+            matched |= output[state];
+            if (matched == allCategories) {
+                break;
+            }
+        }
+        return matched;
+    }
+
+    private static int step(char[][] labels, int[][] targets, int state, char c) {
+        int idx = Arrays.binarySearch(labels[state], c);
+        return idx >= 0 ? targets[state][idx] : -1;
+    }
+}
@@ -77,9 +77,10 @@ public class ScheduledCrawlService {
         UUID sessionId = savedSession.getSessionId();
 
         try {
-            // Step 2: Execute multi-provider search
+            // Step 2: Execute multi-provider search (each provider filtered as it completes,
+            // slow providers cut off at their own deadline)
             log.info("Executing multi-provider search for session {}", sessionId);
-            Try<SearchExecutionResult> searchResult = searchOrchestrator.executeMultiProviderSearch(
+            Try<SearchExecutionResult> searchResult = searchOrchestrator.executeMultiProviderSearchStreaming(
                     query,
                     null,  // aiOptimizedQuery - future enhancement
                     20,    // maxResultsPerProvider
@@ -115,14 +116,15 @@ public class ScheduledCrawlService {
             );
 
             log.info("Search result processing completed for session {}: {} candidates created " +
-                            "(high: {}, low: {}), {} spam filtered, {} duplicates, {} blacklisted",
+                            "(high: {}, low: {}), {} spam filtered, {} duplicates, {} blacklisted, {} seen recently",
                     sessionId,
                     processingStats.getHighConfidenceCreated() + processingStats.getLowConfidenceCreated(),
                     processingStats.getHighConfidenceCreated(),
                     processingStats.getLowConfidenceCreated(),
                     processingStats.getSpamTldFiltered(),
                     processingStats.getDuplicatesSkipped(),
-                    processingStats.getBlacklistedSkipped());
+                    processingStats.getBlacklistedSkipped(),
+                    processingStats.getRecentlySeenSkipped());
 
             // Step 5: Update session statistics and mark complete
             discoverySessionService.completeSession(
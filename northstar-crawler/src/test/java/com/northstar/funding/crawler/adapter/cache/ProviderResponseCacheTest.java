@@ -0,0 +1,198 @@
+package com.northstar.funding.crawler.adapter.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.domain.SearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ProviderResponseCache (disk cache of parsed provider responses).
+ */
+class ProviderResponseCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 11, 20);
+
+    @TempDir
+    Path cacheDir;
+
+    private SearchProviderConfig config;
+    private MutableClock clock;
+    private ProviderResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        config = new SearchProviderConfig();
+        config.getResponseCache().setDirectory(cacheDir.toString());
+        config.getBraveSearch().setCacheTtlDays(7);
+        config.getSearxng().setCacheTtlDays(0);
+        clock = new MutableClock(TODAY);
+        cache = new ProviderResponseCache(config, new ObjectMapper(), clock);
+    }
+
+    @Test
+    void get_AfterPut_ShouldReturnResultsForNewSessionWithNormalizedQuery() {
+        // Given
+        UUID firstSession = UUID.randomUUID();
+        cache.put(SearchEngineType.BRAVE, "Bulgaria  Education Grants", 20,
+                List.of(result("https://example.org/grants", "example.org", 1, firstSession)));
+
+        // When - a week later, same query with different case and spacing
+        clock.set(TODAY.plusDays(7));
+        UUID nextSession = UUID.randomUUID();
+        Optional<List<SearchResult>> cached =
+                cache.get(SearchEngineType.BRAVE, " bulgaria education   grants ", 20, nextSession);
+
+        // Then
+        assertThat(cached).isPresent();
+        SearchResult hit = cached.get().get(0);
+        assertThat(hit.getUrl()).isEqualTo("https://example.org/grants");
+        assertThat(hit.getDomain()).isEqualTo("example.org");
+        assertThat(hit.getRankPosition()).isEqualTo(1);
+        assertThat(hit.getSearchEngine()).isEqualTo(SearchEngineType.BRAVE);
+        assertThat(hit.getDiscoverySessionId()).isEqualTo(nextSession);
+        assertThat(hit.getSearchDate()).isEqualTo(TODAY.plusDays(7));
+        assertThat(hit.getSearchResultId()).isNull();
+    }
+
+    @Test
+    void get_AfterTtl_ShouldMissAndRemoveEntry() throws IOException {
+        // Given
+        cache.put(SearchEngineType.BRAVE, "bulgaria education grants", 20,
+                List.of(result("https://example.org/grants", "example.org", 1, UUID.randomUUID())));
+
+        // When
+        clock.set(TODAY.plusDays(8));
+
+        // Then
+        assertThat(cache.get(SearchEngineType.BRAVE, "bulgaria education grants", 20, UUID.randomUUID())).isEmpty();
+        assertThat(cacheFiles()).isEmpty();
+    }
+
+    @Test
+    void get_ShouldKeyByProviderAndMaxResults() {
+        // Given
+        cache.put(SearchEngineType.BRAVE, "bulgaria education grants", 20,
+                List.of(result("https://example.org/grants", "example.org", 1, UUID.randomUUID())));
+
+        // Then
+        assertThat(cache.get(SearchEngineType.BRAVE, "bulgaria education grants", 10, UUID.randomUUID())).isEmpty();
+        assertThat(cache.get(SearchEngineType.SERPER, "bulgaria education grants", 20, UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void put_WithZeroTtlOrDisabledCache_ShouldNotStore() throws IOException {
+        // When
+        cache.put(SearchEngineType.SEARXNG, "bulgaria education grants", 20,
+                List.of(result("https://example.org/grants", "example.org", 1, UUID.randomUUID())));
+        config.getResponseCache().setEnabled(false);
+        cache.put(SearchEngineType.BRAVE, "bulgaria education grants", 20,
+                List.of(result("https://example.org/grants", "example.org", 1, UUID.randomUUID())));
+
+        // Then
+        assertThat(cacheFiles()).isEmpty();
+    }
+
+    @Test
+    void get_WithCorruptEntry_ShouldMiss() throws IOException {
+        // Given
+        cache.put(SearchEngineType.BRAVE, "bulgaria education grants", 20, List.of());
+        for (Path file : cacheFiles()) {
+            Files.writeString(file, "not gzip");
+        }
+
+        // Then
+        assertThat(cache.get(SearchEngineType.BRAVE, "bulgaria education grants", 20, UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void purgeExpired_ShouldDeleteEntriesOlderThanLongestTtl() throws IOException {
+        // Given
+        cache.put(SearchEngineType.BRAVE, "old query", 20, List.of());
+        cache.put(SearchEngineType.BRAVE, "new query", 20, List.of());
+        Path old = cacheFiles().get(0);
+        Files.setLastModifiedTime(old, FileTime.from(TODAY.minusDays(30).atStartOfDay().toInstant(ZoneOffset.UTC)));
+        Files.setLastModifiedTime(cacheFiles().get(1), FileTime.from(clock.instant()));
+
+        // When
+        int purged = cache.purgeExpired();
+
+        // Then
+        assertThat(purged).isEqualTo(1);
+        assertThat(cacheFiles()).hasSize(1).doesNotContain(old);
+    }
+
+    @Test
+    void normalizeQuery_ShouldTrimLowerCaseAndCollapseWhitespace() {
+        assertThat(ProviderResponseCache.normalizeQuery("  Bulgaria\tEducation \n Grants ")).isEqualTo("bulgaria education grants");
+        assertThat(ProviderResponseCache.normalizeQuery(null)).isEmpty();
+    }
+
+    private SearchResult result(String url, String domain, int rank, UUID sessionId) {
+        return SearchResult.builder()
+                .searchResultId(UUID.randomUUID())
+                .url(url)
+                .domain(domain)
+                .title("Education grants")
+                .description("Grants for schools")
+                .rankPosition(rank)
+                .searchEngine(SearchEngineType.BRAVE)
+                .discoverySessionId(sessionId)
+                .build();
+    }
+
+    private List<Path> cacheFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            return files.filter(Files::isRegularFile).sorted().toList();
+        }
+    }
+
+    /**
+     * Clock that can be moved between days.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(LocalDate day) {
+            set(day);
+        }
+
+        void set(LocalDate day) {
+            instant = day.atTime(12, 0).toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
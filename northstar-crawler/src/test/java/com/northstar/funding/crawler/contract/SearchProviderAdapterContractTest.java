@@ -2,10 +2,12 @@ package com.northstar.funding.crawler.contract;
 
 import com.northstar.funding.crawler.adapter.AbstractSearchProviderAdapter;
 import com.northstar.funding.crawler.adapter.SearchProviderAdapter;
+import com.northstar.funding.crawler.config.SearchProviderConfig;
 import com.northstar.funding.crawler.exception.AuthenticationException;
 import com.northstar.funding.crawler.exception.RateLimitException;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.domain.SearchResult;
+import com.northstar.funding.persistence.service.ProviderQuotaService;
 import io.vavr.control.Try;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +17,10 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Contract tests for SearchProviderAdapter interface.
@@ -210,6 +216,24 @@ class SearchProviderAdapterContractTest {
         assertThat(adapter.getCurrentUsageCount()).isEqualTo(initialCount + 2);
     }
 
+    @Test
+    @DisplayName("Calls refused by the cluster quota must not be counted")
+    void getCurrentUsageCount_ClusterQuotaExhausted_MustNotCount() {
+        // Given: the shared ledger has no quota left today
+        ProviderQuotaService quotaService = mock(ProviderQuotaService.class);
+        when(quotaService.lease(any(), any(), anyInt(), anyInt())).thenReturn(0);
+        adapter.setQuotaService(quotaService, new SearchProviderConfig());
+        int initialCount = adapter.getCurrentUsageCount();
+
+        // When
+        Try<List<SearchResult>> result = adapter.executeSearch("query", 10, discoverySessionId);
+
+        // Then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getCause()).isInstanceOf(RateLimitException.class);
+        assertThat(adapter.getCurrentUsageCount()).isEqualTo(initialCount);
+    }
+
     @Test
     @DisplayName("getRateLimit() must return configured daily limit")
     void getRateLimit_MustReturnConfiguredLimit() {
@@ -232,7 +256,7 @@ class SearchProviderAdapterContractTest {
         boolean simulateAuthenticationError = false;
 
         public TestSearchProviderAdapter(int timeoutSeconds, int maxResults, int dailyRateLimit) {
-            super(timeoutSeconds, maxResults, dailyRateLimit);
+            super(SearchEngineType.BRAVE, timeoutSeconds, maxResults, dailyRateLimit);
         }
 
         @Override
@@ -271,11 +295,6 @@ class SearchProviderAdapterContractTest {
             });
         }
 
-        @Override
-        public SearchEngineType getProviderType() {
-            return SearchEngineType.BRAVE;
-        }
-
         @Override
         public boolean supportsKeywordQueries() {
             return true;
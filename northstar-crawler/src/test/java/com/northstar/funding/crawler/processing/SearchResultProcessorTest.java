@@ -4,6 +4,7 @@ import com.northstar.funding.crawler.scoring.CandidateCreationService;
 import com.northstar.funding.crawler.scoring.ConfidenceScorer;
 import com.northstar.funding.crawler.scoring.DomainCredibilityService;
 import com.northstar.funding.persistence.repository.FundingSourceCandidateRepository;
+import com.northstar.funding.persistence.seen.RecentlySeenIndex;
 import com.northstar.funding.persistence.service.DomainService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +43,9 @@ class SearchResultProcessorTest {
     @Mock
     private FundingSourceCandidateRepository candidateRepository;
 
+    @Mock
+    private RecentlySeenIndex recentlySeenIndex;
+
     private SearchResultProcessor searchResultProcessor;
 
     private UUID testSessionId;
@@ -54,7 +58,8 @@ class SearchResultProcessorTest {
             confidenceScorer,
             candidateCreationService,
             domainService,
-            candidateRepository
+            candidateRepository,
+            recentlySeenIndex
         );
     }
 
@@ -810,4 +815,150 @@ class SearchResultProcessorTest {
         );
         verify(candidateRepository).save(mockCandidate);
     }
+
+    @Test
+    @DisplayName("Batched mode - Same statistics, one upsert and one batch insert")
+    void processSearchResultsBatched_SameStatistics_SingleUpsertAndBatch() {
+        // Given: 2 unique domains (one high, one low confidence) plus 1 duplicate
+        SearchResult high = SearchResult.builder()
+            .url("https://highconf.org/grants")
+            .title("EU Grants")
+            .description("Funding")
+            .build();
+        SearchResult low = SearchResult.builder()
+            .url("https://lowconf.org/maybe")
+            .title("Maybe")
+            .description("Unclear")
+            .build();
+        SearchResult duplicate = SearchResult.builder()
+            .url("https://highconf.org/other")
+            .title("EU Grants 2")
+            .description("Funding")
+            .build();
+
+        when(domainService.extractDomainFromUrl("https://highconf.org/grants"))
+            .thenReturn(java.util.Optional.of("highconf.org"));
+        when(domainService.extractDomainFromUrl("https://lowconf.org/maybe"))
+            .thenReturn(java.util.Optional.of("lowconf.org"));
+        when(domainService.extractDomainFromUrl("https://highconf.org/other"))
+            .thenReturn(java.util.Optional.of("highconf.org"));
+        when(confidenceScorer.calculateConfidence("EU Grants", "Funding", "https://highconf.org/grants"))
+            .thenReturn(new java.math.BigDecimal("0.85"));
+        when(confidenceScorer.calculateConfidence("Maybe", "Unclear", "https://lowconf.org/maybe"))
+            .thenReturn(new java.math.BigDecimal("0.40"));
+
+        UUID highDomainId = UUID.randomUUID();
+        UUID lowDomainId = UUID.randomUUID();
+        when(domainService.registerOrGetDomains(List.of("highconf.org", "lowconf.org"), testSessionId))
+            .thenReturn(java.util.Map.of("highconf.org", highDomainId, "lowconf.org", lowDomainId));
+        when(candidateCreationService.createCandidate(anyString(), anyString(), anyString(), any(), eq(testSessionId), any()))
+            .thenReturn(com.northstar.funding.domain.FundingSourceCandidate.builder().build());
+
+        // When
+        ProcessingStatistics stats = searchResultProcessor.processSearchResultsBatched(
+            List.of(high, low, duplicate), testSessionId
+        );
+
+        // Then: Statistics match per-result mode
+        assertThat(stats.getTotalResults()).isEqualTo(3);
+        assertThat(stats.getDuplicatesSkipped()).isEqualTo(1);
+        assertThat(stats.getHighConfidenceCreated()).isEqualTo(1);
+        assertThat(stats.getLowConfidenceCreated()).isEqualTo(1);
+        assertThat(stats.getTotalCandidatesCreated()).isEqualTo(2);
+
+        // Domains resolved by ID from the upsert, never one by one
+        verify(candidateCreationService).createCandidate(
+            "EU Grants", "Funding", "https://highconf.org/grants",
+            highDomainId, testSessionId, new java.math.BigDecimal("0.85")
+        );
+        verify(candidateCreationService).createCandidate(
+            "Maybe", "Unclear", "https://lowconf.org/maybe",
+            lowDomainId, testSessionId, new java.math.BigDecimal("0.40")
+        );
+        verify(domainService, never()).registerOrGetDomain(anyString(), any());
+        verify(candidateRepository, never()).save(any());
+        verify(candidateRepository, times(1)).insertAll(argThat(list -> list.size() == 2));
+    }
+
+    @Test
+    @DisplayName("Batched mode - No survivors skips persistence")
+    void processSearchResultsBatched_AllFiltered_NoPersistence() {
+        // Given: Only a spam TLD result
+        SearchResult spam = SearchResult.builder()
+            .url("https://scam.xyz/grants")
+            .title("Free Money")
+            .description("Click here")
+            .build();
+        when(domainService.extractDomainFromUrl("https://scam.xyz/grants"))
+            .thenReturn(java.util.Optional.of("scam.xyz"));
+        when(domainCredibilityService.isSpamTld("https://scam.xyz/grants")).thenReturn(true);
+
+        // When
+        ProcessingStatistics stats = searchResultProcessor.processSearchResultsBatched(
+            List.of(spam), testSessionId
+        );
+
+        // Then
+        assertThat(stats.getSpamTldFiltered()).isEqualTo(1);
+        assertThat(stats.getTotalCandidatesCreated()).isZero();
+        verify(domainService, never()).registerOrGetDomains(any(), any());
+        verify(candidateRepository, never()).insertAll(any());
+    }
+
+    @Test
+    @DisplayName("Seen recently - Skipped before scoring and counted")
+    void processSearchResults_RecentlySeen_SkippedBeforeScoring() {
+        // Given: one result found by last night's session, one new
+        SearchResult seen = SearchResult.builder()
+            .url("https://seen.org/grants")
+            .title("Old Grants")
+            .description("Funding")
+            .build();
+        SearchResult fresh = SearchResult.builder()
+            .url("https://fresh.org/grants")
+            .title("New Grants")
+            .description("Funding")
+            .build();
+
+        when(domainService.extractDomainFromUrl("https://seen.org/grants"))
+            .thenReturn(java.util.Optional.of("seen.org"));
+        when(domainService.extractDomainFromUrl("https://fresh.org/grants"))
+            .thenReturn(java.util.Optional.of("fresh.org"));
+        when(recentlySeenIndex.isRecentlySeen("seen.org", "https://seen.org/grants")).thenReturn(true);
+        when(recentlySeenIndex.isRecentlySeen("fresh.org", "https://fresh.org/grants")).thenReturn(false);
+        when(confidenceScorer.calculateConfidence("New Grants", "Funding", "https://fresh.org/grants"))
+            .thenReturn(new java.math.BigDecimal("0.85"));
+        when(domainService.registerOrGetDomains(List.of("fresh.org"), testSessionId))
+            .thenReturn(java.util.Map.of("fresh.org", UUID.randomUUID()));
+        when(candidateCreationService.createCandidate(anyString(), anyString(), anyString(), any(), eq(testSessionId), any()))
+            .thenReturn(com.northstar.funding.domain.FundingSourceCandidate.builder().build());
+
+        // When
+        ProcessingStatistics stats = searchResultProcessor.processSearchResultsBatched(
+            List.of(seen, fresh), testSessionId
+        );
+
+        // Then: seen result never scored; the new one is recorded for later sessions
+        assertThat(stats.getRecentlySeenSkipped()).isEqualTo(1);
+        assertThat(stats.getTotalCandidatesCreated()).isEqualTo(1);
+        assertThat(stats.getTotalProcessed()).isEqualTo(2);
+        verify(confidenceScorer, never()).calculateConfidence("Old Grants", "Funding", "https://seen.org/grants");
+        verify(recentlySeenIndex).record("fresh.org", "https://fresh.org/grants");
+        verify(recentlySeenIndex, never()).record(eq("seen.org"), anyString());
+    }
+
+    @Test
+    @DisplayName("isRecentlySeen - New result returns false")
+    void isRecentlySeen_NewResult_ReturnsFalse() {
+        // Given
+        ProcessingContext context = new ProcessingContext(testSessionId);
+        SearchResult result = SearchResult.builder().url("https://example.org/new").build();
+
+        // When
+        boolean seen = searchResultProcessor.isRecentlySeen(result, "example.org", context);
+
+        // Then
+        assertThat(seen).isFalse();
+        assertThat(context.getRecentlySeenSkipped()).isZero();
+    }
 }
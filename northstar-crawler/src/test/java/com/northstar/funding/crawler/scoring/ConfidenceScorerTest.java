@@ -247,4 +247,23 @@ class ConfidenceScorerTest {
         // Then: Only TLD score
         assertThat(confidence).isEqualByComparingTo(new BigDecimal("0.15"));
     }
+
+    @Test
+    @DisplayName("Cyrillic keywords matched case-insensitively")
+    void testCyrillicKeywords() {
+        // Given: .bg domain (Tier 2 = +0.15), "Фондация" (organization) and "България" (geographic)
+        String title = "Фондация за образование в България";
+        String description = "Информация за кандидатстване";
+        String url = "https://example.bg";
+
+        when(domainCredibilityService.getTldScore(url))
+            .thenReturn(new BigDecimal("0.15"));
+
+        // When
+        BigDecimal confidence = confidenceScorer.calculateConfidence(title, description, url);
+
+        // Then: 0.15 (TLD) + 0.15 (geographic) + 0.15 (organization) = 0.45, only 2 signals so no boost
+        assertThat(confidence).isEqualByComparingTo(new BigDecimal("0.45"));
+        assertThat(confidence.scale()).isEqualTo(2);
+    }
 }
@@ -0,0 +1,80 @@
+package com.northstar.funding.crawler.scoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for KeywordAutomaton
+ * Verifies the single-pass matcher agrees with naive String.contains over every category
+ */
+class KeywordAutomatonTest {
+
+    private static final List<Set<String>> CATEGORIES = List.of(
+        Set.of("grant", "grants", "fund", "funding", "financial aid"),
+        Set.of("eu", "europe", "european union", "българия", "българск"),
+        Set.of("fund", "foundation", "фондация", "state", "ministry")
+    );
+
+    private final KeywordAutomaton automaton = KeywordAutomaton.compile(CATEGORIES);
+
+    @Test
+    @DisplayName("Null and empty text match nothing")
+    void testNullAndEmpty() {
+        assertThat(automaton.match(null)).isZero();
+        assertThat(automaton.match("")).isZero();
+    }
+
+    @Test
+    @DisplayName("Keyword shared by two categories sets both bits")
+    void testSharedKeyword() {
+        assertThat(automaton.match("fund")).isEqualTo(0b101);
+    }
+
+    @Test
+    @DisplayName("Keyword found via failure link inside a longer partial match")
+    void testFailureLinkMatch() {
+        // Partial "foundatio" must not report "foundation"; "ministeurope" and
+        // "xgranxgrant" only match after falling back from a dead-end prefix
+        assertThat(automaton.match("foundatio")).isZero();
+        assertThat(automaton.match("ministeurope")).isEqualTo(0b010);
+        assertThat(automaton.match("xgranxgrant")).isEqualTo(0b001);
+    }
+
+    @Test
+    @DisplayName("Agrees with naive contains on mixed Bulgarian/English texts")
+    void testAgreesWithNaiveContains() {
+        List<String> texts = List.of(
+            "apply for education grants today",
+            "фондация за образование в българия",
+            "българските университети",
+            "the european union and the state ministry",
+            "financial ai",
+            "financial aid for eu students",
+            "neutral text with no keywords at all",
+            "euro area statistics",
+            "reuters",
+            "grangrangrant"
+        );
+
+        for (String text : texts) {
+            assertThat(automaton.match(text))
+                .as(text)
+                .isEqualTo(naiveMatch(text));
+        }
+    }
+
+    private static int naiveMatch(String text) {
+        int mask = 0;
+        for (int i = 0; i < CATEGORIES.size(); i++) {
+            if (CATEGORIES.get(i).stream().anyMatch(text::contains)) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+}
@@ -188,6 +188,39 @@ class AntiSpamFilterImplTest {
         assertThat(analysis.primaryIndicator()).isEqualTo(SpamIndicator.KEYWORD_STUFFING);
     }
 
+    @Test
+    @DisplayName("Short-circuit mode keeps verdict and primary indicator")
+    void analyzeForSpam_StopAtFirstDetection_SameVerdictAndIndicator() {
+        // Triggers keyword stuffing, unnatural keyword list and cross-category spam
+        SearchResult result = createSearchResult(
+                "casino-winners.com",
+                "scholarship scholarship scholarship grants",
+                "scholarship grants grants funding"
+        );
+
+        SpamAnalysisResult full = filter.analyzeForSpam(result);
+        SpamAnalysisResult shortCircuit = filter.analyzeForSpam(result, true);
+
+        assertThat(full.isSpam()).isTrue();
+        assertThat(full.confidenceScore()).isGreaterThan(0.35);
+        assertThat(shortCircuit.isSpam()).isTrue();
+        assertThat(shortCircuit.primaryIndicator()).isEqualTo(full.primaryIndicator());
+        assertThat(shortCircuit.rejectionReason()).isEqualTo(full.rejectionReason());
+        assertThat(shortCircuit.confidenceScore()).isEqualTo(0.35);
+    }
+
+    @Test
+    @DisplayName("Short-circuit mode on clean result returns not spam")
+    void analyzeForSpam_StopAtFirstDetection_CleanResult() {
+        SearchResult result = createSearchResult(
+                "scholarships.org",
+                "Scholarships for students in Bulgaria",
+                "Apply for one of the scholarships offered to students by the foundation"
+        );
+
+        assertThat(filter.analyzeForSpam(result, true)).isEqualTo(filter.analyzeForSpam(result));
+    }
+
     @Test
     @DisplayName("Real-world spam example - gambling site")
     void analyzeForSpam_RealWorldSpam_GamblingSite() {
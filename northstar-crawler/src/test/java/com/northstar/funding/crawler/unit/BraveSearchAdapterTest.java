@@ -8,6 +8,7 @@ import com.northstar.funding.crawler.config.SearchProviderConfig;
 import com.northstar.funding.crawler.exception.AuthenticationException;
 import com.northstar.funding.crawler.exception.ProviderTimeoutException;
 import com.northstar.funding.crawler.exception.RateLimitException;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.domain.SearchResult;
 import io.vavr.control.Try;
@@ -26,6 +27,7 @@ import static org.assertj.core.api.Assertions.*;
  * - Successful search returns SearchResult entities
  * - HTTP 401 throws AuthenticationException
  * - HTTP 429 throws RateLimitException
+ * - HTTP 429 with Retry-After is retried after the backoff
  * - Timeout throws ProviderTimeoutException
  * - Domain normalization (www removal, lowercase)
  * - Rate limit enforcement (51st request fails)
@@ -67,7 +69,7 @@ class BraveSearchAdapterTest {
         braveConfig.setRateLimit(new SearchProviderConfig.RateLimit(50));
         config.setBraveSearch(braveConfig);
 
-        adapter = new BraveSearchAdapter(config, objectMapper);
+        adapter = new BraveSearchAdapter(config, objectMapper, new SearchHttpTransport(config.getHttp()));
     }
 
     @Test
@@ -176,6 +178,36 @@ class BraveSearchAdapterTest {
         assertThat(result.getCause().getMessage()).contains("BraveSearch");
     }
 
+    @Test
+    @DisplayName("HTTP 429 with Retry-After is retried after the backoff")
+    void executeSearch_RateLimitedWithRetryAfter_RetriesAndSucceeds() {
+        // Given: one 429 asking for a 1 second pause, then a normal response
+        stubFor(get(urlPathEqualTo("/search"))
+                .inScenario("throttled")
+                .whenScenarioStateIs(com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED)
+                .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "1"))
+                .willSetStateTo("recovered"));
+        stubFor(get(urlPathEqualTo("/search"))
+                .inScenario("throttled")
+                .whenScenarioStateIs("recovered")
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody("""
+                                {"web": {"results": [{"title": "Test", "url": "https://example.org/page", "description": "Test"}]}}
+                                """)));
+
+        // When
+        long start = System.currentTimeMillis();
+        Try<List<SearchResult>> result = adapter.executeSearch("test query", 20, discoverySessionId);
+
+        // Then: parked for Retry-After instead of failing
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.get()).hasSize(1);
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(900);
+        assertThat(adapter.getLimiterMetrics().throttledCount()).isEqualTo(1);
+        verify(2, getRequestedFor(urlPathEqualTo("/search")));
+    }
+
     @Test
     @DisplayName("Timeout throws ProviderTimeoutException")
     void executeSearch_Timeout_ThrowsProviderTimeoutException() {
@@ -205,7 +237,7 @@ class BraveSearchAdapterTest {
         braveConfig.setRateLimit(new SearchProviderConfig.RateLimit(50));
         config.setBraveSearch(braveConfig);
 
-        BraveSearchAdapter adapterWithoutKey = new BraveSearchAdapter(config, objectMapper);
+        BraveSearchAdapter adapterWithoutKey = new BraveSearchAdapter(config, objectMapper, new SearchHttpTransport(config.getHttp()));
 
         // When
         Try<List<SearchResult>> result = adapterWithoutKey.executeSearch("test", 20, discoverySessionId);
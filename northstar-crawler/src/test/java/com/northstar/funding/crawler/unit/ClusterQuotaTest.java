@@ -0,0 +1,133 @@
+package com.northstar.funding.crawler.unit;
+
+import com.northstar.funding.crawler.adapter.limit.ClusterQuota;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ClusterQuota.
+ *
+ * Tests:
+ * - Units are leased in blocks, one ledger call per block
+ * - Exhausted ledger rejects further calls without another round trip
+ * - Nodes sharing a ledger never exceed the daily limit together
+ * - Unreachable ledger falls back to admitting the call
+ */
+@DisplayName("ClusterQuota Unit Tests")
+class ClusterQuotaTest {
+
+    @Test
+    @DisplayName("Leases one block per blockSize calls")
+    void tryAcquire_LeasesInBlocks() {
+        // Given: ledger with plenty of quota, block of 5
+        InMemoryLedger ledger = new InMemoryLedger(100);
+        ClusterQuota quota = new ClusterQuota("TEST", ledger, 5);
+
+        // When: 12 calls
+        for (int i = 0; i < 12; i++) {
+            assertThat(quota.tryAcquire()).isTrue();
+        }
+
+        // Then: 3 leases (5 + 5 + 5), 3 units left locally
+        assertThat(ledger.leaseCalls.get()).isEqualTo(3);
+        assertThat(ledger.leased.get()).isEqualTo(15);
+        assertThat(quota.remainingLocal()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Rejects calls once the shared quota is exhausted")
+    void tryAcquire_Exhausted_Rejects() {
+        // Given: daily limit 7, block of 5 (second lease grants only 2)
+        InMemoryLedger ledger = new InMemoryLedger(7);
+        ClusterQuota quota = new ClusterQuota("TEST", ledger, 5);
+
+        // When
+        int admitted = 0;
+        for (int i = 0; i < 10; i++) {
+            if (quota.tryAcquire()) {
+                admitted++;
+            }
+        }
+
+        // Then: exactly the limit, and no lease attempts after the empty grant
+        assertThat(admitted).isEqualTo(7);
+        assertThat(ledger.leaseCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Nodes sharing a ledger never exceed the daily limit")
+    void tryAcquire_TwoNodes_ShareLimit() throws Exception {
+        // Given: two nodes leasing from one ledger of 50
+        InMemoryLedger ledger = new InMemoryLedger(50);
+        ClusterQuota nodeA = new ClusterQuota("TEST", ledger, 5);
+        ClusterQuota nodeB = new ClusterQuota("TEST", ledger, 5);
+
+        // When: 100 concurrent calls split across the nodes
+        AtomicInteger admitted = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                ClusterQuota node = i % 2 == 0 ? nodeA : nodeB;
+                futures.add(executor.submit(() -> {
+                    if (node.tryAcquire()) {
+                        admitted.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // Then
+        assertThat(admitted.get()).isEqualTo(50);
+        assertThat(ledger.leased.get()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Unreachable ledger admits the call (node-local limit still applies)")
+    void tryAcquire_LedgerFailure_Admits() {
+        // Given
+        ClusterQuota quota = new ClusterQuota("TEST", (date, blockSize) -> {
+            throw new IllegalStateException("connection refused");
+        }, 5);
+
+        // When / Then
+        assertThat(quota.tryAcquire()).isTrue();
+        assertThat(quota.remainingLocal()).isZero();
+    }
+
+    /**
+     * Ledger granting min(blockSize, limit - leased), like the SQL lease.
+     */
+    private static final class InMemoryLedger implements ClusterQuota.Ledger {
+        private final int dailyLimit;
+        private final AtomicInteger leased = new AtomicInteger();
+        private final AtomicInteger leaseCalls = new AtomicInteger();
+
+        InMemoryLedger(int dailyLimit) {
+            this.dailyLimit = dailyLimit;
+        }
+
+        @Override
+        public int lease(LocalDate quotaDate, int blockSize) {
+            leaseCalls.incrementAndGet();
+            int[] granted = new int[1];
+            leased.updateAndGet(current -> {
+                granted[0] = Math.min(blockSize, dailyLimit - current);
+                return current + granted[0];
+            });
+            return granted[0];
+        }
+    }
+}
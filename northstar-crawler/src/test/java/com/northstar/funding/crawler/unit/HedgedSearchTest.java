@@ -0,0 +1,317 @@
+package com.northstar.funding.crawler.unit;
+
+import com.northstar.funding.crawler.adapter.limit.LatencyHistogram;
+import com.northstar.funding.crawler.adapter.limit.RetryBudget;
+import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.crawler.provider.HedgeMetrics;
+import com.northstar.funding.crawler.provider.ProviderCapabilities;
+import com.northstar.funding.crawler.provider.SearchProvider;
+import com.northstar.funding.crawler.provider.SearchProviderGateway;
+import com.northstar.funding.crawler.provider.SearchProviderMetrics;
+import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.domain.SearchResult;
+import com.northstar.funding.persistence.service.ApiUsageTrackingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for hedged requests (SearchProviderGateway, LatencyHistogram, RetryBudget).
+ *
+ * Tests:
+ * - Histogram percentiles are within one bucket of the recorded latencies
+ * - Retry budget allows the reserve, then ratio x primary requests
+ * - A primary slower than the hedge delay loses to the duplicate and is cancelled
+ * - No duplicates before min-samples latencies or once the budget is empty
+ * - A duplicate is tracked and timed as its own provider call
+ * - Failed calls are timed but stay out of the latency histogram
+ * - Cancelling a hedged searchAsync interrupts both requests
+ */
+@DisplayName("Hedged Search Unit Tests")
+class HedgedSearchTest {
+
+    private ExecutorService executor;
+    private UUID sessionId;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        sessionId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("LatencyHistogram reports percentiles within 10% of recorded latencies")
+    void latencyHistogram_Percentiles() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram(Duration.ofMinutes(5));
+
+        // When
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(Duration.ofMillis(millis));
+        }
+
+        // Then
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.percentile(0.5).toMillis()).isBetween(50L, 55L);
+        assertThat(histogram.percentile(0.95).toMillis()).isBetween(95L, 105L);
+        assertThat(new LatencyHistogram(Duration.ofMinutes(5)).percentile(0.95)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("RetryBudget grants the reserve, then refills by ratio per request")
+    void retryBudget_ReserveThenRatio() {
+        // Given
+        RetryBudget budget = new RetryBudget(0.5, 2);
+
+        // When / Then - reserve
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+
+        // When / Then - two primary requests at ratio 0.5 fund one more attempt
+        budget.onRequest();
+        assertThat(budget.tryWithdraw()).isFalse();
+        budget.onRequest();
+        assertThat(budget.tryWithdraw()).isTrue();
+
+        assertThat(budget.withdrawn()).isEqualTo(3);
+        assertThat(budget.rejected()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Slow primary request loses to the hedged duplicate")
+    void search_SlowPrimary_HedgeWins() {
+        // Given
+        SearchProviderGateway gateway = new SearchProviderGateway(executor, hedgingConfig(10));
+        StubProvider provider = new StubProvider();
+        warmUp(gateway, provider);
+
+        // When
+        provider.primaryDelayMs = 3000;
+        long start = System.nanoTime();
+        Try<List<SearchResult>> result = gateway.search(provider, "education grants", 10, sessionId);
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.get()).extracting(SearchResult::getUrl).containsExactly("https://hedge.org");
+        assertThat(elapsedMs).isLessThan(2000);
+
+        HedgeMetrics metrics = gateway.hedgeMetrics().get(SearchEngineType.SEARXNG);
+        assertThat(metrics.hedgesSent()).isEqualTo(1);
+        assertThat(metrics.hedgesWon()).isEqualTo(1);
+        assertThat(metrics.hedgeDelayMillis()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("No duplicate before min-samples latencies are recorded")
+    void search_TooFewSamples_NoHedge() {
+        // Given
+        SearchProviderGateway gateway = new SearchProviderGateway(executor, hedgingConfig(10));
+        StubProvider provider = new StubProvider();
+        provider.primaryDelayMs = 200;
+
+        // When
+        Try<List<SearchResult>> result = gateway.search(provider, "education grants", 10, sessionId);
+
+        // Then
+        assertThat(result.get()).extracting(SearchResult::getUrl).containsExactly("https://primary.org");
+        assertThat(provider.hedges.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Empty retry budget leaves slow requests unhedged")
+    void search_BudgetExhausted_WaitsForPrimary() {
+        // Given - one hedge in reserve, primary requests don't refill it
+        SearchProviderConfig config = hedgingConfig(1);
+        config.getHedging().setBudgetRatio(0);
+        SearchProviderGateway gateway = new SearchProviderGateway(executor, config);
+        StubProvider provider = new StubProvider();
+        warmUp(gateway, provider);
+        provider.primaryDelayMs = 300;
+
+        // When
+        Try<List<SearchResult>> hedged = gateway.search(provider, "education grants", 10, sessionId);
+        Try<List<SearchResult>> unhedged = gateway.search(provider, "education grants", 10, sessionId);
+
+        // Then
+        assertThat(hedged.get()).extracting(SearchResult::getUrl).containsExactly("https://hedge.org");
+        assertThat(unhedged.get()).extracting(SearchResult::getUrl).containsExactly("https://primary.org");
+        assertThat(provider.hedges.get()).isEqualTo(1);
+        assertThat(gateway.hedgeMetrics().get(SearchEngineType.SEARXNG).budgetRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Hedged duplicate is tracked and timed as its own call; the losing primary is cancelled")
+    void search_Hedged_TracksDuplicateAndCancelsPrimary() throws InterruptedException {
+        // Given
+        SearchProviderGateway gateway = new SearchProviderGateway(executor, hedgingConfig(10));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        gateway.setProviderMetrics(new SearchProviderMetrics(registry));
+        StubProvider provider = new StubProvider();
+        warmUp(gateway, provider);
+        ApiUsageTrackingService usageTracking = mock(ApiUsageTrackingService.class);
+        gateway.setApiUsageTrackingService(usageTracking);
+
+        // When
+        provider.primaryDelayMs = 500;
+        Try<List<SearchResult>> result = gateway.search(provider, "education grants", 10, sessionId);
+
+        // Then: the duplicate has its own row, and the slow primary is cancelled once it lost
+        assertThat(result.get()).extracting(SearchResult::getUrl).containsExactly("https://hedge.org");
+        verify(usageTracking, timeout(2000)).trackUsage(
+                eq(SearchEngineType.SEARXNG), eq("education grants"), argThat(Try::isSuccess), anyLong());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (provider.interrupted.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(provider.interrupted.get()).isEqualTo(1);
+        assertThat(registry.get("northstar.search.hedging.sent").tag("provider", "searxng")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("northstar.search.hedging.won").tag("provider", "searxng")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("northstar.search.hedging.delay").gauge().value()).isEqualTo(50);
+        assertThat(registry.get("northstar.search.provider.calls")
+                .tags("provider", "searxng", "request", "hedge", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Failed calls are timed but do not feed the hedging histogram")
+    void search_Failure_TimedButNotSampled() {
+        // Given
+        SearchProviderGateway gateway = new SearchProviderGateway(executor, hedgingConfig(10));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        gateway.setProviderMetrics(new SearchProviderMetrics(registry));
+        StubProvider provider = new StubProvider();
+        provider.failure = new IllegalStateException("connection refused");
+
+        // When
+        Try<List<SearchResult>> result = gateway.search(provider, "education grants", 10, sessionId);
+
+        // Then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(gateway.hedgeMetrics().get(SearchEngineType.SEARXNG).samples()).isZero();
+        assertThat(registry.get("northstar.search.provider.calls")
+                .tags("provider", "searxng", "request", "primary", "outcome", "failure")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Cancelling a hedged searchAsync stops the primary and the duplicate")
+    void searchAsync_CancelledWhileHedged_InterruptsBothCalls() throws InterruptedException {
+        // Given - both requests slow, so neither finishes on its own
+        SearchProviderGateway gateway = new SearchProviderGateway(executor, hedgingConfig(10));
+        StubProvider provider = new StubProvider();
+        warmUp(gateway, provider);
+        provider.primaryDelayMs = 5000;
+        provider.hedgeDelayMs = 5000;
+
+        // When
+        CompletableFuture<Try<List<SearchResult>>> future =
+                gateway.searchAsync(provider, "education grants", 10, sessionId);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (provider.hedges.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        future.cancel(true);
+
+        // Then
+        assertThat(provider.hedges.get()).isEqualTo(1);
+        deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (provider.interrupted.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(provider.interrupted.get()).isEqualTo(2);
+    }
+
+    private SearchProviderConfig hedgingConfig(int budgetReserve) {
+        SearchProviderConfig config = new SearchProviderConfig();
+        config.getHedging().setEnabled(true);
+        config.getHedging().setProviders(EnumSet.of(SearchEngineType.SEARXNG));
+        config.getHedging().setMinSamples(5);
+        config.getHedging().setMinDelayMs(50);
+        config.getHedging().setBudgetReserve(budgetReserve);
+        return config;
+    }
+
+    private void warmUp(SearchProviderGateway gateway, StubProvider provider) {
+        for (int i = 0; i < 5; i++) {
+            assertThat(gateway.search(provider, "warm up " + i, 10, sessionId).isSuccess()).isTrue();
+        }
+    }
+
+    /**
+     * SearXNG stub whose primary requests take primaryDelayMs and duplicates hedgeDelayMs;
+     * counts the requests interrupted while waiting.
+     */
+    private static final class StubProvider implements SearchProvider {
+
+        private final AtomicInteger hedges = new AtomicInteger();
+        private final AtomicInteger interrupted = new AtomicInteger();
+        private volatile long primaryDelayMs;
+        private volatile long hedgeDelayMs;
+        private volatile RuntimeException failure;
+
+        @Override
+        public Try<List<SearchResult>> executeSearch(String query, int maxResults, UUID discoverySessionId) {
+            return Try.of(() -> {
+                await(primaryDelayMs);
+                if (failure != null) {
+                    throw failure;
+                }
+                return List.of(SearchResult.builder().url("https://primary.org").build());
+            });
+        }
+
+        @Override
+        public Try<List<SearchResult>> executeHedge(String query, int maxResults, UUID discoverySessionId) {
+            hedges.incrementAndGet();
+            return Try.of(() -> {
+                await(hedgeDelayMs);
+                return List.of(SearchResult.builder().url("https://hedge.org").build());
+            });
+        }
+
+        private void await(long delayMs) throws InterruptedException {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+                throw e;
+            }
+        }
+
+        @Override
+        public SearchEngineType getProviderType() {
+            return SearchEngineType.SEARXNG;
+        }
+
+        @Override
+        public ProviderCapabilities getCapabilities() {
+            return ProviderCapabilities.selfHostedKeyword(true);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.northstar.funding.crawler.antispam.AntiSpamFilter;
 import com.northstar.funding.crawler.antispam.SpamAnalysisResult;
 import com.northstar.funding.crawler.antispam.SpamIndicator;
 import com.northstar.funding.crawler.orchestrator.*;
+import com.northstar.funding.crawler.provider.SearchProviderGateway;
 import com.northstar.funding.domain.*;
 import com.northstar.funding.persistence.service.DiscoverySessionService;
 import com.northstar.funding.persistence.service.DomainService;
@@ -22,11 +23,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -103,7 +107,7 @@ class MultiProviderSearchOrchestratorImplTest {
                 domainService,
                 searchResultService,
                 discoverySessionService,
-                virtualThreadExecutor
+                new SearchProviderGateway(virtualThreadExecutor)
         );
     }
 
@@ -126,7 +130,7 @@ class MultiProviderSearchOrchestratorImplTest {
                 .thenReturn(Try.success(perplexicaResults));
 
         // Anti-spam filter passes all results
-        when(antiSpamFilter.analyzeForSpam(any())).thenReturn(SpamAnalysisResult.notSpam());
+        when(antiSpamFilter.analyzeForSpam(any(), eq(true))).thenReturn(SpamAnalysisResult.notSpam());
 
         // Domain service finds no blacklisted domains
         when(domainService.findByDomainName(anyString())).thenReturn(Optional.empty());
@@ -174,7 +178,7 @@ class MultiProviderSearchOrchestratorImplTest {
         when(perplexicaAdapter.executeSearch(anyString(), anyInt(), any()))
                 .thenReturn(Try.success(perplexicaResults));
 
-        when(antiSpamFilter.analyzeForSpam(any())).thenReturn(SpamAnalysisResult.notSpam());
+        when(antiSpamFilter.analyzeForSpam(any(), eq(true))).thenReturn(SpamAnalysisResult.notSpam());
         when(domainService.findByDomainName(anyString())).thenReturn(Optional.empty());
 
         // When
@@ -244,7 +248,7 @@ class MultiProviderSearchOrchestratorImplTest {
         );
 
         // Anti-spam filter rejects casino.com
-        when(antiSpamFilter.analyzeForSpam(any())).thenAnswer(invocation -> {
+        when(antiSpamFilter.analyzeForSpam(any(), eq(true))).thenAnswer(invocation -> {
             SearchResult result = invocation.getArgument(0);
             if (result != null && "casino.com".equals(result.getDomain())) {
                 return SpamAnalysisResult.spam(
@@ -269,7 +273,7 @@ class MultiProviderSearchOrchestratorImplTest {
                 .doesNotContain("casino.com");
 
         // Verify spam filter was called for all 3 results
-        verify(antiSpamFilter, times(3)).analyzeForSpam(any());
+        verify(antiSpamFilter, times(3)).analyzeForSpam(any(), eq(true));
     }
 
     @Test
@@ -286,7 +290,7 @@ class MultiProviderSearchOrchestratorImplTest {
                 SearchEngineType.SERPER, List.of(rank3)
         );
 
-        when(antiSpamFilter.analyzeForSpam(any())).thenReturn(SpamAnalysisResult.notSpam());
+        when(antiSpamFilter.analyzeForSpam(any(), eq(true))).thenReturn(SpamAnalysisResult.notSpam());
         when(domainService.findByDomainName("example.org")).thenReturn(Optional.empty());
 
         // When
@@ -308,7 +312,7 @@ class MultiProviderSearchOrchestratorImplTest {
                 SearchEngineType.BRAVE, List.of(legitResult, blacklistedResult)
         );
 
-        when(antiSpamFilter.analyzeForSpam(any())).thenReturn(SpamAnalysisResult.notSpam());
+        when(antiSpamFilter.analyzeForSpam(any(), eq(true))).thenReturn(SpamAnalysisResult.notSpam());
 
         // Domain service returns blacklisted domain
         Domain blacklistedDomain = Domain.builder()
@@ -367,7 +371,7 @@ class MultiProviderSearchOrchestratorImplTest {
                 .thenReturn(Try.success(List.of()));
 
         // Spam filter rejects spam.com
-        when(antiSpamFilter.analyzeForSpam(any())).thenAnswer(invocation -> {
+        when(antiSpamFilter.analyzeForSpam(any(), eq(true))).thenAnswer(invocation -> {
             SearchResult result = invocation.getArgument(0);
             if (result != null && "spam.com".equals(result.getDomain())) {
                 return SpamAnalysisResult.spam(SpamIndicator.KEYWORD_STUFFING, "Spam", 0.8);
@@ -414,7 +418,7 @@ class MultiProviderSearchOrchestratorImplTest {
         when(perplexicaAdapter.executeSearch(anyString(), anyInt(), any()))
                 .thenReturn(Try.success(List.of()));
 
-        when(antiSpamFilter.analyzeForSpam(any())).thenReturn(SpamAnalysisResult.notSpam());
+        when(antiSpamFilter.analyzeForSpam(any(), eq(true))).thenReturn(SpamAnalysisResult.notSpam());
         when(domainService.findByDomainName(anyString())).thenReturn(Optional.empty());
 
         // When
@@ -446,7 +450,7 @@ class MultiProviderSearchOrchestratorImplTest {
         when(perplexicaAdapter.executeSearch(anyString(), anyInt(), any()))
                 .thenReturn(Try.success(List.of()));
 
-        when(antiSpamFilter.analyzeForSpam(any())).thenReturn(SpamAnalysisResult.notSpam());
+        when(antiSpamFilter.analyzeForSpam(any(), eq(true))).thenReturn(SpamAnalysisResult.notSpam());
         when(domainService.findByDomainName(anyString())).thenReturn(Optional.empty());
 
         // When
@@ -477,7 +481,7 @@ class MultiProviderSearchOrchestratorImplTest {
         when(perplexicaAdapter.executeSearch(anyString(), anyInt(), any()))
                 .thenReturn(Try.success(List.of()));
 
-        when(antiSpamFilter.analyzeForSpam(any())).thenReturn(SpamAnalysisResult.notSpam());
+        when(antiSpamFilter.analyzeForSpam(any(), eq(true))).thenReturn(SpamAnalysisResult.notSpam());
         when(domainService.findByDomainName(anyString())).thenReturn(Optional.empty());
 
         // When
@@ -605,6 +609,93 @@ class MultiProviderSearchOrchestratorImplTest {
         verify(braveSearchAdapter).executeSearch("test query", 10, testSessionId);
     }
 
+    @Test
+    @DisplayName("Streaming - slow provider misses deadline, finished providers are kept")
+    void executeMultiProviderSearchStreaming_SlowProvider_KeepsPartialResultsAndReportsTimeout() throws Exception {
+        // Given: Perplexica exceeds its deadline, the others answer immediately
+        when(braveSearchAdapter.getDeadline()).thenReturn(Duration.ofSeconds(5));
+        when(searxngAdapter.getDeadline()).thenReturn(Duration.ofSeconds(5));
+        when(serperAdapter.getDeadline()).thenReturn(Duration.ofSeconds(5));
+        when(perplexicaAdapter.getDeadline()).thenReturn(Duration.ofMillis(200));
+
+        when(braveSearchAdapter.executeSearch(anyString(), anyInt(), any()))
+                .thenReturn(Try.success(List.of(createSearchResult("example.org", 3, SearchEngineType.BRAVE))));
+        when(searxngAdapter.executeSearch(anyString(), anyInt(), any()))
+                .thenReturn(Try.success(List.of(createSearchResult("example.org", 1, SearchEngineType.SEARXNG))));
+        when(serperAdapter.executeSearch(anyString(), anyInt(), any()))
+                .thenReturn(Try.success(List.of(createSearchResult("funding.eu", 2, SearchEngineType.SERPER))));
+        CountDownLatch perplexicaInterrupted = new CountDownLatch(1);
+        when(perplexicaAdapter.executeSearch(anyString(), anyInt(), any()))
+                .thenAnswer(invocation -> {
+                    try {
+                        Thread.sleep(3000);
+                    } catch (InterruptedException e) {
+                        perplexicaInterrupted.countDown();
+                        return Try.failure(e);
+                    }
+                    return Try.success(List.of(createSearchResult("late.org", 1, SearchEngineType.PERPLEXICA)));
+                });
+
+        when(antiSpamFilter.analyzeForSpam(any(), eq(true))).thenReturn(SpamAnalysisResult.notSpam());
+        when(domainService.isBlacklisted(anyString())).thenReturn(false);
+
+        // When
+        long start = System.currentTimeMillis();
+        Try<SearchExecutionResult> result = orchestrator.executeMultiProviderSearchStreaming(
+                "keyword query", "ai optimized query", 20, testSessionId);
+        long elapsed = System.currentTimeMillis() - start;
+
+        // Then: did not wait for Perplexica, kept the other three providers
+        assertThat(elapsed).isLessThan(3000);
+        assertThat(result.isSuccess()).isTrue();
+        SearchExecutionResult executionResult = result.get();
+        assertThat(executionResult.isPartialSuccess()).isTrue();
+        assertThat(executionResult.successfulResults())
+                .extracting(SearchResult::getDomain)
+                .containsExactlyInAnyOrder("example.org", "funding.eu");
+        assertThat(executionResult.successfulResults())
+                .filteredOn(r -> r.getDomain().equals("example.org"))
+                .extracting(SearchResult::getSearchEngine)
+                .containsExactly(SearchEngineType.SEARXNG);  // highest rank kept
+        assertThat(executionResult.providerErrors()).hasSize(1);
+        assertThat(executionResult.providerErrors().get(0).provider()).isEqualTo(SearchEngineType.PERPLEXICA);
+        assertThat(executionResult.providerErrors().get(0).errorType()).isEqualTo(ProviderError.ErrorType.TIMEOUT);
+
+        // And: the late call was interrupted rather than left running
+        assertThat(perplexicaInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Streaming - spam and blacklisted results filtered per provider")
+    void executeMultiProviderSearchStreaming_FiltersSpamAndBlacklist() {
+        // Given
+        SearchResult spam = createSearchResult("spam.com", 1, SearchEngineType.BRAVE);
+        SearchResult blacklisted = createSearchResult("blocked.org", 2, SearchEngineType.BRAVE);
+        SearchResult good = createSearchResult("good.org", 3, SearchEngineType.BRAVE);
+        when(braveSearchAdapter.executeSearch(anyString(), anyInt(), any()))
+                .thenReturn(Try.success(List.of(spam, blacklisted, good)));
+        when(searxngAdapter.executeSearch(anyString(), anyInt(), any())).thenReturn(Try.success(List.of()));
+        when(serperAdapter.executeSearch(anyString(), anyInt(), any())).thenReturn(Try.success(List.of()));
+        when(perplexicaAdapter.executeSearch(anyString(), anyInt(), any())).thenReturn(Try.success(List.of()));
+
+        when(antiSpamFilter.analyzeForSpam(any(), eq(true))).thenReturn(SpamAnalysisResult.notSpam());
+        when(antiSpamFilter.analyzeForSpam(spam, true)).thenReturn(
+                SpamAnalysisResult.spam(SpamIndicator.KEYWORD_STUFFING, "Keyword stuffing", 0.35));
+        when(domainService.isBlacklisted("blocked.org")).thenReturn(true);
+
+        // When
+        Try<SearchExecutionResult> result = orchestrator.executeMultiProviderSearchStreaming(
+                "keyword query", "ai optimized query", 20, testSessionId);
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.get().successfulResults())
+                .extracting(SearchResult::getDomain)
+                .containsExactly("good.org");
+        assertThat(result.get().isFullSuccess()).isTrue();
+        assertThat(result.get().statistics().braveSearchResults()).isEqualTo(3);
+    }
+
     /**
      * Helper method to create SearchResult for testing.
      */
@@ -0,0 +1,204 @@
+package com.northstar.funding.crawler.unit;
+
+import com.northstar.funding.crawler.adapter.limit.LimiterMetrics;
+import com.northstar.funding.crawler.adapter.limit.ProviderLimiter;
+import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.crawler.exception.RateLimitException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ProviderLimiter.
+ *
+ * Tests:
+ * - Token bucket paces requests to the configured QPS
+ * - Concurrency limit parks callers until a permit is released
+ * - AIMD: multiplicative decrease on 429/drop, additive increase on success
+ * - 429 backoff window parks the next caller; too long a wait is rejected
+ * - Retry-After parsing (seconds and HTTP date)
+ */
+@DisplayName("ProviderLimiter Unit Tests")
+class ProviderLimiterTest {
+
+    @Test
+    @DisplayName("Token bucket paces requests to configured QPS")
+    void acquire_TokenBucket_PacesRequests() throws Exception {
+        // Given: 20 QPS, no burst
+        SearchProviderConfig.Limiter config = new SearchProviderConfig.Limiter();
+        config.setQps(20);
+        config.setBurst(1);
+        ProviderLimiter limiter = new ProviderLimiter("TEST", config);
+
+        // When: 11 sequential requests (first token immediately, then one per 50ms)
+        long start = System.nanoTime();
+        for (int i = 0; i < 11; i++) {
+            limiter.acquire().close();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(450);
+        assertThat(limiter.metrics().permitsGranted()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("Concurrency limit parks callers until a permit is released")
+    void acquire_ConcurrencyLimit_ParksUntilRelease() throws Exception {
+        // Given: one request in flight at a time
+        SearchProviderConfig.Limiter config = new SearchProviderConfig.Limiter();
+        config.setInitialConcurrency(1);
+        config.setMaxConcurrency(1);
+        ProviderLimiter limiter = new ProviderLimiter("TEST", config);
+
+        ProviderLimiter.Permit first = limiter.acquire();
+        CountDownLatch started = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // When: a second caller arrives while the first holds the only slot
+            Future<?> second = executor.submit(() -> {
+                started.countDown();
+                limiter.acquire().close();
+                return null;
+            });
+            started.await();
+            Thread.sleep(100);
+
+            // Then: it is parked, not failed
+            assertThat(second.isDone()).isFalse();
+            assertThat(limiter.metrics().waiting()).isEqualTo(1);
+
+            first.close();
+            second.get(2, TimeUnit.SECONDS);
+        }
+        assertThat(limiter.metrics().inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("AIMD halves the limit on throttle and grows it on success")
+    void release_Aimd_AdjustsConcurrencyLimit() throws Exception {
+        // Given
+        SearchProviderConfig.Limiter config = new SearchProviderConfig.Limiter();
+        config.setInitialConcurrency(8);
+        config.setMaxConcurrency(16);
+        config.setInitialBackoffMs(1);
+        ProviderLimiter limiter = new ProviderLimiter("TEST", config);
+
+        // When: a dropped request
+        try (ProviderLimiter.Permit permit = limiter.acquire()) {
+            permit.onDropped();
+        }
+
+        // Then: multiplicative decrease
+        assertThat(limiter.metrics().concurrencyLimit()).isEqualTo(4);
+        assertThat(limiter.metrics().droppedCount()).isEqualTo(1);
+
+        // When: enough saturated successes to add one slot
+        for (int i = 0; i < 8; i++) {
+            ProviderLimiter.Permit[] permits = new ProviderLimiter.Permit[4];
+            for (int p = 0; p < permits.length; p++) {
+                permits[p] = limiter.acquire();
+            }
+            for (ProviderLimiter.Permit permit : permits) {
+                permit.onSuccess();
+                permit.close();
+            }
+        }
+
+        // Then: additive increase
+        assertThat(limiter.metrics().concurrencyLimit()).isGreaterThan(4);
+    }
+
+    @Test
+    @DisplayName("429 backoff parks the next caller for Retry-After")
+    void onThrottled_RetryAfter_ParksNextCaller() throws Exception {
+        // Given
+        SearchProviderConfig.Limiter config = new SearchProviderConfig.Limiter();
+        ProviderLimiter limiter = new ProviderLimiter("TEST", config);
+
+        try (ProviderLimiter.Permit permit = limiter.acquire()) {
+            Duration backoff = permit.onThrottled(Duration.ofMillis(200));
+            assertThat(backoff).isEqualTo(Duration.ofMillis(200));
+        }
+        assertThat(limiter.metrics().backoffRemainingMillis()).isPositive();
+
+        // When
+        long start = System.nanoTime();
+        limiter.acquire().close();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(150);
+        LimiterMetrics metrics = limiter.metrics();
+        assertThat(metrics.throttledCount()).isEqualTo(1);
+        assertThat(metrics.concurrencyLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Backoff longer than max wait is rejected with RateLimitException")
+    void acquire_BackoffExceedsMaxWait_ThrowsRateLimitException() throws Exception {
+        // Given
+        SearchProviderConfig.Limiter config = new SearchProviderConfig.Limiter();
+        config.setMaxWaitMs(50);
+        ProviderLimiter limiter = new ProviderLimiter("TEST", config);
+
+        try (ProviderLimiter.Permit permit = limiter.acquire()) {
+            permit.onThrottled(Duration.ofSeconds(30));
+        }
+
+        // When / Then
+        assertThatThrownBy(limiter::acquire)
+                .isInstanceOf(RateLimitException.class)
+                .hasMessageContaining("TEST");
+        assertThat(limiter.metrics().rejectedCount()).isEqualTo(1);
+        assertThat(limiter.canWait(Duration.ofSeconds(30))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Exponential backoff without Retry-After")
+    void onThrottled_NoRetryAfter_BacksOffExponentially() throws Exception {
+        // Given
+        SearchProviderConfig.Limiter config = new SearchProviderConfig.Limiter();
+        config.setInitialBackoffMs(10);
+        ProviderLimiter limiter = new ProviderLimiter("TEST", config);
+
+        // When / Then
+        try (ProviderLimiter.Permit permit = limiter.acquire()) {
+            assertThat(permit.onThrottled(null)).isEqualTo(Duration.ofMillis(10));
+        }
+        try (ProviderLimiter.Permit permit = limiter.acquire()) {
+            assertThat(permit.onThrottled(null)).isEqualTo(Duration.ofMillis(20));
+        }
+        try (ProviderLimiter.Permit permit = limiter.acquire()) {
+            permit.onSuccess();
+        }
+        try (ProviderLimiter.Permit permit = limiter.acquire()) {
+            assertThat(permit.onThrottled(null)).isEqualTo(Duration.ofMillis(10));
+        }
+    }
+
+    @Test
+    @DisplayName("Retry-After parses seconds and HTTP dates")
+    void parseRetryAfter_SecondsAndHttpDate() {
+        String inOneMinute = ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(1)
+                .format(DateTimeFormatter.RFC_1123_DATE_TIME);
+
+        assertThat(ProviderLimiter.parseRetryAfter("120")).contains(Duration.ofSeconds(120));
+        assertThat(ProviderLimiter.parseRetryAfter(inOneMinute).orElseThrow())
+                .isBetween(Duration.ofSeconds(55), Duration.ofSeconds(60));
+        assertThat(ProviderLimiter.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT")).contains(Duration.ZERO);
+        assertThat(ProviderLimiter.parseRetryAfter("soon")).isEmpty();
+        assertThat(ProviderLimiter.parseRetryAfter(null)).isEmpty();
+    }
+}
@@ -0,0 +1,160 @@
+package com.northstar.funding.crawler.unit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.northstar.funding.crawler.adapter.json.ResultStreamParser;
+import com.northstar.funding.crawler.adapter.json.ResultStreamParser.RawResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ResultStreamParser (streaming extraction of provider result arrays).
+ */
+@DisplayName("ResultStreamParser Unit Tests")
+class ResultStreamParserTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    @DisplayName("Nested result array is found past unrelated fields")
+    void parse_NestedArray_ReadsWantedFieldsOnly() throws IOException {
+        // Given: Brave-style response with other sections before web.results
+        ResultStreamParser parser = new ResultStreamParser(jsonFactory, "web.results",
+                new ResultStreamParser.Fields("url", "title", "description", null), 0);
+        String json = """
+                {
+                  "query": {"original": "grants", "spellcheck_off": true},
+                  "mixed": {"main": [{"type": "web", "index": 0}]},
+                  "web": {
+                    "type": "search",
+                    "results": [
+                      {"title": "EU Grants", "url": "https://ec.europa.eu/grants", "description": "Funding",
+                       "profile": {"name": "EC", "url": "https://ec.europa.eu"}},
+                      {"title": "Erasmus+", "url": "https://erasmus-plus.ec.europa.eu", "extra_snippets": ["a", "b"]}
+                    ]
+                  }
+                }
+                """;
+
+        // When
+        List<RawResult> results = parser.parse(stream(json), 10);
+
+        // Then
+        assertThat(results).containsExactly(
+                new RawResult("https://ec.europa.eu/grants", "EU Grants", "Funding", 1),
+                new RawResult("https://erasmus-plus.ec.europa.eu", "Erasmus+", null, 2));
+    }
+
+    @Test
+    @DisplayName("Stops after maxResults and closes the stream")
+    void parse_StopsAfterMaxResults() throws IOException {
+        // Given: the body breaks after the second result
+        ResultStreamParser parser = new ResultStreamParser(jsonFactory, "results",
+                new ResultStreamParser.Fields("url", "title", "content", null), 0);
+        String json = """
+                {"results": [
+                  {"url": "https://a.org", "title": "A"},
+                  {"url": "https://b.org", "title": "B"},
+                  this is never read
+                """;
+        TrackingInputStream body = new TrackingInputStream(json);
+
+        // When
+        List<RawResult> results = parser.parse(body, 2);
+
+        // Then
+        assertThat(results).extracting(RawResult::url).containsExactly("https://a.org", "https://b.org");
+        assertThat(body.closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Nested fields and description truncation (Perplexica sources)")
+    void parse_NestedFieldsAndTruncation() throws IOException {
+        // Given
+        ResultStreamParser parser = new ResultStreamParser(jsonFactory, "sources",
+                new ResultStreamParser.Fields("metadata.url", "metadata.title", "pageContent", null), 10);
+        String json = """
+                {"message": "Several programmes fund schools in Bulgaria...",
+                 "sources": [
+                   {"pageContent": "0123456789abcdefghij", "metadata": {"title": "Grants", "url": "https://a.org"}},
+                   {"pageContent": "short", "metadata": {"title": "No URL"}}
+                 ]}
+                """;
+
+        // When
+        List<RawResult> results = parser.parse(stream(json), 5);
+
+        // Then
+        assertThat(results).containsExactly(
+                new RawResult("https://a.org", "Grants", "0123456789", 1),
+                new RawResult(null, "No URL", "short", 2));
+    }
+
+    @Test
+    @DisplayName("Provider position is used when present")
+    void parse_PositionField_OverridesIndex() throws IOException {
+        // Given
+        ResultStreamParser parser = new ResultStreamParser(jsonFactory, "organic",
+                new ResultStreamParser.Fields("link", "title", "snippet", "position"), 0);
+        String json = """
+                {"organic": [
+                  {"link": "https://a.org", "position": 3},
+                  {"link": "https://b.org"}
+                ]}
+                """;
+
+        // When
+        List<RawResult> results = parser.parse(stream(json), 10);
+
+        // Then
+        assertThat(results).extracting(RawResult::position).containsExactly(3, 2);
+    }
+
+    @Test
+    @DisplayName("Missing result array returns no results")
+    void parse_MissingArray_ReturnsEmpty() throws IOException {
+        ResultStreamParser parser = new ResultStreamParser(jsonFactory, "web.results",
+                new ResultStreamParser.Fields("url", "title", "description", null), 0);
+
+        assertThat(parser.parse(stream("{\"query\": {\"original\": \"grants\"}}"), 10)).isEmpty();
+        assertThat(parser.parse(stream("{\"web\": {\"results\": null}}"), 10)).isEmpty();
+        assertThat(parser.parse(stream("[]"), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Invalid JSON inside the array fails")
+    void parse_InvalidJson_Throws() {
+        ResultStreamParser parser = new ResultStreamParser(jsonFactory, "results",
+                new ResultStreamParser.Fields("url", "title", "content", null), 0);
+
+        assertThatThrownBy(() -> parser.parse(stream("{\"results\": [{\"url\": }]}"), 10))
+                .isInstanceOf(JsonParseException.class);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class TrackingInputStream extends ByteArrayInputStream {
+
+        private boolean closed;
+
+        TrackingInputStream(String json) {
+            super(json.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.northstar.funding.crawler.unit;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
+import com.northstar.funding.crawler.http.TransportMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for SearchHttpTransport using WireMock.
+ *
+ * Tests:
+ * - gzip responses are requested and decoded
+ * - Sequential requests to one host reuse the pooled connection
+ * - Per-host counters and timings are published to the MeterRegistry
+ * - Per-host connection limit makes callers wait, then fail after pool-wait-ms
+ */
+@DisplayName("SearchHttpTransport Unit Tests")
+class SearchHttpTransportTest {
+
+    private static final String BODY = "{\"results\": [{\"url\": \"https://example.org\"}]}";
+
+    private static WireMockServer wireMockServer;
+    private SearchProviderConfig.Http settings;
+
+    @BeforeAll
+    static void setupWireMock() {
+        // Jetty's own gzip handling is off so the stubs control Content-Encoding
+        wireMockServer = new WireMockServer(wireMockConfig().port(8092).gzipDisabled(true));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void tearDownWireMock() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.resetAll();
+        settings = new SearchProviderConfig.Http();
+    }
+
+    @Test
+    @DisplayName("gzip response is requested and decoded")
+    void send_GzipResponse_IsDecoded() throws Exception {
+        // Given
+        wireMockServer.stubFor(get(urlEqualTo("/search"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Encoding", "gzip")
+                        .withBody(gzip(BODY))));
+        SearchHttpTransport transport = new SearchHttpTransport(settings);
+
+        // When
+        HttpResponse<InputStream> response = transport.send(request());
+        String body = SearchHttpTransport.readString(response.body());
+
+        // Then
+        assertThat(body).isEqualTo(BODY);
+        wireMockServer.verify(getRequestedFor(urlEqualTo("/search"))
+                .withHeader("Accept-Encoding", equalTo("gzip, deflate")));
+        TransportMetrics metrics = transport.metrics().get(0);
+        assertThat(metrics.compressedResponses()).isEqualTo(1);
+        assertThat(metrics.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Sequential requests reuse the pooled connection")
+    void send_SequentialRequests_ReuseConnection() throws Exception {
+        // Given
+        wireMockServer.stubFor(get(urlEqualTo("/search"))
+                .willReturn(aResponse().withStatus(200).withBody(BODY)));
+        SearchHttpTransport transport = new SearchHttpTransport(settings);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            SearchHttpTransport.readString(transport.send(request()).body());
+        }
+
+        // Then
+        TransportMetrics metrics = transport.metrics().get(0);
+        assertThat(metrics.host()).isEqualTo("localhost");
+        assertThat(metrics.requests()).isEqualTo(3);
+        assertThat(metrics.estimatedNewConnections()).isEqualTo(1);
+        assertThat(metrics.estimatedReusedConnections()).isEqualTo(2);
+        assertThat(metrics.http2Responses()).isZero(); // plain http stays on HTTP/1.1
+        assertThat(metrics.estimatedReuseRatio()).isCloseTo(2.0 / 3, within(0.001));
+    }
+
+    @Test
+    @DisplayName("Per-host meters are published to the registry")
+    void send_Request_PublishesHostMeters() throws Exception {
+        // Given
+        wireMockServer.stubFor(get(urlEqualTo("/search"))
+                .willReturn(aResponse().withStatus(200).withBody(BODY)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SearchHttpTransport transport = new SearchHttpTransport(settings, registry);
+
+        // When
+        SearchHttpTransport.readString(transport.send(request()).body());
+        SearchHttpTransport.readString(transport.send(request()).body());
+
+        // Then
+        assertThat(registry.get("northstar.search.http.requests").tag("host", "localhost")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("northstar.search.http.connections.new.estimated")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("northstar.search.http.connections.reused.estimated")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("northstar.search.http.response").tag("connection", "new")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("northstar.search.http.response").tag("connection", "reused")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("northstar.search.http.pool.wait").timer().count()).isEqualTo(2);
+        assertThat(registry.get("northstar.search.http.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Per-host connection limit fails after pool-wait-ms while the slot is held")
+    void send_HostLimitReached_FailsAfterPoolWait() throws Exception {
+        // Given: one connection for localhost
+        wireMockServer.stubFor(get(urlEqualTo("/search"))
+                .willReturn(aResponse().withStatus(200).withBody(BODY)));
+        settings.getHostConnections().put("localhost", 1);
+        settings.setPoolWaitMs(100);
+        SearchHttpTransport transport = new SearchHttpTransport(settings);
+
+        // When: the first body is still open
+        HttpResponse<InputStream> first = transport.send(request());
+
+        // Then
+        assertThatThrownBy(() -> transport.send(request()))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("No connection available");
+
+        // And: closing the body frees the slot
+        first.body().close();
+        assertThat(SearchHttpTransport.readString(transport.send(request()).body())).isEqualTo(BODY);
+        assertThat(transport.metrics().get(0).maxConnections()).isEqualTo(1);
+    }
+
+    private static HttpRequest request() {
+        return HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:8092/search"))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
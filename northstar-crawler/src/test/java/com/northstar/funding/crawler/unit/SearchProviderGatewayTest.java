@@ -0,0 +1,164 @@
+package com.northstar.funding.crawler.unit;
+
+import com.northstar.funding.crawler.adapter.limit.LimiterMetrics;
+import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.crawler.provider.ProviderCapabilities;
+import com.northstar.funding.crawler.provider.ProviderResults;
+import com.northstar.funding.crawler.provider.SearchProvider;
+import com.northstar.funding.crawler.provider.SearchProviderGateway;
+import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.domain.SearchResult;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for SearchProviderGateway and ProviderResults.
+ *
+ * Tests:
+ * - Providers without their own limiter get the shared one; self-limited providers don't
+ * - searchAsync completes normally with the provider's Failure
+ * - Results from url/title/description-only adapters are normalized
+ */
+@DisplayName("SearchProviderGateway Unit Tests")
+class SearchProviderGatewayTest {
+
+    private ExecutorService executor;
+    private UUID sessionId;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        sessionId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Shared limiter wraps providers that don't limit themselves")
+    void search_NotSelfLimited_UsesSharedLimiter() {
+        // Given
+        SearchProviderGateway gateway = new SearchProviderGateway(executor, new SearchProviderConfig());
+        StubProvider unlimited = new StubProvider(SearchEngineType.SEARXNG,
+                ProviderCapabilities.selfHostedKeyword(false), Try.success(List.of()));
+        StubProvider selfLimited = new StubProvider(SearchEngineType.BRAVE,
+                ProviderCapabilities.keywordApi(true), Try.success(List.of()));
+
+        // When
+        gateway.search(unlimited, "education grants", 10, sessionId);
+        gateway.search(unlimited, "education grants", 10, sessionId);
+        gateway.search(selfLimited, "education grants", 10, sessionId);
+
+        // Then
+        LimiterMetrics metrics = gateway.limiterMetrics(unlimited);
+        assertThat(metrics).isNotNull();
+        assertThat(metrics.provider()).isEqualTo("SEARXNG");
+        assertThat(metrics.permitsGranted()).isEqualTo(2);
+        assertThat(gateway.limiterMetrics(selfLimited)).isNull();
+        assertThat(unlimited.calls).isEqualTo(2);
+        assertThat(selfLimited.calls).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Provider failures count as drops and are returned as Failure")
+    void searchAsync_ProviderFails_CompletesWithFailure() {
+        // Given
+        SearchProviderGateway gateway = new SearchProviderGateway(executor, new SearchProviderConfig());
+        StubProvider failing = new StubProvider(SearchEngineType.SERPER,
+                ProviderCapabilities.keywordApi(false), Try.failure(new IllegalStateException("HTTP 500")));
+
+        // When
+        Try<List<SearchResult>> result = gateway.searchAsync(failing, "education grants", 10, sessionId).join();
+
+        // Then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getCause()).hasMessage("HTTP 500");
+        assertThat(gateway.limiterMetrics(failing).droppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Gateway without configuration runs providers unlimited")
+    void search_NoConfig_NoSharedLimiter() {
+        // Given
+        SearchProviderGateway gateway = new SearchProviderGateway(executor);
+        StubProvider provider = new StubProvider(SearchEngineType.SEARXNG,
+                ProviderCapabilities.selfHostedKeyword(false), Try.success(List.of()));
+
+        // When
+        Try<List<SearchResult>> result = gateway.search(provider, "education grants", 10, sessionId);
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(gateway.limiterMetrics(provider)).isNull();
+    }
+
+    @Test
+    @DisplayName("normalize fills domain, rank, engine and session; drops missing URLs")
+    void normalize_FillsProviderContractFields() {
+        // Given
+        List<SearchResult> raw = List.of(
+                SearchResult.builder().url("https://WWW.Example.org/grants").title("Grants").build(),
+                SearchResult.builder().title("No URL").build(),
+                SearchResult.builder().url("https://fund.bg").description("Fund").build(),
+                SearchResult.builder().url("https://beyond-max.org").build());
+
+        // When
+        List<SearchResult> normalized = ProviderResults.normalize(SearchEngineType.BRAVE, raw, 3, sessionId);
+
+        // Then
+        assertThat(normalized).extracting(SearchResult::getDomain).containsExactly("example.org", "fund.bg");
+        assertThat(normalized).extracting(SearchResult::getRankPosition).containsExactly(1, 3);
+        assertThat(normalized).extracting(SearchResult::getDescription).containsExactly("", "Fund");
+        assertThat(normalized).allSatisfy(result -> {
+            assertThat(result.getSearchEngine()).isEqualTo(SearchEngineType.BRAVE);
+            assertThat(result.getDiscoverySessionId()).isEqualTo(sessionId);
+            assertThat(result.getDiscoveredAt()).isNotNull();
+            assertThat(result.getSearchDate()).isNotNull();
+        });
+    }
+
+    /**
+     * Provider returning a fixed result and counting calls.
+     */
+    private static final class StubProvider implements SearchProvider {
+
+        private final SearchEngineType type;
+        private final ProviderCapabilities capabilities;
+        private final Try<List<SearchResult>> result;
+        private volatile int calls;
+
+        StubProvider(SearchEngineType type, ProviderCapabilities capabilities, Try<List<SearchResult>> result) {
+            this.type = type;
+            this.capabilities = capabilities;
+            this.result = result;
+        }
+
+        @Override
+        public Try<List<SearchResult>> executeSearch(String query, int maxResults, UUID discoverySessionId) {
+            calls++;
+            return result;
+        }
+
+        @Override
+        public SearchEngineType getProviderType() {
+            return type;
+        }
+
+        @Override
+        public ProviderCapabilities getCapabilities() {
+            return capabilities;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.northstar.funding.crawler.unit;
+
+import com.northstar.funding.crawler.adapter.limit.ProviderLimiter;
+import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.crawler.provider.SearchProviderMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for SearchProviderMetrics.
+ *
+ * Tests:
+ * - Limiter counters and gauges are read from the limiter, tagged by provider and owner
+ */
+@DisplayName("SearchProviderMetrics Unit Tests")
+class SearchProviderMetricsTest {
+
+    @Test
+    @DisplayName("Limiter meters follow the limiter state")
+    void bindLimiter_PublishesLimiterState() throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SearchProviderMetrics metrics = new SearchProviderMetrics(registry);
+        ProviderLimiter limiter = new ProviderLimiter("BRAVE", new SearchProviderConfig.Limiter());
+        metrics.bindLimiter(limiter, "adapter");
+
+        // When: one request completes, one is still in flight
+        limiter.acquire().close();
+        ProviderLimiter.Permit held = limiter.acquire();
+
+        // Then
+        assertThat(registry.get("northstar.search.limiter.permits")
+                .tags("provider", "brave", "limiter", "adapter")
+                .functionCounter().count()).isEqualTo(2.0);
+        assertThat(registry.get("northstar.search.limiter.in.flight")
+                .tags("provider", "brave", "limiter", "adapter")
+                .gauge().value()).isEqualTo(1.0);
+        held.close();
+    }
+}
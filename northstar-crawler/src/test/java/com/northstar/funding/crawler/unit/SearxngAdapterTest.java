@@ -6,6 +6,7 @@ import com.github.tomakehurst.wiremock.client.WireMock;
 import com.northstar.funding.crawler.adapter.SearxngAdapter;
 import com.northstar.funding.crawler.config.SearchProviderConfig;
 import com.northstar.funding.crawler.exception.ProviderTimeoutException;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.domain.SearchResult;
 import io.vavr.control.Try;
@@ -66,7 +67,7 @@ class SearxngAdapterTest {
         // No rate limit configuration needed - SearXNG has unlimited quota
         config.setSearxng(searxngConfig);
 
-        adapter = new SearxngAdapter(config, objectMapper);
+        adapter = new SearxngAdapter(config, objectMapper, new SearchHttpTransport(config.getHttp()));
     }
 
     @Test
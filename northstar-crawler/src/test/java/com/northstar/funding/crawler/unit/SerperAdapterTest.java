@@ -8,6 +8,7 @@ import com.northstar.funding.crawler.config.SearchProviderConfig;
 import com.northstar.funding.crawler.exception.AuthenticationException;
 import com.northstar.funding.crawler.exception.ProviderTimeoutException;
 import com.northstar.funding.crawler.exception.RateLimitException;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.domain.SearchResult;
 import io.vavr.control.Try;
@@ -71,7 +72,7 @@ class SerperAdapterTest {
         serperConfig.setRateLimit(new SearchProviderConfig.RateLimit(60));
         config.setSerper(serperConfig);
 
-        adapter = new SerperAdapter(config, objectMapper);
+        adapter = new SerperAdapter(config, objectMapper, new SearchHttpTransport(config.getHttp()));
     }
 
     @Test
@@ -270,7 +271,7 @@ class SerperAdapterTest {
         serperConfig.setRateLimit(new SearchProviderConfig.RateLimit(60));
         config.setSerper(serperConfig);
 
-        SerperAdapter adapterWithoutKey = new SerperAdapter(config, objectMapper);
+        SerperAdapter adapterWithoutKey = new SerperAdapter(config, objectMapper, new SearchHttpTransport(config.getHttp()));
 
         // When
         Try<List<SearchResult>> result = adapterWithoutKey.executeSearch("test", 20, discoverySessionId);
@@ -0,0 +1,108 @@
+package com.northstar.funding.crawler.unit;
+
+import com.northstar.funding.crawler.antispam.TextFeatures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for TextFeatures.
+ *
+ * Tests:
+ * - Tokens and frequencies match the previous lowercase + split("\\s+") extraction
+ * - Common word count matches the previous \b...\b regex matching
+ * - Null/empty/whitespace handling
+ */
+@DisplayName("TextFeatures Unit Tests")
+class TextFeaturesTest {
+
+    private static final List<String> COMMON_WORDS = List.of(
+            "the", "a", "an", "of", "for", "to", "in", "with", "on", "at",
+            "by", "from", "as", "is", "are", "was", "were", "be", "been",
+            "and", "or", "but", "if", "this", "that", "these", "those"
+    );
+
+    private static final List<String> SAMPLES = List.of(
+            "grants scholarships funding grants scholarships grants funding education grants",
+            "The European Union offers educational grants and scholarships for international students",
+            "Грантове за образование в България - Министерство на образованието",
+            "  leading and trailing\twhitespace\n\nwith   gaps  ",
+            "Apply NOW!!! The best, the greatest: grants-for-all (and more)",
+            "this/that these_those a.b an,of",
+            "GRANTS Grants grants"
+    );
+
+    @Test
+    @DisplayName("Token frequencies match lowercase + split(\"\\\\s+\")")
+    void wordFrequencies_MatchRegexSplit() {
+        for (String text : SAMPLES) {
+            TextFeatures features = TextFeatures.of(text);
+
+            Map<String, Integer> expected = new HashMap<>();
+            for (String word : text.toLowerCase().split("\\s+")) {
+                if (!word.isEmpty()) {
+                    expected.merge(word, 1, Integer::sum);
+                }
+            }
+
+            assertThat(features.wordFrequencies()).as(text).isEqualTo(expected);
+            assertThat(features.totalWords()).as(text)
+                    .isEqualTo(expected.values().stream().mapToInt(Integer::intValue).sum());
+        }
+    }
+
+    @Test
+    @DisplayName("Unique ratio matches trimmed split ratio")
+    void uniqueRatio_MatchesPreviousCalculation() {
+        for (String text : SAMPLES) {
+            String[] words = text.toLowerCase().trim().split("\\s+");
+            double expected = (double) new HashSet<>(Arrays.asList(words)).size() / words.length;
+
+            assertThat(TextFeatures.of(text).uniqueRatio()).as(text).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Common word count matches whole-word regex matching")
+    void commonWordCount_MatchesWordBoundaryRegex() {
+        for (String text : SAMPLES) {
+            String lower = text.toLowerCase();
+            long expected = COMMON_WORDS.stream()
+                    .filter(word -> Pattern.compile("\\b" + Pattern.quote(word) + "\\b").matcher(lower).find())
+                    .count();
+
+            assertThat(TextFeatures.of(text).commonWordCount()).as(text).isEqualTo((int) expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Title and description combined with a single space")
+    void of_TitleAndDescription_Combined() {
+        TextFeatures features = TextFeatures.of("Grants for", null);
+
+        assertThat(features.text()).isEqualTo("Grants for ");
+        assertThat(features.lowerText()).isEqualTo("grants for ");
+        assertThat(features.totalWords()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Null, empty and whitespace-only text")
+    void of_NullEmptyBlank_HandledGracefully() {
+        assertThat(TextFeatures.of(null).isBlank()).isTrue();
+        assertThat(TextFeatures.of("").totalWords()).isZero();
+        assertThat(TextFeatures.of(null, null).isBlank()).isTrue();
+
+        TextFeatures blank = TextFeatures.of(" \t\n ");
+        assertThat(blank.isBlank()).isTrue();
+        assertThat(blank.totalWords()).isZero();
+        assertThat(blank.commonWordCount()).isZero();
+    }
+}
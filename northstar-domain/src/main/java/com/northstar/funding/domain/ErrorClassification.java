@@ -0,0 +1,20 @@
+package com.northstar.funding.domain;
+
+/**
+ * Error Classification enumeration for workflow errors
+ *
+ * Decides whether a failed workflow step is worth retrying.
+ */
+public enum ErrorClassification {
+    /**
+     * Likely to succeed if retried later (timeouts, connection failures,
+     * rate limiting, 5xx responses)
+     */
+    TRANSIENT,
+
+    /**
+     * Will fail again on retry (bad input, authentication, validation,
+     * programming errors)
+     */
+    PERMANENT
+}
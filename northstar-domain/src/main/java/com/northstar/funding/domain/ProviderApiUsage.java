@@ -70,4 +70,11 @@ public class ProviderApiUsage {
      * API response time in milliseconds
      */
     private Integer responseTimeMs;
+
+    /**
+     * Was the response served from the search response cache?
+     * Cache hits never reached the provider and don't count against its quota.
+     */
+    @Builder.Default
+    private Boolean cacheHit = false;
 }
@@ -0,0 +1,92 @@
+package com.northstar.funding.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Workflow Error Entity (dead-letter store)
+ *
+ * One row per WorkflowErrorEvent consumed from the workflow-errors topic,
+ * with the retry decision taken for it.
+ *
+ * Used for:
+ * - Audit trail of failed search/processing steps
+ * - Error frequency by type and stage
+ * - Finding requests whose retries were exhausted
+ */
+@Table("workflow_error")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowError {
+
+    @Id
+    private Long id;
+
+    /**
+     * Error event ID (unique; redelivered events are not stored twice)
+     */
+    private UUID errorId;
+
+    /**
+     * Search request the error belongs to (NULL if unknown)
+     */
+    private UUID requestId;
+
+    /**
+     * Discovery session ID
+     */
+    private UUID sessionId;
+
+    /**
+     * Workflow stage (SEARCH_EXECUTION, DOMAIN_PROCESSING, ...)
+     */
+    private String stage;
+
+    /**
+     * Error type (SEARCH_ADAPTER_ERROR, VALIDATION_ERROR, UNEXPECTED_ERROR, ...)
+     */
+    private String errorType;
+
+    private String errorMessage;
+
+    private String stackTrace;
+
+    /**
+     * TRANSIENT or PERMANENT
+     */
+    private ErrorClassification classification;
+
+    /**
+     * Retry attempt that failed (0 = original request)
+     */
+    private Integer retryCount;
+
+    /**
+     * Was a retry published to the delay topic for this error?
+     */
+    private Boolean retryScheduled;
+
+    /**
+     * Original event as JSON (the SearchRequestEvent to re-publish), if any
+     */
+    private String originalPayload;
+
+    /**
+     * When the error happened
+     */
+    private LocalDateTime occurredAt;
+
+    /**
+     * When the error was stored
+     */
+    private LocalDateTime recordedAt;
+}
@@ -3,6 +3,9 @@ package com.northstar.funding.kafka.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.northstar.funding.kafka.serde.CompactEventDeserializer;
+import com.northstar.funding.kafka.serde.CompactEventSerializer;
+import com.northstar.funding.kafka.serde.EventFormat;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -14,6 +17,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
@@ -27,10 +31,11 @@ import static com.northstar.funding.kafka.topics.KafkaTopics.*;
  *
  * <p>Configures:
  * <ul>
- *   <li>Producer for publishing events to Kafka topics</li>
+ *   <li>Producer for publishing events to Kafka topics, tuned by {@link ProducerProfile}</li>
  *   <li>Consumer for listening to events from Kafka topics</li>
  *   <li>Topic creation with retention policies</li>
- *   <li>JSON serialization/deserialization with Jackson</li>
+ *   <li>JSON serialization/deserialization with Jackson, or the compact binary
+ *       format ({@link EventFormat}); consumers read both</li>
  * </ul>
  */
 @Configuration
@@ -42,6 +47,28 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id:northstar-funding-group}")
     private String consumerGroupId;
 
+    @Value("${northstar.kafka.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+
+    // Listeners that take longer than this between polls are evicted from their group;
+    // SearchRequestConsumer bounds a batch's searches by it
+    @Value("${northstar.kafka.consumer.max-poll-interval-ms:300000}")
+    private int maxPollIntervalMs;
+
+    @Value("${northstar.kafka.consumer.concurrency:3}")
+    private int consumerConcurrency;
+
+    // Partitions of the search topics. Kafka can add partitions but never remove them, and
+    // session keys map to different partitions afterwards, so only raise it between sessions.
+    @Value("${northstar.kafka.topics.partitions:3}")
+    private int topicPartitions;
+
+    @Value("${northstar.kafka.producer.profile:LATENCY}")
+    private ProducerProfile producerProfile;
+
+    @Value("${northstar.kafka.producer.event-format:JSON}")
+    private EventFormat eventFormat;
+
     /**
      * ObjectMapper for JSON serialization with Java 8 time support.
      */
@@ -58,14 +85,44 @@ public class KafkaConfig {
      */
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerProperties(bootstrapServers, producerProfile, eventFormat));
+    }
+
+    /**
+     * Producer properties for a throughput profile.
+     *
+     * <p>Durability settings are the same for every profile; the profile only sets
+     * compression, linger and batch size. Records are keyed by session ID by the
+     * publishers, so a session's events stay in order on one partition.
+     *
+     * @param bootstrapServers Kafka bootstrap servers
+     * @param profile throughput profile
+     * @return mutable producer properties
+     */
+    public static Map<String, Object> producerProperties(String bootstrapServers, ProducerProfile profile) {
+        return producerProperties(bootstrapServers, profile, EventFormat.JSON);
+    }
+
+    /**
+     * Producer properties for a throughput profile and value format.
+     *
+     * @param bootstrapServers Kafka bootstrap servers
+     * @param profile throughput profile
+     * @param format value wire format
+     * @return mutable producer properties
+     */
+    public static Map<String, Object> producerProperties(
+            String bootstrapServers, ProducerProfile profile, EventFormat format) {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG,
+                format == EventFormat.COMPACT ? CompactEventSerializer.class : JsonSerializer.class);
         props.put(ProducerConfig.ACKS_CONFIG, "all"); // Wait for all replicas
         props.put(ProducerConfig.RETRIES_CONFIG, 3);
         props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true); // Prevent duplicates
-        return new DefaultKafkaProducerFactory<>(props);
+        profile.applyTo(props);
+        return props;
     }
 
     /**
@@ -85,22 +142,33 @@ public class KafkaConfig {
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, consumerGroupId);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, CompactEventDeserializer.class); // Compact or JSON
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest"); // Start from beginning
         props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.northstar.funding.kafka.events");
         props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false); // Disable type headers
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords); // Upper bound on batch size
+        props.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, maxPollIntervalMs); // Max time between polls
         return new DefaultKafkaConsumerFactory<>(props);
     }
 
     /**
      * Kafka listener container factory for @KafkaListener annotations.
+     *
+     * <p>Batch mode: listeners receive every record of a poll as {@code List<ConsumerRecord>}
+     * and acknowledge the batch manually once its produced events are sent.
+     *
+     * <p>Concurrency ({@code northstar.kafka.consumer.concurrency}) is the number of listener
+     * threads per listener; threads beyond the topic's partition count sit idle, so raise
+     * {@code northstar.kafka.topics.partitions} with it.
      */
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
-        factory.setConcurrency(3); // 3 concurrent consumers per topic
+        factory.setConcurrency(consumerConcurrency); // Listener threads per listener
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         return factory;
     }
 
@@ -110,7 +178,7 @@ public class KafkaConfig {
     @Bean
     public NewTopic searchRequestsTopic() {
         return TopicBuilder.name(SEARCH_REQUESTS)
-                .partitions(3)
+                .partitions(topicPartitions)
                 .replicas(1)
                 .config("retention.ms", String.valueOf(7 * 24 * 60 * 60 * 1000L)) // 7 days
                 .build();
@@ -122,7 +190,7 @@ public class KafkaConfig {
     @Bean
     public NewTopic searchResultsRawTopic() {
         return TopicBuilder.name(SEARCH_RESULTS_RAW)
-                .partitions(3)
+                .partitions(topicPartitions)
                 .replicas(1)
                 .config("retention.ms", String.valueOf(7 * 24 * 60 * 60 * 1000L)) // 7 days
                 .build();
@@ -134,7 +202,19 @@ public class KafkaConfig {
     @Bean
     public NewTopic searchResultsValidatedTopic() {
         return TopicBuilder.name(SEARCH_RESULTS_VALIDATED)
-                .partitions(3)
+                .partitions(topicPartitions)
+                .replicas(1)
+                .config("retention.ms", String.valueOf(7 * 24 * 60 * 60 * 1000L)) // 7 days
+                .build();
+    }
+
+    /**
+     * Topic: search-requests-retry (7-day retention), delay topic for retried search requests.
+     */
+    @Bean
+    public NewTopic searchRequestsRetryTopic() {
+        return TopicBuilder.name(SEARCH_REQUESTS_RETRY)
+                .partitions(topicPartitions)
                 .replicas(1)
                 .config("retention.ms", String.valueOf(7 * 24 * 60 * 60 * 1000L)) // 7 days
                 .build();
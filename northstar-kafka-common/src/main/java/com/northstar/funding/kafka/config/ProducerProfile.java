@@ -0,0 +1,56 @@
+package com.northstar.funding.kafka.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.Map;
+
+/**
+ * Named producer throughput profiles.
+ *
+ * <p>Events carry repeated title/description text, so both profiles compress;
+ * they differ in how long the producer waits to fill a batch:
+ * <ul>
+ *   <li>{@link #LATENCY} - lz4 (cheap CPU), no linger, default 16 KB batches.
+ *       For request/response style publishing (REST → search-requests).</li>
+ *   <li>{@link #BULK} - zstd (best ratio), 20 ms linger, 256 KB batches.
+ *       For fan-out publishing (search results, many events per request).</li>
+ * </ul>
+ *
+ * <p>Selected with {@code northstar.kafka.producer.profile} (default {@code LATENCY}).
+ */
+public enum ProducerProfile {
+
+    LATENCY("lz4", 0, 16_384),
+    BULK("zstd", 20, 262_144);
+
+    private final String compressionType;
+    private final int lingerMs;
+    private final int batchSize;
+
+    ProducerProfile(String compressionType, int lingerMs, int batchSize) {
+        this.compressionType = compressionType;
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+    }
+
+    public String getCompressionType() {
+        return compressionType;
+    }
+
+    public int getLingerMs() {
+        return lingerMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Apply this profile's compression, linger and batch size to producer properties.
+     */
+    public void applyTo(Map<String, Object> props) {
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+    }
+}
@@ -0,0 +1,363 @@
+package com.northstar.funding.kafka.serde;
+
+import com.northstar.funding.kafka.events.SearchRequestEvent;
+import com.northstar.funding.kafka.events.SearchResultEvent;
+import com.northstar.funding.kafka.events.ValidatedResultEvent;
+import com.northstar.funding.kafka.events.WorkflowErrorEvent;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Hand-written binary codec for the workflow events.
+ *
+ * <p>Layout: {@code MAGIC, SCHEMA_VERSION, type id, fields...}. Fields are written in
+ * declaration order with no names:
+ * <ul>
+ *   <li>String - varint (UTF-8 length + 1), then the bytes; 0 means null</li>
+ *   <li>UUID - presence byte, then most/least significant bits (16 bytes)</li>
+ *   <li>Instant - presence byte, then zigzag varint epoch seconds and varint nanos</li>
+ *   <li>Long - presence byte, then zigzag varint</li>
+ *   <li>int - zigzag varint</li>
+ * </ul>
+ *
+ * <p>The magic byte can never start a JSON document, so readers tell the two formats
+ * apart from the first byte alone. New fields must be appended and the schema version
+ * bumped; the decoder rejects versions it doesn't know instead of misreading them.
+ */
+public final class CompactEventCodec {
+
+    /**
+     * First byte of every compact payload (not valid as the first byte of UTF-8 JSON).
+     */
+    public static final byte MAGIC = (byte) 0xCE;
+
+    /**
+     * Current schema version, written after the magic byte.
+     */
+    public static final byte SCHEMA_VERSION = 1;
+
+    static final byte SEARCH_REQUEST = 1;
+    static final byte SEARCH_RESULT = 2;
+    static final byte VALIDATED_RESULT = 3;
+    static final byte WORKFLOW_ERROR = 4;
+
+    private CompactEventCodec() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * @return true if the event type has a compact encoding
+     */
+    public static boolean supports(Object event) {
+        return event instanceof SearchRequestEvent
+                || event instanceof SearchResultEvent
+                || event instanceof ValidatedResultEvent
+                || event instanceof WorkflowErrorEvent;
+    }
+
+    /**
+     * @return true if the payload starts with the compact magic byte
+     */
+    public static boolean isCompact(byte[] data) {
+        return data != null && data.length > 0 && data[0] == MAGIC;
+    }
+
+    /**
+     * Encode an event.
+     *
+     * @throws SerializationException if the event type has no compact encoding
+     */
+    public static byte[] encode(Object event) {
+        Writer out = new Writer();
+        out.raw(MAGIC);
+        out.raw(SCHEMA_VERSION);
+        switch (event) {
+            case SearchRequestEvent e -> {
+                out.raw(SEARCH_REQUEST);
+                out.uuid(e.getRequestId());
+                out.uuid(e.getSessionId());
+                out.string(e.getQuery());
+                out.string(e.getSearchEngine());
+                out.varint(e.getMaxResults());
+                out.instant(e.getTimestamp());
+                out.string(e.getCategory());
+                out.string(e.getGeographic());
+            }
+            case SearchResultEvent e -> {
+                out.raw(SEARCH_RESULT);
+                out.uuid(e.getRequestId());
+                out.uuid(e.getSessionId());
+                out.string(e.getUrl());
+                out.string(e.getTitle());
+                out.string(e.getDescription());
+                out.string(e.getSearchEngine());
+                out.instant(e.getTimestamp());
+                out.string(e.getQuery());
+            }
+            case ValidatedResultEvent e -> {
+                out.raw(VALIDATED_RESULT);
+                out.uuid(e.getRequestId());
+                out.uuid(e.getSessionId());
+                out.string(e.getUrl());
+                out.string(e.getTitle());
+                out.string(e.getDescription());
+                out.string(e.getDomain());
+                out.nullableLong(e.getDomainId());
+                out.string(e.getSearchEngine());
+                out.instant(e.getTimestamp());
+                out.string(e.getQuery());
+            }
+            case WorkflowErrorEvent e -> {
+                out.raw(WORKFLOW_ERROR);
+                out.uuid(e.getErrorId());
+                out.uuid(e.getRequestId());
+                out.uuid(e.getSessionId());
+                out.string(e.getStage());
+                out.string(e.getErrorType());
+                out.string(e.getErrorMessage());
+                out.string(e.getStackTrace());
+                out.varint(e.getRetryCount());
+                out.string(e.getOriginalPayload());
+                out.instant(e.getTimestamp());
+                out.string(e.getContext());
+            }
+            case null, default -> throw new SerializationException(
+                    "No compact encoding for " + (event == null ? "null" : event.getClass().getName()));
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode a compact payload.
+     *
+     * @throws SerializationException if the payload is not compact, has an unknown schema
+     *                                version or type, or is truncated
+     */
+    public static Object decode(byte[] data) {
+        if (!isCompact(data)) {
+            throw new SerializationException("Not a compact event payload");
+        }
+        Reader in = new Reader(data);
+        in.raw(); // magic
+        byte version = in.raw();
+        if (version != SCHEMA_VERSION) {
+            throw new SerializationException("Unsupported compact schema version " + version);
+        }
+        byte type = in.raw();
+        return switch (type) {
+            case SEARCH_REQUEST -> SearchRequestEvent.builder()
+                    .requestId(in.uuid())
+                    .sessionId(in.uuid())
+                    .query(in.string())
+                    .searchEngine(in.string())
+                    .maxResults(in.varint())
+                    .timestamp(in.instant())
+                    .category(in.string())
+                    .geographic(in.string())
+                    .build();
+            case SEARCH_RESULT -> SearchResultEvent.builder()
+                    .requestId(in.uuid())
+                    .sessionId(in.uuid())
+                    .url(in.string())
+                    .title(in.string())
+                    .description(in.string())
+                    .searchEngine(in.string())
+                    .timestamp(in.instant())
+                    .query(in.string())
+                    .build();
+            case VALIDATED_RESULT -> ValidatedResultEvent.builder()
+                    .requestId(in.uuid())
+                    .sessionId(in.uuid())
+                    .url(in.string())
+                    .title(in.string())
+                    .description(in.string())
+                    .domain(in.string())
+                    .domainId(in.nullableLong())
+                    .searchEngine(in.string())
+                    .timestamp(in.instant())
+                    .query(in.string())
+                    .build();
+            case WORKFLOW_ERROR -> WorkflowErrorEvent.builder()
+                    .errorId(in.uuid())
+                    .requestId(in.uuid())
+                    .sessionId(in.uuid())
+                    .stage(in.string())
+                    .errorType(in.string())
+                    .errorMessage(in.string())
+                    .stackTrace(in.string())
+                    .retryCount(in.varint())
+                    .originalPayload(in.string())
+                    .timestamp(in.instant())
+                    .context(in.string())
+                    .build();
+            default -> throw new SerializationException("Unknown compact event type " + type);
+        };
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer = new byte[256];
+        private int position;
+
+        void raw(byte value) {
+            ensure(1);
+            buffer[position++] = value;
+        }
+
+        void varint(int value) {
+            varlong(Integer.toUnsignedLong((value << 1) ^ (value >> 31)));
+        }
+
+        void nullableLong(Long value) {
+            raw(value == null ? (byte) 0 : (byte) 1);
+            if (value != null) {
+                varlong((value << 1) ^ (value >> 63));
+            }
+        }
+
+        void uuid(UUID value) {
+            raw(value == null ? (byte) 0 : (byte) 1);
+            if (value != null) {
+                fixed64(value.getMostSignificantBits());
+                fixed64(value.getLeastSignificantBits());
+            }
+        }
+
+        void instant(Instant value) {
+            raw(value == null ? (byte) 0 : (byte) 1);
+            if (value != null) {
+                long seconds = value.getEpochSecond();
+                varlong((seconds << 1) ^ (seconds >> 63));
+                varlong(value.getNano());
+            }
+        }
+
+        void string(String value) {
+            if (value == null) {
+                varlong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varlong(bytes.length + 1L);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        /**
+         * Unsigned LEB128.
+         */
+        private void varlong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void fixed64(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void ensure(int bytes) {
+            if (position + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        byte raw() {
+            require(1);
+            return data[position++];
+        }
+
+        int varint() {
+            long raw = varlong();
+            return (int) ((raw >>> 1) ^ -(raw & 1));
+        }
+
+        Long nullableLong() {
+            if (raw() == 0) {
+                return null;
+            }
+            long raw = varlong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        UUID uuid() {
+            if (raw() == 0) {
+                return null;
+            }
+            return new UUID(fixed64(), fixed64());
+        }
+
+        Instant instant() {
+            if (raw() == 0) {
+                return null;
+            }
+            long raw = varlong();
+            long seconds = (raw >>> 1) ^ -(raw & 1);
+            return Instant.ofEpochSecond(seconds, varlong());
+        }
+
+        String string() {
+            long length = varlong();
+            if (length == 0) {
+                return null;
+            }
+            int bytes = Math.toIntExact(length - 1);
+            require(bytes);
+            String value = new String(data, position, bytes, StandardCharsets.UTF_8);
+            position += bytes;
+            return value;
+        }
+
+        private long varlong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = raw();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new SerializationException("Malformed varint in compact event payload");
+        }
+
+        private long fixed64() {
+            require(8);
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (data[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        private void require(int bytes) {
+            if (bytes < 0 || position + bytes > data.length) {
+                throw new SerializationException("Truncated compact event payload");
+            }
+        }
+    }
+}
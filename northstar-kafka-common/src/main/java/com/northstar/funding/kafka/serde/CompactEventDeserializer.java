@@ -0,0 +1,57 @@
+package com.northstar.funding.kafka.serde;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+/**
+ * Value deserializer reading both compact and JSON workflow events.
+ *
+ * <p>Payloads starting with {@link CompactEventCodec#MAGIC} are decoded with the codec;
+ * everything else goes to a {@link JsonDeserializer} configured from the same consumer
+ * properties, so records written before producers switched format, or by producers
+ * still on JSON, keep working.
+ */
+public class CompactEventDeserializer implements Deserializer<Object> {
+
+    private final JsonDeserializer<Object> json;
+
+    public CompactEventDeserializer() {
+        this(new JsonDeserializer<>());
+    }
+
+    /**
+     * @param json deserializer for non-compact payloads
+     */
+    public CompactEventDeserializer(JsonDeserializer<Object> json) {
+        this.json = json;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return CompactEventCodec.isCompact(data) ? CompactEventCodec.decode(data) : json.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return CompactEventCodec.isCompact(data) ? CompactEventCodec.decode(data) : json.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+}
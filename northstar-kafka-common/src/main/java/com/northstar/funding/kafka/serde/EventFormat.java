@@ -0,0 +1,18 @@
+package com.northstar.funding.kafka.serde;
+
+/**
+ * Wire format producers write event values in.
+ *
+ * <ul>
+ *   <li>{@link #JSON} - Jackson JSON (default), readable by every consumer version.</li>
+ *   <li>{@link #COMPACT} - {@link CompactEventCodec} binary, roughly half the bytes and
+ *       no reflection. Only consumers using {@link CompactEventDeserializer} can read it.</li>
+ * </ul>
+ *
+ * <p>Selected with {@code northstar.kafka.producer.event-format}. Consumers always accept
+ * both, so roll out by deploying consumers first and switching producers afterwards.
+ */
+public enum EventFormat {
+    JSON,
+    COMPACT
+}
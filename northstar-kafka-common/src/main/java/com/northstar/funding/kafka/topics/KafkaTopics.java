@@ -1,5 +1,7 @@
 package com.northstar.funding.kafka.topics;
 
+import java.util.UUID;
+
 /**
  * Kafka topic constants for the funding discovery workflow.
  *
@@ -9,6 +11,7 @@ package com.northstar.funding.kafka.topics;
  *   <li>{@link #SEARCH_RESULTS_RAW} - Raw search results from search engines</li>
  *   <li>{@link #SEARCH_RESULTS_VALIDATED} - Results after domain validation and blacklist filtering</li>
  *   <li>{@link #WORKFLOW_ERRORS} - Dead letter queue for workflow failures</li>
+ *   <li>{@link #SEARCH_REQUESTS_RETRY} - Delay topic for search requests being retried</li>
  * </ul>
  */
 public final class KafkaTopics {
@@ -49,6 +52,28 @@ public final class KafkaTopics {
      */
     public static final String WORKFLOW_ERRORS = "workflow-errors";
 
+    /**
+     * Search request retry (delay) topic.
+     * <p>
+     * Published by: WorkflowErrorHandler (transient failures, with {@link RetryHeaders})
+     * Consumed by: RetryScheduler, which re-publishes to {@link #SEARCH_REQUESTS} once due
+     * Retention: 7 days
+     */
+    public static final String SEARCH_REQUESTS_RETRY = "search-requests-retry";
+
+    /**
+     * Record key for session-scoped events.
+     * <p>
+     * Keying by discovery session ID sends all of a session's events to one partition,
+     * so they are consumed in the order they were produced.
+     *
+     * @param sessionId discovery session ID (nullable)
+     * @return key, or null (round-robin partitioning) when there is no session
+     */
+    public static String sessionKey(UUID sessionId) {
+        return sessionId != null ? sessionId.toString() : null;
+    }
+
     private KafkaTopics() {
         // Utility class - prevent instantiation
     }
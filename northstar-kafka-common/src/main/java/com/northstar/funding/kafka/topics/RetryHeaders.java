@@ -0,0 +1,64 @@
+package com.northstar.funding.kafka.topics;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Record headers carried by retried search requests.
+ *
+ * <p>Set by WorkflowErrorHandler when it publishes a request to
+ * {@link KafkaTopics#SEARCH_REQUESTS_RETRY}, and kept when RetryScheduler moves it back
+ * to {@link KafkaTopics#SEARCH_REQUESTS}, so SearchRequestConsumer knows which attempt it
+ * is running. Values are decimal strings.
+ */
+public final class RetryHeaders {
+
+    /**
+     * Retry attempt (1 = first retry). Absent on original requests.
+     */
+    public static final String ATTEMPT = "northstar-retry-attempt";
+
+    /**
+     * Epoch millis before which the request must not be re-published.
+     */
+    public static final String NOT_BEFORE = "northstar-retry-not-before";
+
+    /**
+     * Epoch millis of the failure this retry is for (retry latency is measured from it).
+     */
+    public static final String FAILED_AT = "northstar-retry-failed-at";
+
+    /**
+     * Read a numeric header.
+     *
+     * @return the last value of the header, or defaultValue if absent or malformed
+     */
+    public static long get(Headers headers, String name, long defaultValue) {
+        if (headers == null) {
+            return defaultValue;
+        }
+        Header header = headers.lastHeader(name);
+        if (header == null || header.value() == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(new String(header.value(), StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Replace a numeric header.
+     */
+    public static void set(Headers headers, String name, long value) {
+        headers.remove(name);
+        headers.add(name, Long.toString(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private RetryHeaders() {
+        // Utility class - prevent instantiation
+    }
+}
@@ -0,0 +1,180 @@
+package com.northstar.funding.kafka.serde;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.northstar.funding.kafka.events.SearchRequestEvent;
+import com.northstar.funding.kafka.events.SearchResultEvent;
+import com.northstar.funding.kafka.events.ValidatedResultEvent;
+import com.northstar.funding.kafka.events.WorkflowErrorEvent;
+
+/**
+ * Round-trip, JSON compatibility and size comparison for the compact event format.
+ */
+@DisplayName("Compact event serde")
+class CompactEventSerdeTest {
+
+    private static final String TOPIC = "search-results-raw";
+
+    private final CompactEventSerializer compactSerializer = new CompactEventSerializer();
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+    private CompactEventDeserializer deserializer;
+
+    @BeforeEach
+    void setUp() {
+        // Same JSON settings the consumer factory uses, plus type headers so JSON values can be typed
+        deserializer = new CompactEventDeserializer();
+        deserializer.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, "com.northstar.funding.kafka.events",
+                JsonDeserializer.USE_TYPE_INFO_HEADERS, true), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        compactSerializer.close();
+        jsonSerializer.close();
+        deserializer.close();
+    }
+
+    @Test
+    @DisplayName("Should round-trip every event type")
+    void shouldRoundTripEveryEventType() {
+        List<Object> events = List.of(
+                SearchRequestEvent.builder()
+                        .requestId(UUID.randomUUID())
+                        .sessionId(UUID.randomUUID())
+                        .query("Bulgaria education grants")
+                        .searchEngine("BRAVE")
+                        .maxResults(25)
+                        .timestamp(Instant.parse("2025-11-02T10:15:30.123456789Z"))
+                        .category("EDUCATION")
+                        .geographic("Bulgaria")
+                        .build(),
+                resultEvent(1),
+                ValidatedResultEvent.builder()
+                        .requestId(UUID.randomUUID())
+                        .sessionId(UUID.randomUUID())
+                        .url("https://example.org/grants")
+                        .title("Стипендии за ученици")
+                        .description("Програма за образование – 2025")
+                        .domain("example.org")
+                        .domainId(-42L)
+                        .searchEngine("SEARXNG")
+                        .timestamp(Instant.ofEpochSecond(-1, 5))
+                        .query("grants")
+                        .build(),
+                WorkflowErrorEvent.builder()
+                        .errorId(UUID.randomUUID())
+                        .requestId(UUID.randomUUID())
+                        .sessionId(UUID.randomUUID())
+                        .stage("SEARCH_EXECUTION")
+                        .errorType("TimeoutException")
+                        .errorMessage("timed out")
+                        .stackTrace("java.util.concurrent.TimeoutException\n\tat ...")
+                        .retryCount(Integer.MIN_VALUE)
+                        .originalPayload("{\"query\":\"grants\"}")
+                        .timestamp(Instant.now())
+                        .context("{}")
+                        .build());
+
+        for (Object event : events) {
+            RecordHeaders headers = new RecordHeaders();
+            byte[] bytes = compactSerializer.serialize(TOPIC, headers, event);
+
+            assertThat(CompactEventCodec.isCompact(bytes)).isTrue();
+            assertThat(headers.lastHeader(CompactEventSerializer.FORMAT_HEADER).value())
+                    .isEqualTo("compact-v1".getBytes(StandardCharsets.UTF_8));
+            assertThat(deserializer.deserialize(TOPIC, headers, bytes)).isEqualTo(event);
+        }
+    }
+
+    @Test
+    @DisplayName("Should round-trip null fields")
+    void shouldRoundTripNullFields() {
+        List<Object> events = List.of(
+                new SearchRequestEvent(), new SearchResultEvent(), new ValidatedResultEvent(), new WorkflowErrorEvent());
+
+        for (Object event : events) {
+            assertThat(CompactEventCodec.decode(CompactEventCodec.encode(event))).isEqualTo(event);
+        }
+    }
+
+    @Test
+    @DisplayName("Should still read JSON values from producers that have not switched")
+    void shouldReadJsonValues() {
+        SearchResultEvent event = resultEvent(7);
+        RecordHeaders headers = new RecordHeaders();
+        byte[] json = jsonSerializer.serialize(TOPIC, headers, event);
+
+        assertThat(CompactEventCodec.isCompact(json)).isFalse();
+        assertThat(deserializer.deserialize(TOPIC, headers, json)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown schema versions and truncated payloads")
+    void shouldRejectUnknownVersionAndTruncatedPayload() {
+        byte[] bytes = CompactEventCodec.encode(resultEvent(1));
+
+        byte[] future = bytes.clone();
+        future[1] = CompactEventCodec.SCHEMA_VERSION + 1;
+        assertThatThrownBy(() -> CompactEventCodec.decode(future))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("schema version");
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+        assertThatThrownBy(() -> CompactEventCodec.decode(truncated))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Truncated");
+    }
+
+    @Test
+    @DisplayName("Should write non-event values as JSON")
+    void shouldWriteOtherValuesAsJson() {
+        byte[] bytes = compactSerializer.serialize(TOPIC, new RecordHeaders(), Map.of("key", "value"));
+
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("{\"key\":\"value\"}");
+    }
+
+    @Test
+    @DisplayName("Compact format should be smaller than JSON")
+    void shouldBeSmallerThanJson() {
+        // Throughput of both formats is measured by EventSerdeBenchmark (northstar-benchmarks)
+        for (int i = 0; i < 100; i++) {
+            SearchResultEvent event = resultEvent(i);
+            byte[] json = jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+            byte[] compact = compactSerializer.serialize(TOPIC, new RecordHeaders(), event);
+
+            assertThat(compact.length).isLessThan(json.length);
+        }
+    }
+
+    private SearchResultEvent resultEvent(int i) {
+        return SearchResultEvent.builder()
+                .requestId(UUID.randomUUID())
+                .sessionId(UUID.randomUUID())
+                .url("https://www.example-foundation.org/programmes/education/grant-" + i)
+                .title("Education Grant Programme " + i + " - Example Foundation")
+                .description("Funding for schools and NGOs in Bulgaria and the wider region, "
+                        + "covering teacher training, equipment and scholarships.")
+                .searchEngine("SEARXNG")
+                .timestamp(Instant.now())
+                .query("Bulgaria education grants")
+                .build();
+    }
+}
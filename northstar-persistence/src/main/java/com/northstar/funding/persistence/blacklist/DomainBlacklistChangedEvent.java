@@ -0,0 +1,13 @@
+package com.northstar.funding.persistence.blacklist;
+
+/**
+ * Published by DomainService once a blacklist change has committed.
+ *
+ * Read-side projections outside this module (e.g. the Valkey blacklist set in
+ * search-workflow) listen for it to stay in sync without polling PostgreSQL.
+ *
+ * @param domainName the domain whose status changed
+ * @param blacklisted true if the domain was blacklisted, false if it was restored
+ */
+public record DomainBlacklistChangedEvent(String domainName, boolean blacklisted) {
+}
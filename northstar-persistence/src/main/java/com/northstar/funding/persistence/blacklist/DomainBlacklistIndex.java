@@ -0,0 +1,158 @@
+package com.northstar.funding.persistence.blacklist;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.northstar.funding.domain.Domain;
+import com.northstar.funding.domain.DomainStatus;
+import com.northstar.funding.persistence.repository.DomainRepository;
+
+import io.vavr.control.Try;
+
+/**
+ * In-process index of blacklisted domains.
+ *
+ * A Bloom filter answers the common case (domain is NOT blacklisted) in
+ * nanoseconds with no I/O; positives are confirmed against an exact sorted set.
+ *
+ * Lifecycle:
+ * - Loaded once at startup from domain table (status = BLACKLISTED)
+ * - Updated incrementally by DomainService when domains are blacklisted or restored
+ * - Until loaded, {@link #isLoaded()} is false and callers fall back to PostgreSQL
+ *
+ * PostgreSQL remains the source of truth; this index is a read-side projection.
+ */
+@Component
+public class DomainBlacklistIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainBlacklistIndex.class);
+
+    static final int DEFAULT_EXPECTED_DOMAINS = 10_000;
+    static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final DomainRepository domainRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(
+        new BloomFilter(DEFAULT_EXPECTED_DOMAINS, FALSE_POSITIVE_RATE), new ConcurrentSkipListSet<>());
+    private volatile boolean loaded;
+
+    public DomainBlacklistIndex(DomainRepository domainRepository) {
+        this.domainRepository = domainRepository;
+    }
+
+    /**
+     * Load the index once the application is ready.
+     * A failure leaves the index unloaded so callers keep using the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Try.run(this::reload)
+            .onFailure(e -> log.warn("Blacklist index not loaded, falling back to database lookups: {}",
+                e.getMessage()));
+    }
+
+    /**
+     * Rebuild the index from all blacklisted domains in the database.
+     */
+    public synchronized void reload() {
+        List<Domain> blacklisted = domainRepository.findByStatus(DomainStatus.BLACKLISTED);
+
+        NavigableSet<String> domains = new ConcurrentSkipListSet<>();
+        for (Domain domain : blacklisted) {
+            String name = normalize(domain.getDomainName());
+            if (name != null) {
+                domains.add(name);
+            }
+        }
+
+        snapshot = buildSnapshot(domains);
+        loaded = true;
+        log.info("Blacklist index loaded: {} domains", domains.size());
+    }
+
+    /**
+     * Whether the index has been loaded and can answer authoritatively.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Check whether a domain is blacklisted.
+     *
+     * @param domainName domain name (case-insensitive)
+     * @return true only if the domain is in the exact blacklist set
+     */
+    public boolean isBlacklisted(String domainName) {
+        String name = normalize(domainName);
+        if (name == null) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        return current.filter().mightContain(name) && current.domains().contains(name);
+    }
+
+    /**
+     * Record a newly blacklisted domain.
+     */
+    public synchronized void add(String domainName) {
+        String name = normalize(domainName);
+        if (name == null) {
+            return;
+        }
+        Snapshot current = snapshot;
+        if (!current.domains().add(name)) {
+            return;
+        }
+        if (current.domains().size() > current.filter().capacity()) {
+            // Grow before the false positive rate degrades
+            snapshot = buildSnapshot(current.domains());
+        } else {
+            current.filter().put(name);
+        }
+        log.debug("Blacklist index added: {}", name);
+    }
+
+    /**
+     * Remove a domain that is no longer blacklisted.
+     * The Bloom filter keeps its bits; the exact set makes the answer correct.
+     */
+    public synchronized void remove(String domainName) {
+        String name = normalize(domainName);
+        if (name != null && snapshot.domains().remove(name)) {
+            log.debug("Blacklist index removed: {}", name);
+        }
+    }
+
+    /**
+     * Number of blacklisted domains in the index.
+     */
+    public int size() {
+        return snapshot.domains().size();
+    }
+
+    private static Snapshot buildSnapshot(NavigableSet<String> domains) {
+        int capacity = Math.max(DEFAULT_EXPECTED_DOMAINS, domains.size() * 2);
+        BloomFilter filter = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+        domains.forEach(filter::put);
+        return new Snapshot(filter, domains);
+    }
+
+    private static String normalize(String domainName) {
+        if (domainName == null || domainName.isBlank()) {
+            return null;
+        }
+        return domainName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Snapshot(BloomFilter filter, NavigableSet<String> domains) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.northstar.funding.persistence.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.northstar.funding.domain.CandidateStatus;
+import com.northstar.funding.domain.SearchEngineType;
+
+/**
+ * Filter and sort criteria for candidate listing
+ *
+ * Null or empty filters are not applied.
+ *
+ * @param statuses candidate statuses (multi-select)
+ * @param minConfidence minimum confidence score, inclusive
+ * @param searchEngines search engines that discovered the candidate (multi-select)
+ * @param discoveredFrom discovered_at lower bound, inclusive
+ * @param discoveredBefore discovered_at upper bound, exclusive
+ * @param sortField column to sort by
+ * @param ascending sort direction
+ */
+public record CandidateSearchCriteria(
+    List<CandidateStatus> statuses,
+    BigDecimal minConfidence,
+    List<SearchEngineType> searchEngines,
+    LocalDateTime discoveredFrom,
+    LocalDateTime discoveredBefore,
+    CandidateSortField sortField,
+    boolean ascending
+) {
+
+    public CandidateSearchCriteria {
+        statuses = statuses != null ? List.copyOf(statuses) : List.of();
+        searchEngines = searchEngines != null ? List.copyOf(searchEngines) : List.of();
+        sortField = sortField != null ? sortField : CandidateSortField.DISCOVERED_AT;
+    }
+
+    /**
+     * Unfiltered criteria, newest first
+     */
+    public static CandidateSearchCriteria all() {
+        return new CandidateSearchCriteria(null, null, null, null, null, CandidateSortField.DISCOVERED_AT, false);
+    }
+}
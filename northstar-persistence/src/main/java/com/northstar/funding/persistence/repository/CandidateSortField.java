@@ -0,0 +1,51 @@
+package com.northstar.funding.persistence.repository;
+
+/**
+ * Sortable columns for candidate listing
+ *
+ * Whitelist of columns that {@link FundingSourceCandidateSearchOperations} may ORDER BY,
+ * so no caller-supplied text ever reaches the SQL. Every sort is tie-broken
+ * by candidate_id to keep pages stable.
+ */
+public enum CandidateSortField {
+
+    DISCOVERED_AT("discovered_at", false),
+    CONFIDENCE_SCORE("confidence_score", false),
+    STATUS("status", false),
+    SEARCH_ENGINE("search_engine_source", true),
+    TITLE("metadata_title", true);
+
+    private final String column;
+    private final boolean nullable;
+
+    CandidateSortField(String column, boolean nullable) {
+        this.column = column;
+        this.nullable = nullable;
+    }
+
+    /**
+     * @return database column name
+     */
+    public String column() {
+        return column;
+    }
+
+    /**
+     * Nullable columns sort NULLS LAST; NOT NULL columns keep the default
+     * so the ORDER BY still matches their indexes.
+     *
+     * @return true if the column is nullable
+     */
+    public boolean nullable() {
+        return nullable;
+    }
+
+    /**
+     * Keyset (seek) pagination is supported on (confidence_score, candidate_id)
+     *
+     * @return true if pages can be continued with a keyset cursor
+     */
+    public boolean supportsKeyset() {
+        return this == CONFIDENCE_SCORE;
+    }
+}
@@ -0,0 +1,29 @@
+package com.northstar.funding.persistence.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set-based Domain operations
+ *
+ * Custom Spring Data JDBC fragment mixed into {@link DomainRepository}.
+ * Resolves many domain names in a single round trip instead of one
+ * lookup-then-insert per domain.
+ */
+public interface DomainBatchOperations {
+
+    /**
+     * Register all domain names in one multi-row upsert and return their IDs.
+     * Existing domains keep their current status and discovery session;
+     * new domains are created as DISCOVERED.
+     *
+     * Uses INSERT ... ON CONFLICT (domain_name) so concurrent sessions
+     * registering the same domain never collide.
+     *
+     * @param domainNames distinct domain names to resolve
+     * @param discoverySessionId session ID recorded on newly created domains
+     * @return map of domain name to domain ID (one entry per input name)
+     */
+    Map<String, UUID> upsertDomains(Collection<String> domainNames, UUID discoverySessionId);
+}
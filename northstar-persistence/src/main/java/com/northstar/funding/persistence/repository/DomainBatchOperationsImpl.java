@@ -0,0 +1,58 @@
+package com.northstar.funding.persistence.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+import com.northstar.funding.domain.DomainStatus;
+
+/**
+ * JDBC implementation of {@link DomainBatchOperations}.
+ *
+ * The no-op DO UPDATE makes RETURNING yield existing rows as well as
+ * inserted ones, so one statement resolves every domain ID.
+ */
+class DomainBatchOperationsImpl implements DomainBatchOperations {
+
+    private static final String UPSERT_DOMAINS_SQL = """
+        INSERT INTO domain (domain_name, status, discovery_session_id, discovered_at)
+        SELECT name, :status, CAST(:sessionId AS uuid), CAST(:discoveredAt AS timestamp)
+        FROM unnest(CAST(ARRAY[:domainNames] AS text[])) AS name
+        ON CONFLICT (domain_name) DO UPDATE SET domain_name = EXCLUDED.domain_name
+        RETURNING domain_id, domain_name
+    """;
+
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    DomainBatchOperationsImpl(NamedParameterJdbcOperations jdbcOperations) {
+        this.jdbcOperations = jdbcOperations;
+    }
+
+    @Override
+    public Map<String, UUID> upsertDomains(Collection<String> domainNames, UUID discoverySessionId) {
+        Map<String, UUID> domainIds = new HashMap<>();
+        if (domainNames == null || domainNames.isEmpty()) {
+            return domainIds;
+        }
+
+        // ON CONFLICT DO UPDATE rejects the same key twice in one statement
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("domainNames", new ArrayList<>(new LinkedHashSet<>(domainNames)))
+            .addValue("status", DomainStatus.DISCOVERED.name())
+            .addValue("sessionId", discoverySessionId)
+            .addValue("discoveredAt", Timestamp.valueOf(LocalDateTime.now()));
+
+        jdbcOperations.query(UPSERT_DOMAINS_SQL, params, rs -> {
+            domainIds.put(rs.getString("domain_name"), rs.getObject("domain_id", UUID.class));
+        });
+        return domainIds;
+    }
+}
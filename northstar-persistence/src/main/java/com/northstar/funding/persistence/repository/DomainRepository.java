@@ -25,7 +25,7 @@ import com.northstar.funding.domain.DomainStatus;
  * - Quality-based filtering to avoid low-quality domains
  */
 @Repository
-public interface DomainRepository extends CrudRepository<Domain, UUID> {
+public interface DomainRepository extends CrudRepository<Domain, UUID>, DomainBatchOperations {
 
     /**
      * Find domain by domain name
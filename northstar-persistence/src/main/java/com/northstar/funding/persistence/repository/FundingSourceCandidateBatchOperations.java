@@ -0,0 +1,27 @@
+package com.northstar.funding.persistence.repository;
+
+import java.util.List;
+
+import com.northstar.funding.domain.FundingSourceCandidate;
+
+/**
+ * Set-based FundingSourceCandidate operations
+ *
+ * Custom Spring Data JDBC fragment mixed into {@link FundingSourceCandidateRepository}.
+ * Writes many newly discovered candidates with a single JDBC batch.
+ */
+public interface FundingSourceCandidateBatchOperations {
+
+    /**
+     * Insert all candidates in one JDBC batch.
+     * Candidates without an ID are assigned a random UUID before insert,
+     * so callers can reference the rows afterwards.
+     *
+     * Only Phase 1 discovery columns are written; array columns and
+     * review/approval fields take their database defaults.
+     *
+     * @param candidates new candidates (must not already exist)
+     * @return the same candidates with IDs populated
+     */
+    List<FundingSourceCandidate> insertAll(List<FundingSourceCandidate> candidates);
+}
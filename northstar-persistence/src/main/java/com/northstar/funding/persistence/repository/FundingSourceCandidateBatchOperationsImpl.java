@@ -0,0 +1,75 @@
+package com.northstar.funding.persistence.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.northstar.funding.domain.FundingSourceCandidate;
+
+/**
+ * JDBC implementation of {@link FundingSourceCandidateBatchOperations}.
+ */
+class FundingSourceCandidateBatchOperationsImpl implements FundingSourceCandidateBatchOperations {
+
+    private static final String INSERT_CANDIDATE_SQL = """
+        INSERT INTO funding_source_candidate (
+            candidate_id, status, confidence_score, domain_id, discovery_session_id,
+            discovered_at, last_updated_at, organization_name, program_name,
+            source_url, description, extracted_data
+        ) VALUES (
+            :candidateId, :status, :confidenceScore, :domainId, :discoverySessionId,
+            :discoveredAt, :lastUpdatedAt, :organizationName, :programName,
+            :sourceUrl, :description, :extractedData
+        )
+    """;
+
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    FundingSourceCandidateBatchOperationsImpl(NamedParameterJdbcOperations jdbcOperations) {
+        this.jdbcOperations = jdbcOperations;
+    }
+
+    @Override
+    public List<FundingSourceCandidate> insertAll(List<FundingSourceCandidate> candidates) {
+        if (candidates == null || candidates.isEmpty()) {
+            return List.of();
+        }
+
+        SqlParameterSource[] batch = new SqlParameterSource[candidates.size()];
+        for (int i = 0; i < candidates.size(); i++) {
+            FundingSourceCandidate candidate = candidates.get(i);
+            if (candidate.getCandidateId() == null) {
+                candidate.setCandidateId(UUID.randomUUID());
+            }
+            batch[i] = toParameters(candidate);
+        }
+
+        jdbcOperations.batchUpdate(INSERT_CANDIDATE_SQL, batch);
+        return candidates;
+    }
+
+    private SqlParameterSource toParameters(FundingSourceCandidate candidate) {
+        return new MapSqlParameterSource()
+            .addValue("candidateId", candidate.getCandidateId())
+            .addValue("status", candidate.getStatus() != null ? candidate.getStatus().name() : null)
+            .addValue("confidenceScore", candidate.getConfidenceScore())
+            .addValue("domainId", candidate.getDomainId())
+            .addValue("discoverySessionId", candidate.getDiscoverySessionId())
+            .addValue("discoveredAt", toTimestamp(candidate.getDiscoveredAt()))
+            .addValue("lastUpdatedAt", toTimestamp(candidate.getLastUpdatedAt()))
+            .addValue("organizationName", candidate.getOrganizationName())
+            .addValue("programName", candidate.getProgramName() != null ? candidate.getProgramName() : "")
+            .addValue("sourceUrl", candidate.getSourceUrl())
+            .addValue("description", candidate.getDescription())
+            .addValue("extractedData", candidate.getExtractedData() != null ? candidate.getExtractedData() : "{}");
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return Timestamp.valueOf(value != null ? value : LocalDateTime.now());
+    }
+}
@@ -28,9 +28,12 @@ import com.northstar.funding.domain.FundingSourceCandidate;
  * - Duplicate detection queries
  * - Performance optimized for <500ms requirement
  * - Constitutional compliance: Spring Data JDBC (no ORM complexity)
+ * - Single-batch inserts for discovery runs (FundingSourceCandidateBatchOperations)
+ * - SQL-side filtering, keyset pagination and estimated counts (FundingSourceCandidateSearchOperations)
  */
 @Repository
-public interface FundingSourceCandidateRepository extends CrudRepository<FundingSourceCandidate, UUID>, PagingAndSortingRepository<FundingSourceCandidate, UUID> {
+public interface FundingSourceCandidateRepository extends CrudRepository<FundingSourceCandidate, UUID>, PagingAndSortingRepository<FundingSourceCandidate, UUID>,
+        FundingSourceCandidateBatchOperations, FundingSourceCandidateSearchOperations {
 
     /**
      * Find candidates by status with confidence score ordering for review queue
@@ -0,0 +1,63 @@
+package com.northstar.funding.persistence.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import com.northstar.funding.domain.FundingSourceCandidate;
+
+/**
+ * Database-side candidate filtering, sorting and pagination
+ *
+ * Custom Spring Data JDBC fragment mixed into {@link FundingSourceCandidateRepository}.
+ * Generalises findWithAdvancedFilters to multi-select status/engine filters,
+ * date ranges and a whitelisted sort column, for the admin review queue.
+ *
+ * Deep pages should use {@link #findAfter} (keyset) rather than large offsets.
+ */
+public interface FundingSourceCandidateSearchOperations {
+
+    /**
+     * Find one page of candidates using LIMIT/OFFSET.
+     *
+     * @param criteria filters and sort
+     * @param offset rows to skip
+     * @param limit maximum rows to return
+     * @return candidates in sort order
+     */
+    List<FundingSourceCandidate> findByCriteria(CandidateSearchCriteria criteria, long offset, int limit);
+
+    /**
+     * Find the page following the given (confidence_score, candidate_id) position.
+     * Criteria must sort by {@link CandidateSortField#CONFIDENCE_SCORE}.
+     *
+     * @param criteria filters and sort direction
+     * @param afterConfidence confidence score of the last row of the previous page
+     * @param afterId candidate ID of the last row of the previous page
+     * @param limit maximum rows to return
+     * @return candidates in sort order, strictly after the given position
+     * @throws IllegalArgumentException if the sort field does not support keyset pagination
+     */
+    List<FundingSourceCandidate> findAfter(CandidateSearchCriteria criteria, BigDecimal afterConfidence,
+                                           UUID afterId, int limit);
+
+    /**
+     * Count candidates matching the criteria.
+     *
+     * Uses the planner's row estimate; only when that is small enough to be
+     * cheap is an exact COUNT(*) executed.
+     *
+     * @param criteria filters (sort is ignored)
+     * @return exact or estimated count
+     */
+    CandidateCount countByCriteria(CandidateSearchCriteria criteria);
+
+    /**
+     * Result of {@link #countByCriteria}.
+     *
+     * @param count number of matching rows
+     * @param estimated true if count is the planner estimate rather than exact
+     */
+    record CandidateCount(long count, boolean estimated) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.northstar.funding.persistence.repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.data.jdbc.core.JdbcAggregateOperations;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+import com.northstar.funding.domain.CandidateStatus;
+import com.northstar.funding.domain.FundingSourceCandidate;
+import com.northstar.funding.domain.SearchEngineType;
+
+/**
+ * JDBC implementation of {@link FundingSourceCandidateSearchOperations}.
+ *
+ * Filters, sort and page bounds are applied in SQL to select candidate IDs;
+ * the page's aggregates are then loaded by ID so entity mapping stays with
+ * Spring Data JDBC.
+ */
+class FundingSourceCandidateSearchOperationsImpl implements FundingSourceCandidateSearchOperations {
+
+    /**
+     * Above this planner estimate the estimate is returned instead of running COUNT(*).
+     */
+    static final long EXACT_COUNT_THRESHOLD = 10_000;
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    private final NamedParameterJdbcOperations jdbcOperations;
+    private final JdbcAggregateOperations aggregateOperations;
+
+    FundingSourceCandidateSearchOperationsImpl(NamedParameterJdbcOperations jdbcOperations,
+                                               JdbcAggregateOperations aggregateOperations) {
+        this.jdbcOperations = jdbcOperations;
+        this.aggregateOperations = aggregateOperations;
+    }
+
+    @Override
+    public List<FundingSourceCandidate> findByCriteria(CandidateSearchCriteria criteria, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> conditions = filterConditions(criteria, params);
+
+        String sql = "SELECT candidate_id FROM funding_source_candidate"
+            + where(conditions)
+            + orderBy(criteria)
+            + " LIMIT :limit OFFSET :offset";
+        params.addValue("limit", limit).addValue("offset", offset);
+
+        return loadInOrder(jdbcOperations.queryForList(sql, params, UUID.class));
+    }
+
+    @Override
+    public List<FundingSourceCandidate> findAfter(CandidateSearchCriteria criteria, BigDecimal afterConfidence,
+                                                  UUID afterId, int limit) {
+        if (!criteria.sortField().supportsKeyset()) {
+            throw new IllegalArgumentException("Keyset pagination not supported for sort field: " + criteria.sortField());
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> conditions = filterConditions(criteria, params);
+
+        // Row comparison matches the (confidence_score, candidate_id) index order
+        conditions.add(criteria.ascending()
+            ? "(confidence_score, candidate_id) > (:afterConfidence, :afterId)"
+            : "(confidence_score, candidate_id) < (:afterConfidence, :afterId)");
+        params.addValue("afterConfidence", afterConfidence).addValue("afterId", afterId);
+
+        String sql = "SELECT candidate_id FROM funding_source_candidate"
+            + where(conditions)
+            + orderBy(criteria)
+            + " LIMIT :limit";
+        params.addValue("limit", limit);
+
+        return loadInOrder(jdbcOperations.queryForList(sql, params, UUID.class));
+    }
+
+    @Override
+    public CandidateCount countByCriteria(CandidateSearchCriteria criteria) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String fromWhere = " FROM funding_source_candidate" + where(filterConditions(criteria, params));
+
+        Long estimate = jdbcOperations.query("EXPLAIN SELECT 1" + fromWhere, params,
+            rs -> rs.next() ? planRows(rs.getString(1)) : null);
+        if (estimate != null && estimate > EXACT_COUNT_THRESHOLD) {
+            return new CandidateCount(estimate, true);
+        }
+
+        Long exact = jdbcOperations.queryForObject("SELECT COUNT(*)" + fromWhere, params, Long.class);
+        return new CandidateCount(exact != null ? exact : 0L, false);
+    }
+
+    private List<String> filterConditions(CandidateSearchCriteria criteria, MapSqlParameterSource params) {
+        List<String> conditions = new ArrayList<>();
+
+        if (!criteria.statuses().isEmpty()) {
+            conditions.add("status IN (:statuses)");
+            params.addValue("statuses", criteria.statuses().stream().map(CandidateStatus::name).toList());
+        }
+        if (criteria.minConfidence() != null) {
+            conditions.add("confidence_score >= :minConfidence");
+            params.addValue("minConfidence", criteria.minConfidence());
+        }
+        if (!criteria.searchEngines().isEmpty()) {
+            conditions.add("search_engine_source IN (:searchEngines)");
+            params.addValue("searchEngines", criteria.searchEngines().stream().map(SearchEngineType::name).toList());
+        }
+        if (criteria.discoveredFrom() != null) {
+            conditions.add("discovered_at >= :discoveredFrom");
+            params.addValue("discoveredFrom", Timestamp.valueOf(criteria.discoveredFrom()));
+        }
+        if (criteria.discoveredBefore() != null) {
+            conditions.add("discovered_at < :discoveredBefore");
+            params.addValue("discoveredBefore", Timestamp.valueOf(criteria.discoveredBefore()));
+        }
+
+        return conditions;
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static String orderBy(CandidateSearchCriteria criteria) {
+        String direction = criteria.ascending() ? "ASC" : "DESC";
+        CandidateSortField field = criteria.sortField();
+        return " ORDER BY " + field.column() + " " + direction
+            + (field.nullable() ? " NULLS LAST" : "")
+            + ", candidate_id " + direction;
+    }
+
+    private List<FundingSourceCandidate> loadInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, FundingSourceCandidate> byId = new HashMap<>();
+        for (FundingSourceCandidate candidate : aggregateOperations.findAllById(ids, FundingSourceCandidate.class)) {
+            byId.put(candidate.getCandidateId(), candidate);
+        }
+
+        List<FundingSourceCandidate> ordered = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            FundingSourceCandidate candidate = byId.get(id);
+            if (candidate != null) {
+                ordered.add(candidate);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Extract the row estimate from the top plan node, e.g.
+     * "Seq Scan on funding_source_candidate  (cost=0.00..35.50 rows=2550 width=0)".
+     */
+    private static Long planRows(String planLine) {
+        if (planLine == null) {
+            return null;
+        }
+        Matcher matcher = PLAN_ROWS.matcher(planLine);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.northstar.funding.persistence.repository;
+
+import java.util.List;
+
+import com.northstar.funding.domain.ProviderApiUsage;
+
+/**
+ * Set-based ProviderApiUsage operations
+ *
+ * Custom Spring Data JDBC fragment mixed into {@link ProviderApiUsageRepository}.
+ * Writes buffered usage rows with multi-row INSERT statements.
+ */
+public interface ProviderApiUsageBatchOperations {
+
+    /**
+     * Insert all usage rows with multi-row INSERT statements of at most 500 rows each.
+     * Generated IDs are not read back.
+     *
+     * @param usages new usage rows
+     * @return number of rows inserted
+     */
+    int insertAll(List<ProviderApiUsage> usages);
+}
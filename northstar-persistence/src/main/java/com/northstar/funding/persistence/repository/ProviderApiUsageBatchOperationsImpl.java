@@ -0,0 +1,82 @@
+package com.northstar.funding.persistence.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+import com.northstar.funding.domain.ProviderApiUsage;
+
+/**
+ * JDBC implementation of {@link ProviderApiUsageBatchOperations}.
+ *
+ * Builds {@code INSERT ... VALUES (...), (...), ...} statements rather than a JDBC
+ * batch of single-row inserts, so each chunk is one statement and one round trip.
+ */
+class ProviderApiUsageBatchOperationsImpl implements ProviderApiUsageBatchOperations {
+
+    // 8 parameters per row; stays well below PostgreSQL's 32767 bind parameter limit
+    static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX = """
+        INSERT INTO provider_api_usage (
+            provider, query, result_count, success, error_type, executed_at, response_time_ms, cache_hit
+        ) VALUES
+        """;
+
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    ProviderApiUsageBatchOperationsImpl(NamedParameterJdbcOperations jdbcOperations) {
+        this.jdbcOperations = jdbcOperations;
+    }
+
+    @Override
+    public int insertAll(List<ProviderApiUsage> usages) {
+        if (usages == null || usages.isEmpty()) {
+            return 0;
+        }
+
+        int inserted = 0;
+        for (int from = 0; from < usages.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<ProviderApiUsage> chunk = usages.subList(from, Math.min(usages.size(), from + MAX_ROWS_PER_STATEMENT));
+            inserted += insertChunk(chunk);
+        }
+        return inserted;
+    }
+
+    private int insertChunk(List<ProviderApiUsage> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        for (int i = 0; i < chunk.size(); i++) {
+            ProviderApiUsage usage = chunk.get(i);
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:provider").append(i)
+                .append(", :query").append(i)
+                .append(", :resultCount").append(i)
+                .append(", :success").append(i)
+                .append(", :errorType").append(i)
+                .append(", :executedAt").append(i)
+                .append(", :responseTimeMs").append(i)
+                .append(", :cacheHit").append(i)
+                .append(')');
+
+            params.addValue("provider" + i, usage.getProvider())
+                .addValue("query" + i, usage.getQuery())
+                .addValue("resultCount" + i, usage.getResultCount() != null ? usage.getResultCount() : 0)
+                .addValue("success" + i, Boolean.TRUE.equals(usage.getSuccess()))
+                .addValue("errorType" + i, usage.getErrorType())
+                .addValue("executedAt" + i, toTimestamp(usage.getExecutedAt()))
+                .addValue("responseTimeMs" + i, usage.getResponseTimeMs() != null ? usage.getResponseTimeMs() : 0)
+                .addValue("cacheHit" + i, Boolean.TRUE.equals(usage.getCacheHit()));
+        }
+        return jdbcOperations.update(sql.toString(), params);
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return Timestamp.valueOf(value != null ? value : LocalDateTime.now());
+    }
+}
@@ -15,33 +15,39 @@ import java.util.List;
  * Supports:
  * - Recording each API call with query, result count, success/error
  * - Counting usage per provider (for rate limiting verification)
+ * - Recording search response cache hits (cache_hit rows, excluded from usage counts)
  * - Calculating usage statistics (success rate, average response time)
+ * - Writing buffered usage rows in bulk ({@link ProviderApiUsageBatchOperations})
+ * - Leasing daily quota from the cluster-wide ledger ({@link ProviderQuotaOperations})
  */
 @Repository
-public interface ProviderApiUsageRepository extends CrudRepository<ProviderApiUsage, Long> {
+public interface ProviderApiUsageRepository extends CrudRepository<ProviderApiUsage, Long>,
+        ProviderApiUsageBatchOperations, ProviderQuotaOperations {
 
     /**
      * Count API usage for a provider since a given timestamp.
-     * Used for rate limiting verification.
+     * Used for rate limiting verification; cache hits are not counted.
      *
      * @param provider Provider name (e.g., "BRAVE", "SERPER")
      * @param since Start timestamp
      * @return Number of API calls since timestamp
      */
-    @Query("SELECT COUNT(*) FROM provider_api_usage WHERE provider = :provider AND executed_at >= :since")
+    @Query("SELECT COUNT(*) FROM provider_api_usage WHERE provider = :provider AND cache_hit = FALSE AND executed_at >= :since")
     int countUsageSince(@Param("provider") String provider, @Param("since") LocalDateTime since);
 
     /**
      * Get usage statistics per provider since a given timestamp.
+     * Call counts and response times cover provider calls only; cache hits are counted separately.
      *
      * @param since Start timestamp
      * @return List of usage statistics per provider
      */
     @Query("""
             SELECT provider,
-                   COUNT(*) as total_calls,
-                   SUM(CASE WHEN success = true THEN 1 ELSE 0 END) as successful_calls,
-                   AVG(response_time_ms) as avg_response_time
+                   SUM(CASE WHEN cache_hit = false THEN 1 ELSE 0 END) as total_calls,
+                   SUM(CASE WHEN cache_hit = false AND success = true THEN 1 ELSE 0 END) as successful_calls,
+                   AVG(CASE WHEN cache_hit = false THEN response_time_ms END) as avg_response_time,
+                   SUM(CASE WHEN cache_hit = true THEN 1 ELSE 0 END) as cache_hits
             FROM provider_api_usage
             WHERE executed_at >= :since
             GROUP BY provider
@@ -66,5 +72,6 @@ public interface ProviderApiUsageRepository extends CrudRepository<ProviderApiUs
         Long getTotalCalls();
         Long getSuccessfulCalls();
         Double getAvgResponseTime();
+        Long getCacheHits();
     }
 }
@@ -0,0 +1,45 @@
+package com.northstar.funding.persistence.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Cluster-wide provider quota ledger operations
+ *
+ * Custom Spring Data JDBC fragment mixed into {@link ProviderApiUsageRepository}.
+ * Every crawler node leases daily quota from the provider_quota_ledger table in
+ * blocks, so the quota is shared across nodes and restarts without a database
+ * round trip per API call.
+ */
+public interface ProviderQuotaOperations {
+
+    /**
+     * Atomically lease up to blockSize units of a provider's daily quota.
+     * Creates the day's ledger row on first use. Concurrent leases from any
+     * number of nodes never hand out more than dailyLimit units in total.
+     *
+     * @param provider provider name (SearchEngineType enum name)
+     * @param quotaDate quota day
+     * @param dailyLimit daily quota
+     * @param blockSize units requested
+     * @return units granted, 0 when the day's quota is exhausted
+     */
+    int leaseQuota(String provider, LocalDate quotaDate, int dailyLimit, int blockSize);
+
+    /**
+     * Raise the day's leased count to at least the calls recorded in provider_api_usage.
+     * Calls rejected before reaching the provider (RATE_LIMIT, AUTH_FAILURE) are not counted.
+     *
+     * @param provider provider name (SearchEngineType enum name)
+     * @param quotaDate quota day
+     * @param dailyLimit daily quota
+     * @return leased units after reconciliation
+     */
+    int reconcileQuota(String provider, LocalDate quotaDate, int dailyLimit);
+
+    /**
+     * @param provider provider name (SearchEngineType enum name)
+     * @param quotaDate quota day
+     * @return units leased so far that day, 0 if none
+     */
+    int leasedQuota(String provider, LocalDate quotaDate);
+}
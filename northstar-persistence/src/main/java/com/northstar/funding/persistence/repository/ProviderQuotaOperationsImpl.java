@@ -0,0 +1,106 @@
+package com.northstar.funding.persistence.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+/**
+ * JDBC implementation of {@link ProviderQuotaOperations}.
+ *
+ * The lease locks the day's row (FOR UPDATE in the CTE) and returns the
+ * difference between the new and old leased count, so concurrent nodes
+ * serialize on the row and each sees exactly what it was granted.
+ */
+class ProviderQuotaOperationsImpl implements ProviderQuotaOperations {
+
+    private static final String ENSURE_ROW_SQL = """
+        INSERT INTO provider_quota_ledger (provider, quota_date, daily_limit, leased)
+        VALUES (:provider, :quotaDate, :dailyLimit, 0)
+        ON CONFLICT (provider, quota_date) DO NOTHING
+    """;
+
+    private static final String LEASE_SQL = """
+        WITH current AS (
+            SELECT provider, quota_date, leased
+            FROM provider_quota_ledger
+            WHERE provider = :provider AND quota_date = :quotaDate
+            FOR UPDATE
+        )
+        UPDATE provider_quota_ledger l
+        SET leased = GREATEST(current.leased, LEAST(:dailyLimit, current.leased + :blockSize)),
+            daily_limit = :dailyLimit,
+            updated_at = NOW()
+        FROM current
+        WHERE l.provider = current.provider AND l.quota_date = current.quota_date
+        RETURNING l.leased - current.leased AS granted
+    """;
+
+    private static final String RECONCILE_SQL = """
+        INSERT INTO provider_quota_ledger (provider, quota_date, daily_limit, leased, reconciled_at, updated_at)
+        SELECT :provider, :quotaDate, :dailyLimit, COUNT(*), NOW(), NOW()
+        FROM provider_api_usage
+        WHERE provider = :provider
+          AND executed_at >= :dayStart AND executed_at < :dayEnd
+          AND cache_hit = FALSE
+          AND (error_type IS NULL OR error_type NOT IN ('RATE_LIMIT', 'AUTH_FAILURE'))
+        ON CONFLICT (provider, quota_date) DO UPDATE
+        SET leased = GREATEST(provider_quota_ledger.leased, EXCLUDED.leased),
+            daily_limit = EXCLUDED.daily_limit,
+            reconciled_at = NOW(),
+            updated_at = NOW()
+        RETURNING leased
+    """;
+
+    private static final String LEASED_SQL = """
+        SELECT leased FROM provider_quota_ledger
+        WHERE provider = :provider AND quota_date = :quotaDate
+    """;
+
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    ProviderQuotaOperationsImpl(NamedParameterJdbcOperations jdbcOperations) {
+        this.jdbcOperations = jdbcOperations;
+    }
+
+    @Override
+    public int leaseQuota(String provider, LocalDate quotaDate, int dailyLimit, int blockSize) {
+        if (blockSize <= 0) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = params(provider, quotaDate)
+            .addValue("dailyLimit", dailyLimit)
+            .addValue("blockSize", blockSize);
+
+        jdbcOperations.update(ENSURE_ROW_SQL, params);
+        List<Integer> granted = jdbcOperations.queryForList(LEASE_SQL, params, Integer.class);
+        return granted.isEmpty() ? 0 : Math.max(0, granted.get(0));
+    }
+
+    @Override
+    public int reconcileQuota(String provider, LocalDate quotaDate, int dailyLimit) {
+        MapSqlParameterSource params = params(provider, quotaDate)
+            .addValue("dailyLimit", dailyLimit)
+            .addValue("dayStart", Timestamp.valueOf(quotaDate.atStartOfDay()))
+            .addValue("dayEnd", Timestamp.valueOf(quotaDate.plusDays(1).atStartOfDay()));
+
+        Integer leased = jdbcOperations.queryForObject(RECONCILE_SQL, params, Integer.class);
+        return leased != null ? leased : 0;
+    }
+
+    @Override
+    public int leasedQuota(String provider, LocalDate quotaDate) {
+        List<Integer> leased = jdbcOperations.queryForList(LEASED_SQL, params(provider, quotaDate), Integer.class);
+        return leased.isEmpty() ? 0 : leased.get(0);
+    }
+
+    private static MapSqlParameterSource params(String provider, LocalDate quotaDate) {
+        return new MapSqlParameterSource()
+            .addValue("provider", provider)
+            .addValue("quotaDate", Date.valueOf(quotaDate));
+    }
+}
@@ -40,6 +40,36 @@ public interface SearchQueryRepository extends CrudRepository<SearchQuery, Long>
         """)
     List<SearchQuery> findByGenerationDate(@Param("generationDate") LocalDate generationDate);
 
+    /**
+     * Find recent AI-generated queries for an exact engine and tag set, newest first.
+     *
+     * <p>Used as the persistent tier of the query cache: rows must target the engine and
+     * carry exactly the given tags (no more, no fewer), so a cached set for one category
+     * is never served for a request covering several.
+     *
+     * @param engine search engine name (e.g. BRAVE)
+     * @param tags comma-separated tags (e.g. CATEGORY:PROGRAM_GRANTS,GEOGRAPHY:BULGARIA)
+     * @param since earliest generation date to consider
+     * @param limit maximum rows to return
+     * @return matching queries, newest first
+     */
+    @Query("""
+        SELECT * FROM search_queries
+        WHERE generation_method = 'AI_GENERATED'
+          AND enabled = TRUE
+          AND :engine = ANY(target_engines)
+          AND tags @> string_to_array(:tags, ',')
+          AND cardinality(tags) = cardinality(string_to_array(:tags, ','))
+          AND generation_date >= :since
+        ORDER BY id DESC
+        LIMIT :limit
+        """)
+    List<SearchQuery> findRecentGenerated(
+        @Param("engine") String engine,
+        @Param("tags") String tags,
+        @Param("since") LocalDate since,
+        @Param("limit") int limit);
+
     /**
      * Find all enabled queries for a specific day of week.
      *
@@ -32,7 +32,7 @@ import com.northstar.funding.domain.SearchResult;
  * - Blacklist tracking
  */
 @Repository
-public interface SearchResultRepository extends CrudRepository<SearchResult, UUID> {
+public interface SearchResultRepository extends CrudRepository<SearchResult, UUID>, SeenResultOperations {
 
     /**
      * Find search result by deduplication key
@@ -0,0 +1,36 @@
+package com.northstar.funding.persistence.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Recently seen result queries
+ *
+ * Custom Spring Data JDBC fragment mixed into {@link SearchResultRepository}.
+ * Streams the (day, domain, URL) of every search result and candidate discovered
+ * since a given day, so the in-process seen index can be rebuilt after a restart.
+ */
+public interface SeenResultOperations {
+
+    /**
+     * Receives one seen row at a time.
+     */
+    @FunctionalInterface
+    interface SeenRowHandler {
+
+        /**
+         * @param day day the result was found
+         * @param domain domain name (may be null for candidates without a domain)
+         * @param url result URL
+         */
+        void accept(LocalDate day, String domain, String url);
+    }
+
+    /**
+     * Stream search_result rows (by search_date) and funding_source_candidate rows
+     * (by discovered_at) from {@code since} onwards, without materializing them.
+     *
+     * @param since first day to include
+     * @param handler called once per row
+     */
+    void streamSeenSince(LocalDate since, SeenRowHandler handler);
+}
@@ -0,0 +1,47 @@
+package com.northstar.funding.persistence.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+/**
+ * JDBC implementation of {@link SeenResultOperations}.
+ *
+ * Rows are handed to the callback as they are read; the window is bounded by
+ * the look-back days, and both sides use their existing date indexes.
+ */
+class SeenResultOperationsImpl implements SeenResultOperations {
+
+    private static final String SEEN_SINCE_SQL = """
+        SELECT search_date AS day, domain, url
+        FROM search_result
+        WHERE search_date >= :since
+        UNION ALL
+        SELECT CAST(c.discovered_at AS date) AS day, d.domain_name AS domain, c.source_url AS url
+        FROM funding_source_candidate c
+        LEFT JOIN domain d ON d.domain_id = c.domain_id
+        WHERE c.discovered_at >= CAST(:since AS timestamp)
+    """;
+
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    SeenResultOperationsImpl(NamedParameterJdbcOperations jdbcOperations) {
+        this.jdbcOperations = jdbcOperations;
+    }
+
+    @Override
+    public void streamSeenSince(LocalDate since, SeenRowHandler handler) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("since", Date.valueOf(since));
+
+        jdbcOperations.query(SEEN_SINCE_SQL, params, (RowCallbackHandler) rs -> {
+            Date day = rs.getDate("day");
+            if (day != null) {
+                handler.accept(day.toLocalDate(), rs.getString("domain"), rs.getString("url"));
+            }
+        });
+    }
+}
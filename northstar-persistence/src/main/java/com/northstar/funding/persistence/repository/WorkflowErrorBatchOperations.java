@@ -0,0 +1,23 @@
+package com.northstar.funding.persistence.repository;
+
+import java.util.List;
+
+import com.northstar.funding.domain.WorkflowError;
+
+/**
+ * Set-based WorkflowError operations
+ *
+ * Custom Spring Data JDBC fragment mixed into {@link WorkflowErrorRepository}.
+ * Writes a consumed batch of workflow errors with multi-row INSERT statements.
+ */
+public interface WorkflowErrorBatchOperations {
+
+    /**
+     * Insert all errors with multi-row INSERT statements of at most 500 rows each.
+     * Rows whose error_id is already stored are skipped. Generated IDs are not read back.
+     *
+     * @param errors new error rows (errorId required)
+     * @return number of rows inserted
+     */
+    int insertAll(List<WorkflowError> errors);
+}
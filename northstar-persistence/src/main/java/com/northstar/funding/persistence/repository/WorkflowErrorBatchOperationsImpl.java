@@ -0,0 +1,98 @@
+package com.northstar.funding.persistence.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+import com.northstar.funding.domain.ErrorClassification;
+import com.northstar.funding.domain.WorkflowError;
+
+/**
+ * JDBC implementation of {@link WorkflowErrorBatchOperations}.
+ *
+ * Same multi-row INSERT approach as {@link ProviderApiUsageBatchOperationsImpl};
+ * {@code ON CONFLICT (error_id) DO NOTHING} makes redelivered batches idempotent.
+ */
+class WorkflowErrorBatchOperationsImpl implements WorkflowErrorBatchOperations {
+
+    // 12 parameters per row; stays well below PostgreSQL's 32767 bind parameter limit
+    static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX = """
+        INSERT INTO workflow_error (
+            error_id, request_id, session_id, stage, error_type, error_message, stack_trace,
+            classification, retry_count, retry_scheduled, original_payload, occurred_at
+        ) VALUES
+        """;
+
+    private static final String INSERT_SUFFIX = " ON CONFLICT (error_id) DO NOTHING";
+
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    WorkflowErrorBatchOperationsImpl(NamedParameterJdbcOperations jdbcOperations) {
+        this.jdbcOperations = jdbcOperations;
+    }
+
+    @Override
+    public int insertAll(List<WorkflowError> errors) {
+        if (errors == null || errors.isEmpty()) {
+            return 0;
+        }
+
+        int inserted = 0;
+        for (int from = 0; from < errors.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<WorkflowError> chunk = errors.subList(from, Math.min(errors.size(), from + MAX_ROWS_PER_STATEMENT));
+            inserted += insertChunk(chunk);
+        }
+        return inserted;
+    }
+
+    private int insertChunk(List<WorkflowError> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        for (int i = 0; i < chunk.size(); i++) {
+            WorkflowError error = chunk.get(i);
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:errorId").append(i)
+                .append(", :requestId").append(i)
+                .append(", :sessionId").append(i)
+                .append(", :stage").append(i)
+                .append(", :errorType").append(i)
+                .append(", :errorMessage").append(i)
+                .append(", :stackTrace").append(i)
+                .append(", :classification").append(i)
+                .append(", :retryCount").append(i)
+                .append(", :retryScheduled").append(i)
+                .append(", :originalPayload").append(i)
+                .append(", :occurredAt").append(i)
+                .append(')');
+
+            ErrorClassification classification = error.getClassification() != null
+                ? error.getClassification()
+                : ErrorClassification.PERMANENT;
+            params.addValue("errorId" + i, error.getErrorId())
+                .addValue("requestId" + i, error.getRequestId())
+                .addValue("sessionId" + i, error.getSessionId())
+                .addValue("stage" + i, error.getStage())
+                .addValue("errorType" + i, error.getErrorType())
+                .addValue("errorMessage" + i, error.getErrorMessage())
+                .addValue("stackTrace" + i, error.getStackTrace())
+                .addValue("classification" + i, classification.name())
+                .addValue("retryCount" + i, error.getRetryCount() != null ? error.getRetryCount() : 0)
+                .addValue("retryScheduled" + i, Boolean.TRUE.equals(error.getRetryScheduled()))
+                .addValue("originalPayload" + i, error.getOriginalPayload())
+                .addValue("occurredAt" + i, toTimestamp(error.getOccurredAt()));
+        }
+        sql.append(INSERT_SUFFIX);
+        return jdbcOperations.update(sql.toString(), params);
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return Timestamp.valueOf(value != null ? value : LocalDateTime.now());
+    }
+}
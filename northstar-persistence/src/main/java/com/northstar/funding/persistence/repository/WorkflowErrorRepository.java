@@ -0,0 +1,30 @@
+package com.northstar.funding.persistence.repository;
+
+import com.northstar.funding.domain.WorkflowError;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for the workflow error dead-letter store.
+ *
+ * Supports:
+ * - Writing a consumed batch of errors in bulk ({@link WorkflowErrorBatchOperations})
+ * - Looking up the errors of a discovery session
+ */
+@Repository
+public interface WorkflowErrorRepository extends CrudRepository<WorkflowError, Long>, WorkflowErrorBatchOperations {
+
+    /**
+     * Errors of a discovery session, newest first.
+     *
+     * @param sessionId Discovery session ID
+     * @return Errors recorded for the session
+     */
+    @Query("SELECT * FROM workflow_error WHERE session_id = :sessionId ORDER BY occurred_at DESC")
+    List<WorkflowError> findBySessionId(@Param("sessionId") UUID sessionId);
+}
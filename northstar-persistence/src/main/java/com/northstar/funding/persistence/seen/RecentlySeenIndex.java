@@ -0,0 +1,291 @@
+package com.northstar.funding.persistence.seen;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.northstar.funding.persistence.blacklist.BloomFilter;
+import com.northstar.funding.persistence.repository.SearchResultRepository;
+
+import io.vavr.control.Try;
+
+/**
+ * Cross-session "seen recently" index over normalized URLs and domains.
+ *
+ * One pair of Bloom filters (URLs, domains) per day, kept for the longest
+ * look-back window and dropped as days roll out of it. A result is seen
+ * recently if its URL is in any filter of the last {@code url-lookback-days}
+ * days, or its domain in any filter of the last {@code domain-lookback-days}
+ * days (0 disables a check; today always counts as day 0).
+ *
+ * Lifecycle:
+ * - Loaded at startup from search_result and funding_source_candidate rows in
+ *   the window, so the index survives restarts without storing its own state
+ * - Updated by the search result processor as candidates are created
+ *
+ * Answers are probabilistic: no false negatives, and false positives (a new
+ * result reported as seen) at about {@code false-positive-rate} per lookup.
+ * Each day's filter grows by another filter once it passes its expected size,
+ * so a busy day raises memory use rather than the false positive rate.
+ */
+@Component
+public class RecentlySeenIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(RecentlySeenIndex.class);
+
+    private final SearchResultRepository searchResultRepository;
+    private final int urlLookbackDays;
+    private final int domainLookbackDays;
+    private final int expectedPerDay;
+    private final double falsePositiveRate;
+    private final Clock clock;
+
+    private final ConcurrentSkipListMap<LocalDate, DayFilters> days = new ConcurrentSkipListMap<>();
+    private volatile boolean loaded;
+
+    @Autowired
+    public RecentlySeenIndex(
+            SearchResultRepository searchResultRepository,
+            @Value("${northstar.dedup.seen-index.url-lookback-days:14}") int urlLookbackDays,
+            @Value("${northstar.dedup.seen-index.domain-lookback-days:1}") int domainLookbackDays,
+            @Value("${northstar.dedup.seen-index.expected-per-day:50000}") int expectedPerDay,
+            @Value("${northstar.dedup.seen-index.false-positive-rate:0.001}") double falsePositiveRate) {
+        this(searchResultRepository, urlLookbackDays, domainLookbackDays, expectedPerDay, falsePositiveRate,
+            Clock.systemDefaultZone());
+    }
+
+    RecentlySeenIndex(SearchResultRepository searchResultRepository, int urlLookbackDays, int domainLookbackDays,
+                      int expectedPerDay, double falsePositiveRate, Clock clock) {
+        this.searchResultRepository = searchResultRepository;
+        this.urlLookbackDays = Math.max(0, urlLookbackDays);
+        this.domainLookbackDays = Math.max(0, domainLookbackDays);
+        this.expectedPerDay = Math.max(1, expectedPerDay);
+        this.falsePositiveRate = falsePositiveRate;
+        this.clock = clock;
+    }
+
+    /**
+     * Load the index once the application is ready.
+     * A failure leaves the index with only what is recorded from now on.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Try.run(this::reload)
+            .onFailure(e -> log.warn("Recently seen index not loaded, starting empty: {}", e.getMessage()));
+    }
+
+    /**
+     * Rebuild the index from the database rows inside the look-back window.
+     */
+    public synchronized void reload() {
+        LocalDate since = today().minusDays(retentionDays());
+        ConcurrentSkipListMap<LocalDate, DayFilters> rebuilt = new ConcurrentSkipListMap<>();
+        int[] rows = {0};
+
+        searchResultRepository.streamSeenSince(since, (day, domain, url) -> {
+            rebuilt.computeIfAbsent(day, d -> new DayFilters()).put(normalizeDomain(domain), normalizeUrl(url));
+            rows[0]++;
+        });
+
+        // Keep anything recorded while the rebuild was running
+        days.forEach((day, filters) -> rebuilt.merge(day, filters, DayFilters::union));
+        days.clear();
+        days.putAll(rebuilt);
+        loaded = true;
+        log.info("Recently seen index loaded: {} rows over {} days", rows[0], rebuilt.size());
+    }
+
+    /**
+     * Whether the index has been loaded from the database.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Check a result against the look-back windows.
+     *
+     * @param domainName extracted domain name
+     * @param url result URL
+     * @return true if the URL or the domain was probably seen within its window
+     */
+    public boolean isRecentlySeen(String domainName, String url) {
+        return seenUrl(url) || seenDomain(domainName);
+    }
+
+    /**
+     * @return true if the normalized URL was probably seen within the URL window
+     */
+    public boolean seenUrl(String url) {
+        String key = normalizeUrl(url);
+        if (key == null || urlLookbackDays == 0) {
+            return false;
+        }
+        return window(urlLookbackDays).values().stream().anyMatch(day -> day.urls.mightContain(key));
+    }
+
+    /**
+     * @return true if the domain was probably seen within the domain window
+     */
+    public boolean seenDomain(String domainName) {
+        String key = normalizeDomain(domainName);
+        if (key == null || domainLookbackDays == 0) {
+            return false;
+        }
+        return window(domainLookbackDays).values().stream().anyMatch(day -> day.domains.mightContain(key));
+    }
+
+    /**
+     * Record a processed result under today's filters.
+     *
+     * @param domainName extracted domain name
+     * @param url result URL
+     */
+    public void record(String domainName, String url) {
+        LocalDate today = today();
+        days.computeIfAbsent(today, d -> new DayFilters()).put(normalizeDomain(domainName), normalizeUrl(url));
+        days.headMap(today.minusDays(retentionDays())).clear();
+    }
+
+    /**
+     * Normalize a URL for dedup: lower-case scheme and host, no default port,
+     * no fragment, no utm_* tracking parameters, no trailing slash.
+     *
+     * @return normalized URL, or null if blank or unparseable
+     */
+    public static String normalizeUrl(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        URI uri;
+        try {
+            uri = URI.create(url.trim());
+        } catch (IllegalArgumentException e) {
+            return url.trim().toLowerCase(Locale.ROOT);
+        }
+        if (uri.getHost() == null) {
+            return url.trim().toLowerCase(Locale.ROOT);
+        }
+
+        String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : "http";
+        StringBuilder normalized = new StringBuilder(scheme).append("://")
+            .append(uri.getHost().toLowerCase(Locale.ROOT));
+        int port = uri.getPort();
+        if (port != -1 && !(port == 80 && scheme.equals("http")) && !(port == 443 && scheme.equals("https"))) {
+            normalized.append(':').append(port);
+        }
+
+        String path = uri.getRawPath();
+        if (path != null) {
+            while (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            normalized.append(path);
+        }
+
+        String query = uri.getRawQuery();
+        if (query != null) {
+            String kept = String.join("&", List.of(query.split("&")).stream()
+                .filter(param -> !param.isEmpty() && !param.toLowerCase(Locale.ROOT).startsWith("utm_"))
+                .toList());
+            if (!kept.isEmpty()) {
+                normalized.append('?').append(kept);
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * @return lower-cased domain without a leading "www.", or null if blank
+     */
+    public static String normalizeDomain(String domainName) {
+        if (domainName == null || domainName.isBlank()) {
+            return null;
+        }
+        String name = domainName.trim().toLowerCase(Locale.ROOT);
+        return name.startsWith("www.") ? name.substring(4) : name;
+    }
+
+    private Map<LocalDate, DayFilters> window(int lookbackDays) {
+        return days.tailMap(today().minusDays(lookbackDays), true);
+    }
+
+    private int retentionDays() {
+        return Math.max(urlLookbackDays, domainLookbackDays);
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    /**
+     * URL and domain filters for one day. Adds another filter pair each time the
+     * expected size is reached.
+     */
+    private final class DayFilters {
+
+        private final Layered urls = new Layered();
+        private final Layered domains = new Layered();
+
+        void put(String domain, String url) {
+            if (domain != null) {
+                domains.put(domain);
+            }
+            if (url != null) {
+                urls.put(url);
+            }
+        }
+
+        DayFilters union(DayFilters other) {
+            urls.layers.addAll(other.urls.layers);
+            urls.count.addAndGet(other.urls.count.get());
+            domains.layers.addAll(other.domains.layers);
+            domains.count.addAndGet(other.domains.count.get());
+            return this;
+        }
+    }
+
+    private final class Layered {
+
+        private final List<BloomFilter> layers =
+            new CopyOnWriteArrayList<>(List.of(new BloomFilter(expectedPerDay, falsePositiveRate)));
+        private final AtomicInteger count = new AtomicInteger();
+
+        void put(String value) {
+            if (mightContain(value)) {
+                return;
+            }
+            if (count.incrementAndGet() > (long) layers.size() * expectedPerDay) {
+                synchronized (this) {
+                    if (count.get() > (long) layers.size() * expectedPerDay) {
+                        layers.add(new BloomFilter(expectedPerDay, falsePositiveRate));
+                    }
+                }
+            }
+            layers.get(layers.size() - 1).put(value);
+        }
+
+        boolean mightContain(String value) {
+            for (BloomFilter layer : layers) {
+                if (layer.mightContain(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.northstar.funding.persistence.service;
+
+import com.northstar.funding.domain.ProviderApiUsage;
+import com.northstar.funding.persistence.repository.ProviderApiUsageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffers provider API usage rows and writes them in bulk.
+ *
+ * Search threads hand rows to a bounded ring buffer without blocking. One background
+ * flusher drains it with multi-row INSERTs every flushIntervalMs or every batchSize
+ * rows, whichever comes first, so tracking costs one connection checkout per batch
+ * instead of one per search call.
+ *
+ * Backpressure: when the buffer is full new rows are dropped (usage tracking must never
+ * slow down searches) and counted; offers above the high watermark are counted as well
+ * so a writer falling behind is visible before rows are lost. A failed flush drops its
+ * batch and counts the rows.
+ *
+ * Lifecycle: started with the application context; stopping it (graceful shutdown)
+ * waits for the flusher and writes whatever is still buffered.
+ */
+@Component
+@Slf4j
+public class ApiUsageBatchWriter implements SmartLifecycle {
+
+    private static final long JOIN_TIMEOUT_MS = 5_000;
+
+    private final ProviderApiUsageRepository providerApiUsageRepository;
+    private final BlockingQueue<ProviderApiUsage> buffer;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final int highWatermark;
+
+    private final LongAdder acceptedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder backpressureCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder flushCount = new LongAdder();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ApiUsageBatchWriter(
+            ProviderApiUsageRepository providerApiUsageRepository,
+            @Value("${api-usage.writer.capacity:10000}") int capacity,
+            @Value("${api-usage.writer.batch-size:200}") int batchSize,
+            @Value("${api-usage.writer.flush-interval-ms:1000}") long flushIntervalMs
+    ) {
+        this.providerApiUsageRepository = providerApiUsageRepository;
+        this.capacity = Math.max(1, capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(1, flushIntervalMs);
+        this.highWatermark = Math.max(1, this.capacity * 3 / 4);
+        this.buffer = new ArrayBlockingQueue<>(this.capacity);
+    }
+
+    /**
+     * Buffer a usage row for the next flush. Never blocks.
+     *
+     * @param usage Usage row
+     * @return false if the buffer was full and the row was dropped
+     */
+    public boolean offer(ProviderApiUsage usage) {
+        if (!buffer.offer(usage)) {
+            droppedCount.increment();
+            return false;
+        }
+        acceptedCount.increment();
+        if (buffer.size() >= highWatermark) {
+            backpressureCount.increment();
+        }
+        return true;
+    }
+
+    /**
+     * Write everything currently buffered on the calling thread.
+     *
+     * @return number of rows written
+     */
+    public int flush() {
+        int written = 0;
+        List<ProviderApiUsage> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            written += write(batch);
+            batch.clear();
+        }
+        return written;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlusher, "api-usage-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("ApiUsageBatchWriter started - capacity={}, batchSize={}, flushInterval={}ms",
+                capacity, batchSize, flushIntervalMs);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = flusher;
+        if (thread != null) {
+            thread.interrupt(); // wake the flusher from poll; it writes its current batch and exits
+            try {
+                thread.join(JOIN_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        int written = flush();
+        log.info("ApiUsageBatchWriter stopped - flushed {} buffered rows, dropped {} rows in total",
+                written, droppedCount.sum());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return buffer and writer counters
+     */
+    public WriterStatistics getStatistics() {
+        return new WriterStatistics(
+                buffer.size(),
+                capacity,
+                acceptedCount.sum(),
+                droppedCount.sum(),
+                backpressureCount.sum(),
+                writtenCount.sum(),
+                failedCount.sum(),
+                flushCount.sum()
+        );
+    }
+
+    /**
+     * Flusher loop: wait up to flushIntervalMs for a first row, then keep collecting
+     * until the batch is full or flushIntervalMs has passed since that row arrived.
+     */
+    private void runFlusher() {
+        List<ProviderApiUsage> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                ProviderApiUsage first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize && running) {
+                    if (buffer.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    ProviderApiUsage next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                // stop() woke us: write what was collected (flag now clear, so JDBC is unaffected) and exit
+                write(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private int write(List<ProviderApiUsage> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            int written = providerApiUsageRepository.insertAll(batch);
+            writtenCount.add(written);
+            flushCount.increment();
+            log.debug("Flushed {} API usage rows", written);
+            return written;
+        } catch (Exception e) {
+            // Don't let tracking failures break the search flow
+            failedCount.add(batch.size());
+            log.warn("Failed to write {} API usage rows: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Writer counters.
+     *
+     * @param buffered Rows currently waiting in the buffer
+     * @param capacity Buffer capacity
+     * @param accepted Rows accepted into the buffer
+     * @param dropped Rows rejected because the buffer was full
+     * @param backpressure Rows accepted while the buffer was above 75% full
+     * @param written Rows written to provider_api_usage
+     * @param failed Rows lost in failed flushes
+     * @param flushes Successful multi-row inserts
+     */
+    public record WriterStatistics(
+            int buffered,
+            int capacity,
+            long accepted,
+            long dropped,
+            long backpressure,
+            long written,
+            long failed,
+            long flushes
+    ) {
+    }
+}
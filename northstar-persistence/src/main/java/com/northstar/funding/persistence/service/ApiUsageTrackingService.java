@@ -6,8 +6,8 @@ import com.northstar.funding.domain.SearchResult;
 import com.northstar.funding.persistence.repository.ProviderApiUsageRepository;
 import io.vavr.control.Try;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -16,8 +16,12 @@ import java.util.List;
 /**
  * Service for tracking search provider API usage.
  *
- * Records each API call asynchronously to avoid blocking search threads.
- * Provides usage statistics for monitoring and rate limit verification.
+ * Hands each API call to {@link ApiUsageBatchWriter}, which buffers rows in memory
+ * and writes them in bulk, so tracking never blocks search threads or takes a
+ * connection per call. Provides usage statistics for monitoring and rate limit verification.
+ *
+ * Search response cache hits are tracked as rows with {@code cache_hit = true}: they are
+ * reported per provider but excluded from usage counts and quota reconciliation.
  */
 @Service
 @Transactional
@@ -25,20 +29,24 @@ import java.util.List;
 public class ApiUsageTrackingService {
 
     private final ProviderApiUsageRepository providerApiUsageRepository;
+    private final ApiUsageBatchWriter apiUsageBatchWriter;
 
-    public ApiUsageTrackingService(ProviderApiUsageRepository providerApiUsageRepository) {
+    public ApiUsageTrackingService(ProviderApiUsageRepository providerApiUsageRepository,
+                                   ApiUsageBatchWriter apiUsageBatchWriter) {
         this.providerApiUsageRepository = providerApiUsageRepository;
+        this.apiUsageBatchWriter = apiUsageBatchWriter;
     }
 
     /**
-     * Track API usage asynchronously (non-blocking).
+     * Track API usage (non-blocking, buffered).
+     * The row is written by the next batch flush; it is dropped if the buffer is full.
      *
      * @param provider Search engine type
      * @param query Search query
      * @param result Try containing search results (success or failure)
      * @param responseTimeMs Response time in milliseconds
      */
-    @Async("filterExecutor")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void trackUsage(
             SearchEngineType provider,
             String query,
@@ -56,10 +64,12 @@ public class ApiUsageTrackingService {
                     .responseTimeMs((int) responseTimeMs)
                     .build();
 
-            providerApiUsageRepository.save(usage);
-
-            log.debug("Tracked API usage: provider={}, query={}, success={}, responseTime={}ms",
-                    provider, query, result.isSuccess(), responseTimeMs);
+            if (apiUsageBatchWriter.offer(usage)) {
+                log.debug("Tracked API usage: provider={}, query={}, success={}, responseTime={}ms",
+                        provider, query, result.isSuccess(), responseTimeMs);
+            } else {
+                log.debug("API usage buffer full, dropped usage row for provider {}", provider);
+            }
 
         } catch (Exception e) {
             // Don't let tracking failures break the search flow
@@ -67,6 +77,49 @@ public class ApiUsageTrackingService {
         }
     }
 
+    /**
+     * Track a search answered from the response cache (non-blocking, buffered).
+     * The provider wasn't called, so the row doesn't count against its quota.
+     *
+     * @param provider Search engine type
+     * @param query Search query
+     * @param resultCount Number of cached results returned
+     * @param lookupTimeMs Cache lookup time in milliseconds
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void trackCacheHit(SearchEngineType provider, String query, int resultCount, long lookupTimeMs) {
+        try {
+            ProviderApiUsage usage = ProviderApiUsage.builder()
+                    .provider(provider.name())
+                    .query(query)
+                    .resultCount(resultCount)
+                    .success(true)
+                    .executedAt(LocalDateTime.now())
+                    .responseTimeMs((int) lookupTimeMs)
+                    .cacheHit(true)
+                    .build();
+
+            if (apiUsageBatchWriter.offer(usage)) {
+                log.debug("Tracked cache hit: provider={}, query={}, results={}", provider, query, resultCount);
+            } else {
+                log.debug("API usage buffer full, dropped cache hit row for provider {}", provider);
+            }
+
+        } catch (Exception e) {
+            log.warn("Failed to track cache hit for provider {}: {}", provider, e.getMessage());
+        }
+    }
+
+    /**
+     * Get usage buffer and batch writer counters (buffered, dropped, backpressure, written).
+     *
+     * @return Writer statistics
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ApiUsageBatchWriter.WriterStatistics getWriterStatistics() {
+        return apiUsageBatchWriter.getStatistics();
+    }
+
     /**
      * Get daily usage count for a provider (last 24 hours).
      *
@@ -1,17 +1,25 @@
 package com.northstar.funding.persistence.service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.northstar.funding.domain.Domain;
 import com.northstar.funding.domain.DomainStatus;
+import com.northstar.funding.persistence.blacklist.DomainBlacklistChangedEvent;
+import com.northstar.funding.persistence.blacklist.DomainBlacklistIndex;
 import com.northstar.funding.persistence.repository.DomainRepository;
 
 import io.vavr.control.Try;
@@ -27,14 +35,22 @@ import io.vavr.control.Try;
  */
 @Service
 @Transactional
-public class DomainService {
+public class DomainService implements ApplicationEventPublisherAware {
 
     private static final Logger log = LoggerFactory.getLogger(DomainService.class);
 
     private final DomainRepository domainRepository;
+    private final DomainBlacklistIndex blacklistIndex;
+    private ApplicationEventPublisher eventPublisher;
 
-    public DomainService(DomainRepository domainRepository) {
+    public DomainService(DomainRepository domainRepository, DomainBlacklistIndex blacklistIndex) {
         this.domainRepository = domainRepository;
+        this.blacklistIndex = blacklistIndex;
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
     // ============================================================================
@@ -76,10 +92,17 @@ public class DomainService {
         Domain domain = domainRepository.findById(domainId)
             .orElseThrow(() -> new IllegalArgumentException("Domain not found: " + domainId));
 
+        boolean wasBlacklisted = domain.getStatus() == DomainStatus.BLACKLISTED;
         domain.setStatus(status);
         domain.setLastProcessedAt(LocalDateTime.now());
 
-        return domainRepository.save(domain);
+        Domain saved = domainRepository.save(domain);
+        if (status == DomainStatus.BLACKLISTED) {
+            afterCommit(() -> blacklistChanged(saved.getDomainName(), true));
+        } else if (wasBlacklisted) {
+            afterCommit(() -> blacklistChanged(saved.getDomainName(), false));
+        }
+        return saved;
     }
 
     /**
@@ -100,7 +123,9 @@ public class DomainService {
         domain.setBlacklistedBy(blacklistedBy);
         domain.setBlacklistReason(blacklistReason);
 
-        return domainRepository.save(domain);
+        Domain saved = domainRepository.save(domain);
+        afterCommit(() -> blacklistChanged(saved.getDomainName(), true));
+        return saved;
     }
 
     /**
@@ -285,12 +310,16 @@ public class DomainService {
 
     /**
      * Check if a domain is blacklisted.
+     * Answered in-process by DomainBlacklistIndex once loaded; PostgreSQL otherwise.
      *
      * @param domainName the domain name
      * @return true if domain is blacklisted, false otherwise (including if domain doesn't exist)
      */
     @Transactional(readOnly = true)
     public boolean isBlacklisted(String domainName) {
+        if (blacklistIndex.isLoaded()) {
+            return blacklistIndex.isBlacklisted(domainName);
+        }
         return domainRepository.findByDomainName(domainName)
             .map(domain -> domain.getStatus() == DomainStatus.BLACKLISTED)
             .orElse(false);
@@ -308,4 +337,50 @@ public class DomainService {
         return domainRepository.findByDomainName(domainName)
             .orElseGet(() -> registerDomain(domainName, sessionId));
     }
+
+    /**
+     * Register or get many domains in a single multi-row upsert.
+     * Set-based counterpart of {@link #registerOrGetDomain(String, UUID)} for batched
+     * search result processing.
+     *
+     * @param domainNames the domain names
+     * @param sessionId the discovery session ID (recorded on newly created domains)
+     * @return map of domain name to domain ID
+     */
+    public Map<String, UUID> registerOrGetDomains(Collection<String> domainNames, UUID sessionId) {
+        Map<String, UUID> domainIds = domainRepository.upsertDomains(domainNames, sessionId);
+        log.debug("Resolved {} domains in one upsert for session {}", domainIds.size(), sessionId);
+        return domainIds;
+    }
+
+    /**
+     * Update the in-process index and notify other projections (Valkey blacklist set).
+     */
+    private void blacklistChanged(String domainName, boolean blacklisted) {
+        if (blacklisted) {
+            blacklistIndex.add(domainName);
+        } else {
+            blacklistIndex.remove(domainName);
+        }
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new DomainBlacklistChangedEvent(domainName, blacklisted));
+        }
+    }
+
+    /**
+     * Apply blacklist index changes only once the surrounding transaction commits,
+     * so a rolled-back blacklist never leaks into the in-process index.
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 }
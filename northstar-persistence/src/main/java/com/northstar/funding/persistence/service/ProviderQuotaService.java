@@ -0,0 +1,73 @@
+package com.northstar.funding.persistence.service;
+
+import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.persistence.repository.ProviderApiUsageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Service for the cluster-wide provider quota ledger.
+ *
+ * Crawler nodes lease daily quota in blocks from the provider_quota_ledger table,
+ * so every node (and every restart) draws from one shared daily quota. Leasing is
+ * a single atomic UPDATE per block, not a round trip per API call.
+ */
+@Service
+@Transactional
+@Slf4j
+public class ProviderQuotaService {
+
+    private final ProviderApiUsageRepository providerApiUsageRepository;
+
+    public ProviderQuotaService(ProviderApiUsageRepository providerApiUsageRepository) {
+        this.providerApiUsageRepository = providerApiUsageRepository;
+    }
+
+    /**
+     * Lease up to blockSize units of the provider's quota for the given day.
+     *
+     * @param provider Search engine type
+     * @param quotaDate Quota day
+     * @param dailyLimit Daily API call limit
+     * @param blockSize Units requested
+     * @return Units granted, 0 when the day's quota is exhausted
+     */
+    public int lease(SearchEngineType provider, LocalDate quotaDate, int dailyLimit, int blockSize) {
+        int granted = providerApiUsageRepository.leaseQuota(provider.name(), quotaDate, dailyLimit, blockSize);
+        log.debug("Leased quota: provider={}, date={}, requested={}, granted={}",
+                provider, quotaDate, blockSize, granted);
+        return granted;
+    }
+
+    /**
+     * Reconcile today's ledger row with the calls recorded in provider_api_usage.
+     *
+     * Called at startup so usage recorded by nodes that stopped without persisting
+     * their leases (or before the ledger existed) still counts against the quota.
+     *
+     * @param provider Search engine type
+     * @param dailyLimit Daily API call limit
+     * @return Units leased today after reconciliation
+     */
+    public int reconcile(SearchEngineType provider, int dailyLimit) {
+        LocalDate today = LocalDate.now();
+        int leased = providerApiUsageRepository.reconcileQuota(provider.name(), today, dailyLimit);
+        log.info("Reconciled quota ledger: provider={}, date={}, leased={}/{}",
+                provider, today, leased, dailyLimit);
+        return leased;
+    }
+
+    /**
+     * Get units leased today across all nodes.
+     *
+     * @param provider Search engine type
+     * @return Units leased today, 0 if none
+     */
+    @Transactional(readOnly = true)
+    public int getLeasedToday(SearchEngineType provider) {
+        return providerApiUsageRepository.leasedQuota(provider.name(), LocalDate.now());
+    }
+}
@@ -0,0 +1,47 @@
+package com.northstar.funding.persistence.service;
+
+import com.northstar.funding.domain.WorkflowError;
+import com.northstar.funding.persistence.repository.WorkflowErrorRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service for the workflow error dead-letter store.
+ *
+ * Used by WorkflowErrorHandler to store each consumed batch of WorkflowErrorEvents
+ * with one multi-row insert.
+ */
+@Service
+@Transactional
+public class WorkflowErrorService {
+
+    private final WorkflowErrorRepository workflowErrorRepository;
+
+    public WorkflowErrorService(WorkflowErrorRepository workflowErrorRepository) {
+        this.workflowErrorRepository = workflowErrorRepository;
+    }
+
+    /**
+     * Store a batch of errors; errors already stored (same errorId) are skipped.
+     *
+     * @param errors Errors to store
+     * @return number of rows inserted
+     */
+    public int recordAll(List<WorkflowError> errors) {
+        return workflowErrorRepository.insertAll(errors);
+    }
+
+    /**
+     * Errors of a discovery session, newest first.
+     *
+     * @param sessionId Discovery session ID
+     * @return Errors recorded for the session
+     */
+    @Transactional(readOnly = true)
+    public List<WorkflowError> getSessionErrors(UUID sessionId) {
+        return workflowErrorRepository.findBySessionId(sessionId);
+    }
+}
@@ -0,0 +1,8 @@
+-- V21: Keyset pagination index for the admin review queue
+-- Supports seek pagination on (confidence_score, candidate_id):
+--   WHERE (confidence_score, candidate_id) < (:afterConfidence, :afterId)
+--   ORDER BY confidence_score DESC, candidate_id DESC
+-- B-tree indexes scan in either direction, so one index serves ASC and DESC.
+
+CREATE INDEX IF NOT EXISTS idx_candidate_confidence_keyset
+    ON funding_source_candidate(confidence_score, candidate_id);
@@ -0,0 +1,23 @@
+-- V22: Cluster-wide provider quota ledger
+--
+-- One row per provider per day. Crawler nodes lease quota in blocks with a single
+-- atomic UPDATE instead of counting calls in JVM memory, so N nodes (or restarts)
+-- share one daily quota instead of each getting a full one.
+--
+-- leased only ever grows within a day: unused units of a lease held by a node that
+-- stops are not returned, which errs on the side of staying under the quota.
+-- At startup, leased is raised to at least the calls recorded in provider_api_usage.
+
+CREATE TABLE provider_quota_ledger (
+    provider VARCHAR(50) NOT NULL,          -- SearchEngineType enum name
+    quota_date DATE NOT NULL,               -- Quota day (server local date)
+    daily_limit INT NOT NULL,               -- Limit in force when last leased
+    leased INT NOT NULL DEFAULT 0,          -- Units handed out to nodes today
+    reconciled_at TIMESTAMP,                -- Last reconciliation against provider_api_usage
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (provider, quota_date),
+    CONSTRAINT chk_quota_leased_non_negative CHECK (leased >= 0)
+);
+
+COMMENT ON TABLE provider_quota_ledger IS 'Daily provider quota leased to crawler nodes in blocks';
+COMMENT ON COLUMN provider_quota_ledger.leased IS 'Units leased today; never exceeds daily_limit through leasing';
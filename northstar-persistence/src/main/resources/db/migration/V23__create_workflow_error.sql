@@ -0,0 +1,33 @@
+-- V23: Dead-letter store for workflow errors
+--
+-- WorkflowErrorHandler writes every WorkflowErrorEvent from the workflow-errors topic
+-- here (multi-row INSERTs, one per consumed batch), together with its transient/permanent
+-- classification and whether a retry was scheduled on the search-requests-retry topic.
+--
+-- error_id is unique so a redelivered batch doesn't store its errors twice.
+
+CREATE TABLE workflow_error (
+    id BIGSERIAL PRIMARY KEY,
+    error_id UUID NOT NULL,
+    request_id UUID,
+    session_id UUID,
+    stage VARCHAR(50),
+    error_type VARCHAR(100),
+    error_message TEXT,
+    stack_trace TEXT,
+    classification VARCHAR(20) NOT NULL,   -- TRANSIENT, PERMANENT
+    retry_count INT NOT NULL DEFAULT 0,    -- Attempt that failed (0 = original request)
+    retry_scheduled BOOLEAN NOT NULL DEFAULT FALSE,
+    original_payload TEXT,                 -- SearchRequestEvent JSON, when retryable
+    occurred_at TIMESTAMP NOT NULL,
+    recorded_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT uq_workflow_error_error_id UNIQUE (error_id),
+    CONSTRAINT chk_workflow_error_classification CHECK (classification IN ('TRANSIENT', 'PERMANENT'))
+);
+
+CREATE INDEX idx_workflow_error_session ON workflow_error (session_id);
+CREATE INDEX idx_workflow_error_occurred_at ON workflow_error (occurred_at);
+CREATE INDEX idx_workflow_error_type_stage ON workflow_error (error_type, stage);
+
+COMMENT ON TABLE workflow_error IS 'Dead-letter store for workflow-errors events and their retry decisions';
+COMMENT ON COLUMN workflow_error.retry_scheduled IS 'TRUE if the original request was re-published to the delay topic';
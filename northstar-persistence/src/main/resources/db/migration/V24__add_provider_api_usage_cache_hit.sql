@@ -0,0 +1,10 @@
+-- V24: Record search response cache hits in provider_api_usage
+--
+-- The crawler answers repeated (provider, query) searches from ProviderResponseCache.
+-- Hits are tracked alongside real calls so hit/miss rates can be reported per provider,
+-- but they never reached the provider and must not count against its daily quota:
+-- countUsageSince and quota reconciliation only count rows with cache_hit = FALSE.
+
+ALTER TABLE provider_api_usage ADD COLUMN cache_hit BOOLEAN NOT NULL DEFAULT FALSE;
+
+COMMENT ON COLUMN provider_api_usage.cache_hit IS 'TRUE if served from the response cache without calling the provider';
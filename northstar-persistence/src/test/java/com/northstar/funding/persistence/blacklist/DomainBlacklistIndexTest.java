@@ -0,0 +1,99 @@
+package com.northstar.funding.persistence.blacklist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.northstar.funding.domain.Domain;
+import com.northstar.funding.domain.DomainStatus;
+import com.northstar.funding.persistence.repository.DomainRepository;
+
+/**
+ * Unit tests for DomainBlacklistIndex (Bloom filter + exact set).
+ */
+@ExtendWith(MockitoExtension.class)
+class DomainBlacklistIndexTest {
+
+    @Mock
+    private DomainRepository domainRepository;
+
+    private DomainBlacklistIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DomainBlacklistIndex(domainRepository);
+    }
+
+    @Test
+    void isLoaded_BeforeReload_ShouldBeFalse() {
+        assertThat(index.isLoaded()).isFalse();
+    }
+
+    @Test
+    void reload_ShouldIndexBlacklistedDomainsCaseInsensitively() {
+        // Given
+        when(domainRepository.findByStatus(DomainStatus.BLACKLISTED))
+            .thenReturn(List.of(domain("Spam.xyz"), domain("casino-grants.com")));
+
+        // When
+        index.reload();
+
+        // Then
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.isBlacklisted("spam.xyz")).isTrue();
+        assertThat(index.isBlacklisted("CASINO-GRANTS.COM")).isTrue();
+        assertThat(index.isBlacklisted("ec.europa.eu")).isFalse();
+        assertThat(index.isBlacklisted(null)).isFalse();
+    }
+
+    @Test
+    void addAndRemove_ShouldUpdateIncrementally() {
+        // Given
+        when(domainRepository.findByStatus(DomainStatus.BLACKLISTED)).thenReturn(List.of());
+        index.reload();
+
+        // When
+        index.add("newspam.org");
+
+        // Then
+        assertThat(index.isBlacklisted("newspam.org")).isTrue();
+
+        // When
+        index.remove("newspam.org");
+
+        // Then - Bloom bits remain but the exact set decides
+        assertThat(index.isBlacklisted("newspam.org")).isFalse();
+    }
+
+    @Test
+    void add_BeyondCapacity_ShouldGrowWithoutFalseNegatives() {
+        // Given
+        when(domainRepository.findByStatus(DomainStatus.BLACKLISTED)).thenReturn(List.of());
+        index.reload();
+        int count = DomainBlacklistIndex.DEFAULT_EXPECTED_DOMAINS + 500;
+
+        // When
+        IntStream.range(0, count).forEach(i -> index.add("spam" + i + ".com"));
+
+        // Then
+        assertThat(index.size()).isEqualTo(count);
+        assertThat(IntStream.range(0, count).allMatch(i -> index.isBlacklisted("spam" + i + ".com"))).isTrue();
+        assertThat(index.isBlacklisted("legit.org")).isFalse();
+    }
+
+    private Domain domain(String name) {
+        return Domain.builder()
+            .domainName(name)
+            .status(DomainStatus.BLACKLISTED)
+            .build();
+    }
+}
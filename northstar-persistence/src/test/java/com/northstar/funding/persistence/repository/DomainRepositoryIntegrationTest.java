@@ -1,6 +1,7 @@
 package com.northstar.funding.persistence.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -383,6 +384,25 @@ class DomainRepositoryIntegrationTest extends AbstractPersistenceIntegrationTest
         assertThat(totalCount).isEqualTo(8);
     }
 
+    @Test
+    void testUpsertDomainsResolvesExistingAndNewInOneStatement() {
+        // Given: one domain already registered and blacklisted
+        Domain existing = repository.save(createDomain("existing.org", DomainStatus.BLACKLISTED));
+
+        // When
+        var domainIds = repository.upsertDomains(List.of("existing.org", "new1.org", "new2.org"), null);
+
+        // Then: existing ID kept, new domains created as DISCOVERED
+        assertThat(domainIds).hasSize(3);
+        assertThat(domainIds.get("existing.org")).isEqualTo(existing.getDomainId());
+        assertThat(repository.findByDomainName("existing.org").get().getStatus())
+            .isEqualTo(DomainStatus.BLACKLISTED);
+        assertThat(repository.findByDomainName("new1.org").get().getStatus())
+            .isEqualTo(DomainStatus.DISCOVERED);
+        assertThat(repository.findByDomainName("new2.org").get().getDomainId())
+            .isEqualTo(domainIds.get("new2.org"));
+    }
+
     // Helper methods
     private Domain createDomain(String domainName, DomainStatus status) {
         return Domain.builder()
@@ -0,0 +1,147 @@
+package com.northstar.funding.persistence.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.northstar.funding.domain.CandidateStatus;
+import com.northstar.funding.domain.FundingSourceCandidate;
+import com.northstar.funding.persistence.AbstractPersistenceIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration test for FundingSourceCandidateSearchOperations
+ *
+ * Tests SQL-side filtering, offset and keyset pagination, and counting.
+ * Uses TestContainers with PostgreSQL for realistic testing.
+ *
+ * Extends AbstractPersistenceIntegrationTest for shared TestContainers configuration.
+ */
+class FundingSourceCandidateSearchIntegrationTest extends AbstractPersistenceIntegrationTest {
+
+    @Autowired
+    private FundingSourceCandidateRepository repository;
+
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+
+        // 10 PENDING_CRAWL candidates with scores 0.60..0.80 (two per score), discovered on consecutive days
+        List<FundingSourceCandidate> candidates = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            candidates.add(createCandidate(CandidateStatus.PENDING_CRAWL,
+                new BigDecimal("0.60").add(new BigDecimal("0.05").multiply(BigDecimal.valueOf(i / 2))),
+                now.minusDays(i), "Program " + i));
+        }
+        // 3 low-confidence candidates
+        for (int i = 0; i < 3; i++) {
+            candidates.add(createCandidate(CandidateStatus.SKIPPED_LOW_CONFIDENCE,
+                new BigDecimal("0.30"), now.minusDays(i), "Skipped " + i));
+        }
+        repository.insertAll(candidates);
+    }
+
+    @Test
+    void testFindByCriteriaFiltersInDatabase() {
+        // Given
+        CandidateSearchCriteria criteria = new CandidateSearchCriteria(
+            List.of(CandidateStatus.PENDING_CRAWL), new BigDecimal("0.70"), null,
+            null, null, CandidateSortField.CONFIDENCE_SCORE, false);
+
+        // When
+        List<FundingSourceCandidate> page = repository.findByCriteria(criteria, 0, 20);
+
+        // Then: scores 0.70, 0.75, 0.80, two each, highest first
+        assertThat(page).hasSize(6);
+        assertThat(page).allMatch(c -> c.getStatus() == CandidateStatus.PENDING_CRAWL);
+        assertThat(page).extracting(FundingSourceCandidate::getConfidenceScore)
+            .isSortedAccordingTo((a, b) -> b.compareTo(a))
+            .allMatch(score -> score.compareTo(new BigDecimal("0.70")) >= 0);
+    }
+
+    @Test
+    void testFindByCriteriaDateRangeAndOffset() {
+        // Given: discovered within the last 3 days (today, -1, -2), newest first
+        CandidateSearchCriteria criteria = new CandidateSearchCriteria(
+            null, null, null, now.minusDays(2), now.plusSeconds(1),
+            CandidateSortField.DISCOVERED_AT, false);
+
+        // When
+        List<FundingSourceCandidate> firstPage = repository.findByCriteria(criteria, 0, 4);
+        List<FundingSourceCandidate> secondPage = repository.findByCriteria(criteria, 4, 4);
+
+        // Then: 3 PENDING_CRAWL + 3 SKIPPED in range
+        assertThat(firstPage).hasSize(4);
+        assertThat(secondPage).hasSize(2);
+        assertThat(firstPage).extracting(FundingSourceCandidate::getCandidateId)
+            .doesNotContainAnyElementsOf(secondPage.stream().map(FundingSourceCandidate::getCandidateId).toList());
+    }
+
+    @Test
+    void testKeysetPaginationVisitsEveryRowOnce() {
+        // Given
+        CandidateSearchCriteria criteria = new CandidateSearchCriteria(
+            List.of(CandidateStatus.PENDING_CRAWL), null, null,
+            null, null, CandidateSortField.CONFIDENCE_SCORE, false);
+
+        // When: walk pages of 3 using the last row as the cursor
+        List<UUID> seen = new ArrayList<>();
+        List<FundingSourceCandidate> page = repository.findByCriteria(criteria, 0, 3);
+        while (!page.isEmpty()) {
+            page.forEach(c -> seen.add(c.getCandidateId()));
+            FundingSourceCandidate last = page.get(page.size() - 1);
+            page = repository.findAfter(criteria, last.getConfidenceScore(), last.getCandidateId(), 3);
+        }
+
+        // Then: same order as a single offset query, no duplicates or gaps across equal scores
+        List<UUID> expected = repository.findByCriteria(criteria, 0, 100).stream()
+            .map(FundingSourceCandidate::getCandidateId)
+            .toList();
+        assertThat(seen).hasSize(10).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void testKeysetRequiresConfidenceSort() {
+        CandidateSearchCriteria criteria = CandidateSearchCriteria.all();
+
+        assertThatThrownBy(() -> repository.findAfter(criteria, BigDecimal.ONE, UUID.randomUUID(), 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testCountByCriteriaIsExactForSmallResults() {
+        // When
+        var all = repository.countByCriteria(CandidateSearchCriteria.all());
+        var skipped = repository.countByCriteria(new CandidateSearchCriteria(
+            List.of(CandidateStatus.SKIPPED_LOW_CONFIDENCE), null, null, null, null, null, false));
+
+        // Then
+        assertThat(all.count()).isEqualTo(13);
+        assertThat(all.estimated()).isFalse();
+        assertThat(skipped.count()).isEqualTo(3);
+        assertThat(skipped.estimated()).isFalse();
+    }
+
+    private FundingSourceCandidate createCandidate(CandidateStatus status, BigDecimal confidence,
+                                                   LocalDateTime discoveredAt, String programName) {
+        return FundingSourceCandidate.builder()
+            .status(status)
+            .confidenceScore(confidence)
+            .discoveredAt(discoveredAt)
+            .lastUpdatedAt(discoveredAt)
+            .organizationName("Test Organization")
+            .programName(programName)
+            .sourceUrl("https://example.org/" + programName.replace(' ', '-'))
+            .build();
+    }
+}
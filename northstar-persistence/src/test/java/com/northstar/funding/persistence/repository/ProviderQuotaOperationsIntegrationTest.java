@@ -0,0 +1,142 @@
+package com.northstar.funding.persistence.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.northstar.funding.domain.ProviderApiUsage;
+import com.northstar.funding.persistence.AbstractPersistenceIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for ProviderQuotaOperations
+ *
+ * Tests block leasing against the provider_quota_ledger table and reconciliation
+ * from provider_api_usage. Uses TestContainers with PostgreSQL for realistic testing.
+ *
+ * Extends AbstractPersistenceIntegrationTest for shared TestContainers configuration.
+ */
+class ProviderQuotaOperationsIntegrationTest extends AbstractPersistenceIntegrationTest {
+
+    private static final String PROVIDER = "BRAVE_SEARCH";
+
+    @Autowired
+    private ProviderApiUsageRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM provider_quota_ledger");
+        repository.deleteAll();
+    }
+
+    @Test
+    void testLeaseGrantsBlocksUpToDailyLimit() {
+        // When: blocks of 20 against a limit of 50
+        int first = repository.leaseQuota(PROVIDER, today, 50, 20);
+        int second = repository.leaseQuota(PROVIDER, today, 50, 20);
+        int third = repository.leaseQuota(PROVIDER, today, 50, 20);
+        int fourth = repository.leaseQuota(PROVIDER, today, 50, 20);
+
+        // Then
+        assertThat(first).isEqualTo(20);
+        assertThat(second).isEqualTo(20);
+        assertThat(third).isEqualTo(10);
+        assertThat(fourth).isZero();
+        assertThat(repository.leasedQuota(PROVIDER, today)).isEqualTo(50);
+    }
+
+    @Test
+    void testLeaseIsPerProviderAndDay() {
+        // When
+        repository.leaseQuota(PROVIDER, today, 50, 50);
+        int otherProvider = repository.leaseQuota("SERPER", today, 60, 5);
+        int tomorrow = repository.leaseQuota(PROVIDER, today.plusDays(1), 50, 5);
+
+        // Then
+        assertThat(otherProvider).isEqualTo(5);
+        assertThat(tomorrow).isEqualTo(5);
+    }
+
+    @Test
+    void testConcurrentLeasesNeverExceedLimit() throws Exception {
+        // When: 40 concurrent leases of 5 against a limit of 100
+        List<Future<Integer>> grants = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 40; i++) {
+                grants.add(executor.submit(() -> repository.leaseQuota(PROVIDER, today, 100, 5)));
+            }
+            int total = 0;
+            for (Future<Integer> grant : grants) {
+                total += grant.get();
+            }
+
+            // Then
+            assertThat(total).isEqualTo(100);
+            assertThat(repository.leasedQuota(PROVIDER, today)).isEqualTo(100);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testReconcileCountsTodaysCallsToProvider() {
+        // Given: 3 successful calls and 1 timeout today, 1 local rate-limit rejection, 2 calls yesterday
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            repository.save(usage(now, true, null));
+        }
+        repository.save(usage(now, false, "TIMEOUT"));
+        repository.save(usage(now, false, "RATE_LIMIT"));
+        repository.save(usage(now.minusDays(1), true, null));
+        repository.save(usage(now.minusDays(1), true, null));
+
+        // When
+        int leased = repository.reconcileQuota(PROVIDER, today, 50);
+
+        // Then: only the 4 calls that reached the provider today, and leasing continues from there
+        assertThat(leased).isEqualTo(4);
+        assertThat(repository.leaseQuota(PROVIDER, today, 50, 100)).isEqualTo(46);
+    }
+
+    @Test
+    void testReconcileNeverLowersLeasedCount() {
+        // Given: 10 units already leased, 2 calls recorded
+        repository.leaseQuota(PROVIDER, today, 50, 10);
+        repository.save(usage(LocalDateTime.now(), true, null));
+        repository.save(usage(LocalDateTime.now(), true, null));
+
+        // When
+        int leased = repository.reconcileQuota(PROVIDER, today, 50);
+
+        // Then
+        assertThat(leased).isEqualTo(10);
+    }
+
+    private ProviderApiUsage usage(LocalDateTime executedAt, boolean success, String errorType) {
+        return ProviderApiUsage.builder()
+            .provider(PROVIDER)
+            .query("bulgaria education grants")
+            .resultCount(success ? 10 : 0)
+            .success(success)
+            .errorType(errorType)
+            .executedAt(executedAt)
+            .responseTimeMs(120)
+            .build();
+    }
+}
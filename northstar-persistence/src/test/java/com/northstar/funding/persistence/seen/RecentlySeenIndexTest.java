@@ -0,0 +1,166 @@
+package com.northstar.funding.persistence.seen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.northstar.funding.persistence.repository.SearchResultRepository;
+import com.northstar.funding.persistence.repository.SeenResultOperations.SeenRowHandler;
+
+/**
+ * Unit tests for RecentlySeenIndex (rolling daily Bloom filters).
+ */
+@ExtendWith(MockitoExtension.class)
+class RecentlySeenIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 11, 20);
+
+    @Mock
+    private SearchResultRepository searchResultRepository;
+
+    private MutableClock clock;
+    private RecentlySeenIndex index;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(TODAY);
+        // URLs for 7 days, domains for 1 day (today and yesterday)
+        index = new RecentlySeenIndex(searchResultRepository, 7, 1, 1_000, 0.001, clock);
+    }
+
+    @Test
+    void record_ShouldMatchNormalizedUrlAndDomain() {
+        // When
+        index.record("www.Example.org", "HTTPS://Example.org/grants/?utm_source=x#apply");
+
+        // Then
+        assertThat(index.seenUrl("https://example.org/grants")).isTrue();
+        assertThat(index.seenDomain("example.org")).isTrue();
+        assertThat(index.isRecentlySeen("other.org", "https://other.org/grants")).isFalse();
+    }
+
+    @Test
+    void lookups_ShouldHonourEachLookbackWindow() {
+        // Given - recorded three days ago
+        clock.set(TODAY.minusDays(3));
+        index.record("example.org", "https://example.org/grants");
+        clock.set(TODAY);
+
+        // Then - URL still inside its 7-day window, domain outside its 1-day window
+        assertThat(index.seenUrl("https://example.org/grants")).isTrue();
+        assertThat(index.seenDomain("example.org")).isFalse();
+        assertThat(index.isRecentlySeen("example.org", "https://example.org/other")).isFalse();
+    }
+
+    @Test
+    void record_ShouldDropDaysOutsideRetention() {
+        // Given
+        clock.set(TODAY.minusDays(8));
+        index.record("old.org", "https://old.org/grants");
+
+        // When - a record a week later rolls the oldest day out
+        clock.set(TODAY);
+        index.record("new.org", "https://new.org/grants");
+
+        // Then
+        assertThat(index.seenUrl("https://old.org/grants")).isFalse();
+        assertThat(index.seenUrl("https://new.org/grants")).isTrue();
+    }
+
+    @Test
+    void reload_ShouldLoadRowsFromWindowAndKeepRecordedEntries() {
+        // Given
+        index.record("live.org", "https://live.org/grants");
+        doAnswer(invocation -> {
+            SeenRowHandler handler = invocation.getArgument(1);
+            handler.accept(TODAY.minusDays(1), "db.org", "https://db.org/grants");
+            handler.accept(TODAY.minusDays(5), null, "https://nodomain.org/page");
+            return null;
+        }).when(searchResultRepository).streamSeenSince(eq(TODAY.minusDays(7)), any());
+
+        // When
+        index.reload();
+
+        // Then
+        verify(searchResultRepository).streamSeenSince(eq(TODAY.minusDays(7)), any());
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(index.seenDomain("db.org")).isTrue();
+        assertThat(index.seenUrl("https://nodomain.org/page")).isTrue();
+        assertThat(index.seenUrl("https://live.org/grants")).isTrue();
+    }
+
+    @Test
+    void record_BeyondExpectedSize_ShouldKeepAnsweringWithoutFalseNegatives() {
+        // When - 3x the per-day size in one day
+        for (int i = 0; i < 3_000; i++) {
+            index.record("domain" + i + ".org", "https://domain" + i + ".org/grants");
+        }
+
+        // Then
+        for (int i = 0; i < 3_000; i++) {
+            assertThat(index.seenUrl("https://domain" + i + ".org/grants")).isTrue();
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (index.seenUrl("https://unseen" + i + ".org/grants")) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(20);
+    }
+
+    @Test
+    void normalizeUrl_ShouldStripNoiseButKeepMeaningfulParts() {
+        assertThat(RecentlySeenIndex.normalizeUrl("HTTPS://WWW.Example.org:443/Grants/?id=7&utm_medium=mail"))
+            .isEqualTo("https://www.example.org/Grants?id=7");
+        assertThat(RecentlySeenIndex.normalizeUrl("http://example.org:8080/"))
+            .isEqualTo("http://example.org:8080");
+        assertThat(RecentlySeenIndex.normalizeUrl("  ")).isNull();
+        assertThat(RecentlySeenIndex.normalizeDomain("WWW.Example.org")).isEqualTo("example.org");
+    }
+
+    /**
+     * Clock that can be moved between days.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(LocalDate day) {
+            set(day);
+        }
+
+        void set(LocalDate day) {
+            instant = day.atTime(12, 0).toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.northstar.funding.persistence.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.northstar.funding.domain.ProviderApiUsage;
+import com.northstar.funding.persistence.repository.ProviderApiUsageRepository;
+
+/**
+ * Unit tests for ApiUsageBatchWriter using Mockito.
+ */
+@DisplayName("ApiUsageBatchWriter Unit Tests")
+class ApiUsageBatchWriterTest {
+
+    private final ProviderApiUsageRepository repository = mock(ProviderApiUsageRepository.class);
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    private ApiUsageBatchWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null && writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should flush a full batch without waiting for the interval")
+    void shouldFlushFullBatch() {
+        // Given: batch of 5, interval long enough that only batch size can trigger it
+        recordBatchSizes();
+        writer = new ApiUsageBatchWriter(repository, 100, 5, 60_000);
+        writer.start();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            writer.offer(usage(i));
+        }
+
+        // Then
+        verify(repository, timeout(2_000)).insertAll(anyList());
+        writer.stop();
+        assertThat(batchSizes).containsExactly(5);
+        assertThat(writer.getStatistics().written()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should flush a partial batch once the interval elapses")
+    void shouldFlushPartialBatchAfterInterval() {
+        // Given
+        recordBatchSizes();
+        writer = new ApiUsageBatchWriter(repository, 100, 50, 100);
+        writer.start();
+
+        // When
+        writer.offer(usage(1));
+        writer.offer(usage(2));
+
+        // Then
+        verify(repository, timeout(2_000)).insertAll(anyList());
+        writer.stop();
+        assertThat(batchSizes).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Should drop and count rows when the buffer is full")
+    void shouldDropWhenFull() {
+        // Given: not started, so nothing drains the buffer
+        writer = new ApiUsageBatchWriter(repository, 4, 10, 1_000);
+
+        // When
+        List<Boolean> accepted = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            accepted.add(writer.offer(usage(i)));
+        }
+
+        // Then: 4 accepted, 2 dropped, rows 3 and 4 landed above the 75% high watermark
+        ApiUsageBatchWriter.WriterStatistics statistics = writer.getStatistics();
+        assertThat(accepted).containsExactly(true, true, true, true, false, false);
+        assertThat(statistics.buffered()).isEqualTo(4);
+        assertThat(statistics.dropped()).isEqualTo(2);
+        assertThat(statistics.backpressure()).isEqualTo(2);
+        verify(repository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should write buffered rows on stop")
+    void shouldFlushOnStop() {
+        // Given: large batch and interval, so rows stay buffered until shutdown
+        recordBatchSizes();
+        writer = new ApiUsageBatchWriter(repository, 100, 50, 60_000);
+        writer.start();
+        for (int i = 0; i < 3; i++) {
+            writer.offer(usage(i));
+        }
+
+        // When
+        writer.stop();
+
+        // Then
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(batchSizes).containsExactly(3);
+        assertThat(writer.getStatistics().buffered()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count rows of a failed flush and keep going")
+    void shouldCountFailedFlush() {
+        // Given
+        when(repository.insertAll(anyList())).thenThrow(new IllegalStateException("connection refused"));
+        writer = new ApiUsageBatchWriter(repository, 100, 10, 1_000);
+        writer.offer(usage(1));
+        writer.offer(usage(2));
+
+        // When
+        int written = writer.flush();
+
+        // Then
+        assertThat(written).isZero();
+        assertThat(writer.getStatistics().failed()).isEqualTo(2);
+        assertThat(writer.getStatistics().buffered()).isZero();
+    }
+
+    private void recordBatchSizes() {
+        when(repository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<?> batch = invocation.getArgument(0);
+            synchronized (batchSizes) {
+                batchSizes.add(batch.size());
+            }
+            return batch.size();
+        });
+    }
+
+    private ProviderApiUsage usage(int i) {
+        return ProviderApiUsage.builder()
+            .provider("BRAVE_SEARCH")
+            .query("query " + i)
+            .resultCount(10)
+            .success(true)
+            .executedAt(LocalDateTime.now())
+            .responseTimeMs(100)
+            .build();
+    }
+}
@@ -23,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.northstar.funding.domain.Domain;
 import com.northstar.funding.domain.DomainStatus;
+import com.northstar.funding.persistence.blacklist.DomainBlacklistIndex;
 import com.northstar.funding.persistence.repository.DomainRepository;
 
 /**
@@ -34,6 +35,9 @@ class DomainServiceTest {
     @Mock
     private DomainRepository domainRepository;
 
+    @Mock
+    private DomainBlacklistIndex blacklistIndex;
+
     @InjectMocks
     private DomainService domainService;
 
@@ -143,6 +147,7 @@ class DomainServiceTest {
         assertThat(result.getBlacklistedBy()).isEqualTo(adminId);
         assertThat(result.getBlacklistReason()).isEqualTo(reason);
         verify(domainRepository).save(testDomain);
+        verify(blacklistIndex).add("test.org");
     }
 
     @Test
@@ -423,6 +428,36 @@ class DomainServiceTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void isBlacklisted_WhenIndexLoaded_ShouldNotQueryDatabase() {
+        // Given
+        when(blacklistIndex.isLoaded()).thenReturn(true);
+        when(blacklistIndex.isBlacklisted("spam.xyz")).thenReturn(true);
+
+        // When
+        boolean result = domainService.isBlacklisted("spam.xyz");
+
+        // Then
+        assertThat(result).isTrue();
+        verify(domainRepository, never()).findByDomainName(anyString());
+    }
+
+    @Test
+    void updateStatus_FromBlacklisted_ShouldRemoveFromIndex() {
+        // Given
+        testDomain.setStatus(DomainStatus.BLACKLISTED);
+        when(domainRepository.findById(testDomain.getDomainId()))
+            .thenReturn(Optional.of(testDomain));
+        when(domainRepository.save(any(Domain.class)))
+            .thenReturn(testDomain);
+
+        // When
+        domainService.updateStatus(testDomain.getDomainId(), DomainStatus.DISCOVERED);
+
+        // Then
+        verify(blacklistIndex).remove("test.org");
+    }
+
     @Test
     void isBlacklisted_ShouldReturnFalseForUnknownDomain() {
         // Given
@@ -2,6 +2,7 @@ package com.northstar.funding.querygeneration.config;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.northstar.funding.querygeneration.model.QueryCacheKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -15,7 +16,8 @@ import java.util.concurrent.TimeUnit;
  *
  * <p>Caches generated queries with:
  * <ul>
- *   <li>24-hour TTL (queries become stale after 24 hours)</li>
+ *   <li>24-hour TTL (queries become stale after 24 hours); entries promoted from
+ *       PostgreSQL are given the rest of their TTL instead (per-entry expiry)</li>
  *   <li>1000 entry maximum (LRU eviction when full)</li>
  *   <li>Statistics recording for monitoring</li>
  * </ul>
@@ -42,9 +44,26 @@ public class CaffeineConfig {
      */
     @Bean
     public Cache<QueryCacheKey, List<String>> queryCache() {
+        long ttlNanos = TimeUnit.HOURS.toNanos(ttlHours);
         Caffeine<Object, Object> builder = Caffeine.newBuilder()
                 .maximumSize(maxSize)
-                .expireAfterWrite(ttlHours, TimeUnit.HOURS);
+                .expireAfter(new Expiry<Object, Object>() {
+                    // Same as expireAfterWrite(ttlHours); VarExpiration.put can shorten it per entry
+                    @Override
+                    public long expireAfterCreate(Object key, Object value, long currentTime) {
+                        return ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+                        return ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                });
 
         if (recordStats) {
             builder.recordStats();
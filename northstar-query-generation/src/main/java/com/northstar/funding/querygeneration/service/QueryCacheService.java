@@ -2,6 +2,7 @@ package com.northstar.funding.querygeneration.service;
 
 import com.northstar.funding.querygeneration.model.QueryCacheKey;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -16,11 +17,16 @@ public interface QueryCacheService {
     /**
      * Get queries from cache if present.
      *
+     * <p>Checks the in-memory cache first, then queries previously persisted for the
+     * same key (engine, categories, geography) within the TTL; a persistent hit is
+     * promoted to the in-memory cache.
+     *
      * <p>Contract:
      * <ul>
-     *   <li>MUST return Optional.empty() if key not in cache</li>
+     *   <li>MUST return Optional.empty() if key not in either tier</li>
      *   <li>MUST return cached queries if present and not expired</li>
-     *   <li>MUST complete in &lt;50ms</li>
+     *   <li>MUST complete in &lt;50ms on an in-memory hit</li>
+     *   <li>MUST treat persistent tier errors as a miss</li>
      *   <li>MUST be thread-safe</li>
      * </ul>
      *
@@ -29,6 +35,36 @@ public interface QueryCacheService {
      */
     Optional<List<String>> getFromCache(QueryCacheKey key);
 
+    /**
+     * Get queries from the in-memory cache only.
+     *
+     * <p>Contract:
+     * <ul>
+     *   <li>MUST NOT query the persistent tier</li>
+     *   <li>MUST NOT count towards hit/miss statistics</li>
+     *   <li>MUST be thread-safe</li>
+     * </ul>
+     *
+     * @param key Cache key identifying the query set
+     * @return Optional containing cached queries, or empty if not in memory
+     */
+    Optional<List<String>> getFromMemory(QueryCacheKey key);
+
+    /**
+     * Preload the in-memory cache from persisted queries.
+     *
+     * <p>Contract:
+     * <ul>
+     *   <li>MUST skip keys already in the in-memory cache</li>
+     *   <li>MUST NOT call the LLM</li>
+     *   <li>MUST treat database errors as a miss</li>
+     * </ul>
+     *
+     * @param keys Cache keys expected to be requested soon
+     * @return number of keys loaded into the in-memory cache
+     */
+    int warmUp(Collection<QueryCacheKey> keys);
+
     /**
      * Cache generated queries.
      *
@@ -76,6 +112,7 @@ public interface QueryCacheService {
      *   <li>MUST return hit rate (0.0 - 1.0)</li>
      *   <li>MUST return total requests, hits, misses</li>
      *   <li>MUST return current cache size</li>
+     *   <li>MUST return persistent tier hits and misses</li>
      * </ul>
      *
      * @return Map of statistic name → value
@@ -6,24 +6,34 @@ import com.northstar.funding.persistence.repository.SearchQueryRepository;
 import com.northstar.funding.querygeneration.model.QueryCacheKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 /**
- * Caffeine-based cache service for query generation.
+ * Two-tier cache service for query generation.
  *
  * <p>Provides:
  * <ul>
- *   <li>24-hour TTL with LRU eviction (max 1000 entries)</li>
+ *   <li>L1: Caffeine, 24-hour TTL with LRU eviction (max 1000 entries)</li>
+ *   <li>L2: previously persisted queries in PostgreSQL, read on a Caffeine miss and
+ *       promoted to Caffeine, so restarts and other nodes don't go back to the LLM.
+ *       Rows older than the TTL are ignored, and a promoted entry only lives in Caffeine
+ *       for what is left of the TTL of its oldest row</li>
  *   <li>Async PostgreSQL persistence for selective queries</li>
  *   <li>Cache statistics for monitoring</li>
  * </ul>
@@ -33,9 +43,23 @@ public class QueryCacheServiceImpl implements QueryCacheService {
 
     private static final Logger log = LoggerFactory.getLogger(QueryCacheServiceImpl.class);
 
+    /**
+     * Rows fetched per requested query, to leave room for duplicates across sessions.
+     */
+    private static final int L2_ROWS_PER_QUERY = 4;
+
     private final Cache<QueryCacheKey, List<String>> cache;
     private final SearchQueryRepository searchQueryRepository;
 
+    private final LongAdder persistentHits = new LongAdder();
+    private final LongAdder persistentMisses = new LongAdder();
+
+    @Value("${query-generation.cache.persistent.enabled:true}")
+    private boolean persistentEnabled = true;
+
+    @Value("${query-generation.cache.ttl-hours:24}")
+    private int ttlHours = 24;
+
     public QueryCacheServiceImpl(
             Cache<QueryCacheKey, List<String>> cache,
             SearchQueryRepository searchQueryRepository) {
@@ -51,9 +75,122 @@ public class QueryCacheServiceImpl implements QueryCacheService {
             return Optional.of(cached);
         }
         log.debug("❌ Cache MISS for key: {}", key);
+
+        Optional<PersistedQueries> persisted = loadPersisted(key);
+        if (persisted.isPresent()) {
+            persistentHits.increment();
+            promote(key, persisted.get());
+            log.debug("✅ PostgreSQL HIT for key: {} ({} queries)", key, persisted.get().queries().size());
+            return Optional.of(persisted.get().queries());
+        }
+        if (persistentEnabled) {
+            persistentMisses.increment();
+        }
         return Optional.empty();
     }
 
+    @Override
+    public Optional<List<String>> getFromMemory(QueryCacheKey key) {
+        // asMap() reads bypass stats recording, so a re-check is not counted twice
+        return Optional.ofNullable(cache.asMap().get(key));
+    }
+
+    @Override
+    public int warmUp(Collection<QueryCacheKey> keys) {
+        int warmed = 0;
+        for (QueryCacheKey key : keys) {
+            if (cache.getIfPresent(key) != null) {
+                continue;
+            }
+            Optional<PersistedQueries> persisted = loadPersisted(key);
+            if (persisted.isPresent()) {
+                promote(key, persisted.get());
+                warmed++;
+            }
+        }
+        log.info("🔥 Warmed query cache with {} of {} keys from PostgreSQL", warmed, keys.size());
+        return warmed;
+    }
+
+    /**
+     * Queries read from PostgreSQL and the creation time of the oldest row used.
+     */
+    private record PersistedQueries(List<String> queries, Instant oldestCreatedAt) {
+    }
+
+    /**
+     * Load up to maxQueries distinct queries persisted for this key within the TTL.
+     * The query narrows rows by whole generation days; rows created more than ttlHours
+     * ago (or without a creation time) are then skipped.
+     * Database errors are logged and treated as a miss so generation falls through to the LLM.
+     */
+    private Optional<PersistedQueries> loadPersisted(QueryCacheKey key) {
+        if (!persistentEnabled || key.getSearchEngine() == null || key.getCategories() == null
+                || key.getCategories().isEmpty() || key.getGeographic() == null || key.getMaxQueries() <= 0) {
+            return Optional.empty();
+        }
+
+        try {
+            // Whole days covering the TTL (24h -> since yesterday)
+            LocalDate since = LocalDate.now().minusDays(Math.max(1, (ttlHours + 23) / 24));
+
+            List<SearchQuery> rows = searchQueryRepository.findRecentGenerated(
+                    key.getSearchEngine().name(),
+                    String.join(",", toTags(key)),
+                    since,
+                    key.getMaxQueries() * L2_ROWS_PER_QUERY);
+
+            Instant notBefore = Instant.now().minus(Duration.ofHours(ttlHours));
+            Set<String> queries = new LinkedHashSet<>();
+            Instant oldest = null;
+            for (SearchQuery row : rows) {
+                if (queries.size() == key.getMaxQueries()) {
+                    break;
+                }
+                Instant createdAt = row.getCreatedAt();
+                if (createdAt == null || createdAt.isBefore(notBefore)) {
+                    continue;
+                }
+                if (queries.add(row.getQueryText()) && (oldest == null || createdAt.isBefore(oldest))) {
+                    oldest = createdAt;
+                }
+            }
+            return queries.isEmpty()
+                    ? Optional.empty()
+                    : Optional.of(new PersistedQueries(List.copyOf(queries), oldest));
+
+        } catch (Exception e) {
+            log.warn("⚠️ PostgreSQL cache lookup failed for key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Put persisted queries into Caffeine for the rest of their TTL. Falls back to the
+     * cache's fixed expiry when it was not built with per-entry expiry.
+     */
+    private void promote(QueryCacheKey key, PersistedQueries persisted) {
+        Duration remaining = Duration.between(Instant.now(),
+                persisted.oldestCreatedAt().plus(Duration.ofHours(ttlHours)));
+        if (remaining.isNegative() || remaining.isZero()) {
+            return;
+        }
+        cache.policy().expireVariably().ifPresentOrElse(
+                expiry -> expiry.put(key, persisted.queries(), remaining),
+                () -> cache.put(key, persisted.queries()));
+    }
+
+    /**
+     * Tags identifying a key's query set (CATEGORY:name for each category, GEOGRAPHY:name).
+     */
+    private static Set<String> toTags(QueryCacheKey key) {
+        Set<String> tags = key.getCategories().stream()
+                .map(cat -> "CATEGORY:" + cat.name())
+                .collect(Collectors.toCollection(TreeSet::new));
+        tags.add("GEOGRAPHY:" + key.getGeographic().name());
+        return tags;
+    }
+
     @Override
     public void cacheQueries(QueryCacheKey key, List<String> queries) {
         cache.put(key, queries);
@@ -71,13 +208,8 @@ public class QueryCacheServiceImpl implements QueryCacheService {
                 log.debug("💾 Persisting {} queries for session {} to PostgreSQL",
                         queries.size(), sessionId);
 
-                // Convert categories to tags (CATEGORY:name format)
-                Set<String> tags = key.getCategories().stream()
-                        .map(cat -> "CATEGORY:" + cat.name())
-                        .collect(Collectors.toSet());
-
-                // Add geographic tag
-                tags.add("GEOGRAPHY:" + key.getGeographic().name());
+                // Convert categories and geography to tags (CATEGORY:name, GEOGRAPHY:name)
+                Set<String> tags = toTags(key);
 
                 // Create and save SearchQuery entities
                 for (String queryText : queries) {
@@ -117,13 +249,17 @@ public class QueryCacheServiceImpl implements QueryCacheService {
                 "missCount", stats.missCount(),
                 "requestCount", stats.requestCount(),
                 "evictionCount", stats.evictionCount(),
-                "size", cache.estimatedSize()
+                "size", cache.estimatedSize(),
+                "persistentHitCount", persistentHits.sum(),
+                "persistentMissCount", persistentMisses.sum()
         );
     }
 
     @Override
     public void clearCache() {
         cache.invalidateAll();
+        persistentHits.reset();
+        persistentMisses.reset();
         log.info("🧹 Cleared entire query cache");
     }
 }
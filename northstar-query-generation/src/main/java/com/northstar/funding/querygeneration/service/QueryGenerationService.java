@@ -77,6 +77,7 @@ public interface QueryGenerationService {
      *   <li>MUST return current cache hit rate</li>
      *   <li>MUST return cache size</li>
      *   <li>MUST return total requests/hits/misses</li>
+     *   <li>MUST return coalescedCount (requests that joined an in-flight generation)</li>
      * </ul>
      *
      * @return Map of statistic name → value
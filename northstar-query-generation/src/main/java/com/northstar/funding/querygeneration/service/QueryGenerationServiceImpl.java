@@ -14,12 +14,16 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Main service for AI-powered query generation.
@@ -27,6 +31,7 @@ import java.util.concurrent.CompletableFuture;
  * <p>Orchestrates:
  * <ul>
  *   <li>Cache checks via QueryCacheService</li>
+ *   <li>Single-flight generation: concurrent cache misses for the same key share one LLM call</li>
  *   <li>Strategy selection based on search engine type</li>
  *   <li>Async query generation via Virtual Threads</li>
  *   <li>Optional PostgreSQL persistence</li>
@@ -40,6 +45,13 @@ public class QueryGenerationServiceImpl implements QueryGenerationService {
     private final QueryCacheService cacheService;
     private final Map<SearchEngineType, SearchStrategy> strategies;
 
+    /**
+     * LLM generations currently running, by cache key. Removed once the result is cached.
+     */
+    private final ConcurrentMap<QueryCacheKey, CompletableFuture<List<String>>> inFlight =
+            new ConcurrentHashMap<>();
+    private final LongAdder coalescedCount = new LongAdder();
+
     @Value("${query-generation.max-queries-limit:50}")
     private int maxQueriesLimit;
 
@@ -76,18 +88,26 @@ public class QueryGenerationServiceImpl implements QueryGenerationService {
                     return buildResponse(request, cached.get(), true);
                 }
 
-                // Get strategy for search engine
-                SearchStrategy strategy = getStrategy(request.getSearchEngine());
+                // Join an identical generation already in flight instead of calling the LLM again
+                CompletableFuture<List<String>> flight = new CompletableFuture<>();
+                CompletableFuture<List<String>> existing = inFlight.putIfAbsent(cacheKey, flight);
+                if (existing != null) {
+                    coalescedCount.increment();
+                    log.info("🔗 Joining in-flight generation for key: {}", cacheKey);
+                    List<String> shared = existing.join(); // Block here since we're already in async context
+                    return buildResponse(request, shared, false);
+                }
 
-                // Generate queries asynchronously
-                List<String> queries = strategy.generateQueries(
-                        request.getCategories(),
-                        request.getGeographic(),
-                        request.getMaxQueries()
-                ).join(); // Block here since we're already in async context
+                // A flight that finished between our cache miss and putIfAbsent has already cached its result
+                Optional<List<String>> landed = cacheService.getFromMemory(cacheKey);
+                if (landed.isPresent()) {
+                    flight.complete(landed.get());
+                    inFlight.remove(cacheKey, flight);
+                    log.info("✅ Returning {} queries cached by a just-finished generation", landed.get().size());
+                    return buildResponse(request, landed.get(), true);
+                }
 
-                // Cache the results
-                cacheService.cacheQueries(cacheKey, queries);
+                List<String> queries = generateAndCache(request, cacheKey, flight);
 
                 // Optionally persist to PostgreSQL (async, fire-and-forget)
                 if (request.getSessionId() != null) {
@@ -157,15 +177,60 @@ public class QueryGenerationServiceImpl implements QueryGenerationService {
 
     @Override
     public Map<String, Object> getCacheStatistics() {
-        return cacheService.getStatistics();
+        Map<String, Object> stats = new HashMap<>(cacheService.getStatistics());
+        stats.put("coalescedCount", coalescedCount.sum());
+        return stats;
     }
 
     @Override
     public void clearCache() {
         cacheService.clearCache();
+        coalescedCount.reset();
         log.info("🧹 Cleared entire query generation cache");
     }
 
+    /**
+     * Runs the LLM generation as the single-flight leader for a key.
+     *
+     * <p>The result is cached before the key leaves the in-flight map, so a later
+     * request either joins the flight or hits the cache. Failures are propagated
+     * to every waiting caller.
+     *
+     * @param request Original request
+     * @param cacheKey Cache key (in-flight map key)
+     * @param flight Future registered for this key
+     * @return Generated queries
+     */
+    private List<String> generateAndCache(
+            QueryGenerationRequest request,
+            QueryCacheKey cacheKey,
+            CompletableFuture<List<String>> flight) {
+
+        try {
+            // Get strategy for search engine
+            SearchStrategy strategy = getStrategy(request.getSearchEngine());
+
+            // Generate queries asynchronously
+            List<String> queries = strategy.generateQueries(
+                    request.getCategories(),
+                    request.getGeographic(),
+                    request.getMaxQueries()
+            ).join(); // Block here since we're already in async context
+
+            // Cache the results
+            cacheService.cacheQueries(cacheKey, queries);
+
+            flight.complete(queries);
+            return queries;
+
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, flight);
+        }
+    }
+
     /**
      * Gets the appropriate strategy for the given search engine.
      *
@@ -5,6 +5,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.northstar.funding.domain.FundingSearchCategory;
 import com.northstar.funding.domain.GeographicScope;
 import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.domain.SearchQuery;
 import com.northstar.funding.persistence.repository.SearchQueryRepository;
 import com.northstar.funding.querygeneration.model.QueryCacheKey;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,6 +24,14 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Contract test for QueryCacheService interface.
@@ -87,6 +98,28 @@ class QueryCacheServiceContractTest {
         assertThat(cached.get()).isEqualTo(queries);
     }
 
+    @Test
+    void getFromMemory_shouldNotTouchDatabaseOrStatistics() {
+        // Arrange
+        QueryCacheKey key = QueryCacheKey.builder()
+                .searchEngine(SearchEngineType.BRAVE)
+                .categories(Set.of(FundingSearchCategory.INDIVIDUAL_SCHOLARSHIPS))
+                .geographic(GeographicScope.BULGARIA)
+                .maxQueries(5)
+                .build();
+
+        // Act
+        Optional<List<String>> missing = service.getFromMemory(key);
+        service.cacheQueries(key, List.of("query1"));
+        Optional<List<String>> present = service.getFromMemory(key);
+
+        // Assert
+        assertThat(missing).isEmpty();
+        assertThat(present).contains(List.of("query1"));
+        verify(searchQueryRepository, never()).findRecentGenerated(anyString(), anyString(), any(), anyInt());
+        assertThat(service.getStatistics().get("requestCount")).isEqualTo(0L);
+    }
+
     @Test
     void getFromCache_shouldCompleteQuickly() {
         // Arrange
@@ -108,6 +141,135 @@ class QueryCacheServiceContractTest {
         assertThat(duration).isLessThan(50); // <50ms contract
     }
 
+    @Test
+    void getFromCache_whenPersisted_shouldLoadFromDatabaseAndPromote() {
+        // Arrange: duplicates across two earlier sessions, more rows than requested
+        QueryCacheKey key = QueryCacheKey.builder()
+                .searchEngine(SearchEngineType.BRAVE)
+                .categories(Set.of(FundingSearchCategory.INDIVIDUAL_SCHOLARSHIPS))
+                .geographic(GeographicScope.BULGARIA)
+                .maxQueries(2)
+                .build();
+
+        when(searchQueryRepository.findRecentGenerated(
+                eq("BRAVE"),
+                eq("CATEGORY:INDIVIDUAL_SCHOLARSHIPS,GEOGRAPHY:BULGARIA"),
+                any(),
+                eq(8)))
+                .thenReturn(List.of(persisted("query1"), persisted("query1"), persisted("query2"), persisted("query3")));
+
+        // Act
+        Optional<List<String>> first = service.getFromCache(key);
+        Optional<List<String>> second = service.getFromCache(key);
+
+        // Assert: distinct, capped at maxQueries, second lookup served by Caffeine
+        assertThat(first).contains(List.of("query1", "query2"));
+        assertThat(second).contains(List.of("query1", "query2"));
+        verify(searchQueryRepository, times(1)).findRecentGenerated(anyString(), anyString(), any(), anyInt());
+
+        Map<String, Object> stats = service.getStatistics();
+        assertThat(stats.get("persistentHitCount")).isEqualTo(1L);
+        assertThat(stats.get("persistentMissCount")).isEqualTo(0L);
+    }
+
+    @Test
+    void getFromCache_whenPersistedRowsOlderThanTtl_shouldSkipThem() {
+        // Arrange: default TTL is 24h; one row is 30h old
+        QueryCacheKey key = QueryCacheKey.builder()
+                .searchEngine(SearchEngineType.BRAVE)
+                .categories(Set.of(FundingSearchCategory.INDIVIDUAL_SCHOLARSHIPS))
+                .geographic(GeographicScope.BULGARIA)
+                .maxQueries(2)
+                .build();
+
+        when(searchQueryRepository.findRecentGenerated(anyString(), anyString(), any(), anyInt()))
+                .thenReturn(List.of(
+                        persisted("stale", Instant.now().minus(Duration.ofHours(30))),
+                        persisted("fresh")));
+
+        // Act
+        Optional<List<String>> result = service.getFromCache(key);
+
+        // Assert
+        assertThat(result).contains(List.of("fresh"));
+    }
+
+    @Test
+    void getFromCache_whenAllPersistedRowsExpired_shouldMiss() {
+        // Arrange
+        QueryCacheKey key = QueryCacheKey.builder()
+                .searchEngine(SearchEngineType.BRAVE)
+                .categories(Set.of(FundingSearchCategory.INDIVIDUAL_SCHOLARSHIPS))
+                .geographic(GeographicScope.BULGARIA)
+                .maxQueries(2)
+                .build();
+
+        when(searchQueryRepository.findRecentGenerated(anyString(), anyString(), any(), anyInt()))
+                .thenReturn(List.of(persisted("stale", Instant.now().minus(Duration.ofHours(25)))));
+
+        // Act / Assert
+        assertThat(service.getFromCache(key)).isEmpty();
+        assertThat(cache.getIfPresent(key)).isNull();
+        assertThat(service.getStatistics().get("persistentMissCount")).isEqualTo(1L);
+    }
+
+    @Test
+    void getFromCache_whenDatabaseFails_shouldReturnEmptyOptional() {
+        // Arrange
+        QueryCacheKey key = QueryCacheKey.builder()
+                .searchEngine(SearchEngineType.SERPER)
+                .categories(Set.of(FundingSearchCategory.PROGRAM_GRANTS))
+                .geographic(GeographicScope.BULGARIA)
+                .maxQueries(5)
+                .build();
+
+        when(searchQueryRepository.findRecentGenerated(anyString(), anyString(), any(), anyInt()))
+                .thenThrow(new RuntimeException("connection refused"));
+
+        // Act
+        Optional<List<String>> result = service.getFromCache(key);
+
+        // Assert
+        assertThat(result).isEmpty();
+        assertThat(service.getStatistics().get("persistentMissCount")).isEqualTo(1L);
+    }
+
+    @Test
+    void warmUp_shouldLoadOnlyMissingKeysWithPersistedQueries() {
+        // Arrange
+        QueryCacheKey cachedKey = QueryCacheKey.builder()
+                .searchEngine(SearchEngineType.BRAVE)
+                .categories(Set.of(FundingSearchCategory.INDIVIDUAL_SCHOLARSHIPS))
+                .geographic(GeographicScope.BULGARIA)
+                .maxQueries(5)
+                .build();
+        QueryCacheKey persistedKey = QueryCacheKey.builder()
+                .searchEngine(SearchEngineType.SEARXNG)
+                .categories(Set.of(FundingSearchCategory.INDIVIDUAL_SCHOLARSHIPS))
+                .geographic(GeographicScope.BULGARIA)
+                .maxQueries(5)
+                .build();
+        QueryCacheKey unknownKey = QueryCacheKey.builder()
+                .searchEngine(SearchEngineType.SERPER)
+                .categories(Set.of(FundingSearchCategory.INDIVIDUAL_SCHOLARSHIPS))
+                .geographic(GeographicScope.BULGARIA)
+                .maxQueries(5)
+                .build();
+
+        service.cacheQueries(cachedKey, List.of("cached"));
+        when(searchQueryRepository.findRecentGenerated(eq("SEARXNG"), anyString(), any(), anyInt()))
+                .thenReturn(List.of(persisted("warm1"), persisted("warm2")));
+
+        // Act
+        int warmed = service.warmUp(List.of(cachedKey, persistedKey, unknownKey));
+
+        // Assert
+        assertThat(warmed).isEqualTo(1);
+        assertThat(cache.getIfPresent(persistedKey)).containsExactly("warm1", "warm2");
+        assertThat(cache.getIfPresent(unknownKey)).isNull();
+        verify(searchQueryRepository, never()).findRecentGenerated(eq("BRAVE"), anyString(), any(), anyInt());
+    }
+
     @Test
     void persistQueries_shouldReturnCompletableFuture() {
         // Arrange
@@ -142,7 +304,9 @@ class QueryCacheServiceContractTest {
                 "missCount",
                 "requestCount",
                 "evictionCount",
-                "size"
+                "size",
+                "persistentHitCount",
+                "persistentMissCount"
         );
         assertThat(stats.get("hitRate")).isInstanceOf(Double.class);
     }
@@ -167,4 +331,16 @@ class QueryCacheServiceContractTest {
         Map<String, Object> stats = service.getStatistics();
         assertThat(stats.get("size")).isEqualTo(0L);
     }
+
+    private static SearchQuery persisted(String queryText) {
+        return persisted(queryText, Instant.now().minus(Duration.ofHours(1)));
+    }
+
+    private static SearchQuery persisted(String queryText, Instant createdAt) {
+        return SearchQuery.builder()
+                .queryText(queryText)
+                .generationMethod("AI_GENERATED")
+                .createdAt(createdAt)
+                .build();
+    }
 }
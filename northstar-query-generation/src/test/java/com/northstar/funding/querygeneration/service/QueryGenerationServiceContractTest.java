@@ -25,6 +25,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -244,4 +248,98 @@ class QueryGenerationServiceContractTest {
         // Assert
         verify(cacheService).clearCache();
     }
+
+    @Test
+    void generateQueries_concurrentIdenticalMisses_shouldShareOneLlmCall() throws Exception {
+        // Arrange: LLM call stays open until released
+        CompletableFuture<List<String>> llmCall = new CompletableFuture<>();
+        reset(mockStrategy);
+        when(mockStrategy.generateQueries(any(), any(), anyInt())).thenReturn(llmCall);
+        when(cacheService.getFromCache(any(QueryCacheKey.class))).thenReturn(Optional.empty());
+
+        QueryGenerationRequest request = QueryGenerationRequest.builder()
+                .searchEngine(SearchEngineType.BRAVE)
+                .categories(Set.of(FundingSearchCategory.PROGRAM_GRANTS))
+                .geographic(GeographicScope.BULGARIA)
+                .maxQueries(3)
+                .sessionId(UUID.randomUUID())
+                .build();
+
+        // Act: leader reaches the LLM, follower arrives while it is in flight
+        CompletableFuture<QueryGenerationResponse> leader = service.generateQueries(request);
+        verify(mockStrategy, timeout(5000)).generateQueries(any(), any(), anyInt());
+        CompletableFuture<QueryGenerationResponse> follower = service.generateQueries(request);
+        waitForCoalescedCount(1L);
+        llmCall.complete(List.of("q1", "q2", "q3"));
+
+        // Assert
+        assertThat(leader.get(5, TimeUnit.SECONDS).getQueries()).containsExactly("q1", "q2", "q3");
+        assertThat(follower.get(5, TimeUnit.SECONDS).getQueries()).containsExactly("q1", "q2", "q3");
+        verify(mockStrategy, times(1)).generateQueries(any(), any(), anyInt());
+        verify(cacheService, times(1)).cacheQueries(any(), any());
+        assertThat(service.getCacheStatistics()).containsEntry("coalescedCount", 1L);
+    }
+
+    @Test
+    void generateQueries_whenSharedLlmCallFails_shouldFailAllWaitersAndAllowRetry() throws Exception {
+        // Arrange
+        CompletableFuture<List<String>> failingCall = new CompletableFuture<>();
+        reset(mockStrategy);
+        when(mockStrategy.generateQueries(any(), any(), anyInt()))
+                .thenReturn(failingCall)
+                .thenReturn(CompletableFuture.completedFuture(List.of("retry")));
+        when(cacheService.getFromCache(any(QueryCacheKey.class))).thenReturn(Optional.empty());
+
+        QueryGenerationRequest request = QueryGenerationRequest.builder()
+                .searchEngine(SearchEngineType.BRAVE)
+                .categories(Set.of(FundingSearchCategory.PROGRAM_GRANTS))
+                .geographic(GeographicScope.BULGARIA)
+                .maxQueries(3)
+                .sessionId(UUID.randomUUID())
+                .build();
+
+        // Act
+        CompletableFuture<QueryGenerationResponse> leader = service.generateQueries(request);
+        verify(mockStrategy, timeout(5000)).generateQueries(any(), any(), anyInt());
+        CompletableFuture<QueryGenerationResponse> follower = service.generateQueries(request);
+        waitForCoalescedCount(1L);
+        failingCall.completeExceptionally(new RuntimeException("LLM unavailable"));
+
+        // Assert: both fail, and the key is released for the next attempt
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(QueryGenerationException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(QueryGenerationException.class);
+        assertThat(service.generateQueries(request).get(5, TimeUnit.SECONDS).getQueries()).containsExactly("retry");
+    }
+
+    @Test
+    void generateQueries_whenFlightLandsBeforeSlotIsWon_shouldServeCachedResult() throws Exception {
+        // Arrange: tiered lookup misses, but a generation that just finished has cached its result
+        reset(mockStrategy);
+        when(cacheService.getFromCache(any(QueryCacheKey.class))).thenReturn(Optional.empty());
+        when(cacheService.getFromMemory(any(QueryCacheKey.class))).thenReturn(Optional.of(List.of("landed")));
+
+        QueryGenerationRequest request = QueryGenerationRequest.builder()
+                .searchEngine(SearchEngineType.BRAVE)
+                .categories(Set.of(FundingSearchCategory.PROGRAM_GRANTS))
+                .geographic(GeographicScope.BULGARIA)
+                .maxQueries(3)
+                .build();
+
+        // Act
+        QueryGenerationResponse response = service.generateQueries(request).get(5, TimeUnit.SECONDS);
+
+        // Assert: no second LLM call, and the slot is released
+        assertThat(response.getQueries()).containsExactly("landed");
+        assertThat(response.isFromCache()).isTrue();
+        verify(mockStrategy, never()).generateQueries(any(), any(), anyInt());
+        verify(cacheService, never()).cacheQueries(any(), any());
+    }
+
+    private void waitForCoalescedCount(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!Long.valueOf(expected).equals(service.getCacheStatistics().get("coalescedCount"))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
 }
@@ -42,7 +42,8 @@ public class CandidateController {
      * @param sortDirection Sort direction (ASC/DESC, default: DESC)
      * @param page Page number (0-indexed, default: 0)
      * @param size Number of items per page (default: 20)
-     * @return Paginated list of candidates
+     * @param cursor Keyset cursor (nextCursor of the previous page, sortBy=confidenceScore only)
+     * @return Paginated list of candidates, or 400 for invalid filter/sort/cursor values
      */
     @GetMapping
     public ResponseEntity<CandidatePageDTO> listCandidates(
@@ -54,21 +55,26 @@ public class CandidateController {
             @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(required = false, defaultValue = "DESC") String sortDirection,
             @RequestParam(required = false, defaultValue = "0") int page,
-            @RequestParam(required = false, defaultValue = "20") int size) {
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
 
-        CandidatePageDTO result = candidateService.listCandidates(
-                status,
-                minConfidence,
-                searchEngine,
-                startDate,
-                endDate,
-                sortBy,
-                sortDirection,
-                page,
-                size
-        );
-
-        return ResponseEntity.ok(result);
+        try {
+            CandidatePageDTO result = candidateService.listCandidates(
+                    status,
+                    minConfidence,
+                    searchEngine,
+                    startDate,
+                    endDate,
+                    sortBy,
+                    sortDirection,
+                    page,
+                    size,
+                    cursor
+            );
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
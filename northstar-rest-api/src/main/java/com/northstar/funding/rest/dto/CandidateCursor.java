@@ -0,0 +1,59 @@
+package com.northstar.funding.rest.dto;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset pagination cursor for the candidate list endpoint.
+ *
+ * Identifies the last row of a page sorted by confidence score, so the next
+ * page can seek past it instead of using an ever-growing OFFSET. Also carries
+ * that page's number, so the next response can report its own currentPage.
+ *
+ * Encoded as URL-safe Base64 of "confidenceScore|candidateId|page" (opaque to clients).
+ */
+public record CandidateCursor(
+    BigDecimal confidenceScore,    // Confidence score of the last row returned
+    UUID candidateId,              // Candidate ID of the last row returned (tie-breaker)
+    int page                       // Page number (0-indexed) the last row was returned on
+) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encode as an opaque, URL-safe token.
+     */
+    public String encode() {
+        String raw = confidenceScore.toPlainString() + SEPARATOR + candidateId + SEPARATOR + page;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @param token cursor token from a previous response
+     * @return decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static CandidateCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int second = raw.indexOf(SEPARATOR, first + 1);
+            int page = Integer.parseInt(raw.substring(second + 1));
+            if (page < 0) {
+                throw new IllegalArgumentException("Negative page: " + page);
+            }
+            return new CandidateCursor(
+                new BigDecimal(raw.substring(0, first)),
+                UUID.fromString(raw.substring(first + 1, second)),
+                page
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            // Base64, number (NumberFormatException) and UUID errors, or missing separator
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
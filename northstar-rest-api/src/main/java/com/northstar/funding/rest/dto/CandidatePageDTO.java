@@ -6,11 +6,26 @@ import java.util.List;
  * Paginated response for candidate list endpoint.
  *
  * Follows Spring Data Page pattern but simplified for JSON.
+ *
+ * For large result sets totalElements is the database planner's estimate
+ * (totalElementsEstimated = true). When sorted by confidence score, nextCursor
+ * continues the listing with keyset pagination; it is null on the last page.
  */
 public record CandidatePageDTO(
     List<CandidateDTO> content,     // Candidates for current page
     int totalElements,              // Total candidates matching filters
     int totalPages,                 // Total number of pages
     int currentPage,                // Current page number (0-indexed)
-    int pageSize                    // Number of items per page
-) {}
+    int pageSize,                   // Number of items per page
+    boolean totalElementsEstimated, // true if totalElements is an estimate
+    String nextCursor               // Keyset cursor for the next page (nullable)
+) {
+
+    /**
+     * Exact-count page without a keyset cursor.
+     */
+    public CandidatePageDTO(List<CandidateDTO> content, int totalElements, int totalPages,
+                            int currentPage, int pageSize) {
+        this(content, totalElements, totalPages, currentPage, pageSize, false, null);
+    }
+}
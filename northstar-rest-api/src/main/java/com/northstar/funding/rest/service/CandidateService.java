@@ -2,8 +2,13 @@ package com.northstar.funding.rest.service;
 
 import com.northstar.funding.domain.CandidateStatus;
 import com.northstar.funding.domain.FundingSourceCandidate;
+import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.persistence.repository.CandidateSearchCriteria;
+import com.northstar.funding.persistence.repository.CandidateSortField;
 import com.northstar.funding.persistence.repository.DomainRepository;
 import com.northstar.funding.persistence.repository.FundingSourceCandidateRepository;
+import com.northstar.funding.persistence.repository.FundingSourceCandidateSearchOperations;
+import com.northstar.funding.rest.dto.CandidateCursor;
 import com.northstar.funding.rest.dto.CandidateDTO;
 import com.northstar.funding.rest.dto.CandidateDTOMapper;
 import com.northstar.funding.rest.dto.CandidatePageDTO;
@@ -13,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -27,6 +34,15 @@ import java.util.UUID;
 @Transactional
 public class CandidateService {
 
+    private static final Map<String, CandidateSortField> SORT_FIELDS = Map.of(
+            "createdat", CandidateSortField.DISCOVERED_AT,
+            "discoveredat", CandidateSortField.DISCOVERED_AT,
+            "confidencescore", CandidateSortField.CONFIDENCE_SCORE,
+            "status", CandidateSortField.STATUS,
+            "searchengine", CandidateSortField.SEARCH_ENGINE,
+            "title", CandidateSortField.TITLE
+    );
+
     private final FundingSourceCandidateRepository candidateRepository;
     private final DomainRepository domainRepository;
     private final CandidateDTOMapper mapper;
@@ -65,27 +81,91 @@ public class CandidateService {
             String sortDirection,
             int page,
             int size) {
+        return listCandidates(statuses, minConfidence, searchEngines, startDate, endDate,
+                sortBy, sortDirection, page, size, null);
+    }
+
+    /**
+     * List candidates with optional filters, pagination and keyset cursor.
+     *
+     * Filters, sorting and paging run in the database. When sorted by confidence
+     * score, a cursor from a previous page's nextCursor seeks directly past that
+     * page (keyset pagination) instead of using page * size as OFFSET.
+     *
+     * @param statuses Filter by candidate statuses (multi-select)
+     * @param minConfidence Minimum confidence score (0.00-1.00)
+     * @param searchEngines Filter by search engines (multi-select)
+     * @param startDate Filter by discovered date >= startDate
+     * @param endDate Filter by discovered date <= endDate
+     * @param sortBy Column to sort by (createdAt, confidenceScore, status, searchEngine, title)
+     * @param sortDirection Sort direction (ASC/DESC)
+     * @param page Page number (0-indexed), ignored when cursor is given (the page
+     *             after the cursor's is returned and reported as currentPage)
+     * @param size Number of items per page
+     * @param cursor Keyset cursor from a previous response (nullable)
+     * @return Paginated list of candidates
+     * @throws IllegalArgumentException if a filter, sort or cursor value is invalid
+     */
+    @Transactional(readOnly = true)
+    public CandidatePageDTO listCandidates(
+            List<String> statuses,
+            BigDecimal minConfidence,
+            List<String> searchEngines,
+            LocalDate startDate,
+            LocalDate endDate,
+            String sortBy,
+            String sortDirection,
+            int page,
+            int size,
+            String cursor) {
 
-        // For now, return all candidates (filtering will be added in future enhancement)
-        List<FundingSourceCandidate> allCandidates = (List<FundingSourceCandidate>) candidateRepository.findAll();
-        List<CandidateDTO> dtos = mapper.toDTOs(allCandidates);
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Invalid page request: page=" + page + ", size=" + size);
+        }
 
-        // Simple pagination
-        int totalElements = dtos.size();
+        CandidateSearchCriteria criteria = new CandidateSearchCriteria(
+                parseEnums(statuses, CandidateStatus.class),
+                minConfidence,
+                parseEnums(searchEngines, SearchEngineType.class),
+                startDate != null ? startDate.atStartOfDay() : null,
+                endDate != null ? endDate.plusDays(1).atStartOfDay() : null,
+                parseSortField(sortBy),
+                "ASC".equalsIgnoreCase(sortDirection)
+        );
+
+        List<FundingSourceCandidate> candidates;
+        int currentPage = page;
+        if (cursor != null && !cursor.isBlank()) {
+            if (!criteria.sortField().supportsKeyset()) {
+                throw new IllegalArgumentException("Cursor pagination requires sortBy=confidenceScore");
+            }
+            CandidateCursor position = CandidateCursor.decode(cursor);
+            currentPage = position.page() + 1;
+            candidates = candidateRepository.findAfter(
+                    criteria, position.confidenceScore(), position.candidateId(), size);
+        } else {
+            candidates = candidateRepository.findByCriteria(criteria, (long) page * size, size);
+        }
+
+        FundingSourceCandidateSearchOperations.CandidateCount count = candidateRepository.countByCriteria(criteria);
+        int totalElements = (int) Math.min(count.count(), Integer.MAX_VALUE);
         int totalPages = (int) Math.ceil((double) totalElements / size);
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, totalElements);
 
-        List<CandidateDTO> pageContent = fromIndex < totalElements
-                ? dtos.subList(fromIndex, toIndex)
-                : List.of();
+        // A full keyset-sortable page may have a successor
+        String nextCursor = null;
+        if (criteria.sortField().supportsKeyset() && candidates.size() == size) {
+            FundingSourceCandidate last = candidates.get(candidates.size() - 1);
+            nextCursor = new CandidateCursor(last.getConfidenceScore(), last.getCandidateId(), currentPage).encode();
+        }
 
         return new CandidatePageDTO(
-                pageContent,
+                mapper.toDTOs(candidates),
                 totalElements,
                 totalPages,
-                page,
-                size
+                currentPage,
+                size,
+                count.estimated(),
+                nextCursor
         );
     }
 
@@ -135,4 +215,31 @@ public class CandidateService {
 
         return mapper.toDTO(saved);
     }
+
+    /**
+     * Map API sort names to whitelisted sort columns (default: createdAt).
+     */
+    private CandidateSortField parseSortField(String sortBy) {
+        if (sortBy == null || sortBy.isBlank()) {
+            return CandidateSortField.DISCOVERED_AT;
+        }
+        CandidateSortField field = SORT_FIELDS.get(sortBy.toLowerCase(Locale.ROOT));
+        if (field == null) {
+            throw new IllegalArgumentException("Unsupported sortBy: " + sortBy);
+        }
+        return field;
+    }
+
+    /**
+     * Parse enum names case-insensitively, ignoring blanks.
+     */
+    private static <E extends Enum<E>> List<E> parseEnums(List<String> values, Class<E> type) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(value -> value != null && !value.isBlank())
+                .map(value -> Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT)))
+                .toList();
+    }
 }
@@ -58,7 +58,7 @@ class CandidateControllerTest {
             0,
             20
         );
-        when(candidateService.listCandidates(any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+        when(candidateService.listCandidates(any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt(), any()))
             .thenReturn(page);
 
         // When & Then
@@ -75,7 +75,7 @@ class CandidateControllerTest {
     void listCandidates_WithFilters_ShouldPassParametersToService() throws Exception {
         // Given
         CandidatePageDTO emptyPage = new CandidatePageDTO(List.of(), 0, 0, 0, 20);
-        when(candidateService.listCandidates(any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+        when(candidateService.listCandidates(any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt(), any()))
             .thenReturn(emptyPage);
 
         // When & Then
@@ -4,7 +4,10 @@ import com.northstar.funding.domain.CandidateStatus;
 import com.northstar.funding.domain.DomainStatus;
 import com.northstar.funding.domain.FundingSourceCandidate;
 import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.persistence.repository.CandidateSearchCriteria;
+import com.northstar.funding.persistence.repository.CandidateSortField;
 import com.northstar.funding.persistence.repository.FundingSourceCandidateRepository;
+import com.northstar.funding.persistence.repository.FundingSourceCandidateSearchOperations.CandidateCount;
 import com.northstar.funding.persistence.repository.DomainRepository;
 import com.northstar.funding.rest.dto.CandidateDTO;
 import com.northstar.funding.rest.dto.CandidateDTOMapper;
@@ -12,11 +15,13 @@ import com.northstar.funding.rest.dto.CandidatePageDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -25,6 +30,8 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -74,7 +81,10 @@ class CandidateServiceTest {
     void listCandidates_WithNoFilters_ShouldReturnAllCandidates() {
         // Given
         List<FundingSourceCandidate> candidates = List.of(testCandidate);
-        when(candidateRepository.findAll()).thenReturn(candidates);
+        when(candidateRepository.findByCriteria(any(CandidateSearchCriteria.class), eq(0L), eq(20)))
+            .thenReturn(candidates);
+        when(candidateRepository.countByCriteria(any(CandidateSearchCriteria.class)))
+            .thenReturn(new CandidateCount(1, false));
         when(mapper.toDTOs(candidates)).thenReturn(List.of(testDTO));
 
         // When
@@ -84,7 +94,96 @@ class CandidateServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.content()).hasSize(1);
         assertThat(result.totalElements()).isEqualTo(1);
-        verify(candidateRepository).findAll();
+        assertThat(result.totalElementsEstimated()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        verify(candidateRepository, never()).findAll();
+    }
+
+    @Test
+    void listCandidates_WithFilters_ShouldPushFiltersIntoCriteria() {
+        // Given
+        when(candidateRepository.findByCriteria(any(CandidateSearchCriteria.class), eq(40L), eq(20)))
+            .thenReturn(List.of());
+        when(candidateRepository.countByCriteria(any(CandidateSearchCriteria.class)))
+            .thenReturn(new CandidateCount(250_000, true));
+        when(mapper.toDTOs(List.of())).thenReturn(List.of());
+
+        // When
+        CandidatePageDTO result = candidateService.listCandidates(
+            List.of("pending_crawl", "APPROVED"),
+            new BigDecimal("0.70"),
+            List.of("PERPLEXICA"),
+            LocalDate.of(2025, 11, 1),
+            LocalDate.of(2025, 11, 30),
+            "title",
+            "asc",
+            2,
+            20);
+
+        // Then
+        ArgumentCaptor<CandidateSearchCriteria> captor = ArgumentCaptor.forClass(CandidateSearchCriteria.class);
+        verify(candidateRepository).findByCriteria(captor.capture(), eq(40L), eq(20));
+        CandidateSearchCriteria criteria = captor.getValue();
+        assertThat(criteria.statuses()).containsExactly(CandidateStatus.PENDING_CRAWL, CandidateStatus.APPROVED);
+        assertThat(criteria.minConfidence()).isEqualByComparingTo("0.70");
+        assertThat(criteria.searchEngines()).containsExactly(SearchEngineType.PERPLEXICA);
+        assertThat(criteria.discoveredFrom()).isEqualTo(LocalDateTime.of(2025, 11, 1, 0, 0));
+        assertThat(criteria.discoveredBefore()).isEqualTo(LocalDateTime.of(2025, 12, 1, 0, 0));
+        assertThat(criteria.sortField()).isEqualTo(CandidateSortField.TITLE);
+        assertThat(criteria.ascending()).isTrue();
+
+        assertThat(result.totalElements()).isEqualTo(250_000);
+        assertThat(result.totalElementsEstimated()).isTrue();
+        assertThat(result.totalPages()).isEqualTo(12_500);
+    }
+
+    @Test
+    void listCandidates_SortedByConfidence_ShouldReturnAndFollowKeysetCursor() {
+        // Given: first page is full, so a cursor to the last row is returned
+        when(candidateRepository.findByCriteria(any(CandidateSearchCriteria.class), eq(0L), eq(1)))
+            .thenReturn(List.of(testCandidate));
+        when(candidateRepository.countByCriteria(any(CandidateSearchCriteria.class)))
+            .thenReturn(new CandidateCount(2, false));
+        when(mapper.toDTOs(any())).thenReturn(List.of(testDTO));
+
+        CandidatePageDTO first = candidateService.listCandidates(
+            null, null, null, null, null, "confidenceScore", "DESC", 0, 1);
+        assertThat(first.nextCursor()).isNotNull();
+
+        // When: the cursor is passed back (with a stale page parameter)
+        when(candidateRepository.findAfter(any(CandidateSearchCriteria.class), any(), any(), eq(1)))
+            .thenReturn(List.of());
+        CandidatePageDTO second = candidateService.listCandidates(
+            null, null, null, null, null, "confidenceScore", "DESC", 0, 1, first.nextCursor());
+
+        // Then: seeks past (0.85, testId) instead of using an offset
+        verify(candidateRepository).findAfter(any(CandidateSearchCriteria.class),
+            eq(new BigDecimal("0.85")), eq(testId), eq(1));
+        verify(candidateRepository, never()).findByCriteria(any(), eq(1L), anyInt());
+        assertThat(second.nextCursor()).isNull();
+        // And: currentPage follows the cursor, not the page parameter
+        assertThat(second.currentPage()).isEqualTo(1);
+    }
+
+    @Test
+    void listCandidates_WithInvalidParameters_ShouldThrowException() {
+        assertThatThrownBy(() -> candidateService.listCandidates(
+                List.of("NOT_A_STATUS"), null, null, null, null, null, null, 0, 20))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> candidateService.listCandidates(
+                null, null, null, null, null, "organizationName; DROP TABLE", null, 0, 20))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> candidateService.listCandidates(
+                null, null, null, null, null, "createdAt", null, 0, 20, "opaque"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("confidenceScore");
+
+        assertThatThrownBy(() -> candidateService.listCandidates(
+                null, null, null, null, null, "confidenceScore", null, 0, 20, "not-a-cursor"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid cursor");
     }
 
     @Test
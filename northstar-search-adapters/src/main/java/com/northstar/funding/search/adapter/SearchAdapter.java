@@ -1,8 +1,12 @@
 package com.northstar.funding.search.adapter;
 
+import com.northstar.funding.crawler.provider.ProviderResults;
+import com.northstar.funding.crawler.provider.SearchProvider;
 import com.northstar.funding.domain.SearchEngineType;
+import io.vavr.control.Try;
 
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Strategy interface for search engine adapters.
@@ -14,8 +18,11 @@ import java.util.List;
  *   <li>SerperAdapter - Google via Serper API (future)</li>
  *   <li>PerplexicaAdapter - AI-powered search API (future)</li>
  * </ul>
+ *
+ * <p>Also a {@link SearchProvider}: executeSearch() maps the metadata-only results to
+ * normalized domain SearchResults.
  */
-public interface SearchAdapter {
+public interface SearchAdapter extends SearchProvider {
 
     /**
      * Execute search query and return raw results (metadata only, no crawling).
@@ -38,8 +45,30 @@ public interface SearchAdapter {
      *
      * @return true if adapter is ready to execute searches
      */
+    @Override
     boolean isAvailable();
 
+    @Override
+    default SearchEngineType getProviderType() {
+        return getEngineType();
+    }
+
+    @Override
+    default Try<List<com.northstar.funding.domain.SearchResult>> executeSearch(
+            String query, int maxResults, UUID discoverySessionId) {
+        return Try.of(() -> ProviderResults.normalize(
+                getEngineType(),
+                search(query, maxResults).stream()
+                        .map(result -> com.northstar.funding.domain.SearchResult.builder()
+                                .url(result.url())
+                                .title(result.title())
+                                .description(result.description())
+                                .build())
+                        .toList(),
+                maxResults,
+                discoverySessionId));
+    }
+
     /**
      * Simple search result DTO (metadata only).
      */
@@ -2,6 +2,7 @@ package com.northstar.funding.search.searxng;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.northstar.funding.crawler.provider.ProviderCapabilities;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.search.adapter.SearchAdapter;
 import com.northstar.funding.search.config.SearchAdapterConfig;
@@ -62,6 +63,11 @@ public class SearXNGAdapter implements SearchAdapter {
         return SearchEngineType.SEARXNG;
     }
 
+    @Override
+    public ProviderCapabilities getCapabilities() {
+        return ProviderCapabilities.selfHostedKeyword(false);
+    }
+
     @Override
     public boolean isAvailable() {
         try {
@@ -1,10 +1,14 @@
 package com.northstar.funding.searchadapters;
 
+import com.northstar.funding.crawler.provider.ProviderResults;
+import com.northstar.funding.crawler.provider.SearchProvider;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.domain.SearchResult;
 import com.northstar.funding.searchadapters.exception.SearchAdapterException;
+import io.vavr.control.Try;
 
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Common interface for all search engine adapters.
@@ -16,8 +20,12 @@ import java.util.List;
  * - search() throws SearchAdapterException for API failures (auth, network, timeout)
  * - getEngineType() identifies which search engine this adapter uses
  * - isAvailable() checks if adapter is configured and reachable
+ *
+ * Every SearchAdapter is also a SearchProvider: executeSearch() wraps search() in a Try
+ * and normalizes the results (domain, rank, session), so SearchWorkflowService runs these
+ * adapters through the same SearchProviderGateway as the crawler's providers.
  */
-public interface SearchAdapter {
+public interface SearchAdapter extends SearchProvider {
 
     /**
      * Execute search query and return results.
@@ -42,5 +50,17 @@ public interface SearchAdapter {
      *
      * @return true if adapter can be used, false otherwise
      */
+    @Override
     boolean isAvailable();
+
+    @Override
+    default SearchEngineType getProviderType() {
+        return getEngineType();
+    }
+
+    @Override
+    default Try<List<SearchResult>> executeSearch(String query, int maxResults, UUID discoverySessionId) {
+        return Try.of(() -> ProviderResults.normalize(
+                getEngineType(), search(query, maxResults), maxResults, discoverySessionId));
+    }
 }
@@ -1,5 +1,9 @@
 package com.northstar.funding.searchadapters.brave;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.northstar.funding.crawler.adapter.json.ResultStreamParser;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
+import com.northstar.funding.crawler.provider.ProviderCapabilities;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.domain.SearchResult;
 import com.northstar.funding.searchadapters.SearchAdapter;
@@ -7,13 +11,16 @@ import com.northstar.funding.searchadapters.config.SearchAdapterProperties;
 import com.northstar.funding.searchadapters.exception.SearchAdapterException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -35,20 +42,23 @@ import java.util.stream.Collectors;
  *     ]
  *   }
  * }
+ *
+ * Requests go through the shared SearchHttpTransport (pooled HTTP/2 connections,
+ * compressed responses); web.results is stream-parsed up to maxResults.
  */
 public class BraveSearchAdapter implements SearchAdapter {
 
     private static final Logger logger = LoggerFactory.getLogger(BraveSearchAdapter.class);
 
     private final SearchAdapterProperties.BraveConfig config;
-    private final WebClient webClient;
+    private final SearchHttpTransport httpTransport;
+    private final ResultStreamParser resultParser;
 
-    public BraveSearchAdapter(SearchAdapterProperties.BraveConfig config) {
+    public BraveSearchAdapter(SearchAdapterProperties.BraveConfig config, SearchHttpTransport httpTransport) {
         this.config = config;
-        this.webClient = WebClient.builder()
-            .baseUrl(config.getApiUrl())
-            .defaultHeader("X-Subscription-Token", config.getApiKey())
-            .build();
+        this.httpTransport = httpTransport;
+        this.resultParser = new ResultStreamParser(new JsonFactory(), "web.results",
+            new ResultStreamParser.Fields("url", "title", "description", null), 0);
     }
 
     @Override
@@ -56,35 +66,41 @@ public class BraveSearchAdapter implements SearchAdapter {
         logger.info("Brave search: query='{}', maxResults={}", query, maxResults);
 
         try {
-            Map<String, Object> response = webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                    .path("")  // Use empty path since baseUrl already contains full endpoint
-                    .queryParam("q", query)
-                    .queryParam("count", maxResults)
-                    .build())
-                .retrieve()
-                .bodyToMono(Map.class)
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(String.format("%s?q=%s&count=%d",
+                    config.getApiUrl(), URLEncoder.encode(query, StandardCharsets.UTF_8), maxResults)))
+                .header("Accept", "application/json")
+                .header("X-Subscription-Token", config.getApiKey())
                 .timeout(Duration.ofSeconds(config.getTimeoutSeconds()))
-                .block();
-
-            return extractResults(response);
-
-        } catch (WebClientResponseException.Unauthorized e) {
-            logger.error("Brave authentication failure: {}", e.getMessage());
-            throw new SearchAdapterException(
-                SearchEngineType.BRAVE,
-                query,
-                "401 Unauthorized - Invalid API key",
-                e
-            );
-        } catch (WebClientResponseException e) {
-            logger.error("Brave API error: status={}, message={}", e.getStatusCode(), e.getMessage());
-            throw new SearchAdapterException(
-                SearchEngineType.BRAVE,
-                query,
-                String.format("HTTP %d: %s", e.getStatusCode().value(), e.getMessage()),
-                e
-            );
+                .GET()
+                .build();
+
+            HttpResponse<InputStream> response = httpTransport.send(request);
+            try (InputStream body = response.body()) {
+                int statusCode = response.statusCode();
+                if (statusCode == 401) {
+                    logger.error("Brave authentication failure: status={}", statusCode);
+                    throw new SearchAdapterException(
+                        SearchEngineType.BRAVE,
+                        query,
+                        "401 Unauthorized - Invalid API key"
+                    );
+                }
+                if (statusCode >= 400) {
+                    String error = new String(body.readNBytes(512), StandardCharsets.UTF_8);
+                    logger.error("Brave API error: status={}, message={}", statusCode, error);
+                    throw new SearchAdapterException(
+                        SearchEngineType.BRAVE,
+                        query,
+                        String.format("HTTP %d: %s", statusCode, error)
+                    );
+                }
+
+                return toSearchResults(resultParser.parse(body, maxResults));
+            }
+
+        } catch (SearchAdapterException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Brave search failed: {}", e.getMessage(), e);
             throw new SearchAdapterException(
@@ -101,32 +117,24 @@ public class BraveSearchAdapter implements SearchAdapter {
         return SearchEngineType.BRAVE;
     }
 
+    @Override
+    public ProviderCapabilities getCapabilities() {
+        return ProviderCapabilities.keywordApi(false);
+    }
+
     @Override
     public boolean isAvailable() {
         return config.getApiKey() != null && !config.getApiKey().isBlank();
     }
 
     /**
-     * Extract search results from Brave API response.
+     * Map parsed Brave results to SearchResult domain entities.
      *
-     * @param response API response map
+     * @param results Raw results from web.results
      * @return List of SearchResult (empty if no results)
      */
-    @SuppressWarnings("unchecked")
-    private List<SearchResult> extractResults(Map<String, Object> response) {
-        if (response == null) {
-            logger.warn("Brave returned null response");
-            return List.of();
-        }
-
-        Map<String, Object> web = (Map<String, Object>) response.get("web");
-        if (web == null) {
-            logger.warn("Brave response missing 'web' field");
-            return List.of();
-        }
-
-        List<Map<String, Object>> results = (List<Map<String, Object>>) web.get("results");
-        if (results == null || results.isEmpty()) {
+    private List<SearchResult> toSearchResults(List<ResultStreamParser.RawResult> results) {
+        if (results.isEmpty()) {
             logger.info("Brave returned zero results");
             return List.of();
         }
@@ -134,24 +142,13 @@ public class BraveSearchAdapter implements SearchAdapter {
         LocalDateTime discoveredAt = LocalDateTime.now();
 
         return results.stream()
-            .map(result -> mapToSearchResult(result, discoveredAt))
+            .map(result -> SearchResult.builder()
+                .url(result.url())
+                .title(result.title())
+                .description(result.description())
+                .searchEngine(SearchEngineType.BRAVE)
+                .discoveredAt(discoveredAt)
+                .build())
             .collect(Collectors.toList());
     }
-
-    /**
-     * Map Brave API result to SearchResult domain entity.
-     *
-     * @param result API result map
-     * @param discoveredAt Timestamp when discovered
-     * @return SearchResult
-     */
-    private SearchResult mapToSearchResult(Map<String, Object> result, LocalDateTime discoveredAt) {
-        return SearchResult.builder()
-            .url((String) result.get("url"))
-            .title((String) result.get("title"))
-            .description((String) result.get("description"))
-            .searchEngine(SearchEngineType.BRAVE)
-            .discoveredAt(discoveredAt)
-            .build();
-    }
 }
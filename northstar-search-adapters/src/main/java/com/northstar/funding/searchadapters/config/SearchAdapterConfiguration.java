@@ -1,5 +1,6 @@
 package com.northstar.funding.searchadapters.config;
 
+import com.northstar.funding.crawler.http.SearchHttpTransport;
 import com.northstar.funding.searchadapters.SearchAdapter;
 import com.northstar.funding.searchadapters.brave.BraveSearchAdapter;
 import com.northstar.funding.searchadapters.searxng.SearXNGAdapter;
@@ -20,6 +21,7 @@ import java.util.List;
  *   <li>Each adapter checks if it's enabled (has required config)</li>
  *   <li>Disabled adapters are not added to the adapter list</li>
  *   <li>SearchWorkflowService auto-discovers all registered adapters</li>
+ *   <li>All adapters share the crawler's SearchHttpTransport bean</li>
  * </ul>
  *
  * <p>Example application.yml:
@@ -38,9 +40,11 @@ import java.util.List;
 public class SearchAdapterConfiguration {
 
     private final SearchAdapterProperties properties;
+    private final SearchHttpTransport httpTransport;
 
-    public SearchAdapterConfiguration(SearchAdapterProperties properties) {
+    public SearchAdapterConfiguration(SearchAdapterProperties properties, SearchHttpTransport httpTransport) {
         this.properties = properties;
+        this.httpTransport = httpTransport;
     }
 
     /**
@@ -61,13 +65,13 @@ public class SearchAdapterConfiguration {
         // Brave Search
         SearchAdapterProperties.BraveConfig braveConfig = properties.getBrave();
         if (braveConfig.getApiKey() != null && !braveConfig.getApiKey().isEmpty()) {
-            adapters.add(new BraveSearchAdapter(braveConfig));
+            adapters.add(new BraveSearchAdapter(braveConfig, httpTransport));
         }
 
         // SearXNG (Self-hosted)
         SearchAdapterProperties.SearxngConfig searxngConfig = properties.getSearxng();
         if (searxngConfig.getApiUrl() != null && !searxngConfig.getApiUrl().isEmpty()) {
-            adapters.add(new SearXNGAdapter(searxngConfig));
+            adapters.add(new SearXNGAdapter(searxngConfig, httpTransport));
         }
 
         return adapters;
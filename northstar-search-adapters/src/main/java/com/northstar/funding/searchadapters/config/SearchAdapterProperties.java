@@ -17,6 +17,7 @@ public class SearchAdapterProperties {
     private BraveConfig brave = new BraveConfig();
     private SerperConfig serper = new SerperConfig();
     private SearxngConfig searxng = new SearxngConfig();
+    private WorkflowConfig workflow = new WorkflowConfig();
 
     @Data
     public static class BraveConfig {
@@ -36,5 +37,23 @@ public class SearchAdapterProperties {
     public static class SearxngConfig {
         private String apiUrl = "http://192.168.1.10:8080";
         private int timeoutSeconds = 10;
+        /** Result content is cut to this many characters while parsing (0 = no limit) */
+        private int maxDescriptionLength = 1000;
+    }
+
+    /**
+     * Concurrency caps for SearchWorkflowService.
+     */
+    @Data
+    public static class WorkflowConfig {
+        /**
+         * Concurrent query generation requests. 1 on purpose: LM Studio serves one request
+         * at a time, so more would only queue there. The workflow is still faster than
+         * generate-all-then-search: searches start as soon as each generation completes,
+         * overlapping the remaining LLM calls, and run up to providerConcurrency per engine.
+         */
+        private int llmConcurrency = 1;
+        /** Concurrent searches per search engine */
+        private int providerConcurrency = 4;
     }
 }
@@ -72,6 +72,12 @@ public class SearchWorkflowResult {
      */
     private int blacklistedSkipped;
 
+    /**
+     * Number of results skipped because an earlier session found the same URL or domain
+     * within the seen index look-back windows.
+     */
+    private int recentlySeenSkipped;
+
     /**
      * Number of candidates skipped due to low confidence.
      * Confidence score < 0.60 threshold.
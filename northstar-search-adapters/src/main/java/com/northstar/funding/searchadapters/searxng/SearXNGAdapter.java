@@ -1,5 +1,9 @@
 package com.northstar.funding.searchadapters.searxng;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.northstar.funding.crawler.adapter.json.ResultStreamParser;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
+import com.northstar.funding.crawler.provider.ProviderCapabilities;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.domain.SearchResult;
 import com.northstar.funding.searchadapters.SearchAdapter;
@@ -7,13 +11,16 @@ import com.northstar.funding.searchadapters.config.SearchAdapterProperties;
 import com.northstar.funding.searchadapters.exception.SearchAdapterException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -33,19 +40,26 @@ import java.util.stream.Collectors;
  *     }
  *   ]
  * }
+ *
+ * Requests go through the shared SearchHttpTransport (pooled connections, compressed
+ * responses). The body is read with the Jackson streaming API as it arrives: only
+ * url/title/content of the first maxResults results are extracted (content cut to
+ * maxDescriptionLength) and the rest of the body is never read.
  */
 public class SearXNGAdapter implements SearchAdapter {
 
     private static final Logger logger = LoggerFactory.getLogger(SearXNGAdapter.class);
 
     private final SearchAdapterProperties.SearxngConfig config;
-    private final WebClient webClient;
+    private final SearchHttpTransport httpTransport;
+    private final ResultStreamParser resultParser;
 
-    public SearXNGAdapter(SearchAdapterProperties.SearxngConfig config) {
+    public SearXNGAdapter(SearchAdapterProperties.SearxngConfig config, SearchHttpTransport httpTransport) {
         this.config = config;
-        this.webClient = WebClient.builder()
-            .baseUrl(config.getApiUrl())
-            .build();
+        this.httpTransport = httpTransport;
+        this.resultParser = new ResultStreamParser(new JsonFactory(), "results",
+            new ResultStreamParser.Fields("url", "title", "content", null),
+            config.getMaxDescriptionLength());
     }
 
     @Override
@@ -53,28 +67,32 @@ public class SearXNGAdapter implements SearchAdapter {
         logger.info("SearXNG search: query='{}', maxResults={}", query, maxResults);
 
         try {
-            Map<String, Object> response = webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                    .path("/search")
-                    .queryParam("q", query)
-                    .queryParam("format", "json")
-                    .queryParam("pageno", "1")
-                    .build())
-                .retrieve()
-                .bodyToMono(Map.class)
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(String.format("%s/search?q=%s&format=json&pageno=1",
+                    config.getApiUrl(), URLEncoder.encode(query, StandardCharsets.UTF_8))))
+                .header("Accept", "application/json")
                 .timeout(Duration.ofSeconds(config.getTimeoutSeconds()))
-                .block();
-
-            return extractResults(response, maxResults);
-
-        } catch (WebClientResponseException e) {
-            logger.error("SearXNG API error: status={}, message={}", e.getStatusCode(), e.getMessage());
-            throw new SearchAdapterException(
-                SearchEngineType.SEARXNG,
-                query,
-                String.format("HTTP %d: %s", e.getStatusCode().value(), e.getMessage()),
-                e
-            );
+                .GET()
+                .build();
+
+            HttpResponse<InputStream> response = httpTransport.send(request);
+            try (InputStream body = response.body()) {
+                int statusCode = response.statusCode();
+                if (statusCode >= 400) {
+                    String error = new String(body.readNBytes(512), StandardCharsets.UTF_8);
+                    logger.error("SearXNG API error: status={}, message={}", statusCode, error);
+                    throw new SearchAdapterException(
+                        SearchEngineType.SEARXNG,
+                        query,
+                        String.format("HTTP %d: %s", statusCode, error)
+                    );
+                }
+
+                return toSearchResults(resultParser.parse(body, maxResults));
+            }
+
+        } catch (SearchAdapterException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("SearXNG search failed: {}", e.getMessage(), e);
             throw new SearchAdapterException(
@@ -91,6 +109,11 @@ public class SearXNGAdapter implements SearchAdapter {
         return SearchEngineType.SEARXNG;
     }
 
+    @Override
+    public ProviderCapabilities getCapabilities() {
+        return ProviderCapabilities.selfHostedKeyword(false);
+    }
+
     @Override
     public boolean isAvailable() {
         // SearXNG doesn't require API key, check if URL is configured
@@ -98,21 +121,13 @@ public class SearXNGAdapter implements SearchAdapter {
     }
 
     /**
-     * Extract search results from SearXNG API response.
+     * Map parsed SearXNG results to SearchResult domain entities.
      *
-     * @param response API response map
-     * @param maxResults Maximum number of results to return
+     * @param results Raw results from the response
      * @return List of SearchResult (empty if no results)
      */
-    @SuppressWarnings("unchecked")
-    private List<SearchResult> extractResults(Map<String, Object> response, int maxResults) {
-        if (response == null) {
-            logger.warn("SearXNG returned null response");
-            return List.of();
-        }
-
-        List<Map<String, Object>> results = (List<Map<String, Object>>) response.get("results");
-        if (results == null || results.isEmpty()) {
+    private List<SearchResult> toSearchResults(List<ResultStreamParser.RawResult> results) {
+        if (results.isEmpty()) {
             logger.info("SearXNG returned zero results");
             return List.of();
         }
@@ -120,25 +135,13 @@ public class SearXNGAdapter implements SearchAdapter {
         LocalDateTime discoveredAt = LocalDateTime.now();
 
         return results.stream()
-            .limit(maxResults)
-            .map(result -> mapToSearchResult(result, discoveredAt))
+            .map(result -> SearchResult.builder()
+                .url(result.url())
+                .title(result.title())
+                .description(result.description())
+                .searchEngine(SearchEngineType.SEARXNG)
+                .discoveredAt(discoveredAt)
+                .build())
             .collect(Collectors.toList());
     }
-
-    /**
-     * Map SearXNG API result to SearchResult domain entity.
-     *
-     * @param result API result map
-     * @param discoveredAt Timestamp when discovered
-     * @return SearchResult
-     */
-    private SearchResult mapToSearchResult(Map<String, Object> result, LocalDateTime discoveredAt) {
-        return SearchResult.builder()
-            .url((String) result.get("url"))
-            .title((String) result.get("title"))
-            .description((String) result.get("content"))
-            .searchEngine(SearchEngineType.SEARXNG)
-            .discoveredAt(discoveredAt)
-            .build();
-    }
 }
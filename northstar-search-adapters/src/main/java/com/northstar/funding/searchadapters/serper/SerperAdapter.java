@@ -1,5 +1,10 @@
 package com.northstar.funding.searchadapters.serper;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.northstar.funding.crawler.adapter.json.ResultStreamParser;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
+import com.northstar.funding.crawler.provider.ProviderCapabilities;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.domain.SearchResult;
 import com.northstar.funding.searchadapters.SearchAdapter;
@@ -7,13 +12,17 @@ import com.northstar.funding.searchadapters.config.SearchAdapterProperties;
 import com.northstar.funding.searchadapters.exception.SearchAdapterException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -33,21 +42,24 @@ import java.util.stream.Collectors;
  *     }
  *   ]
  * }
+ *
+ * Requests go through the shared SearchHttpTransport (pooled HTTP/2 connections,
+ * compressed responses); organic is stream-parsed up to maxResults.
  */
 public class SerperAdapter implements SearchAdapter {
 
     private static final Logger logger = LoggerFactory.getLogger(SerperAdapter.class);
 
     private final SearchAdapterProperties.SerperConfig config;
-    private final WebClient webClient;
+    private final SearchHttpTransport httpTransport;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final ResultStreamParser resultParser;
 
-    public SerperAdapter(SearchAdapterProperties.SerperConfig config) {
+    public SerperAdapter(SearchAdapterProperties.SerperConfig config, SearchHttpTransport httpTransport) {
         this.config = config;
-        this.webClient = WebClient.builder()
-            .baseUrl(config.getApiUrl())
-            .defaultHeader("X-API-KEY", config.getApiKey())
-            .defaultHeader("Content-Type", "application/json")
-            .build();
+        this.httpTransport = httpTransport;
+        this.resultParser = new ResultStreamParser(jsonFactory, "organic",
+            new ResultStreamParser.Fields("link", "title", "snippet", null), 0);
     }
 
     @Override
@@ -55,36 +67,40 @@ public class SerperAdapter implements SearchAdapter {
         logger.info("Serper search: query='{}', maxResults={}", query, maxResults);
 
         try {
-            Map<String, Object> requestBody = Map.of(
-                "q", query,
-                "num", maxResults
-            );
-
-            Map<String, Object> response = webClient.post()
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(Map.class)
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(config.getApiUrl()))
+                .header("X-API-KEY", config.getApiKey())
+                .header("Content-Type", "application/json")
                 .timeout(Duration.ofSeconds(config.getTimeoutSeconds()))
-                .block();
-
-            return extractResults(response);
-
-        } catch (WebClientResponseException.Unauthorized e) {
-            logger.error("Serper authentication failure: {}", e.getMessage());
-            throw new SearchAdapterException(
-                SearchEngineType.SERPER,
-                query,
-                "401 Unauthorized - Invalid API key",
-                e
-            );
-        } catch (WebClientResponseException e) {
-            logger.error("Serper API error: status={}, message={}", e.getStatusCode(), e.getMessage());
-            throw new SearchAdapterException(
-                SearchEngineType.SERPER,
-                query,
-                String.format("HTTP %d: %s", e.getStatusCode().value(), e.getMessage()),
-                e
-            );
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody(query, maxResults)))
+                .build();
+
+            HttpResponse<InputStream> response = httpTransport.send(request);
+            try (InputStream body = response.body()) {
+                int statusCode = response.statusCode();
+                if (statusCode == 401) {
+                    logger.error("Serper authentication failure: status={}", statusCode);
+                    throw new SearchAdapterException(
+                        SearchEngineType.SERPER,
+                        query,
+                        "401 Unauthorized - Invalid API key"
+                    );
+                }
+                if (statusCode >= 400) {
+                    String error = new String(body.readNBytes(512), StandardCharsets.UTF_8);
+                    logger.error("Serper API error: status={}, message={}", statusCode, error);
+                    throw new SearchAdapterException(
+                        SearchEngineType.SERPER,
+                        query,
+                        String.format("HTTP %d: %s", statusCode, error)
+                    );
+                }
+
+                return toSearchResults(resultParser.parse(body, maxResults));
+            }
+
+        } catch (SearchAdapterException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Serper search failed: {}", e.getMessage(), e);
             throw new SearchAdapterException(
@@ -101,51 +117,52 @@ public class SerperAdapter implements SearchAdapter {
         return SearchEngineType.SERPER;
     }
 
+    @Override
+    public ProviderCapabilities getCapabilities() {
+        return ProviderCapabilities.keywordApi(false);
+    }
+
     @Override
     public boolean isAvailable() {
         return config.getApiKey() != null && !config.getApiKey().isBlank();
     }
 
     /**
-     * Extract search results from Serper API response.
-     *
-     * @param response API response map
-     * @return List of SearchResult (empty if no results)
+     * Build the JSON request body {"q": query, "num": maxResults}.
      */
-    @SuppressWarnings("unchecked")
-    private List<SearchResult> extractResults(Map<String, Object> response) {
-        if (response == null) {
-            logger.warn("Serper returned null response");
-            return List.of();
+    private String requestBody(String query, int maxResults) throws IOException {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(json)) {
+            generator.writeStartObject();
+            generator.writeStringField("q", query);
+            generator.writeNumberField("num", maxResults);
+            generator.writeEndObject();
         }
+        return json.toString();
+    }
 
-        List<Map<String, Object>> organic = (List<Map<String, Object>>) response.get("organic");
-        if (organic == null || organic.isEmpty()) {
+    /**
+     * Map parsed Serper results to SearchResult domain entities.
+     *
+     * @param results Raw results from organic
+     * @return List of SearchResult (empty if no results)
+     */
+    private List<SearchResult> toSearchResults(List<ResultStreamParser.RawResult> results) {
+        if (results.isEmpty()) {
             logger.info("Serper returned zero results");
             return List.of();
         }
 
         LocalDateTime discoveredAt = LocalDateTime.now();
 
-        return organic.stream()
-            .map(result -> mapToSearchResult(result, discoveredAt))
+        return results.stream()
+            .map(result -> SearchResult.builder()
+                .url(result.url())
+                .title(result.title())
+                .description(result.description())
+                .searchEngine(SearchEngineType.SERPER)
+                .discoveredAt(discoveredAt)
+                .build())
             .collect(Collectors.toList());
     }
-
-    /**
-     * Map Serper API result to SearchResult domain entity.
-     *
-     * @param result API result map
-     * @param discoveredAt Timestamp when discovered
-     * @return SearchResult
-     */
-    private SearchResult mapToSearchResult(Map<String, Object> result, LocalDateTime discoveredAt) {
-        return SearchResult.builder()
-            .url((String) result.get("link"))
-            .title((String) result.get("title"))
-            .description((String) result.get("snippet"))
-            .searchEngine(SearchEngineType.SERPER)
-            .discoveredAt(discoveredAt)
-            .build();
-    }
 }
@@ -0,0 +1,83 @@
+package com.northstar.funding.searchadapters.workflow;
+
+import com.northstar.funding.domain.FundingSearchCategory;
+import com.northstar.funding.querygeneration.model.QueryCacheKey;
+import com.northstar.funding.querygeneration.service.QueryCacheService;
+import com.northstar.funding.searchadapters.SearchAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Warms the query cache at startup for today's nightly search.
+ *
+ * <p>Builds the same cache keys SearchWorkflowService will request for today's
+ * DayOfWeekCategories schedule (one per category and adapter) and preloads any
+ * queries already persisted for them, so a restart before the nightly run doesn't
+ * send the whole schedule back to the LLM.
+ */
+@Component
+public class QueryCacheWarmer {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCacheWarmer.class);
+
+    private final QueryCacheService queryCacheService;
+    private final List<SearchAdapter> searchAdapters;
+
+    public QueryCacheWarmer(QueryCacheService queryCacheService, List<SearchAdapter> searchAdapters) {
+        this.queryCacheService = queryCacheService;
+        this.searchAdapters = searchAdapters != null ? searchAdapters : List.of();
+    }
+
+    /**
+     * Warm the cache once the application is ready.
+     * Failures are logged only; the cache then fills on demand.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmOnStartup() {
+        try {
+            warm(LocalDate.now().getDayOfWeek());
+        } catch (Exception e) {
+            logger.warn("Query cache warm-up failed, queries will be loaded on demand: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Preload cached queries for a day's schedule.
+     *
+     * @param dayOfWeek Day whose categories should be warmed
+     * @return number of keys loaded into the cache
+     */
+    public int warm(DayOfWeek dayOfWeek) {
+        List<QueryCacheKey> keys = keysFor(dayOfWeek);
+        int warmed = queryCacheService.warmUp(keys);
+        logger.info("Warmed {}/{} query cache keys for {}", warmed, keys.size(), dayOfWeek);
+        return warmed;
+    }
+
+    /**
+     * Cache keys the nightly workflow requests for a day (must mirror SearchWorkflowService).
+     */
+    List<QueryCacheKey> keysFor(DayOfWeek dayOfWeek) {
+        List<QueryCacheKey> keys = new ArrayList<>();
+        for (FundingSearchCategory category : DayOfWeekCategories.getCategories(dayOfWeek)) {
+            for (SearchAdapter adapter : searchAdapters) {
+                keys.add(QueryCacheKey.builder()
+                    .searchEngine(adapter.getEngineType())
+                    .categories(Set.of(category))
+                    .geographic(SearchWorkflowService.WORKFLOW_GEOGRAPHY)
+                    .maxQueries(SearchWorkflowService.NIGHTLY_MAX_RESULTS_PER_QUERY)
+                    .build());
+            }
+        }
+        return keys;
+    }
+}
@@ -3,12 +3,15 @@ package com.northstar.funding.searchadapters.workflow;
 import com.northstar.funding.crawler.processing.ProcessingStatistics;
 import com.northstar.funding.crawler.processing.SearchResult;
 import com.northstar.funding.crawler.processing.SearchResultProcessor;
+import com.northstar.funding.crawler.provider.SearchProvider;
+import com.northstar.funding.crawler.provider.SearchProviderGateway;
 import com.northstar.funding.domain.*;
 import com.northstar.funding.persistence.service.DiscoverySessionService;
 import com.northstar.funding.querygeneration.model.QueryGenerationRequest;
 import com.northstar.funding.querygeneration.model.QueryGenerationResponse;
 import com.northstar.funding.querygeneration.service.QueryGenerationService;
 import com.northstar.funding.searchadapters.SearchAdapter;
+import com.northstar.funding.searchadapters.config.SearchAdapterProperties;
 import com.northstar.funding.searchadapters.model.ManualSearchRequest;
 import com.northstar.funding.searchadapters.model.SearchWorkflowResult;
 import org.slf4j.Logger;
@@ -20,9 +23,11 @@ import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 /**
@@ -31,15 +36,18 @@ import java.util.stream.Collectors;
  * <p>Workflow Steps:
  * 1. Get categories for day from DayOfWeekCategories
  * 2. Create DiscoverySession (type: NIGHTLY_AUTOMATED)
- * 3. For each category: generate queries via QueryGenerationService
- * 4. For each query: execute searches in parallel across all adapters (Virtual Threads)
- * 5. Process results with SearchResultProcessor (confidence scoring, deduplication, domain registration)
+ * 3. For each (category, engine) pair: generate queries via QueryGenerationService, all in parallel
+ * 4. As each query arrives: execute searches in parallel across all adapters (Virtual Threads),
+ *    each through SearchProviderGateway (shared response cache, usage tracking, limiter)
+ * 5. As each search completes: process results with SearchResultProcessor
+ *    (confidence scoring, deduplication, domain registration)
  * 6. Track statistics (zero results, results by engine)
  * 7. Update session with final statistics
  * 8. Return SearchWorkflowResult
  *
  * <p>Features:
  * - Java 25 Virtual Threads for parallel execution
+ * - Pipelined stages with separate LLM and per-engine concurrency caps
  * - Adapter failure resilience (skip failed, continue with successful)
  * - Zero-result tracking for adapter effectiveness analysis
  * - Comprehensive statistics and metrics
@@ -50,24 +58,44 @@ public class SearchWorkflowService {
 
     private static final Logger logger = LoggerFactory.getLogger(SearchWorkflowService.class);
 
+    /**
+     * Queries per category/engine and results per query for nightly runs.
+     */
+    static final int NIGHTLY_MAX_RESULTS_PER_QUERY = 10;
+
+    /**
+     * Geographic scope used for all workflow query generation.
+     */
+    static final GeographicScope WORKFLOW_GEOGRAPHY = GeographicScope.BULGARIA;
+
     private final QueryGenerationService queryGenerationService;
-    private final List<SearchAdapter> searchAdapters;
+    private final List<SearchProvider> searchProviders;
     private final SearchResultProcessor searchResultProcessor;
     private final DiscoverySessionService discoverySessionService;
     private final ExecutorService executorService;
+    private final int llmConcurrency;
+    private final int providerConcurrency;
+
+    // Cache, usage tracking and limiter hooks around each provider call
+    private final SearchProviderGateway providerGateway;
 
     public SearchWorkflowService(
             QueryGenerationService queryGenerationService,
             List<SearchAdapter> searchAdapters,
             SearchResultProcessor searchResultProcessor,
-            DiscoverySessionService discoverySessionService) {
+            DiscoverySessionService discoverySessionService,
+            SearchAdapterProperties properties,
+            SearchProviderGateway providerGateway) {
 
         this.queryGenerationService = queryGenerationService;
-        this.searchAdapters = searchAdapters != null ? searchAdapters : List.of();
+        this.searchProviders = searchAdapters != null ? List.copyOf(searchAdapters) : List.of();
         this.searchResultProcessor = searchResultProcessor;
         this.discoverySessionService = discoverySessionService;
+        this.llmConcurrency = Math.max(1, properties.getWorkflow().getLlmConcurrency());
+        this.providerConcurrency = Math.max(1, properties.getWorkflow().getProviderConcurrency());
         // Java 25 Virtual Threads for efficient concurrent execution
         this.executorService = Executors.newVirtualThreadPerTaskExecutor();
+        this.providerGateway = providerGateway;
     }
 
     /**
@@ -94,7 +122,7 @@ public class SearchWorkflowService {
         logger.info("Created DiscoverySession: sessionId={}", session.getSessionId());
 
         // Execute workflow
-        SearchWorkflowResult result = executeWorkflow(session, categories, searchAdapters, 10);
+        SearchWorkflowResult result = executeWorkflow(session, categories, searchProviders, NIGHTLY_MAX_RESULTS_PER_QUERY);
 
         // Calculate duration
         Duration duration = Duration.between(startTime, Instant.now());
@@ -105,6 +133,7 @@ public class SearchWorkflowService {
             .candidatesCreated(result.getCandidatesCreated())
             .duplicatesSkipped(result.getDuplicatesSkipped())
             .blacklistedSkipped(result.getBlacklistedSkipped())
+            .recentlySeenSkipped(result.getRecentlySeenSkipped())
             .lowConfidenceSkipped(result.getLowConfidenceSkipped())
             .zeroResultCount(result.getZeroResultCount())
             .resultsByEngine(result.getResultsByEngine())
@@ -144,13 +173,13 @@ public class SearchWorkflowService {
         logger.info("Created DiscoverySession: sessionId={}", session.getSessionId());
 
         // Filter adapters to only requested engines
-        List<SearchAdapter> requestedAdapters = searchAdapters.stream()
-            .filter(adapter -> request.getEngines().contains(adapter.getEngineType()))
+        List<SearchProvider> requestedAdapters = searchProviders.stream()
+            .filter(adapter -> request.getEngines().contains(adapter.getProviderType()))
             .toList();
 
         logger.info("Requested adapters: {}",
             requestedAdapters.stream()
-                .map(a -> a.getEngineType().name())
+                .map(a -> a.getProviderType().name())
                 .collect(Collectors.joining(", ")));
 
         // Execute workflow
@@ -170,6 +199,7 @@ public class SearchWorkflowService {
             .candidatesCreated(result.getCandidatesCreated())
             .duplicatesSkipped(result.getDuplicatesSkipped())
             .blacklistedSkipped(result.getBlacklistedSkipped())
+            .recentlySeenSkipped(result.getRecentlySeenSkipped())
             .lowConfidenceSkipped(result.getLowConfidenceSkipped())
             .zeroResultCount(result.getZeroResultCount())
             .resultsByEngine(result.getResultsByEngine())
@@ -186,11 +216,20 @@ public class SearchWorkflowService {
 
     /**
      * Core workflow execution logic (used by both nightly and manual searches).
+     *
+     * <p>Pipelined: query generation for every (category, engine) pair is submitted at once,
+     * each generated query is dispatched to the search stage as soon as its generation
+     * completes, and results are processed as soon as each search completes. LLM calls and
+     * searches per engine are capped by separate semaphores. With the default single LLM
+     * permit generation itself stays sequential; the gain comes from searching (and
+     * processing) each query set while the next one is generated. Result processing stays
+     * on the calling thread (inside the workflow transaction), so statistics need no
+     * synchronization.
      */
     private SearchWorkflowResult executeWorkflow(
             DiscoverySession session,
             List<FundingSearchCategory> categories,
-            List<SearchAdapter> adapters,
+            List<SearchProvider> adapters,
             int maxResultsPerQuery) {
 
         // Statistics tracking
@@ -200,73 +239,90 @@ public class SearchWorkflowService {
         int candidatesCreated = 0;
         int duplicatesSkipped = 0;
         int blacklistedSkipped = 0;
+        int recentlySeenSkipped = 0;
         int lowConfidenceSkipped = 0;
         Map<SearchEngineType, Integer> resultsByEngine = new HashMap<>();
         Map<SearchEngineType, Integer> zeroResultsByEngine = new HashMap<>();
         List<String> failureMessages = new ArrayList<>();
 
-        // Initialize engine counters
-        for (SearchAdapter adapter : adapters) {
-            resultsByEngine.put(adapter.getEngineType(), 0);
-            zeroResultsByEngine.put(adapter.getEngineType(), 0);
+        // Initialize engine counters and per-engine concurrency caps
+        Map<SearchEngineType, Semaphore> providerPermits = new EnumMap<>(SearchEngineType.class);
+        for (SearchProvider adapter : adapters) {
+            resultsByEngine.put(adapter.getProviderType(), 0);
+            zeroResultsByEngine.put(adapter.getProviderType(), 0);
+            providerPermits.putIfAbsent(adapter.getProviderType(), new Semaphore(providerConcurrency));
         }
+        Semaphore llmPermits = new Semaphore(llmConcurrency);
 
-        // Step 1: Generate queries for all categories
-        List<String> allQueries = new ArrayList<>();
-        for (FundingSearchCategory category : categories) {
-            logger.info("Generating queries for category: {}", category);
+        // Completed stage events, consumed on this thread
+        BlockingQueue<WorkflowEvent> events = new LinkedBlockingQueue<>();
+        int pending = 0;
 
-            // Generate queries for each search engine
-            for (SearchAdapter adapter : adapters) {
+        // Stage 1: Fan out query generation across all (category, engine) pairs
+        for (FundingSearchCategory category : categories) {
+            for (SearchProvider adapter : adapters) {
                 QueryGenerationRequest request = QueryGenerationRequest.builder()
-                    .searchEngine(adapter.getEngineType())
+                    .searchEngine(adapter.getProviderType())
                     .categories(Set.of(category))
-                    .geographic(GeographicScope.BULGARIA)
+                    .geographic(WORKFLOW_GEOGRAPHY)
                     .maxQueries(maxResultsPerQuery)
                     .sessionId(session.getSessionId())
                     .build();
 
-                try {
-                    QueryGenerationResponse response = queryGenerationService.generateQueries(request).join();
-                    List<String> queries = response.getQueries();
-                    allQueries.addAll(queries);
-                    queriesGenerated += queries.size();
-                    logger.info("Generated {} queries for {} using {}", queries.size(), category, adapter.getEngineType());
-                } catch (Exception e) {
-                    logger.error("Failed to generate queries for {} using {}: {}",
-                        category, adapter.getEngineType(), e.getMessage());
-                    failureMessages.add(String.format("Query generation failed for %s: %s",
-                        adapter.getEngineType(), e.getMessage()));
-                }
+                executorService.execute(() -> events.add(generateQueriesSafely(request, category, llmPermits)));
+                pending++;
             }
         }
 
-        logger.info("Total queries generated: {}", queriesGenerated);
+        // Stage 2 + 3: Dispatch searches as queries arrive, process results as searches complete
+        Set<String> dispatchedQueries = new HashSet<>();
+        while (pending > 0) {
+            WorkflowEvent event;
+            try {
+                event = events.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.error("Workflow interrupted with {} pending tasks", pending);
+                failureMessages.add("Workflow interrupted with " + pending + " pending tasks");
+                break;
+            }
+            pending--;
 
-        // Step 2: Execute searches in parallel across all adapters
-        logger.info("Executing {} queries across {} adapters in parallel", allQueries.size(), adapters.size());
+            if (event instanceof QueriesGenerated generated) {
+                if (generated.errorMessage() != null) {
+                    logger.error("Failed to generate queries for {} using {}: {}",
+                        generated.category(), generated.engineType(), generated.errorMessage());
+                    failureMessages.add(String.format("Query generation failed for %s: %s",
+                        generated.engineType(), generated.errorMessage()));
+                    continue;
+                }
 
-        for (String query : allQueries) {
-            List<CompletableFuture<SearchExecutionResult>> futures = new ArrayList<>();
+                queriesGenerated += generated.queries().size();
+                logger.info("Generated {} queries for {} using {}",
+                    generated.queries().size(), generated.category(), generated.engineType());
 
-            for (SearchAdapter adapter : adapters) {
-                if (!adapter.isAvailable()) {
-                    logger.warn("Adapter {} is not available, skipping", adapter.getEngineType());
-                    continue;
+                for (String query : generated.queries()) {
+                    // Identical query text from another engine's generation would repeat the same searches
+                    if (!dispatchedQueries.add(query)) {
+                        continue;
+                    }
+                    for (SearchProvider adapter : adapters) {
+                        if (!adapter.isAvailable()) {
+                            logger.warn("Adapter {} is not available, skipping", adapter.getProviderType());
+                            continue;
+                        }
+                        Semaphore permits = providerPermits.get(adapter.getProviderType());
+                        executorService.execute(() -> events.add(new SearchCompleted(query,
+                            executeSearchLimited(adapter, query, maxResultsPerQuery, session.getSessionId(), permits))));
+                        pending++;
+                    }
                 }
 
-                CompletableFuture<SearchExecutionResult> future = CompletableFuture.supplyAsync(
-                    () -> executeSearchSafely(adapter, query, maxResultsPerQuery),
-                    executorService
-                );
-                futures.add(future);
-            }
+            } else if (event instanceof SearchCompleted completed) {
+                SearchExecutionResult execResult = completed.result();
+                String query = completed.query();
 
-            // Wait for all adapters to complete this query
-            for (CompletableFuture<SearchExecutionResult> future : futures) {
                 try {
-                    SearchExecutionResult execResult = future.join();
-
                     if (execResult.isSuccess()) {
                         List<SearchResult> results = execResult.getResults();
                         SearchEngineType engineType = execResult.getEngineType();
@@ -283,8 +339,8 @@ public class SearchWorkflowService {
                             logger.info("Search success: engine={}, query='{}', results={}",
                                 engineType, query, results.size());
 
-                            // Step 3: Process results (confidence scoring, deduplication, domain registration)
-                            ProcessingStatistics stats = searchResultProcessor.processSearchResults(
+                            // Process results (confidence scoring, deduplication, domain registration)
+                            ProcessingStatistics stats = searchResultProcessor.processSearchResultsBatched(
                                 results,
                                 session.getSessionId()
                             );
@@ -293,6 +349,7 @@ public class SearchWorkflowService {
                             candidatesCreated += stats.getHighConfidenceCreated() + stats.getLowConfidenceCreated();
                             duplicatesSkipped += stats.getDuplicatesSkipped();
                             blacklistedSkipped += stats.getBlacklistedSkipped();
+                            recentlySeenSkipped += stats.getRecentlySeenSkipped();
                             lowConfidenceSkipped += stats.getLowConfidenceCreated();
                         }
                     } else {
@@ -302,12 +359,14 @@ public class SearchWorkflowService {
                     }
 
                 } catch (Exception e) {
-                    logger.error("Failed to retrieve search results: {}", e.getMessage());
+                    logger.error("Failed to process search results: {}", e.getMessage());
                     failureMessages.add("Unknown error: " + e.getMessage());
                 }
             }
         }
 
+        logger.info("Total queries generated: {} ({} distinct searched)", queriesGenerated, dispatchedQueries.size());
+
         // Step 4: Return final statistics
         return SearchWorkflowResult.builder()
             .sessionId(session.getSessionId())
@@ -316,6 +375,7 @@ public class SearchWorkflowService {
             .candidatesCreated(candidatesCreated)
             .duplicatesSkipped(duplicatesSkipped)
             .blacklistedSkipped(blacklistedSkipped)
+            .recentlySeenSkipped(recentlySeenSkipped)
             .lowConfidenceSkipped(lowConfidenceSkipped)
             .zeroResultCount(zeroResultCount)
             .resultsByEngine(resultsByEngine)
@@ -327,26 +387,82 @@ public class SearchWorkflowService {
     }
 
     /**
-     * Execute single search with exception handling.
+     * Generate queries for one (category, engine) pair while holding an LLM permit.
+     * Never throws; failures are reported in the returned event.
      */
-    private SearchExecutionResult executeSearchSafely(SearchAdapter adapter, String query, int maxResults) {
+    private QueriesGenerated generateQueriesSafely(
+            QueryGenerationRequest request,
+            FundingSearchCategory category,
+            Semaphore llmPermits) {
         try {
-            List<com.northstar.funding.domain.SearchResult> domainResults = adapter.search(query, maxResults);
+            llmPermits.acquire();
+            try {
+                QueryGenerationResponse response = queryGenerationService.generateQueries(request).join();
+                return new QueriesGenerated(category, request.getSearchEngine(), response.getQueries(), null);
+            } finally {
+                llmPermits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new QueriesGenerated(category, request.getSearchEngine(), List.of(), "interrupted");
+        } catch (Exception e) {
+            return new QueriesGenerated(category, request.getSearchEngine(), List.of(), e.getMessage());
+        }
+    }
+
+    /**
+     * Execute single search while holding a permit for the adapter's engine.
+     */
+    private SearchExecutionResult executeSearchLimited(
+            SearchProvider adapter, String query, int maxResults, UUID sessionId, Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new SearchExecutionResult(false, adapter.getProviderType(), List.of(),
+                adapter.getProviderType() + ": interrupted");
+        }
+        try {
+            return executeSearchSafely(adapter, query, maxResults, sessionId);
+        } finally {
+            permits.release();
+        }
+    }
 
+    /**
+     * Pipeline stage completion consumed by {@link #executeWorkflow}.
+     */
+    private sealed interface WorkflowEvent permits QueriesGenerated, SearchCompleted {
+    }
+
+    private record QueriesGenerated(
+            FundingSearchCategory category,
+            SearchEngineType engineType,
+            List<String> queries,
+            String errorMessage) implements WorkflowEvent {
+    }
+
+    private record SearchCompleted(String query, SearchExecutionResult result) implements WorkflowEvent {
+    }
+
+    /**
+     * Execute single search through the provider gateway; failures become a failed result.
+     */
+    private SearchExecutionResult executeSearchSafely(
+            SearchProvider adapter, String query, int maxResults, UUID sessionId) {
+        return providerGateway.search(adapter, query, maxResults, sessionId)
             // Convert domain SearchResult to crawler SearchResult
-            List<SearchResult> crawlerResults = domainResults.stream()
+            .map(domainResults -> domainResults.stream()
                 .map(dr -> SearchResult.builder()
                     .title(dr.getTitle())
                     .description(dr.getDescription())
                     .url(dr.getUrl())
                     .build())
-                .toList();
-
-            return new SearchExecutionResult(true, adapter.getEngineType(), crawlerResults, null);
-        } catch (Exception e) {
-            String errorMsg = String.format("%s: %s", adapter.getEngineType(), e.getMessage());
-            return new SearchExecutionResult(false, adapter.getEngineType(), List.of(), errorMsg);
-        }
+                .toList())
+            .fold(
+                error -> new SearchExecutionResult(false, adapter.getProviderType(), List.of(),
+                    String.format("%s: %s", adapter.getProviderType(), error.getMessage())),
+                crawlerResults -> new SearchExecutionResult(true, adapter.getProviderType(), crawlerResults, null));
     }
 
     /**
@@ -0,0 +1,148 @@
+package com.northstar.funding.searchadapters.brave;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
+import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.domain.SearchResult;
+import com.northstar.funding.searchadapters.config.SearchAdapterProperties;
+import com.northstar.funding.searchadapters.exception.SearchAdapterException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test for Brave search adapter.
+ *
+ * <p>Tests streamed parsing of web.results against canned Brave responses: field
+ * mapping, the maxResults cut-off and HTTP error mapping.
+ */
+class BraveSearchAdapterTest {
+
+    private static final String RESPONSE = """
+            {
+              "query": {"original": "Bulgaria education grants"},
+              "mixed": {"main": [{"type": "web", "index": 0}]},
+              "web": {
+                "type": "search",
+                "results": [
+                  {
+                    "url": "https://education.gov.bg/grants",
+                    "title": "Bulgarian Education Grants",
+                    "description": "Apply for education grants in Bulgaria",
+                    "profile": {"name": "education.gov.bg"},
+                    "deep_results": {"buttons": [{"title": "Apply"}]}
+                  },
+                  {
+                    "url": "https://eu.europa.eu/funding",
+                    "title": "EU Education Funding",
+                    "description": "European funding opportunities for education"
+                  },
+                  {
+                    "url": "https://erasmus-plus.ec.europa.eu/",
+                    "title": "Erasmus+",
+                    "description": "EU programme for education, training, youth and sport"
+                  }
+                ]
+              }
+            }
+            """;
+
+    private WireMockServer wireMockServer;
+    private BraveSearchAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+
+        SearchAdapterProperties.BraveConfig config = new SearchAdapterProperties.BraveConfig();
+        config.setApiUrl(wireMockServer.baseUrl() + "/res/v1/web/search");
+        config.setApiKey("test-api-key");
+        config.setTimeoutSeconds(5);
+
+        adapter = new BraveSearchAdapter(config, new SearchHttpTransport(new SearchProviderConfig.Http()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void search_withCannedResponse_shouldMapWebResults() {
+        // Given
+        stubSearch(200, RESPONSE);
+
+        // When
+        List<SearchResult> results = adapter.search("Bulgaria education grants", 10);
+
+        // Then
+        assertThat(results).hasSize(3);
+        SearchResult first = results.get(0);
+        assertThat(first.getUrl()).isEqualTo("https://education.gov.bg/grants");
+        assertThat(first.getTitle()).isEqualTo("Bulgarian Education Grants");
+        assertThat(first.getDescription()).isEqualTo("Apply for education grants in Bulgaria");
+        assertThat(first.getSearchEngine()).isEqualTo(SearchEngineType.BRAVE);
+        assertThat(first.getDiscoveredAt()).isNotNull();
+
+        wireMockServer.verify(getRequestedFor(urlPathEqualTo("/res/v1/web/search"))
+                .withQueryParam("q", equalTo("Bulgaria education grants"))
+                .withQueryParam("count", equalTo("10"))
+                .withHeader("X-Subscription-Token", equalTo("test-api-key")));
+    }
+
+    @Test
+    void search_withMoreResultsThanMaxResults_shouldStopAtMaxResults() {
+        // Given
+        stubSearch(200, RESPONSE);
+
+        // When
+        List<SearchResult> results = adapter.search("Bulgaria education grants", 2);
+
+        // Then
+        assertThat(results)
+                .extracting(SearchResult::getUrl)
+                .containsExactly("https://education.gov.bg/grants", "https://eu.europa.eu/funding");
+    }
+
+    @Test
+    void search_withoutWebSection_shouldReturnEmptyList() {
+        // Given: Brave omits "web" when it has no web results
+        stubSearch(200, """
+                {"query": {"original": "zzzz"}, "mixed": {"main": []}}
+                """);
+
+        // When
+        List<SearchResult> results = adapter.search("zzzz", 10);
+
+        // Then
+        assertThat(results).isEmpty();
+    }
+
+    @Test
+    void search_withServerError_shouldThrowWithStatusAndBody() {
+        // Given
+        stubSearch(503, "{\"error\": \"upstream unavailable\"}");
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.search("Bulgaria education grants", 10))
+                .isInstanceOf(SearchAdapterException.class)
+                .hasMessageContaining("HTTP 503")
+                .hasMessageContaining("upstream unavailable");
+    }
+
+    private void stubSearch(int status, String body) {
+        wireMockServer.stubFor(get(urlPathEqualTo("/res/v1/web/search"))
+                .willReturn(aResponse()
+                        .withStatus(status)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(body)));
+    }
+}
@@ -26,7 +26,7 @@ public class BraveAdapterContractTest extends SearchAdapterContractTest {
         config.setApiKey("test-api-key");
         config.setTimeoutSeconds(10);
 
-        return new BraveSearchAdapter(config);
+        return new BraveSearchAdapter(config, httpTransport);
     }
 
     @Override
@@ -26,7 +26,7 @@ public class SearXNGAdapterContractTest extends SearchAdapterContractTest {
         config.setTimeoutSeconds(10);
 
         // SearXNGAdapter doesn't exist yet - test will fail
-        return new SearXNGAdapter(config);
+        return new SearXNGAdapter(config, httpTransport);
     }
 
     @Override
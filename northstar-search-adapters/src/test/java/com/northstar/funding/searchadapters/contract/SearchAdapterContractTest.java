@@ -1,6 +1,8 @@
 package com.northstar.funding.searchadapters.contract;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
+import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.searchadapters.SearchAdapter;
 import com.northstar.funding.searchadapters.exception.SearchAdapterException;
@@ -31,6 +33,9 @@ public abstract class SearchAdapterContractTest {
     protected WireMockServer wireMockServer;
     protected SearchAdapter adapter;
 
+    // Default transport settings, as the application bean would use
+    protected final SearchHttpTransport httpTransport = new SearchHttpTransport(new SearchProviderConfig.Http());
+
     /**
      * Subclasses must provide the adapter instance to test.
      */
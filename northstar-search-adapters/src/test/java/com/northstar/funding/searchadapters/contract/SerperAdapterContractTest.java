@@ -26,7 +26,7 @@ public class SerperAdapterContractTest extends SearchAdapterContractTest {
         config.setTimeoutSeconds(10);
 
         // SerperAdapter doesn't exist yet - test will fail
-        return new SerperAdapter(config);
+        return new SerperAdapter(config, httpTransport);
     }
 
     @Override
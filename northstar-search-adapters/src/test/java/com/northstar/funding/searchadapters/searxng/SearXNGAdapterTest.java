@@ -0,0 +1,175 @@
+package com.northstar.funding.searchadapters.searxng;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.northstar.funding.crawler.config.SearchProviderConfig;
+import com.northstar.funding.crawler.http.SearchHttpTransport;
+import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.domain.SearchResult;
+import com.northstar.funding.searchadapters.config.SearchAdapterProperties;
+import com.northstar.funding.searchadapters.exception.SearchAdapterException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test for the streaming SearXNG search adapter.
+ *
+ * <p>Tests parsing of canned SearXNG responses: field mapping, the maxResults cut-off,
+ * content truncation to maxDescriptionLength and HTTP error mapping.
+ */
+class SearXNGAdapterTest {
+
+    private static final String RESPONSE = """
+            {
+              "query": "Bulgaria education grants",
+              "number_of_results": 3,
+              "results": [
+                {
+                  "url": "https://education.gov.bg/grants",
+                  "title": "Bulgarian Education Grants",
+                  "content": "Apply for education grants in Bulgaria",
+                  "engines": ["google", "bing"],
+                  "score": 2.5
+                },
+                {
+                  "url": "https://eu.europa.eu/funding",
+                  "title": "EU Education Funding",
+                  "content": "European funding opportunities for education"
+                },
+                {
+                  "url": "https://erasmus-plus.ec.europa.eu/",
+                  "title": "Erasmus+",
+                  "content": "EU programme for education, training, youth and sport"
+                }
+              ],
+              "answers": [],
+              "suggestions": ["bulgaria school grants"]
+            }
+            """;
+
+    private WireMockServer wireMockServer;
+    private SearchAdapterProperties.SearxngConfig config;
+    private SearchHttpTransport httpTransport;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+
+        config = new SearchAdapterProperties.SearxngConfig();
+        config.setApiUrl(wireMockServer.baseUrl());
+        config.setTimeoutSeconds(5);
+        httpTransport = new SearchHttpTransport(new SearchProviderConfig.Http());
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void search_withCannedResponse_shouldMapResults() {
+        // Given
+        stubSearch(200, RESPONSE);
+        SearXNGAdapter adapter = new SearXNGAdapter(config, httpTransport);
+
+        // When
+        List<SearchResult> results = adapter.search("Bulgaria education grants", 10);
+
+        // Then
+        assertThat(results).hasSize(3);
+        SearchResult first = results.get(0);
+        assertThat(first.getUrl()).isEqualTo("https://education.gov.bg/grants");
+        assertThat(first.getTitle()).isEqualTo("Bulgarian Education Grants");
+        assertThat(first.getDescription()).isEqualTo("Apply for education grants in Bulgaria");
+        assertThat(first.getSearchEngine()).isEqualTo(SearchEngineType.SEARXNG);
+
+        wireMockServer.verify(getRequestedFor(urlPathEqualTo("/search"))
+                .withQueryParam("q", equalTo("Bulgaria education grants"))
+                .withQueryParam("format", equalTo("json")));
+    }
+
+    @Test
+    void search_withMoreResultsThanMaxResults_shouldStopAtMaxResults() {
+        // Given
+        stubSearch(200, RESPONSE);
+        SearXNGAdapter adapter = new SearXNGAdapter(config, httpTransport);
+
+        // When
+        List<SearchResult> results = adapter.search("Bulgaria education grants", 1);
+
+        // Then
+        assertThat(results)
+                .extracting(SearchResult::getUrl)
+                .containsExactly("https://education.gov.bg/grants");
+    }
+
+    @Test
+    void search_withLongContent_shouldTruncateToMaxDescriptionLength() {
+        // Given
+        config.setMaxDescriptionLength(20);
+        stubSearch(200, """
+                {
+                  "results": [
+                    {
+                      "url": "https://education.gov.bg/grants",
+                      "title": "Bulgarian Education Grants",
+                      "content": "%s"
+                    },
+                    {
+                      "url": "https://eu.europa.eu/funding",
+                      "title": "EU Education Funding",
+                      "content": "Short snippet"
+                    }
+                  ]
+                }
+                """.formatted("Apply for education grants in Bulgaria ".repeat(50)));
+        SearXNGAdapter adapter = new SearXNGAdapter(config, httpTransport);
+
+        // When
+        List<SearchResult> results = adapter.search("Bulgaria education grants", 10);
+
+        // Then
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getDescription()).isEqualTo("Apply for education ");
+        assertThat(results.get(1).getDescription()).isEqualTo("Short snippet");
+    }
+
+    @Test
+    void search_withServerError_shouldThrowWithStatusAndBody() {
+        // Given
+        stubSearch(500, "Internal Server Error");
+        SearXNGAdapter adapter = new SearXNGAdapter(config, httpTransport);
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.search("Bulgaria education grants", 10))
+                .isInstanceOf(SearchAdapterException.class)
+                .hasMessageContaining("HTTP 500");
+    }
+
+    @Test
+    void search_withMalformedJson_shouldThrow() {
+        // Given
+        stubSearch(200, "{\"results\": [{\"url\": ");
+        SearXNGAdapter adapter = new SearXNGAdapter(config, httpTransport);
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.search("Bulgaria education grants", 10))
+                .isInstanceOf(SearchAdapterException.class)
+                .hasMessageContaining("Search failed");
+    }
+
+    private void stubSearch(int status, String body) {
+        wireMockServer.stubFor(get(urlPathEqualTo("/search"))
+                .willReturn(aResponse()
+                        .withStatus(status)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(body)));
+    }
+}
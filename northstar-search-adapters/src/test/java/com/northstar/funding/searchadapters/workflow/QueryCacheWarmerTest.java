@@ -0,0 +1,156 @@
+package com.northstar.funding.searchadapters.workflow;
+
+import com.northstar.funding.crawler.processing.SearchResultProcessor;
+import com.northstar.funding.crawler.provider.SearchProviderGateway;
+import com.northstar.funding.domain.DiscoverySession;
+import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.persistence.service.DiscoverySessionService;
+import com.northstar.funding.querygeneration.model.QueryCacheKey;
+import com.northstar.funding.querygeneration.model.QueryGenerationRequest;
+import com.northstar.funding.querygeneration.model.QueryGenerationResponse;
+import com.northstar.funding.querygeneration.service.QueryCacheService;
+import com.northstar.funding.querygeneration.service.QueryGenerationService;
+import com.northstar.funding.searchadapters.SearchAdapter;
+import com.northstar.funding.searchadapters.config.SearchAdapterProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for QueryCacheWarmer.
+ *
+ * <p>Tests that the warmed keys are exactly the ones the nightly workflow requests,
+ * and that warm-up failures never reach application startup.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class QueryCacheWarmerTest {
+
+    @Mock
+    private QueryCacheService queryCacheService;
+
+    @Mock
+    private SearchAdapter braveAdapter;
+
+    @Mock
+    private SearchAdapter searxngAdapter;
+
+    private QueryCacheWarmer warmer;
+
+    @BeforeEach
+    void setUp() {
+        stubAdapter(braveAdapter, SearchEngineType.BRAVE);
+        stubAdapter(searxngAdapter, SearchEngineType.SEARXNG);
+
+        warmer = new QueryCacheWarmer(queryCacheService, List.of(braveAdapter, searxngAdapter));
+    }
+
+    @Test
+    void keysFor_shouldCoverEachCategoryAndAdapter() {
+        // When
+        List<QueryCacheKey> keys = warmer.keysFor(DayOfWeek.MONDAY);
+
+        // Then
+        int categories = DayOfWeekCategories.getCategories(DayOfWeek.MONDAY).size();
+        assertThat(keys).hasSize(categories * 2).doesNotHaveDuplicates();
+        assertThat(keys).allSatisfy(key -> {
+            assertThat(key.getGeographic()).isEqualTo(SearchWorkflowService.WORKFLOW_GEOGRAPHY);
+            assertThat(key.getMaxQueries()).isEqualTo(SearchWorkflowService.NIGHTLY_MAX_RESULTS_PER_QUERY);
+            assertThat(key.getCategories()).hasSize(1);
+        });
+    }
+
+    @Test
+    void keysFor_shouldMatchRequestsOfNightlyWorkflow() {
+        // Given: a workflow whose query generation records its requests and returns nothing
+        QueryGenerationService queryGenerationService = mock(QueryGenerationService.class);
+        when(queryGenerationService.generateQueries(any(QueryGenerationRequest.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(QueryGenerationResponse.builder()
+                        .searchEngine(invocation.<QueryGenerationRequest>getArgument(0).getSearchEngine())
+                        .queries(List.of())
+                        .generatedAt(Instant.now())
+                        .build()));
+        DiscoverySessionService discoverySessionService = mock(DiscoverySessionService.class);
+        when(discoverySessionService.createSession(any(DiscoverySession.class)))
+                .thenReturn(DiscoverySession.builder().sessionId(UUID.randomUUID()).build());
+        SearchWorkflowService workflow = new SearchWorkflowService(
+                queryGenerationService,
+                List.of(braveAdapter, searxngAdapter),
+                mock(SearchResultProcessor.class),
+                discoverySessionService,
+                new SearchAdapterProperties(),
+                mock(SearchProviderGateway.class));
+
+        // When
+        workflow.executeNightlySearch(DayOfWeek.FRIDAY);
+
+        // Then
+        ArgumentCaptor<QueryGenerationRequest> requests = ArgumentCaptor.forClass(QueryGenerationRequest.class);
+        verify(queryGenerationService, atLeastOnce()).generateQueries(requests.capture());
+        assertThat(warmer.keysFor(DayOfWeek.FRIDAY))
+                .containsExactlyInAnyOrderElementsOf(requests.getAllValues().stream()
+                        .map(QueryCacheKey::from)
+                        .toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void warm_shouldLoadDayKeysAndReturnCount() {
+        // Given
+        when(queryCacheService.warmUp(anyCollection())).thenReturn(3);
+
+        // When
+        int warmed = warmer.warm(DayOfWeek.MONDAY);
+
+        // Then
+        ArgumentCaptor<Collection<QueryCacheKey>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(queryCacheService).warmUp(keys.capture());
+        assertThat(keys.getValue()).containsExactlyElementsOf(warmer.keysFor(DayOfWeek.MONDAY));
+        assertThat(warmed).isEqualTo(3);
+    }
+
+    @Test
+    void warm_withoutAdapters_shouldWarmNothing() {
+        // Given
+        QueryCacheWarmer noAdapters = new QueryCacheWarmer(queryCacheService, null);
+        when(queryCacheService.warmUp(anyCollection())).thenReturn(0);
+
+        // When
+        int warmed = noAdapters.warm(DayOfWeek.MONDAY);
+
+        // Then
+        assertThat(warmed).isZero();
+        verify(queryCacheService).warmUp(argThat(Collection::isEmpty));
+    }
+
+    @Test
+    void warmOnStartup_whenCacheFails_shouldNotThrow() {
+        // Given
+        when(queryCacheService.warmUp(anyCollection())).thenThrow(new IllegalStateException("database down"));
+
+        // When / Then
+        assertThatCode(() -> warmer.warmOnStartup()).doesNotThrowAnyException();
+    }
+
+    private static void stubAdapter(SearchAdapter adapter, SearchEngineType engineType) {
+        when(adapter.getEngineType()).thenReturn(engineType);
+        when(adapter.getProviderType()).thenReturn(engineType);
+        when(adapter.isAvailable()).thenReturn(true);
+    }
+}
@@ -0,0 +1,331 @@
+package com.northstar.funding.searchadapters.workflow;
+
+import com.northstar.funding.crawler.processing.ProcessingStatistics;
+import com.northstar.funding.crawler.processing.SearchResultProcessor;
+import com.northstar.funding.crawler.provider.SearchProviderGateway;
+import com.northstar.funding.domain.DiscoverySession;
+import com.northstar.funding.domain.FundingSearchCategory;
+import com.northstar.funding.domain.SearchEngineType;
+import com.northstar.funding.domain.SearchResult;
+import com.northstar.funding.persistence.service.DiscoverySessionService;
+import com.northstar.funding.querygeneration.model.QueryGenerationRequest;
+import com.northstar.funding.querygeneration.model.QueryGenerationResponse;
+import com.northstar.funding.querygeneration.service.QueryGenerationService;
+import com.northstar.funding.searchadapters.SearchAdapter;
+import com.northstar.funding.searchadapters.config.SearchAdapterProperties;
+import com.northstar.funding.searchadapters.model.ManualSearchRequest;
+import com.northstar.funding.searchadapters.model.SearchWorkflowResult;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for SearchWorkflowService.
+ *
+ * <p>Tests that every search is routed through the injected SearchProviderGateway
+ * (never straight to the adapter), how gateway outcomes feed the workflow statistics,
+ * and the pipeline: searches start while other queries are still being generated,
+ * with LLM calls and per-engine searches capped separately.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchWorkflowServiceTest {
+
+    @Mock
+    private QueryGenerationService queryGenerationService;
+
+    @Mock
+    private SearchResultProcessor searchResultProcessor;
+
+    @Mock
+    private DiscoverySessionService discoverySessionService;
+
+    @Mock
+    private SearchProviderGateway providerGateway;
+
+    @Mock
+    private SearchAdapter braveAdapter;
+
+    @Mock
+    private SearchAdapter searxngAdapter;
+
+    private UUID sessionId;
+    private SearchWorkflowService service;
+
+    @BeforeEach
+    void setUp() {
+        sessionId = UUID.randomUUID();
+        when(discoverySessionService.createSession(any(DiscoverySession.class)))
+                .thenReturn(DiscoverySession.builder().sessionId(sessionId).build());
+
+        stubAdapter(braveAdapter, SearchEngineType.BRAVE);
+        stubAdapter(searxngAdapter, SearchEngineType.SEARXNG);
+
+        when(searchResultProcessor.processSearchResultsBatched(anyList(), eq(sessionId)))
+                .thenReturn(ProcessingStatistics.builder().highConfidenceCreated(1).build());
+
+        service = service(new SearchAdapterProperties());
+    }
+
+    @Test
+    void executeManualSearch_shouldRouteEverySearchThroughGateway() {
+        // Given
+        stubQueries(SearchEngineType.BRAVE, "bulgaria teacher grants");
+        stubQueries(SearchEngineType.SEARXNG, "eu education funding");
+        when(providerGateway.search(any(), anyString(), anyInt(), eq(sessionId)))
+                .thenReturn(Try.success(List.of(result("https://education.gov.bg/grants"))));
+
+        // When
+        SearchWorkflowResult result = service.executeManualSearch(request(5));
+
+        // Then: each generated query is searched on each engine, through the gateway
+        for (SearchAdapter adapter : List.of(braveAdapter, searxngAdapter)) {
+            verify(providerGateway).search(adapter, "bulgaria teacher grants", 5, sessionId);
+            verify(providerGateway).search(adapter, "eu education funding", 5, sessionId);
+            verify(adapter, never()).search(anyString(), anyInt());
+            verify(adapter, never()).executeSearch(anyString(), anyInt(), any());
+        }
+        assertThat(result.getQueriesGenerated()).isEqualTo(2);
+        assertThat(result.getTotalResultsFound()).isEqualTo(4);
+        assertThat(result.getCandidatesCreated()).isEqualTo(4);
+        assertThat(result.getResultsByEngine())
+                .containsEntry(SearchEngineType.BRAVE, 2)
+                .containsEntry(SearchEngineType.SEARXNG, 2);
+        assertThat(result.isHasFailures()).isFalse();
+    }
+
+    @Test
+    void executeManualSearch_whenEnginesGenerateSameQuery_shouldSearchItOnce() {
+        // Given
+        stubQueries(SearchEngineType.BRAVE, "bulgaria teacher grants");
+        stubQueries(SearchEngineType.SEARXNG, "bulgaria teacher grants");
+        when(providerGateway.search(any(), anyString(), anyInt(), eq(sessionId)))
+                .thenReturn(Try.success(List.of()));
+
+        // When
+        SearchWorkflowResult result = service.executeManualSearch(request(5));
+
+        // Then
+        verify(providerGateway, times(1)).search(braveAdapter, "bulgaria teacher grants", 5, sessionId);
+        verify(providerGateway, times(1)).search(searxngAdapter, "bulgaria teacher grants", 5, sessionId);
+        assertThat(result.getZeroResultCount()).isEqualTo(2);
+        verifyNoInteractions(searchResultProcessor);
+    }
+
+    @Test
+    void executeManualSearch_whenGatewayFails_shouldRecordFailureAndKeepOtherEngines() {
+        // Given
+        stubQueries(SearchEngineType.BRAVE, "bulgaria teacher grants");
+        stubQueries(SearchEngineType.SEARXNG, "eu education funding");
+        when(providerGateway.search(eq(braveAdapter), anyString(), anyInt(), eq(sessionId)))
+                .thenReturn(Try.failure(new IllegalStateException("rate limited")));
+        when(providerGateway.search(eq(searxngAdapter), anyString(), anyInt(), eq(sessionId)))
+                .thenReturn(Try.success(List.of(result("https://eu.europa.eu/funding"))));
+
+        // When
+        SearchWorkflowResult result = service.executeManualSearch(request(5));
+
+        // Then
+        assertThat(result.isHasFailures()).isTrue();
+        assertThat(result.getFailureMessages())
+                .hasSize(2)
+                .allMatch(message -> message.equals("BRAVE: rate limited"));
+        assertThat(result.getResultsByEngine())
+                .containsEntry(SearchEngineType.BRAVE, 0)
+                .containsEntry(SearchEngineType.SEARXNG, 2);
+    }
+
+    @Test
+    void executeManualSearch_shouldSkipUnavailableAdapters() {
+        // Given
+        when(searxngAdapter.isAvailable()).thenReturn(false);
+        stubQueries(SearchEngineType.BRAVE, "bulgaria teacher grants");
+        stubQueries(SearchEngineType.SEARXNG, "eu education funding");
+        when(providerGateway.search(any(), anyString(), anyInt(), eq(sessionId)))
+                .thenReturn(Try.success(List.of()));
+
+        // When
+        service.executeManualSearch(request(5));
+
+        // Then
+        verify(providerGateway, times(2)).search(eq(braveAdapter), anyString(), eq(5), eq(sessionId));
+        verify(providerGateway, never()).search(eq(searxngAdapter), anyString(), anyInt(), any());
+    }
+
+    @Test
+    void executeManualSearch_byDefault_shouldGenerateQueriesOneAtATime() {
+        // Given - llm-concurrency defaults to 1; each generation takes a moment
+        ConcurrencyTracker generations = new ConcurrencyTracker();
+        when(queryGenerationService.generateQueries(any())).thenAnswer(invocation -> {
+            QueryGenerationRequest request = invocation.getArgument(0);
+            generations.run(() -> sleep(20));
+            return completedQueries(request.getSearchEngine(), request.getSearchEngine() + " grants");
+        });
+        when(providerGateway.search(any(), anyString(), anyInt(), eq(sessionId)))
+                .thenReturn(Try.success(List.of()));
+
+        // When - two categories x two engines = four generations
+        service.executeManualSearch(ManualSearchRequest.builder()
+                .categories(List.of(FundingSearchCategory.TEACHER_SCHOLARSHIPS, FundingSearchCategory.STEM_EDUCATION))
+                .engines(List.of(SearchEngineType.BRAVE, SearchEngineType.SEARXNG))
+                .maxResultsPerQuery(5)
+                .build());
+
+        // Then
+        verify(queryGenerationService, times(4)).generateQueries(any());
+        assertThat(generations.max()).isEqualTo(1);
+    }
+
+    @Test
+    void executeManualSearch_shouldSearchQueriesWhileOtherGenerationsAreRunning() {
+        // Given - SearXNG generation only finishes once a Brave query has been searched
+        SearchAdapterProperties properties = new SearchAdapterProperties();
+        properties.getWorkflow().setLlmConcurrency(2);
+        service = service(properties);
+
+        CountDownLatch searched = new CountDownLatch(1);
+        AtomicBoolean searchedDuringGeneration = new AtomicBoolean();
+        stubQueries(SearchEngineType.BRAVE, "bulgaria teacher grants");
+        when(queryGenerationService.generateQueries(argThat(
+                (QueryGenerationRequest request) -> request != null
+                        && request.getSearchEngine() == SearchEngineType.SEARXNG)))
+                .thenAnswer(invocation -> {
+                    searchedDuringGeneration.set(searched.await(5, TimeUnit.SECONDS));
+                    return completedQueries(SearchEngineType.SEARXNG, "eu education funding");
+                });
+        when(providerGateway.search(any(), anyString(), anyInt(), eq(sessionId))).thenAnswer(invocation -> {
+            searched.countDown();
+            return Try.success(List.of());
+        });
+
+        // When
+        SearchWorkflowResult result = service.executeManualSearch(request(5));
+
+        // Then
+        assertThat(searchedDuringGeneration).isTrue();
+        assertThat(result.getQueriesGenerated()).isEqualTo(2);
+        verify(providerGateway, times(4)).search(any(), anyString(), eq(5), eq(sessionId));
+    }
+
+    @Test
+    void executeManualSearch_shouldCapConcurrentSearchesPerEngine() {
+        // Given - one search at a time per engine, several queries per engine
+        SearchAdapterProperties properties = new SearchAdapterProperties();
+        properties.getWorkflow().setProviderConcurrency(1);
+        service = service(properties);
+
+        stubQueries(SearchEngineType.BRAVE, "query 1", "query 2", "query 3");
+        stubQueries(SearchEngineType.SEARXNG, "query 4", "query 5", "query 6");
+        Map<SearchAdapter, ConcurrencyTracker> searches = new ConcurrentHashMap<>();
+        when(providerGateway.search(any(), anyString(), anyInt(), eq(sessionId))).thenAnswer(invocation -> {
+            SearchAdapter adapter = invocation.getArgument(0);
+            searches.computeIfAbsent(adapter, key -> new ConcurrencyTracker()).run(() -> sleep(20));
+            return Try.success(List.of());
+        });
+
+        // When
+        service.executeManualSearch(request(5));
+
+        // Then
+        verify(providerGateway, times(12)).search(any(), anyString(), eq(5), eq(sessionId));
+        assertThat(searches.get(braveAdapter).max()).isEqualTo(1);
+        assertThat(searches.get(searxngAdapter).max()).isEqualTo(1);
+    }
+
+    private SearchWorkflowService service(SearchAdapterProperties properties) {
+        return new SearchWorkflowService(
+                queryGenerationService,
+                List.of(braveAdapter, searxngAdapter),
+                searchResultProcessor,
+                discoverySessionService,
+                properties,
+                providerGateway);
+    }
+
+    private static void stubAdapter(SearchAdapter adapter, SearchEngineType engineType) {
+        when(adapter.getEngineType()).thenReturn(engineType);
+        when(adapter.getProviderType()).thenReturn(engineType);
+        when(adapter.isAvailable()).thenReturn(true);
+    }
+
+    private void stubQueries(SearchEngineType engineType, String... queries) {
+        when(queryGenerationService.generateQueries(argThat(
+                (QueryGenerationRequest request) -> request != null && request.getSearchEngine() == engineType)))
+                .thenReturn(completedQueries(engineType, queries));
+    }
+
+    private CompletableFuture<QueryGenerationResponse> completedQueries(SearchEngineType engineType, String... queries) {
+        return CompletableFuture.completedFuture(QueryGenerationResponse.builder()
+                .searchEngine(engineType)
+                .queries(List.of(queries))
+                .generatedAt(Instant.now())
+                .sessionId(sessionId)
+                .build());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Records the highest number of calls running at once.
+     */
+    private static final class ConcurrencyTracker {
+
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        void run(Runnable call) {
+            max.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                call.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+
+        int max() {
+            return max.get();
+        }
+    }
+
+    private static ManualSearchRequest request(int maxResultsPerQuery) {
+        return ManualSearchRequest.builder()
+                .categories(List.of(FundingSearchCategory.TEACHER_SCHOLARSHIPS))
+                .engines(List.of(SearchEngineType.BRAVE, SearchEngineType.SEARXNG))
+                .maxResultsPerQuery(maxResultsPerQuery)
+                .build();
+    }
+
+    private static SearchResult result(String url) {
+        return SearchResult.builder()
+                .url(url)
+                .title("Funding")
+                .description("Education funding")
+                .build();
+    }
+}
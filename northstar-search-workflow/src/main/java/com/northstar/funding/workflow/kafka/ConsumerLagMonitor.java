@@ -0,0 +1,217 @@
+package com.northstar.funding.workflow.kafka;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches consumer lag on search-requests and logs an autoscale hint.
+ *
+ * <p>Listener concurrency can't usefully exceed the partition count, and the partition
+ * count can only grow, so neither is changed automatically. Instead every interval the
+ * monitor reads the search-workflow group's committed offsets against the log end
+ * offsets and computes how many listener threads the backlog needs (one per
+ * {@code lag-per-consumer} pending requests, capped at the available cores). When that
+ * differs from the configured concurrency, or needs more partitions than the topic has,
+ * the hint is logged with the properties to change; the latest hint is also available
+ * from {@link #getLatestHint()}.
+ *
+ * <p>Because requests are keyed by session, one busy session lands on one partition;
+ * the per-partition lag in the hint shows when that's the case. Adapter calls within
+ * a partition already run in parallel on virtual threads (see SearchRequestConsumer).
+ */
+@Component
+public class ConsumerLagMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsumerLagMonitor.class);
+
+    static final String TOPIC = "search-requests";
+    static final String GROUP_ID = "search-workflow";
+    private static final long ADMIN_TIMEOUT_MS = 10_000;
+
+    private final String bootstrapServers;
+    private final int concurrency;
+    private final long lagPerConsumer;
+    private final long intervalMs;
+    private final boolean enabled;
+    private final int cores = Runtime.getRuntime().availableProcessors();
+
+    private volatile boolean running;
+    private volatile AutoscaleHint latestHint;
+    private Thread monitor;
+
+    public ConsumerLagMonitor(
+            @Value("${spring.kafka.bootstrap-servers:192.168.1.10:9092}") String bootstrapServers,
+            @Value("${northstar.kafka.consumer.concurrency:3}") int concurrency,
+            @Value("${northstar.kafka.autoscale.lag-per-consumer:100}") long lagPerConsumer,
+            @Value("${northstar.kafka.autoscale.interval-ms:30000}") long intervalMs,
+            @Value("${northstar.kafka.autoscale.enabled:true}") boolean enabled
+    ) {
+        this.bootstrapServers = bootstrapServers;
+        this.concurrency = Math.max(1, concurrency);
+        this.lagPerConsumer = Math.max(1, lagPerConsumer);
+        this.intervalMs = Math.max(1_000, intervalMs);
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        monitor = Thread.ofVirtual().name("consumer-lag-monitor").start(this::runMonitor);
+        log.info("ConsumerLagMonitor started - topic={}, group={}, interval={}ms, lagPerConsumer={}",
+                TOPIC, GROUP_ID, intervalMs, lagPerConsumer);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = monitor;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return the most recent hint, or null before the first successful check
+     */
+    public AutoscaleHint getLatestHint() {
+        return latestHint;
+    }
+
+    private void runMonitor() {
+        try (Admin admin = Admin.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                AdminClientConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, (int) ADMIN_TIMEOUT_MS))) {
+            while (running) {
+                try {
+                    check(admin);
+                } catch (InterruptedException e) {
+                    return;
+                } catch (Exception e) {
+                    log.debug("Consumer lag check failed: {}", e.getMessage());
+                }
+                try {
+                    Thread.sleep(intervalMs);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void check(Admin admin) throws Exception {
+        Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(GROUP_ID)
+                .partitionsToOffsetAndMetadata()
+                .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        int partitions = admin.describeTopics(List.of(TOPIC))
+                .allTopicNames()
+                .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                .get(TOPIC)
+                .partitions()
+                .size();
+
+        Map<TopicPartition, OffsetSpec> request = new HashMap<>();
+        for (int partition = 0; partition < partitions; partition++) {
+            request.put(new TopicPartition(TOPIC, partition), OffsetSpec.latest());
+        }
+        Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets = admin.listOffsets(request)
+                .all()
+                .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        Map<Integer, Long> lagByPartition = new HashMap<>();
+        for (Map.Entry<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> entry : endOffsets.entrySet()) {
+            OffsetAndMetadata offset = committed.get(entry.getKey());
+            long position = offset != null ? offset.offset() : 0;
+            lagByPartition.put(entry.getKey().partition(), Math.max(0, entry.getValue().offset() - position));
+        }
+
+        AutoscaleHint hint = hint(lagByPartition, partitions, concurrency, cores, lagPerConsumer);
+        AutoscaleHint previous = latestHint;
+        latestHint = hint;
+        if (hint.actionable() && !hint.sameRecommendation(previous)) {
+            log.info("📈 Autoscale hint for {}: lag={} (max partition {}), recommend concurrency {} (now {})"
+                            + " and partitions {} (now {}) - set northstar.kafka.consumer.concurrency"
+                            + " / northstar.kafka.topics.partitions",
+                    TOPIC, hint.totalLag(), hint.maxPartitionLag(), hint.recommendedConcurrency(),
+                    hint.currentConcurrency(), hint.recommendedPartitions(), hint.partitions());
+        } else {
+            log.debug("Consumer lag for {}: {}", TOPIC, hint.totalLag());
+        }
+    }
+
+    /**
+     * Compute the hint for a lag snapshot.
+     *
+     * @param lagByPartition pending records per partition
+     * @param partitions current partition count
+     * @param concurrency configured listener threads
+     * @param cores available processors (upper bound for the recommendation)
+     * @param lagPerConsumer pending records one listener thread is expected to keep up with
+     */
+    static AutoscaleHint hint(Map<Integer, Long> lagByPartition, int partitions, int concurrency,
+                              int cores, long lagPerConsumer) {
+        long totalLag = lagByPartition.values().stream().mapToLong(Long::longValue).sum();
+        long maxPartitionLag = lagByPartition.values().stream().mapToLong(Long::longValue).max().orElse(0);
+
+        long needed = (totalLag + lagPerConsumer - 1) / lagPerConsumer;
+        int recommendedConcurrency = (int) Math.max(1, Math.min(needed, cores));
+        // Threads beyond the partition count would sit idle, so suggest partitions to match
+        int recommendedPartitions = Math.max(partitions, recommendedConcurrency);
+
+        return new AutoscaleHint(totalLag, maxPartitionLag, partitions, concurrency,
+                recommendedConcurrency, recommendedPartitions);
+    }
+
+    /**
+     * Lag snapshot and recommendation.
+     *
+     * @param totalLag pending records across all partitions
+     * @param maxPartitionLag pending records on the busiest partition
+     * @param partitions current partition count
+     * @param currentConcurrency configured listener threads
+     * @param recommendedConcurrency listener threads the backlog needs (at most the core count)
+     * @param recommendedPartitions partitions needed for that many threads to all get work
+     */
+    public record AutoscaleHint(
+            long totalLag,
+            long maxPartitionLag,
+            int partitions,
+            int currentConcurrency,
+            int recommendedConcurrency,
+            int recommendedPartitions
+    ) {
+        /**
+         * @return true if more threads or partitions are needed than configured
+         */
+        public boolean actionable() {
+            return recommendedConcurrency > currentConcurrency || recommendedPartitions > partitions;
+        }
+
+        boolean sameRecommendation(AutoscaleHint other) {
+            return other != null
+                    && other.recommendedConcurrency == recommendedConcurrency
+                    && other.recommendedPartitions == recommendedPartitions;
+        }
+    }
+}
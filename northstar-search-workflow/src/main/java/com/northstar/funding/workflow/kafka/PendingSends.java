@@ -0,0 +1,84 @@
+package com.northstar.funding.workflow.kafka;
+
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sends issued while processing one batch of consumer records.
+ *
+ * <p>Batch listeners fire every {@code kafkaTemplate.send} without waiting, so the
+ * producer pipelines them, then wait once for the whole batch and acknowledge it in bulk.
+ * If a send failed, only the records before the first failed one are committed and the
+ * rest are redelivered ({@link Acknowledgment#nack(int, Duration)}).
+ */
+final class PendingSends {
+
+    static final Duration SEND_TIMEOUT = Duration.ofSeconds(30);
+    static final Duration REDELIVERY_DELAY = Duration.ofSeconds(1);
+
+    private final List<CompletableFuture<?>> futures = new ArrayList<>();
+    private final List<Integer> recordIndexes = new ArrayList<>();
+
+    /**
+     * @param recordIndex index of the record in the batch the send belongs to (non-decreasing)
+     * @param future send result; null (e.g. a mocked template) counts as completed
+     */
+    void add(int recordIndex, CompletableFuture<?> future) {
+        if (future != null) {
+            futures.add(future);
+            recordIndexes.add(recordIndex);
+        }
+    }
+
+    int size() {
+        return futures.size();
+    }
+
+    /**
+     * Wait for every send, then acknowledge the batch or nack from the first failed record.
+     *
+     * @param acknowledgment batch acknowledgment
+     * @return index of the first record whose send failed, or -1 if the whole batch was acknowledged
+     */
+    int awaitAndAcknowledge(Acknowledgment acknowledgment) {
+        int firstFailed = await(SEND_TIMEOUT);
+        if (firstFailed < 0) {
+            acknowledgment.acknowledge();
+        } else {
+            acknowledgment.nack(firstFailed, REDELIVERY_DELAY);
+        }
+        return firstFailed;
+    }
+
+    /**
+     * @return index of the first record with a failed or unfinished send, or -1 if all succeeded
+     */
+    int await(Duration timeout) {
+        if (futures.isEmpty()) {
+            return -1;
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Inspect the individual futures below
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<?> future = futures.get(i);
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                return recordIndexes.get(i);
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,117 @@
+package com.northstar.funding.workflow.kafka;
+
+import com.northstar.funding.kafka.events.SearchRequestEvent;
+import com.northstar.funding.kafka.topics.RetryHeaders;
+import com.northstar.funding.workflow.retry.RetryMetrics;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static com.northstar.funding.kafka.topics.KafkaTopics.SEARCH_REQUESTS;
+
+/**
+ * Kafka consumer for the search-requests-retry delay topic.
+ *
+ * <p>Moves retried search requests back to search-requests once their
+ * {@link RetryHeaders#NOT_BEFORE} time has passed, keeping the retry headers so
+ * SearchRequestConsumer knows the attempt number.
+ *
+ * <p>Records are released in partition order. At the first record that isn't due yet the
+ * batch is nacked from that record: everything before it is committed and the container
+ * pauses the partition for the remaining delay (at most {@link #MAX_PAUSE}, so the
+ * consumer stays within max.poll.interval.ms) before polling it again. A request with a
+ * longer backoff can hold back shorter ones behind it on the same partition by at most
+ * the difference in their delays.
+ *
+ * <p>Configuration:
+ * <ul>
+ *   <li>Topic: search-requests-retry</li>
+ *   <li>Group ID: retry-scheduler</li>
+ *   <li>Batch listener, manual acknowledgment</li>
+ * </ul>
+ */
+@Service
+public class RetryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryScheduler.class);
+
+    static final Duration MAX_PAUSE = Duration.ofSeconds(30);
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final RetryMetrics retryMetrics;
+    private final Clock clock;
+
+    @Autowired
+    public RetryScheduler(KafkaTemplate<String, Object> kafkaTemplate, RetryMetrics retryMetrics) {
+        this(kafkaTemplate, retryMetrics, Clock.systemUTC());
+    }
+
+    RetryScheduler(KafkaTemplate<String, Object> kafkaTemplate, RetryMetrics retryMetrics, Clock clock) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.retryMetrics = retryMetrics;
+        this.clock = clock;
+    }
+
+    @KafkaListener(
+            topics = "search-requests-retry",
+            groupId = "retry-scheduler",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void releaseDueRetries(List<ConsumerRecord<String, SearchRequestEvent>> records,
+                                  Acknowledgment acknowledgment) {
+        PendingSends pending = new PendingSends();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, SearchRequestEvent> record = records.get(i);
+            long now = clock.millis();
+            long waitMs = RetryHeaders.get(record.headers(), RetryHeaders.NOT_BEFORE, 0) - now;
+            if (waitMs > 0) {
+                holdFrom(i, Duration.ofMillis(Math.min(waitMs, MAX_PAUSE.toMillis())), pending, acknowledgment);
+                return;
+            }
+            if (record.value() == null) {
+                log.warn("⚠️ Received null retry request at offset {}", record.offset());
+                continue;
+            }
+
+            ProducerRecord<String, Object> request = new ProducerRecord<>(SEARCH_REQUESTS, null,
+                    record.key(), record.value(), new RecordHeaders(record.headers().toArray()));
+            pending.add(i, kafkaTemplate.send(request));
+
+            long failedAt = RetryHeaders.get(record.headers(), RetryHeaders.FAILED_AT, -1);
+            retryMetrics.retryPublished(failedAt >= 0 ? Duration.ofMillis(now - failedAt) : null);
+            log.info("🔁 Re-published retry {} of request {} ({})",
+                    RetryHeaders.get(record.headers(), RetryHeaders.ATTEMPT, 0),
+                    record.value().getRequestId(), record.value().getSearchEngine());
+        }
+
+        int firstFailed = pending.awaitAndAcknowledge(acknowledgment);
+        if (firstFailed >= 0) {
+            log.error("❌ Re-publishing failed at retry record {} of {}, redelivering from there",
+                    firstFailed, records.size());
+        }
+    }
+
+    /**
+     * Commit the records released so far and redeliver from the first one not yet due.
+     */
+    private void holdFrom(int notDue, Duration pause, PendingSends pending, Acknowledgment acknowledgment) {
+        int firstFailed = pending.await(PendingSends.SEND_TIMEOUT);
+        if (firstFailed >= 0) {
+            acknowledgment.nack(firstFailed, PendingSends.REDELIVERY_DELAY);
+        } else {
+            acknowledgment.nack(notDue, pause);
+        }
+        log.debug("Retry at record {} not due yet, pausing {} ms", notDue, pause.toMillis());
+    }
+}
@@ -1,30 +1,65 @@
 package com.northstar.funding.workflow.kafka;
 
+import com.northstar.funding.crawler.provider.SearchProviderGateway;
+import com.northstar.funding.domain.SearchResult;
 import com.northstar.funding.kafka.events.SearchRequestEvent;
 import com.northstar.funding.kafka.events.SearchResultEvent;
 import com.northstar.funding.kafka.events.WorkflowErrorEvent;
+import com.northstar.funding.kafka.topics.RetryHeaders;
 import com.northstar.funding.search.adapter.SearchAdapter;
+import com.northstar.funding.workflow.retry.SearchRequestPayload;
+import io.vavr.control.Try;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import static com.northstar.funding.kafka.topics.KafkaTopics.sessionKey;
 
 /**
  * Kafka consumer for search-requests topic.
  *
- * <p>Receives search requests, delegates to available search adapters,
- * and publishes results to search-results-raw topic.
+ * <p>Receives search requests, runs them on the available search adapters through
+ * SearchProviderGateway (response cache, usage tracking, request limiter), and
+ * publishes results to search-results-raw topic.
  *
  * <p>Configuration:
  * <ul>
  *   <li>Topic: search-requests</li>
  *   <li>Group ID: search-workflow</li>
- *   <li>Manual acknowledgment (consumer acknowledges after processing)</li>
- *   <li>Error handling: Publishes errors to workflow-errors topic</li>
+ *   <li>Batch listener: all records of a poll are processed, their events are sent
+ *       without waiting (pipelined), and the batch is acknowledged once all sends complete</li>
+ *   <li>Adapter calls run on virtual threads: every (record, adapter) search of a batch
+ *       starts at once, bounded by {@code northstar.workflow.search.max-concurrent-searches}.
+ *       Results are published in record order, so sends, and therefore the batch
+ *       acknowledgment and any redelivery point, follow partition order as before</li>
+ *   <li>A batch's searches get half of {@code northstar.kafka.consumer.max-poll-interval-ms};
+ *       searches still running then are interrupted and reported as timed out (transient,
+ *       so retried), leaving the rest of the poll interval to publish and acknowledge</li>
+ *   <li>Manual acknowledgment; a failed send redelivers from the affected record</li>
+ *   <li>Requests with a searchEngine run only on that engine's adapter (used by retries)</li>
+ *   <li>Error handling: Publishes errors to workflow-errors topic, carrying the request
+ *       (narrowed to the failed adapter) and attempt number so WorkflowErrorHandler can retry it</li>
  * </ul>
  */
 @Service
@@ -32,60 +67,200 @@ public class SearchRequestConsumer {
 
     private static final Logger log = LoggerFactory.getLogger(SearchRequestConsumer.class);
 
+    static final int DEFAULT_MAX_CONCURRENT_SEARCHES = 64;
+    static final long DEFAULT_MAX_POLL_INTERVAL_MS = 300_000;
+
     private final List<SearchAdapter> searchAdapters;
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final SearchProviderGateway providerGateway;
+    private final ExecutorService searchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile Semaphore searchPermits = new Semaphore(DEFAULT_MAX_CONCURRENT_SEARCHES);
+    private volatile Duration batchSearchTimeout = Duration.ofMillis(DEFAULT_MAX_POLL_INTERVAL_MS / 2);
 
-    public SearchRequestConsumer(List<SearchAdapter> searchAdapters, KafkaTemplate<String, Object> kafkaTemplate) {
+    public SearchRequestConsumer(List<SearchAdapter> searchAdapters, KafkaTemplate<String, Object> kafkaTemplate,
+                                 SearchProviderGateway providerGateway) {
         this.searchAdapters = searchAdapters;
         this.kafkaTemplate = kafkaTemplate;
+        this.providerGateway = providerGateway;
+    }
+
+    /**
+     * Upper bound on adapter calls in flight across all listener threads.
+     */
+    @Value("${northstar.workflow.search.max-concurrent-searches:" + DEFAULT_MAX_CONCURRENT_SEARCHES + "}")
+    public void setMaxConcurrentSearches(int maxConcurrentSearches) {
+        this.searchPermits = new Semaphore(Math.max(1, maxConcurrentSearches));
+    }
+
+    /**
+     * Time the searches of one batch may take: half the consumer's max.poll.interval.ms,
+     * so the listener returns to poll() before the broker evicts it from the group.
+     */
+    @Value("${northstar.kafka.consumer.max-poll-interval-ms:" + DEFAULT_MAX_POLL_INTERVAL_MS + "}")
+    public void setMaxPollIntervalMs(long maxPollIntervalMs) {
+        this.batchSearchTimeout = Duration.ofMillis(Math.max(1, maxPollIntervalMs / 2));
+    }
+
+    /**
+     * Interrupt searches still running when the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        searchExecutor.shutdownNow();
     }
 
+    /**
+     * Batch listener: starts the searches of every request in the poll on virtual threads,
+     * publishes their events in record order (pipelined), then acknowledges the batch once
+     * every send has completed.
+     */
     @KafkaListener(
             topics = "search-requests",
             groupId = "search-workflow",
             containerFactory = "kafkaListenerContainerFactory"
     )
-    public void consumeSearchRequest(SearchRequestEvent event, Acknowledgment acknowledgment) {
+    public void consumeSearchRequests(List<ConsumerRecord<String, SearchRequestEvent>> records,
+                                      Acknowledgment acknowledgment) {
+        List<PendingSearch> searches = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, SearchRequestEvent> record : records) {
+            int attempt = (int) RetryHeaders.get(record.headers(), RetryHeaders.ATTEMPT, 0);
+            searches.add(startSearches(record.value(), attempt));
+        }
+
+        long deadline = System.nanoTime() + batchSearchTimeout.toNanos();
+        PendingSends pending = new PendingSends();
+        for (int i = 0; i < searches.size(); i++) {
+            int recordIndex = i;
+            publishResults(searches.get(i), deadline, future -> pending.add(recordIndex, future));
+        }
+
+        int firstFailed = pending.awaitAndAcknowledge(acknowledgment);
+        if (firstFailed >= 0) {
+            log.error("❌ Publishing failed for search request batch at record {} of {}, redelivering from there",
+                    firstFailed, records.size());
+        } else {
+            log.debug("✅ Acknowledged {} search requests ({} events published)", records.size(), pending.size());
+        }
+    }
+
+    /**
+     * Start a search on a virtual thread for every available adapter.
+     *
+     * @param event search request (nullable)
+     * @param attempt retry attempt (0 = original request)
+     * @return the running searches; none if the request is null or no adapter is available
+     */
+    private PendingSearch startSearches(SearchRequestEvent event, int attempt) {
         try {
             // Input validation
             if (event == null) {
                 log.warn("⚠️ Received null search request event");
-                return;
+                return new PendingSearch(null, attempt, List.of(), null);
             }
 
             log.info("🔍 Processing search request: sessionId={}, query='{}', maxResults={}",
                     event.getSessionId(), event.getQuery(), event.getMaxResults());
 
-            // Check if any adapters are available
+            // Check if any adapters are available (only the requested engine's, if one is set)
             List<SearchAdapter> availableAdapters = searchAdapters.stream()
+                    .filter(adapter -> matchesEngine(adapter, event.getSearchEngine()))
                     .filter(SearchAdapter::isAvailable)
                     .toList();
 
             if (availableAdapters.isEmpty()) {
                 log.warn("⚠️ No search adapters available for query: {}", event.getQuery());
-                return;
+                return new PendingSearch(event, attempt, List.of(), null);
             }
 
-            // Process with each available adapter
+            List<AdapterSearch> adapterSearches = new ArrayList<>(availableAdapters.size());
             for (SearchAdapter adapter : availableAdapters) {
+                adapterSearches.add(new AdapterSearch(adapter, submitSearch(adapter, event)));
+            }
+            return new PendingSearch(event, attempt, adapterSearches, null);
+
+        } catch (Exception e) {
+            return new PendingSearch(event, attempt, List.of(), e);
+        }
+    }
+
+    /**
+     * Run a search on a virtual thread; cancelling the returned future interrupts it.
+     */
+    private CompletableFuture<List<SearchResult>> submitSearch(SearchAdapter adapter,
+                                                                            SearchRequestEvent event) {
+        CompletableFuture<List<SearchResult>> results = new CompletableFuture<>();
+        Future<?> task = searchExecutor.submit(() -> {
+            try {
+                results.complete(search(adapter, event));
+            } catch (Exception e) {
+                results.completeExceptionally(e);
+            }
+        });
+        results.whenComplete((value, error) -> {
+            if (results.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Runs on a virtual thread; blocks (unmounted) while the concurrency limit is reached.
+     * The search goes through the provider gateway; a failure rethrows the adapter's exception.
+     */
+    private List<SearchResult> search(SearchAdapter adapter, SearchRequestEvent event) throws Exception {
+        Semaphore permits = searchPermits;
+        permits.acquire();
+        try {
+            Try<List<SearchResult>> results = providerGateway.search(
+                    adapter, event.getQuery(), event.getMaxResults(), event.getSessionId());
+            if (results.isFailure()) {
+                throw results.getCause() instanceof Exception cause ? cause : new ExecutionException(results.getCause());
+            }
+            return results.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Wait for a request's searches in adapter order and publish results (or errors) without waiting.
+     *
+     * @param search running searches of one request
+     * @param deadline System.nanoTime() by which the batch's searches must have finished
+     * @param sends receives every send future issued for this request
+     */
+    private void publishResults(PendingSearch search, long deadline, Consumer<CompletableFuture<?>> sends) {
+        SearchRequestEvent event = search.event();
+        if (event == null) {
+            return;
+        }
+        if (search.failure() != null) {
+            publishUnexpectedError(search, search.failure(), sends);
+            return;
+        }
+
+        try {
+            for (AdapterSearch adapterSearch : search.adapterSearches()) {
+                SearchAdapter adapter = adapterSearch.adapter();
                 try {
-                    List<SearchAdapter.SearchResult> results = adapter.search(event.getQuery(), event.getMaxResults());
+                    List<SearchResult> results = await(adapterSearch.results(), deadline);
 
                     if (results.isEmpty()) {
                         log.debug("No results from adapter: {}", adapter.getEngineType());
                         continue;
                     }
 
-                    // Publish each result to search-results-raw topic
-                    for (SearchAdapter.SearchResult result : results) {
+                    // Publish each result to search-results-raw topic (pipelined, not awaited here)
+                    for (SearchResult result : results) {
                         SearchResultEvent resultEvent = SearchResultEvent.builder()
                                 .sessionId(event.getSessionId())
-                                .url(result.url())
-                                .title(result.title())
-                                .description(result.description())
+                                .url(result.getUrl())
+                                .title(result.getTitle())
+                                .description(result.getDescription())
                                 .build();
 
-                        kafkaTemplate.send("search-results-raw", resultEvent);
+                        sends.accept(kafkaTemplate.send("search-results-raw", sessionKey(event.getSessionId()), resultEvent));
                     }
 
                     log.info("✅ Published {} results from {} to search-results-raw",
@@ -95,36 +270,75 @@ public class SearchRequestConsumer {
                     log.error("❌ Adapter {} failed for query '{}': {}",
                             adapter.getEngineType(), event.getQuery(), e.getMessage());
 
-                    // Publish error event
-                    WorkflowErrorEvent errorEvent = WorkflowErrorEvent.builder()
-                            .sessionId(event.getSessionId())
+                    // Publish error event; the payload retries only this adapter
+                    WorkflowErrorEvent errorEvent = errorEvent(search, e)
                             .errorMessage("Search adapter failed: " + e.getMessage())
                             .errorType("SEARCH_ADAPTER_ERROR")
-                            .stage("SEARCH_EXECUTION")
-                            .stackTrace(getStackTrace(e))
+                            .originalPayload(SearchRequestPayload.toJson(
+                                    SearchRequestPayload.forEngine(event, engineName(adapter))))
                             .build();
 
-                    kafkaTemplate.send("workflow-errors", errorEvent);
+                    sends.accept(kafkaTemplate.send("workflow-errors", sessionKey(event.getSessionId()), errorEvent));
                 }
             }
 
         } catch (Exception e) {
-            log.error("❌ Unexpected error processing search request: {}", e.getMessage());
-
-            if (event != null) {
-                WorkflowErrorEvent errorEvent = WorkflowErrorEvent.builder()
-                        .sessionId(event.getSessionId())
-                        .errorMessage("Unexpected error: " + e.getMessage())
-                        .errorType("UNEXPECTED_ERROR")
-                        .stage("SEARCH_EXECUTION")
-                        .stackTrace(getStackTrace(e))
-                        .build();
-
-                kafkaTemplate.send("workflow-errors", errorEvent);
-            }
+            publishUnexpectedError(search, e, sends);
+        }
+    }
 
-        } finally {
-            acknowledgment.acknowledge();
+    private void publishUnexpectedError(PendingSearch search, Exception e, Consumer<CompletableFuture<?>> sends) {
+        log.error("❌ Unexpected error processing search request: {}", e.getMessage());
+
+        SearchRequestEvent event = search.event();
+        WorkflowErrorEvent errorEvent = errorEvent(search, e)
+                .errorMessage("Unexpected error: " + e.getMessage())
+                .errorType("UNEXPECTED_ERROR")
+                .originalPayload(SearchRequestPayload.toJson(event))
+                .build();
+
+        sends.accept(kafkaTemplate.send("workflow-errors", sessionKey(event.getSessionId()), errorEvent));
+    }
+
+    /**
+     * Error event fields shared by all SEARCH_EXECUTION errors of a request.
+     */
+    private WorkflowErrorEvent.WorkflowErrorEventBuilder errorEvent(PendingSearch search, Exception e) {
+        return WorkflowErrorEvent.builder()
+                .errorId(UUID.randomUUID())
+                .requestId(search.event().getRequestId())
+                .sessionId(search.event().getSessionId())
+                .stage("SEARCH_EXECUTION")
+                .stackTrace(getStackTrace(e))
+                .retryCount(search.attempt())
+                .timestamp(Instant.now());
+    }
+
+    private static boolean matchesEngine(SearchAdapter adapter, String searchEngine) {
+        return searchEngine == null || searchEngine.isBlank() || searchEngine.equalsIgnoreCase(engineName(adapter));
+    }
+
+    private static String engineName(SearchAdapter adapter) {
+        return adapter.getEngineType() != null ? adapter.getEngineType().name() : null;
+    }
+
+    /**
+     * Result of an adapter search, rethrowing the adapter's own exception on failure.
+     * A search still running at the deadline is cancelled (interrupting it).
+     */
+    private List<SearchResult> await(CompletableFuture<List<SearchResult>> results,
+                                                   long deadline) throws Exception {
+        try {
+            return results.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            results.cancel(true);
+            throw new TimeoutException("Search timed out after the batch budget of "
+                    + batchSearchTimeout.toMillis() + "ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
         }
     }
 
@@ -136,4 +350,19 @@ public class SearchRequestConsumer {
         }
         return sb.toString();
     }
+
+    /**
+     * Searches started for one request.
+     *
+     * @param event the request (null if the record had no value)
+     * @param attempt retry attempt (0 = original request)
+     * @param adapterSearches one running search per available adapter, in adapter order
+     * @param failure error raised before any search could start
+     */
+    private record PendingSearch(SearchRequestEvent event, int attempt, List<AdapterSearch> adapterSearches,
+                                 Exception failure) {
+    }
+
+    private record AdapterSearch(SearchAdapter adapter, CompletableFuture<List<SearchResult>> results) {
+    }
 }
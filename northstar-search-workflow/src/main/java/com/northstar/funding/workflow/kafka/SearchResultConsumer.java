@@ -3,6 +3,7 @@ package com.northstar.funding.workflow.kafka;
 import com.northstar.funding.kafka.events.SearchResultEvent;
 import com.northstar.funding.kafka.events.WorkflowErrorEvent;
 import com.northstar.funding.workflow.service.DomainBlacklistCache;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -11,6 +12,14 @@ import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import static com.northstar.funding.kafka.topics.KafkaTopics.sessionKey;
 
 /**
  * Kafka consumer for search-results-raw topic.
@@ -22,8 +31,9 @@ import java.net.URI;
  * <ul>
  *   <li>Topic: search-results-raw</li>
  *   <li>Group ID: search-workflow</li>
- *   <li>Manual acknowledgment</li>
- *   <li>Blacklist filtering: Uses Valkey cache for fast lookups</li>
+ *   <li>Batch listener with manual acknowledgment: validated events are sent without
+ *       waiting (pipelined) and the batch is acknowledged once all sends complete</li>
+ *   <li>Blacklist filtering: one Valkey {@code MGET} per batch</li>
  * </ul>
  */
 @Service
@@ -39,63 +49,103 @@ public class SearchResultConsumer {
         this.kafkaTemplate = kafkaTemplate;
     }
 
+    /**
+     * Batch listener: checks the blacklist for every domain in the poll with one batch
+     * lookup, pipelines the validated events, and acknowledges the batch once all sends complete.
+     */
     @KafkaListener(
             topics = "search-results-raw",
             groupId = "search-workflow",
             containerFactory = "kafkaListenerContainerFactory"
     )
-    public void consumeSearchResult(SearchResultEvent event, Acknowledgment acknowledgment) {
-        try {
-            // Input validation
-            if (event == null) {
-                log.warn("⚠️ Received null search result event");
-                return;
-            }
+    public void consumeSearchResults(List<ConsumerRecord<String, SearchResultEvent>> records,
+                                     Acknowledgment acknowledgment) {
+        // 1. Validate and extract domains
+        List<SearchResultEvent> events = new ArrayList<>(records.size());
+        List<String> domains = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, SearchResultEvent> record : records) {
+            SearchResultEvent event = record.value();
+            events.add(event);
+            domains.add(validDomain(event));
+        }
 
-            if (event.getUrl() == null || event.getUrl().trim().isEmpty()) {
-                log.warn("⚠️ Received search result with null/empty URL: {}", event);
-                return;
-            }
+        // 2. One blacklist lookup for the whole batch
+        Map<String, Boolean> blacklisted;
+        Exception lookupFailure = null;
+        try {
+            blacklisted = blacklistCache.areBlacklisted(domains.stream().filter(Objects::nonNull).toList());
+        } catch (Exception e) {
+            log.error("❌ Batch blacklist lookup failed for {} results: {}", records.size(), e.getMessage());
+            blacklisted = Map.of();
+            lookupFailure = e;
+        }
 
-            // Extract domain from URL
-            String domain = extractDomain(event.getUrl());
+        // 3. Publish without waiting, then acknowledge in bulk
+        PendingSends pending = new PendingSends();
+        int filtered = 0;
+        for (int i = 0; i < events.size(); i++) {
+            SearchResultEvent event = events.get(i);
+            String domain = domains.get(i);
             if (domain == null) {
-                log.warn("⚠️ Invalid URL, cannot extract domain: {}", event.getUrl());
-                return;
+                continue;
             }
-
-            log.debug("🔍 Checking blacklist for domain: {}", domain);
-
-            // Check blacklist using Valkey cache
-            boolean isBlacklisted = blacklistCache.isBlacklisted(domain);
-
-            if (isBlacklisted) {
+            if (lookupFailure != null) {
+                pending.add(i, kafkaTemplate.send("workflow-errors", sessionKey(event.getSessionId()),
+                        validationError(event, lookupFailure)));
+            } else if (Boolean.TRUE.equals(blacklisted.get(domain))) {
                 log.info("🚫 Filtered blacklisted domain: {}", domain);
-                return;
+                filtered++;
+            } else {
+                pending.add(i, kafkaTemplate.send("search-results-validated", sessionKey(event.getSessionId()), event));
             }
+        }
 
-            // Publish to validated topic
-            kafkaTemplate.send("search-results-validated", event);
-            log.debug("✅ Published validated result: domain={}, title='{}'", domain, event.getTitle());
+        int firstFailed = pending.awaitAndAcknowledge(acknowledgment);
+        if (firstFailed >= 0) {
+            log.error("❌ Publishing failed for search result batch at record {} of {}, redelivering from there",
+                    firstFailed, records.size());
+        } else {
+            log.debug("✅ Acknowledged {} search results ({} published, {} blacklisted)",
+                    records.size(), pending.size(), filtered);
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("❌ Error processing search result: {}", e.getMessage());
-
-            if (event != null) {
-                WorkflowErrorEvent errorEvent = WorkflowErrorEvent.builder()
-                        .sessionId(event.getSessionId())
-                        .errorMessage("Result validation failed: " + e.getMessage())
-                        .errorType("VALIDATION_ERROR")
-                        .stage("DOMAIN_PROCESSING")
-                        .stackTrace(getStackTrace(e))
-                        .build();
-
-                kafkaTemplate.send("workflow-errors", errorEvent);
-            }
+    /**
+     * Validate the event and extract its domain.
+     *
+     * @return domain, or null if the event is null or its URL is missing/invalid
+     */
+    private String validDomain(SearchResultEvent event) {
+        // Input validation
+        if (event == null) {
+            log.warn("⚠️ Received null search result event");
+            return null;
+        }
 
-        } finally {
-            acknowledgment.acknowledge();
+        if (event.getUrl() == null || event.getUrl().trim().isEmpty()) {
+            log.warn("⚠️ Received search result with null/empty URL: {}", event);
+            return null;
         }
+
+        // Extract domain from URL
+        String domain = extractDomain(event.getUrl());
+        if (domain == null) {
+            log.warn("⚠️ Invalid URL, cannot extract domain: {}", event.getUrl());
+        }
+        return domain;
+    }
+
+    private WorkflowErrorEvent validationError(SearchResultEvent event, Exception e) {
+        return WorkflowErrorEvent.builder()
+                .errorId(UUID.randomUUID())
+                .requestId(event.getRequestId())
+                .sessionId(event.getSessionId())
+                .timestamp(Instant.now())
+                .errorMessage("Result validation failed: " + e.getMessage())
+                .errorType("VALIDATION_ERROR")
+                .stage("DOMAIN_PROCESSING")
+                .stackTrace(getStackTrace(e))
+                .build();
     }
 
     /**
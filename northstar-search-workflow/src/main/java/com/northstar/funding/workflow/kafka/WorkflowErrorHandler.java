@@ -1,24 +1,58 @@
 package com.northstar.funding.workflow.kafka;
 
+import com.northstar.funding.domain.ErrorClassification;
+import com.northstar.funding.domain.WorkflowError;
+import com.northstar.funding.kafka.events.SearchRequestEvent;
 import com.northstar.funding.kafka.events.WorkflowErrorEvent;
+import com.northstar.funding.kafka.topics.RetryHeaders;
+import com.northstar.funding.persistence.service.WorkflowErrorService;
+import com.northstar.funding.workflow.retry.ErrorClassifier;
+import com.northstar.funding.workflow.retry.RetryMetrics;
+import com.northstar.funding.workflow.retry.RetryPolicy;
+import com.northstar.funding.workflow.retry.SearchRequestPayload;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static com.northstar.funding.kafka.topics.KafkaTopics.SEARCH_REQUESTS_RETRY;
+import static com.northstar.funding.kafka.topics.KafkaTopics.sessionKey;
+
 /**
  * Kafka consumer for workflow-errors topic.
  *
- * <p>Acts as a dead letter queue handler for workflow errors.
- * Logs errors for monitoring and debugging.
+ * <p>Acts as a dead letter queue handler for workflow errors:
+ * <ul>
+ *   <li>Logs every error and classifies it as transient or permanent ({@link ErrorClassifier})</li>
+ *   <li>Transient errors that carry the original SearchRequestEvent are re-published to the
+ *       search-requests-retry delay topic with exponential backoff ({@link RetryPolicy});
+ *       RetryScheduler moves them back to search-requests once due</li>
+ *   <li>Stores each consumed batch in the workflow_error table with one multi-row insert</li>
+ *   <li>Counts errors, retries and retry latency ({@link RetryMetrics})</li>
+ * </ul>
  *
  * <p>Configuration:
  * <ul>
  *   <li>Topic: workflow-errors</li>
  *   <li>Group ID: error-handler</li>
- *   <li>Manual acknowledgment</li>
- *   <li>Future: Could persist to database, send alerts, etc.</li>
+ *   <li>Batch listener, manual acknowledgment once the batch's retry sends complete.
+ *       A failed store is logged and counted but doesn't hold up the batch: the events
+ *       stay in workflow-errors for 30 days</li>
  * </ul>
  */
 @Service
@@ -26,16 +60,71 @@ public class WorkflowErrorHandler {
 
     private static final Logger log = LoggerFactory.getLogger(WorkflowErrorHandler.class);
 
+    private final WorkflowErrorService workflowErrorService;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final RetryPolicy retryPolicy;
+    private final RetryMetrics retryMetrics;
+    private final Clock clock;
+
+    @Autowired
+    public WorkflowErrorHandler(WorkflowErrorService workflowErrorService,
+                                KafkaTemplate<String, Object> kafkaTemplate,
+                                RetryPolicy retryPolicy,
+                                RetryMetrics retryMetrics) {
+        this(workflowErrorService, kafkaTemplate, retryPolicy, retryMetrics, Clock.systemDefaultZone());
+    }
+
+    WorkflowErrorHandler(WorkflowErrorService workflowErrorService,
+                         KafkaTemplate<String, Object> kafkaTemplate,
+                         RetryPolicy retryPolicy,
+                         RetryMetrics retryMetrics,
+                         Clock clock) {
+        this.workflowErrorService = workflowErrorService;
+        this.kafkaTemplate = kafkaTemplate;
+        this.retryPolicy = retryPolicy;
+        this.retryMetrics = retryMetrics;
+        this.clock = clock;
+    }
+
+    /**
+     * Batch listener: handles every error of the poll, stores them with one insert, then
+     * acknowledges once every retry send has completed.
+     */
     @KafkaListener(
             topics = "workflow-errors",
             groupId = "error-handler",
             containerFactory = "kafkaListenerContainerFactory"
     )
-    public void handleError(WorkflowErrorEvent event, Acknowledgment acknowledgment) {
+    public void handleErrors(List<ConsumerRecord<String, WorkflowErrorEvent>> records,
+                             Acknowledgment acknowledgment) {
+        PendingSends pending = new PendingSends();
+        List<WorkflowError> rows = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            int recordIndex = i;
+            WorkflowError row = handle(records.get(i).value(), future -> pending.add(recordIndex, future));
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        store(rows);
+
+        int firstFailed = pending.awaitAndAcknowledge(acknowledgment);
+        if (firstFailed >= 0) {
+            log.error("❌ Scheduling retries failed at error record {} of {}, redelivering from there",
+                    firstFailed, records.size());
+        }
+    }
+
+    /**
+     * Log, classify and (if transient) schedule a retry.
+     *
+     * @return the row to store, or null for a null event or if handling failed
+     */
+    private WorkflowError handle(WorkflowErrorEvent event, Consumer<CompletableFuture<?>> sends) {
         try {
             if (event == null) {
                 log.warn("⚠️ Received null error event");
-                return;
+                return null;
             }
 
             // Log error with details
@@ -50,17 +139,93 @@ public class WorkflowErrorHandler {
                 log.error("Stack trace:\n{}", event.getStackTrace());
             }
 
-            // Future enhancements:
-            // - Persist to error_log table for audit trail
-            // - Send alerts for critical errors (via email, Slack, etc.)
-            // - Track error frequency by type/component
-            // - Implement retry logic for transient errors
+            ErrorClassification classification = ErrorClassifier.classify(event);
+            retryMetrics.errorClassified(classification);
+            boolean retryScheduled = classification == ErrorClassification.TRANSIENT && scheduleRetry(event, sends);
+            return toRow(event, classification, retryScheduled);
 
         } catch (Exception e) {
             log.error("❌ Error handler itself failed: {}", e.getMessage(), e);
+            return null;
+        }
+    }
 
-        } finally {
-            acknowledgment.acknowledge();
+    /**
+     * Publish the original request to the delay topic if it has attempts left.
+     *
+     * @return true if a retry was sent
+     */
+    private boolean scheduleRetry(WorkflowErrorEvent event, Consumer<CompletableFuture<?>> sends) {
+        String payload = event.getOriginalPayload();
+        if (payload == null || payload.isBlank()) {
+            log.debug("Transient error without original request, not retryable: {}", event.getErrorType());
+            return false;
         }
+
+        int attempt = event.getRetryCount() + 1;
+        if (!retryPolicy.canRetry(attempt)) {
+            retryMetrics.retryExhausted();
+            log.warn("⚠️ Retries exhausted after {} attempts for request {} (session {})",
+                    event.getRetryCount(), event.getRequestId(), event.getSessionId());
+            return false;
+        }
+
+        SearchRequestEvent request;
+        try {
+            request = SearchRequestPayload.fromJson(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ Cannot retry request {}: {}", event.getRequestId(), e.getMessage());
+            return false;
+        }
+
+        long now = clock.millis();
+        long failedAt = event.getTimestamp() != null ? event.getTimestamp().toEpochMilli() : now;
+        Duration delay = retryPolicy.delayFor(attempt);
+
+        ProducerRecord<String, Object> retry =
+                new ProducerRecord<>(SEARCH_REQUESTS_RETRY, sessionKey(request.getSessionId()), request);
+        RetryHeaders.set(retry.headers(), RetryHeaders.ATTEMPT, attempt);
+        RetryHeaders.set(retry.headers(), RetryHeaders.NOT_BEFORE, now + delay.toMillis());
+        RetryHeaders.set(retry.headers(), RetryHeaders.FAILED_AT, failedAt);
+        sends.accept(kafkaTemplate.send(retry));
+
+        retryMetrics.retryScheduled(attempt);
+        log.info("🔁 Retry {}/{} of request {} ({}) scheduled in {}s",
+                attempt, retryPolicy.getMaxAttempts(), request.getRequestId(), request.getSearchEngine(),
+                delay.toSeconds());
+        return true;
+    }
+
+    private void store(List<WorkflowError> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            int stored = workflowErrorService.recordAll(rows);
+            retryMetrics.errorsStored(stored);
+        } catch (Exception e) {
+            retryMetrics.storeFailed(rows.size());
+            log.warn("⚠️ Failed to store {} workflow errors: {}", rows.size(), e.getMessage());
+        }
+    }
+
+    private WorkflowError toRow(WorkflowErrorEvent event, ErrorClassification classification, boolean retryScheduled) {
+        LocalDateTime occurredAt = event.getTimestamp() != null
+                ? LocalDateTime.ofInstant(event.getTimestamp(), ZoneId.systemDefault())
+                : LocalDateTime.now(clock);
+        return WorkflowError.builder()
+                .errorId(event.getErrorId() != null ? event.getErrorId() : UUID.randomUUID())
+                .requestId(event.getRequestId())
+                .sessionId(event.getSessionId())
+                .stage(event.getStage())
+                .errorType(event.getErrorType())
+                .errorMessage(event.getErrorMessage())
+                .stackTrace(event.getStackTrace())
+                .classification(classification)
+                .retryCount(event.getRetryCount())
+                .retryScheduled(retryScheduled)
+                .originalPayload(event.getOriginalPayload())
+                .occurredAt(occurredAt)
+                .build();
     }
 }
@@ -0,0 +1,70 @@
+package com.northstar.funding.workflow.retry;
+
+import com.northstar.funding.domain.ErrorClassification;
+import com.northstar.funding.kafka.events.WorkflowErrorEvent;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Classifies workflow errors as transient (worth retrying) or permanent.
+ *
+ * <p>Looks at the error message and the first line of the stack trace (the exception
+ * class and message). Permanent markers win over transient ones, so an HTTP 401 that
+ * also mentions a timeout is not retried. Errors matching neither fall back to the
+ * error type: adapter failures are mostly network problems and count as transient,
+ * everything else as permanent.
+ */
+public final class ErrorClassifier {
+
+    private static final Set<String> PERMANENT_TYPES = Set.of("VALIDATION_ERROR");
+    private static final Set<String> TRANSIENT_BY_DEFAULT_TYPES = Set.of("SEARCH_ADAPTER_ERROR");
+
+    private static final Pattern PERMANENT = Pattern.compile(
+            "\\b(400|401|403|404|422)\\b|bad request|unauthori[sz]ed|forbidden|not found|invalid api key"
+                    + "|illegalargument|nullpointer|classcast|jsonparse|jsonmapping|mismatchedinput");
+
+    private static final Pattern TRANSIENT = Pattern.compile(
+            "\\b(408|429|500|502|503|504)\\b|time(d)? ?out|connection (refused|reset|closed)|connectexception"
+                    + "|unknownhost|too many requests|rate limit|service unavailable|bad gateway"
+                    + "|temporar(il)?y|ioexception|broken pipe|\\beof\\b");
+
+    private ErrorClassifier() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * @param event error event (nullable)
+     * @return TRANSIENT if a retry may succeed, PERMANENT otherwise
+     */
+    public static ErrorClassification classify(WorkflowErrorEvent event) {
+        if (event == null || PERMANENT_TYPES.contains(event.getErrorType())) {
+            return ErrorClassification.PERMANENT;
+        }
+
+        String text = (nullToEmpty(event.getErrorMessage()) + "\n" + firstLine(event.getStackTrace()))
+                .toLowerCase(Locale.ROOT);
+        if (PERMANENT.matcher(text).find()) {
+            return ErrorClassification.PERMANENT;
+        }
+        if (TRANSIENT.matcher(text).find()) {
+            return ErrorClassification.TRANSIENT;
+        }
+        return TRANSIENT_BY_DEFAULT_TYPES.contains(event.getErrorType())
+                ? ErrorClassification.TRANSIENT
+                : ErrorClassification.PERMANENT;
+    }
+
+    private static String firstLine(String stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        int end = stackTrace.indexOf('\n');
+        return end >= 0 ? stackTrace.substring(0, end) : stackTrace;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,108 @@
+package com.northstar.funding.workflow.retry;
+
+import com.northstar.funding.domain.ErrorClassification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Micrometer meters for the error store and retry pipeline.
+ *
+ * <ul>
+ *   <li>{@code northstar.workflow.errors{classification}} - errors consumed from workflow-errors</li>
+ *   <li>{@code northstar.workflow.errors.stored} / {@code .store.failed} - dead-letter table writes</li>
+ *   <li>{@code northstar.workflow.retries.scheduled{attempt}} - requests sent to the delay topic</li>
+ *   <li>{@code northstar.workflow.retries.exhausted} - transient errors with no attempts left</li>
+ *   <li>{@code northstar.workflow.retries.published} - requests moved back to search-requests</li>
+ *   <li>{@code northstar.workflow.retry.latency} - failure to re-publish time</li>
+ * </ul>
+ *
+ * <p>Registered with the application's registry (exported by actuator) when there is
+ * one, otherwise with a local SimpleMeterRegistry.
+ */
+@Component
+public class RetryMetrics {
+
+    private final MeterRegistry registry;
+    private final Counter transientErrors;
+    private final Counter permanentErrors;
+    private final Counter stored;
+    private final Counter storeFailed;
+    private final Counter exhausted;
+    private final Counter published;
+    private final Timer latency;
+
+    @Autowired
+    public RetryMetrics(ObjectProvider<MeterRegistry> registry) {
+        this(registry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    public RetryMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.transientErrors = errors(ErrorClassification.TRANSIENT);
+        this.permanentErrors = errors(ErrorClassification.PERMANENT);
+        this.stored = Counter.builder("northstar.workflow.errors.stored")
+                .description("Workflow errors written to the dead-letter table")
+                .register(registry);
+        this.storeFailed = Counter.builder("northstar.workflow.errors.store.failed")
+                .description("Workflow errors lost in failed dead-letter table writes")
+                .register(registry);
+        this.exhausted = Counter.builder("northstar.workflow.retries.exhausted")
+                .description("Transient errors not retried because the attempt limit was reached")
+                .register(registry);
+        this.published = Counter.builder("northstar.workflow.retries.published")
+                .description("Retried requests re-published to search-requests")
+                .register(registry);
+        this.latency = Timer.builder("northstar.workflow.retry.latency")
+                .description("Time from a failure to its retry being re-published")
+                .register(registry);
+    }
+
+    public void errorClassified(ErrorClassification classification) {
+        (classification == ErrorClassification.TRANSIENT ? transientErrors : permanentErrors).increment();
+    }
+
+    public void errorsStored(int count) {
+        stored.increment(count);
+    }
+
+    public void storeFailed(int count) {
+        storeFailed.increment(count);
+    }
+
+    public void retryScheduled(int attempt) {
+        Counter.builder("northstar.workflow.retries.scheduled")
+                .description("Requests published to the retry delay topic")
+                .tag("attempt", String.valueOf(attempt))
+                .register(registry)
+                .increment();
+    }
+
+    public void retryExhausted() {
+        exhausted.increment();
+    }
+
+    /**
+     * @param sinceFailure time since the failure the retry is for (null if unknown)
+     */
+    public void retryPublished(Duration sinceFailure) {
+        published.increment();
+        if (sinceFailure != null && !sinceFailure.isNegative()) {
+            latency.record(sinceFailure);
+        }
+    }
+
+    private Counter errors(ErrorClassification classification) {
+        return Counter.builder("northstar.workflow.errors")
+                .description("Workflow errors consumed, by classification")
+                .tag("classification", classification.name().toLowerCase(Locale.ROOT))
+                .register(registry);
+    }
+}
@@ -0,0 +1,55 @@
+package com.northstar.funding.workflow.retry;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Exponential backoff for retried search requests.
+ *
+ * <p>Attempt n waits {@code initial-delay-ms * multiplier^(n-1)}, capped at
+ * {@code max-delay-ms}; after {@code max-attempts} retries the error is only stored.
+ * Defaults: 3 attempts after 30 s, 2 min and 8 min.
+ */
+@Component
+public class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialDelayMs;
+    private final double multiplier;
+    private final long maxDelayMs;
+
+    public RetryPolicy(
+            @Value("${northstar.workflow.retry.max-attempts:3}") int maxAttempts,
+            @Value("${northstar.workflow.retry.initial-delay-ms:30000}") long initialDelayMs,
+            @Value("${northstar.workflow.retry.multiplier:4.0}") double multiplier,
+            @Value("${northstar.workflow.retry.max-delay-ms:900000}") long maxDelayMs
+    ) {
+        this.maxAttempts = Math.max(0, maxAttempts);
+        this.initialDelayMs = Math.max(0, initialDelayMs);
+        this.multiplier = Math.max(1.0, multiplier);
+        this.maxDelayMs = Math.max(this.initialDelayMs, maxDelayMs);
+    }
+
+    /**
+     * @param attempt retry attempt (1 = first retry)
+     * @return true if the attempt is within the limit
+     */
+    public boolean canRetry(int attempt) {
+        return attempt >= 1 && attempt <= maxAttempts;
+    }
+
+    /**
+     * @param attempt retry attempt (1 = first retry)
+     * @return how long to wait before re-publishing the request
+     */
+    public Duration delayFor(int attempt) {
+        double delay = initialDelayMs * Math.pow(multiplier, Math.max(0, attempt - 1));
+        return Duration.ofMillis((long) Math.min(delay, maxDelayMs));
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+}
@@ -0,0 +1,62 @@
+package com.northstar.funding.workflow.retry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.northstar.funding.kafka.events.SearchRequestEvent;
+
+/**
+ * JSON form of a SearchRequestEvent carried in {@code WorkflowErrorEvent.originalPayload}.
+ *
+ * <p>SearchRequestConsumer stores the request narrowed to the failed adapter
+ * ({@link #forEngine}), so a retry re-runs only the search that failed.
+ */
+public final class SearchRequestPayload {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private SearchRequestPayload() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * @return the request as JSON, or null if it can't be serialized (the error is then not retryable)
+     */
+    public static String toJson(SearchRequestEvent request) {
+        try {
+            return MAPPER.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the payload is not a SearchRequestEvent
+     */
+    public static SearchRequestEvent fromJson(String json) {
+        try {
+            return MAPPER.readValue(json, SearchRequestEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Not a search request payload: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * Copy of a request restricted to one search engine.
+     */
+    public static SearchRequestEvent forEngine(SearchRequestEvent request, String searchEngine) {
+        return SearchRequestEvent.builder()
+                .requestId(request.getRequestId())
+                .sessionId(request.getSessionId())
+                .query(request.getQuery())
+                .searchEngine(searchEngine)
+                .maxResults(request.getMaxResults())
+                .timestamp(request.getTimestamp())
+                .category(request.getCategory())
+                .geographic(request.getGeographic())
+                .build();
+    }
+}
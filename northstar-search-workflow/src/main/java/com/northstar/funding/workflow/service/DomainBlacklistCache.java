@@ -2,14 +2,33 @@ package com.northstar.funding.workflow.service;
 
 import com.northstar.funding.domain.Domain;
 import com.northstar.funding.domain.DomainStatus;
+import com.northstar.funding.persistence.blacklist.DomainBlacklistChangedEvent;
+import com.northstar.funding.persistence.blacklist.DomainBlacklistIndex;
 import com.northstar.funding.persistence.service.DomainService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Valkey (Redis) cache for domain blacklist lookups.
@@ -23,26 +42,59 @@ import java.util.concurrent.TimeUnit;
  *
  * <p>Cache strategy:
  * <ul>
- *   <li>Read-through: Check cache → miss → query DB → cache result</li>
- *   <li>TTL: 24 hours (blacklists change infrequently)</li>
- *   <li>Eviction: LRU (configured in docker-compose.yml)</li>
- *   <li>Key pattern: {@code blacklist:{domain}} → {@code true/false}</li>
- *   <li>Fallback: PostgreSQL if Valkey unavailable (log degraded performance)</li>
+ *   <li>One SET of blacklisted domains ({@code blacklist:domains}, lower-cased). A domain that
+ *       isn't a member is not blacklisted, so unknown domains cost no SQL and no Valkey memory</li>
+ *   <li>Kept in sync with {@code SADD}/{@code SREM} when DomainService commits a blacklist change
+ *       ({@link DomainBlacklistChangedEvent})</li>
+ *   <li>PostgreSQL is only read to bootstrap the set: at startup, or when the
+ *       {@code blacklist:domains:ready} marker is missing. The set is built under a temporary key
+ *       in one pipeline and swapped in with {@code RENAME}, so readers never see a partial set.
+ *       The marker expires after 24 hours, which rebuilds the set and repairs any drift</li>
+ *   <li>Batches: {@link #areBlacklisted(Collection)} answers with one {@code SMISMEMBER}</li>
+ *   <li>The set is the source of truth, shared by every node. If Valkey is unavailable the
+ *       in-process {@link DomainBlacklistIndex} answers when it is loaded (it only sees changes
+ *       committed on this node), otherwise PostgreSQL (log degraded performance)</li>
  * </ul>
  */
 @Service
 public class DomainBlacklistCache {
 
     private static final Logger log = LoggerFactory.getLogger(DomainBlacklistCache.class);
-    private static final long TTL_HOURS = 24;
-    private static final String KEY_PREFIX = "blacklist:";
 
-    private final RedisTemplate<String, Boolean> redisTemplate;
+    static final String SET_KEY = "blacklist:domains";
+    static final String READY_KEY = SET_KEY + ":ready";
+    static final Duration READY_TTL = Duration.ofHours(24);
+    private static final long READY_RECHECK_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final int BOOTSTRAP_CHUNK = 1_000;
+
+    private final StringRedisTemplate redisTemplate;
     private final DomainService domainService;
+    private final DomainBlacklistIndex blacklistIndex;
+
+    private final ReentrantLock bootstrapLock = new ReentrantLock();
+    private final Queue<DomainBlacklistChangedEvent> changesDuringBootstrap = new ConcurrentLinkedQueue<>();
+    private volatile boolean bootstrapping;
+    private volatile long readyCheckedAt;
+    private volatile boolean ready;
 
-    public DomainBlacklistCache(RedisTemplate<String, Boolean> redisTemplate, DomainService domainService) {
+    public DomainBlacklistCache(StringRedisTemplate redisTemplate, DomainService domainService,
+                                DomainBlacklistIndex blacklistIndex) {
         this.redisTemplate = redisTemplate;
         this.domainService = domainService;
+        this.blacklistIndex = blacklistIndex;
+    }
+
+    /**
+     * Build the set at startup unless another instance already has.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrapOnStartup() {
+        try {
+            ensureSet();
+        } catch (Exception e) {
+            log.warn("⚠️ Could not bootstrap Valkey blacklist set at startup, will retry on first lookup: {}",
+                    e.getMessage());
+        }
     }
 
     public boolean isBlacklisted(String domain) {
@@ -51,55 +103,185 @@ public class DomainBlacklistCache {
             return false;
         }
 
-        String cacheKey = KEY_PREFIX + domain;
-
         try {
-            // Check cache first
-            Boolean cached = redisTemplate.opsForValue().get(cacheKey);
-            if (cached != null) {
-                log.debug("✅ Cache HIT for domain: {}", domain);
-                return cached;
+            ensureSet();
+            return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(SET_KEY, normalize(domain)));
+        } catch (Exception e) {
+            if (blacklistIndex.isLoaded()) {
+                log.warn("⚠️ Valkey unavailable, falling back to in-process blacklist index: {}", e.getMessage());
+                return blacklistIndex.isBlacklisted(domain);
             }
+            log.warn("⚠️ Valkey unavailable, falling back to PostgreSQL: {}", e.getMessage());
+            return checkDatabaseOnly(domain);
+        }
+    }
+
+    /**
+     * Check many domains with one Valkey round trip ({@code SMISMEMBER}).
+     *
+     * @param domains domains to check (null/blank entries are ignored)
+     * @return blacklist status per distinct domain, in input order
+     */
+    public Map<String, Boolean> areBlacklisted(Collection<String> domains) {
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        if (domains == null || domains.isEmpty()) {
+            return result;
+        }
 
-            log.debug("❌ Cache MISS for domain: {}", domain);
-            return checkDatabaseAndCache(domain, cacheKey);
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String domain : domains) {
+            if (domain != null && !domain.trim().isEmpty()) {
+                distinct.add(domain);
+            }
+        }
+        if (distinct.isEmpty()) {
+            return result;
+        }
 
+        List<String> ordered = new ArrayList<>(distinct);
+        Map<Object, Boolean> members;
+        try {
+            ensureSet();
+            members = redisTemplate.opsForSet().isMember(SET_KEY,
+                    ordered.stream().map(DomainBlacklistCache::normalize).distinct().toArray());
         } catch (Exception e) {
-            log.warn("⚠️ Valkey unavailable, falling back to PostgreSQL: {}", e.getMessage());
-            return checkDatabaseOnly(domain);
+            if (blacklistIndex.isLoaded()) {
+                log.warn("⚠️ Valkey unavailable, falling back to in-process blacklist index for {} domains: {}",
+                        ordered.size(), e.getMessage());
+                ordered.forEach(domain -> result.put(domain, blacklistIndex.isBlacklisted(domain)));
+                return result;
+            }
+            log.warn("⚠️ Valkey unavailable, falling back to PostgreSQL for {} domains: {}",
+                    ordered.size(), e.getMessage());
+            ordered.forEach(domain -> result.put(domain, checkDatabaseOnly(domain)));
+            return result;
+        }
+
+        for (String domain : ordered) {
+            result.put(domain, members != null && Boolean.TRUE.equals(members.get(normalize(domain))));
         }
+        log.debug("Batch blacklist lookup: {} domains in one SMISMEMBER", ordered.size());
+        return result;
     }
 
+    /**
+     * Re-read one domain's status from PostgreSQL and fix its membership in the set.
+     */
     public void invalidate(String domain) {
         if (domain == null || domain.trim().isEmpty()) {
             return;
         }
 
         try {
-            String cacheKey = KEY_PREFIX + domain;
-            redisTemplate.delete(cacheKey);
-            log.info("🗑️ Invalidated cache for domain: {}", domain);
+            apply(new DomainBlacklistChangedEvent(domain, checkDatabaseOnly(domain)));
+            log.info("🗑️ Re-synced blacklist status for domain: {}", domain);
         } catch (Exception e) {
-            log.warn("⚠️ Failed to invalidate cache for domain {}: {}", domain, e.getMessage());
+            log.warn("⚠️ Failed to re-sync blacklist status for domain {}: {}", domain, e.getMessage());
         }
     }
 
-    private boolean checkDatabaseAndCache(String domain, String cacheKey) {
-        Optional<Domain> domainOpt = domainService.findByDomainName(domain);
+    /**
+     * Mirror a committed blacklist change into the set.
+     */
+    @EventListener
+    public void onBlacklistChanged(DomainBlacklistChangedEvent event) {
+        if (event.domainName() == null || event.domainName().isBlank()) {
+            return;
+        }
+        try {
+            apply(event);
+        } catch (Exception e) {
+            // Missed update: drop the marker so the next lookup rebuilds the set from PostgreSQL
+            log.warn("⚠️ Failed to sync blacklist change for {} to Valkey: {}", event.domainName(), e.getMessage());
+            markStale();
+        }
+    }
 
-        boolean isBlacklisted = domainOpt
-                .map(d -> d.getStatus() == DomainStatus.BLACKLISTED)
-                .orElse(false);
+    private void apply(DomainBlacklistChangedEvent event) {
+        if (bootstrapping) {
+            // The snapshot being loaded may predate this change; replay it after the swap
+            changesDuringBootstrap.add(event);
+        }
+        String member = normalize(event.domainName());
+        if (event.blacklisted()) {
+            redisTemplate.opsForSet().add(SET_KEY, member);
+        } else {
+            redisTemplate.opsForSet().remove(SET_KEY, member);
+        }
+    }
 
-        // Cache the result
+    /**
+     * Make sure the set has been bootstrapped. The ready marker is checked at most once a
+     * minute per instance; a missing marker rebuilds the set from PostgreSQL.
+     */
+    private void ensureSet() {
+        if (ready && System.nanoTime() - readyCheckedAt < READY_RECHECK_NANOS) {
+            return;
+        }
+        bootstrapLock.lock();
         try {
-            redisTemplate.opsForValue().set(cacheKey, isBlacklisted, TTL_HOURS, TimeUnit.HOURS);
-            log.debug("💾 Cached blacklist status for {}: {}", domain, isBlacklisted);
-        } catch (Exception e) {
-            log.warn("⚠️ Failed to cache result for domain {}: {}", domain, e.getMessage());
+            if (ready && System.nanoTime() - readyCheckedAt < READY_RECHECK_NANOS) {
+                return;
+            }
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+                bootstrap();
+            }
+            readyCheckedAt = System.nanoTime();
+            ready = true;
+        } finally {
+            bootstrapLock.unlock();
         }
+    }
 
-        return isBlacklisted;
+    private void bootstrap() {
+        bootstrapping = true;
+        try {
+            Set<String> members = new LinkedHashSet<>();
+            for (Domain domain : domainService.getBlacklistedDomains()) {
+                if (domain.getDomainName() != null && !domain.getDomainName().isBlank()) {
+                    members.add(normalize(domain.getDomainName()));
+                }
+            }
+            List<String> ordered = new ArrayList<>(members);
+            String tempKey = SET_KEY + ":bootstrap:" + UUID.randomUUID();
+
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    if (ordered.isEmpty()) {
+                        ops.delete(SET_KEY);
+                    } else {
+                        for (int from = 0; from < ordered.size(); from += BOOTSTRAP_CHUNK) {
+                            List<String> chunk = ordered.subList(from, Math.min(from + BOOTSTRAP_CHUNK, ordered.size()));
+                            ops.opsForSet().add(tempKey, chunk.toArray(String[]::new));
+                        }
+                        ops.rename(tempKey, SET_KEY);
+                    }
+                    ops.opsForValue().set(READY_KEY, "1", READY_TTL);
+                    return null;
+                }
+            });
+
+            bootstrapping = false;
+            DomainBlacklistChangedEvent change;
+            while ((change = changesDuringBootstrap.poll()) != null) {
+                apply(change);
+            }
+            log.info("Valkey blacklist set bootstrapped from PostgreSQL: {} domains", ordered.size());
+        } finally {
+            bootstrapping = false;
+        }
+    }
+
+    private void markStale() {
+        ready = false;
+        try {
+            redisTemplate.delete(READY_KEY);
+        } catch (Exception e) {
+            log.debug("Could not clear blacklist ready marker: {}", e.getMessage());
+        }
     }
 
     private boolean checkDatabaseOnly(String domain) {
@@ -108,4 +290,8 @@ public class DomainBlacklistCache {
                 .map(d -> d.getStatus() == DomainStatus.BLACKLISTED)
                 .orElse(false);
     }
+
+    private static String normalize(String domain) {
+        return domain.trim().toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,45 @@
+package com.northstar.funding.workflow.kafka;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for ConsumerLagMonitor autoscale hint computation.
+ */
+class ConsumerLagMonitorTest {
+
+    @Test
+    void hint_whenNoLag_shouldNotBeActionable() {
+        ConsumerLagMonitor.AutoscaleHint hint = ConsumerLagMonitor.hint(
+                Map.of(0, 0L, 1, 0L, 2, 0L), 3, 3, 16, 100);
+
+        assertThat(hint.totalLag()).isZero();
+        assertThat(hint.recommendedConcurrency()).isEqualTo(1);
+        assertThat(hint.actionable()).isFalse();
+    }
+
+    @Test
+    void hint_whenBacklogExceedsConcurrency_shouldRecommendMoreThreadsAndPartitions() {
+        // 1,050 pending requests at 100 per thread -> 11 threads, more than the 3 partitions
+        ConsumerLagMonitor.AutoscaleHint hint = ConsumerLagMonitor.hint(
+                Map.of(0, 900L, 1, 100L, 2, 50L), 3, 3, 16, 100);
+
+        assertThat(hint.totalLag()).isEqualTo(1_050);
+        assertThat(hint.maxPartitionLag()).isEqualTo(900);
+        assertThat(hint.recommendedConcurrency()).isEqualTo(11);
+        assertThat(hint.recommendedPartitions()).isEqualTo(11);
+        assertThat(hint.actionable()).isTrue();
+    }
+
+    @Test
+    void hint_shouldNeverRecommendMoreThreadsThanCores() {
+        ConsumerLagMonitor.AutoscaleHint hint = ConsumerLagMonitor.hint(
+                Map.of(0, 50_000L), 12, 3, 8, 100);
+
+        assertThat(hint.recommendedConcurrency()).isEqualTo(8);
+        assertThat(hint.recommendedPartitions()).isEqualTo(12); // never suggests fewer partitions
+    }
+}
@@ -0,0 +1,121 @@
+package com.northstar.funding.workflow.kafka;
+
+import com.northstar.funding.kafka.events.SearchRequestEvent;
+import com.northstar.funding.kafka.topics.KafkaTopics;
+import com.northstar.funding.kafka.topics.RetryHeaders;
+import com.northstar.funding.workflow.retry.RetryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for RetryScheduler (Kafka consumer for the search-requests-retry delay topic).
+ */
+class RetrySchedulerTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-03T02:00:00Z");
+
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private Acknowledgment acknowledgment;
+    private SimpleMeterRegistry meterRegistry;
+    private RetryScheduler scheduler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        acknowledgment = mock(Acknowledgment.class);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new RetryScheduler(kafkaTemplate, new RetryMetrics(meterRegistry), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void releaseDueRetries_whenAllDue_shouldRepublishWithHeadersAndAcknowledge() {
+        // Given - failed 45s ago, due 15s ago
+        ConsumerRecord<String, SearchRequestEvent> record = retryRecord(0, NOW.minusSeconds(15), NOW.minusSeconds(45));
+
+        // When
+        scheduler.releaseDueRetries(List.of(record), acknowledgment);
+
+        // Then
+        ArgumentCaptor<ProducerRecord<String, Object>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(sent.capture());
+        assertThat(sent.getValue().topic()).isEqualTo(KafkaTopics.SEARCH_REQUESTS);
+        assertThat(sent.getValue().key()).isEqualTo(record.key());
+        assertThat(sent.getValue().value()).isEqualTo(record.value());
+        assertThat(RetryHeaders.get(sent.getValue().headers(), RetryHeaders.ATTEMPT, -1)).isEqualTo(1);
+        verify(acknowledgment).acknowledge();
+
+        assertThat(meterRegistry.counter("northstar.workflow.retries.published").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("northstar.workflow.retry.latency").totalTime(TimeUnit.SECONDS))
+                .isEqualTo(45);
+    }
+
+    @Test
+    void releaseDueRetries_whenRecordNotDue_shouldCommitReleasedAndPauseUntilDue() {
+        // Given - first due, second due in 10s, third due already (held behind the second)
+        List<ConsumerRecord<String, SearchRequestEvent>> records = List.of(
+                retryRecord(0, NOW.minusSeconds(1), NOW.minusSeconds(31)),
+                retryRecord(1, NOW.plusSeconds(10), NOW.minusSeconds(20)),
+                retryRecord(2, NOW.minusSeconds(1), NOW.minusSeconds(31)));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        scheduler.releaseDueRetries(records, acknowledgment);
+
+        // Then
+        verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+        verify(acknowledgment, never()).acknowledge();
+        verify(acknowledgment).nack(1, Duration.ofSeconds(10));
+    }
+
+    @Test
+    void releaseDueRetries_whenDelayIsLong_shouldPauseAtMostMaxPause() {
+        // Given
+        ConsumerRecord<String, SearchRequestEvent> record = retryRecord(0, NOW.plusSeconds(480), NOW);
+
+        // When
+        scheduler.releaseDueRetries(List.of(record), acknowledgment);
+
+        // Then
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+        verify(acknowledgment).nack(eq(0), eq(RetryScheduler.MAX_PAUSE));
+    }
+
+    private static ConsumerRecord<String, SearchRequestEvent> retryRecord(long offset, Instant notBefore,
+                                                                          Instant failedAt) {
+        SearchRequestEvent request = SearchRequestEvent.builder()
+                .requestId(UUID.randomUUID())
+                .sessionId(UUID.randomUUID())
+                .query("Bulgaria education grants")
+                .searchEngine("SEARXNG")
+                .maxResults(25)
+                .build();
+        ConsumerRecord<String, SearchRequestEvent> record = new ConsumerRecord<>(
+                KafkaTopics.SEARCH_REQUESTS_RETRY, 0, offset, request.getSessionId().toString(), request);
+        RetryHeaders.set(record.headers(), RetryHeaders.ATTEMPT, 1);
+        RetryHeaders.set(record.headers(), RetryHeaders.NOT_BEFORE, notBefore.toEpochMilli());
+        RetryHeaders.set(record.headers(), RetryHeaders.FAILED_AT, failedAt.toEpochMilli());
+        return record;
+    }
+}
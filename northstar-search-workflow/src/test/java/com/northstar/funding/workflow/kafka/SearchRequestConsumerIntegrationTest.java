@@ -1,5 +1,6 @@
 package com.northstar.funding.workflow.kafka;
 
+import com.northstar.funding.crawler.provider.SearchProviderGateway;
 import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.kafka.events.SearchRequestEvent;
 import com.northstar.funding.kafka.events.SearchResultEvent;
@@ -15,10 +16,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericToStringSerializer;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.test.context.ActiveProfiles;
@@ -36,6 +33,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executors;
 
 import org.mockito.Mockito;
 
@@ -71,22 +69,16 @@ class SearchRequestConsumerIntegrationTest {
 
         @Bean
         public List<SearchAdapter> searchAdapters() {
-            mockAdapter = mock(SearchAdapter.class);
+            // Keeps SearchAdapter's default executeSearch, so the gateway reaches search()
+            mockAdapter = mock(SearchAdapter.class, Mockito.withSettings().defaultAnswer(Mockito.CALLS_REAL_METHODS));
             List<SearchAdapter> adapters = new ArrayList<>();
             adapters.add(mockAdapter);
             return adapters;
         }
 
         @Bean
-        public RedisTemplate<String, Boolean> redisTemplate(RedisConnectionFactory connectionFactory) {
-            RedisTemplate<String, Boolean> template = new RedisTemplate<>();
-            template.setConnectionFactory(connectionFactory);
-            template.setKeySerializer(new StringRedisSerializer());
-            template.setValueSerializer(new GenericToStringSerializer<>(Boolean.class));
-            template.setHashKeySerializer(new StringRedisSerializer());
-            template.setHashValueSerializer(new GenericToStringSerializer<>(Boolean.class));
-            template.afterPropertiesSet();
-            return template;
+        public SearchProviderGateway searchProviderGateway() {
+            return new SearchProviderGateway(Executors.newVirtualThreadPerTaskExecutor());
         }
 
         public static SearchAdapter getMockAdapter() {
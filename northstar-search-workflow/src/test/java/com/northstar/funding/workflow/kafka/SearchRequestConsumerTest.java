@@ -1,10 +1,17 @@
 package com.northstar.funding.workflow.kafka;
 
+import com.northstar.funding.crawler.provider.SearchProviderGateway;
+import com.northstar.funding.domain.SearchEngineType;
 import com.northstar.funding.kafka.events.SearchRequestEvent;
+import com.northstar.funding.kafka.events.SearchResultEvent;
+import com.northstar.funding.kafka.events.WorkflowErrorEvent;
 import com.northstar.funding.search.adapter.SearchAdapter;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -12,8 +19,14 @@ import org.mockito.quality.Strictness;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -23,7 +36,8 @@ import static org.mockito.Mockito.*;
  * Test for SearchRequestConsumer (Kafka consumer for search-requests topic).
  *
  * <p>Tests search request processing, adapter delegation, result publishing,
- * acknowledgment handling, and error scenarios.
+ * acknowledgment handling, and error scenarios. Searches run through a plain
+ * SearchProviderGateway (no cache, tracking or limiter).
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -35,12 +49,25 @@ class SearchRequestConsumerTest {
     @Mock
     private Acknowledgment acknowledgment;
 
+    private ExecutorService executor;
+    private SearchProviderGateway providerGateway;
     private SearchRequestConsumer consumer;
 
     // Note: searchAdapters is a concrete List, not mocked
 
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        providerGateway = new SearchProviderGateway(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
     @Test
-    void consumeSearchRequest_whenValidRequest_shouldProcessAndPublishResults() {
+    void consumeSearchRequests_whenValidRequest_shouldProcessAndPublishResults() {
         // Given
         UUID sessionId = UUID.randomUUID();
         SearchRequestEvent event = SearchRequestEvent.builder()
@@ -49,7 +76,7 @@ class SearchRequestConsumerTest {
                 .maxResults(25)
                 .build();
 
-        SearchAdapter mockAdapter = mock(SearchAdapter.class);
+        SearchAdapter mockAdapter = mockAdapter();
         when(mockAdapter.isAvailable()).thenReturn(true);
         when(mockAdapter.search(anyString(), anyInt()))
                 .thenReturn(List.of(
@@ -60,19 +87,19 @@ class SearchRequestConsumerTest {
                         )
                 ));
 
-        consumer = new SearchRequestConsumer(List.of(mockAdapter), kafkaTemplate);
+        consumer = new SearchRequestConsumer(List.of(mockAdapter), kafkaTemplate, providerGateway);
 
         // When
-        consumer.consumeSearchRequest(event, acknowledgment);
+        consumer.consumeSearchRequests(List.of(record(0, event)), acknowledgment);
 
         // Then
         verify(mockAdapter).search("Bulgaria education grants", 25);
-        verify(kafkaTemplate).send(eq("search-results-raw"), any());
+        verify(kafkaTemplate).send(eq("search-results-raw"), any(), any());
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void consumeSearchRequest_whenNoAdaptersAvailable_shouldLogWarningAndAcknowledge() {
+    void consumeSearchRequests_whenNoAdaptersAvailable_shouldLogWarningAndAcknowledge() {
         // Given
         SearchRequestEvent event = SearchRequestEvent.builder()
                 .sessionId(UUID.randomUUID())
@@ -80,18 +107,18 @@ class SearchRequestConsumerTest {
                 .maxResults(10)
                 .build();
 
-        consumer = new SearchRequestConsumer(List.of(), kafkaTemplate);
+        consumer = new SearchRequestConsumer(List.of(), kafkaTemplate, providerGateway);
 
         // When
-        consumer.consumeSearchRequest(event, acknowledgment);
+        consumer.consumeSearchRequests(List.of(record(0, event)), acknowledgment);
 
         // Then
-        verify(kafkaTemplate, never()).send(anyString(), any());
+        verify(kafkaTemplate, never()).send(anyString(), any(), any());
         verify(acknowledgment).acknowledge(); // Should still acknowledge to avoid reprocessing
     }
 
     @Test
-    void consumeSearchRequest_whenAdapterThrowsException_shouldPublishErrorAndAcknowledge() {
+    void consumeSearchRequests_whenAdapterThrowsException_shouldPublishErrorAndAcknowledge() {
         // Given
         UUID sessionId = UUID.randomUUID();
         SearchRequestEvent event = SearchRequestEvent.builder()
@@ -100,23 +127,23 @@ class SearchRequestConsumerTest {
                 .maxResults(10)
                 .build();
 
-        SearchAdapter mockAdapter = mock(SearchAdapter.class);
+        SearchAdapter mockAdapter = mockAdapter();
         when(mockAdapter.isAvailable()).thenReturn(true);
         when(mockAdapter.search(anyString(), anyInt()))
                 .thenThrow(new RuntimeException("Search API timeout"));
 
-        consumer = new SearchRequestConsumer(List.of(mockAdapter), kafkaTemplate);
+        consumer = new SearchRequestConsumer(List.of(mockAdapter), kafkaTemplate, providerGateway);
 
         // When
-        consumer.consumeSearchRequest(event, acknowledgment);
+        consumer.consumeSearchRequests(List.of(record(0, event)), acknowledgment);
 
         // Then
-        verify(kafkaTemplate).send(eq("workflow-errors"), any());
+        verify(kafkaTemplate).send(eq("workflow-errors"), any(), any());
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void consumeSearchRequest_whenMultipleAdapters_shouldProcessAll() {
+    void consumeSearchRequests_whenMultipleAdapters_shouldProcessAll() {
         // Given
         UUID sessionId = UUID.randomUUID();
         SearchRequestEvent event = SearchRequestEvent.builder()
@@ -125,8 +152,8 @@ class SearchRequestConsumerTest {
                 .maxResults(10)
                 .build();
 
-        SearchAdapter adapter1 = mock(SearchAdapter.class);
-        SearchAdapter adapter2 = mock(SearchAdapter.class);
+        SearchAdapter adapter1 = mockAdapter();
+        SearchAdapter adapter2 = mockAdapter();
 
         when(adapter1.isAvailable()).thenReturn(true);
         when(adapter2.isAvailable()).thenReturn(true);
@@ -136,20 +163,20 @@ class SearchRequestConsumerTest {
         when(adapter2.search(anyString(), anyInt()))
                 .thenReturn(List.of(new SearchAdapter.SearchResult("http://test2.com", "Title 2", "Desc 2")));
 
-        consumer = new SearchRequestConsumer(List.of(adapter1, adapter2), kafkaTemplate);
+        consumer = new SearchRequestConsumer(List.of(adapter1, adapter2), kafkaTemplate, providerGateway);
 
         // When
-        consumer.consumeSearchRequest(event, acknowledgment);
+        consumer.consumeSearchRequests(List.of(record(0, event)), acknowledgment);
 
         // Then
         verify(adapter1).search("Bulgaria grants", 10);
         verify(adapter2).search("Bulgaria grants", 10);
-        verify(kafkaTemplate, times(2)).send(eq("search-results-raw"), any());
+        verify(kafkaTemplate, times(2)).send(eq("search-results-raw"), any(), any());
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void consumeSearchRequest_whenAdapterUnavailable_shouldSkipAdapter() {
+    void consumeSearchRequests_whenAdapterUnavailable_shouldSkipAdapter() {
         // Given
         SearchRequestEvent event = SearchRequestEvent.builder()
                 .sessionId(UUID.randomUUID())
@@ -157,33 +184,33 @@ class SearchRequestConsumerTest {
                 .maxResults(10)
                 .build();
 
-        SearchAdapter unavailableAdapter = mock(SearchAdapter.class);
+        SearchAdapter unavailableAdapter = mockAdapter();
         when(unavailableAdapter.isAvailable()).thenReturn(false);
 
-        consumer = new SearchRequestConsumer(List.of(unavailableAdapter), kafkaTemplate);
+        consumer = new SearchRequestConsumer(List.of(unavailableAdapter), kafkaTemplate, providerGateway);
 
         // When
-        consumer.consumeSearchRequest(event, acknowledgment);
+        consumer.consumeSearchRequests(List.of(record(0, event)), acknowledgment);
 
         // Then
         verify(unavailableAdapter, never()).search(anyString(), anyInt());
-        verify(kafkaTemplate, never()).send(anyString(), any());
+        verify(kafkaTemplate, never()).send(anyString(), any(), any());
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void consumeSearchRequest_whenNullEvent_shouldHandleGracefully() {
+    void consumeSearchRequests_whenNullEvent_shouldHandleGracefully() {
         // Given
-        consumer = new SearchRequestConsumer(List.of(), kafkaTemplate);
+        consumer = new SearchRequestConsumer(List.of(), kafkaTemplate, providerGateway);
 
         // When/Then - should not throw exception
-        assertThatCode(() -> consumer.consumeSearchRequest(null, acknowledgment))
+        assertThatCode(() -> consumer.consumeSearchRequests(List.of(record(0, null)), acknowledgment))
                 .doesNotThrowAnyException();
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void consumeSearchRequest_whenEmptyResults_shouldNotPublish() {
+    void consumeSearchRequests_whenEmptyResults_shouldNotPublish() {
         // Given
         SearchRequestEvent event = SearchRequestEvent.builder()
                 .sessionId(UUID.randomUUID())
@@ -191,18 +218,172 @@ class SearchRequestConsumerTest {
                 .maxResults(10)
                 .build();
 
-        SearchAdapter mockAdapter = mock(SearchAdapter.class);
+        SearchAdapter mockAdapter = mockAdapter();
         when(mockAdapter.isAvailable()).thenReturn(true);
         when(mockAdapter.search(anyString(), anyInt())).thenReturn(List.of());
 
-        consumer = new SearchRequestConsumer(List.of(mockAdapter), kafkaTemplate);
+        consumer = new SearchRequestConsumer(List.of(mockAdapter), kafkaTemplate, providerGateway);
 
         // When
-        consumer.consumeSearchRequest(event, acknowledgment);
+        consumer.consumeSearchRequests(List.of(record(0, event)), acknowledgment);
 
         // Then
         verify(mockAdapter).search(anyString(), anyInt());
-        verify(kafkaTemplate, never()).send(anyString(), any()); // No results to publish
+        verify(kafkaTemplate, never()).send(anyString(), any(), any()); // No results to publish
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void consumeSearchRequests_shouldPipelineSendsAndAcknowledgeBatchOnce() {
+        // Given - two requests in one poll, adapter returns two results each
+        SearchAdapter mockAdapter = mockAdapter();
+        when(mockAdapter.isAvailable()).thenReturn(true);
+        when(mockAdapter.search(anyString(), anyInt()))
+                .thenReturn(List.of(
+                        new SearchAdapter.SearchResult("https://a.org", "A", "a"),
+                        new SearchAdapter.SearchResult("https://b.org", "B", "b")
+                ));
+        when(kafkaTemplate.send(anyString(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        consumer = new SearchRequestConsumer(List.of(mockAdapter), kafkaTemplate, providerGateway);
+
+        // When
+        consumer.consumeSearchRequests(List.of(
+                requestRecord(0, "Bulgaria grants"),
+                requestRecord(1, "Bulgaria scholarships")), acknowledgment);
+
+        // Then
+        verify(kafkaTemplate, times(4)).send(eq("search-results-raw"), any(), any());
+        verify(acknowledgment).acknowledge();
+        verify(acknowledgment, never()).nack(anyInt(), any(Duration.class));
+    }
+
+    @Test
+    void consumeSearchRequests_whenSendFails_shouldNackFromFailedRecord() {
+        // Given - sends for the second request fail
+        SearchAdapter mockAdapter = mockAdapter();
+        when(mockAdapter.isAvailable()).thenReturn(true);
+        when(mockAdapter.search(eq("first"), anyInt()))
+                .thenReturn(List.of(new SearchAdapter.SearchResult("https://a.org", "A", "a")));
+        when(mockAdapter.search(eq("second"), anyInt()))
+                .thenReturn(List.of(new SearchAdapter.SearchResult("https://b.org", "B", "b")));
+        when(kafkaTemplate.send(eq("search-results-raw"), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        consumer = new SearchRequestConsumer(List.of(mockAdapter), kafkaTemplate, providerGateway);
+
+        // When
+        consumer.consumeSearchRequests(List.of(requestRecord(0, "first"), requestRecord(1, "second")),
+                acknowledgment);
+
+        // Then
+        verify(acknowledgment, never()).acknowledge();
+        verify(acknowledgment).nack(eq(1), any(Duration.class));
+    }
+
+    @Test
+    void consumeSearchRequests_shouldKeyResultsBySessionId() {
+        // Given
+        UUID sessionId = UUID.randomUUID();
+        SearchRequestEvent event = SearchRequestEvent.builder()
+                .sessionId(sessionId)
+                .query("Bulgaria grants")
+                .maxResults(10)
+                .build();
+
+        SearchAdapter mockAdapter = mockAdapter();
+        when(mockAdapter.isAvailable()).thenReturn(true);
+        when(mockAdapter.search(anyString(), anyInt()))
+                .thenReturn(List.of(new SearchAdapter.SearchResult("https://a.org", "A", "a")));
+
+        consumer = new SearchRequestConsumer(List.of(mockAdapter), kafkaTemplate, providerGateway);
+
+        // When
+        consumer.consumeSearchRequests(List.of(record(0, event)), acknowledgment);
+
+        // Then - keyed by session so a session's results stay on one partition, in order
+        verify(kafkaTemplate).send(eq("search-results-raw"), eq(sessionId.toString()), any());
+    }
+
+    @Test
+    void consumeSearchRequests_shouldRunAdapterSearchesConcurrentlyAndPublishInRecordOrder() {
+        // Given - every search waits until all three have started, so this only completes in parallel
+        CountDownLatch started = new CountDownLatch(3);
+        SearchAdapter mockAdapter = mockAdapter();
+        when(mockAdapter.isAvailable()).thenReturn(true);
+        when(mockAdapter.search(anyString(), anyInt())).thenAnswer(invocation -> {
+            started.countDown();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            String query = invocation.getArgument(0);
+            return List.of(new SearchAdapter.SearchResult("https://" + query + ".org", query, query));
+        });
+
+        consumer = new SearchRequestConsumer(List.of(mockAdapter), kafkaTemplate, providerGateway);
+
+        // When
+        consumer.consumeSearchRequests(
+                List.of(requestRecord(0, "first"), requestRecord(1, "second"), requestRecord(2, "third")),
+                acknowledgment);
+
+        // Then - sends follow record order regardless of which search finished first
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, times(3)).send(eq("search-results-raw"), any(), events.capture());
+        assertThat(events.getAllValues())
+                .extracting(event -> ((SearchResultEvent) event).getTitle())
+                .containsExactly("first", "second", "third");
         verify(acknowledgment).acknowledge();
     }
+
+    @Test
+    void consumeSearchRequests_whenSearchOutlivesBatchBudget_shouldInterruptItAndPublishTimeout() throws Exception {
+        // Given - max.poll.interval.ms of 200ms leaves 100ms for the batch's searches
+        CountDownLatch interrupted = new CountDownLatch(1);
+        SearchAdapter slowAdapter = mockAdapter();
+        when(slowAdapter.isAvailable()).thenReturn(true);
+        when(slowAdapter.search(anyString(), anyInt())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return List.of();
+        });
+
+        consumer = new SearchRequestConsumer(List.of(slowAdapter), kafkaTemplate, providerGateway);
+        consumer.setMaxPollIntervalMs(200);
+
+        // When
+        consumer.consumeSearchRequests(List.of(requestRecord(0, "slow")), acknowledgment);
+
+        // Then - the search is interrupted and reported as a (retryable) timeout
+        ArgumentCaptor<Object> errors = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate).send(eq("workflow-errors"), any(), errors.capture());
+        assertThat(((WorkflowErrorEvent) errors.getValue()).getErrorMessage()).contains("timed out");
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(acknowledgment).acknowledge();
+    }
+
+    /**
+     * Adapter mock keeping SearchAdapter's default executeSearch, so the gateway reaches search().
+     */
+    private static SearchAdapter mockAdapter() {
+        SearchAdapter adapter = mock(SearchAdapter.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+        when(adapter.getEngineType()).thenReturn(SearchEngineType.SEARXNG);
+        return adapter;
+    }
+
+    private static ConsumerRecord<String, SearchRequestEvent> requestRecord(long offset, String query) {
+        SearchRequestEvent event = SearchRequestEvent.builder()
+                .sessionId(UUID.randomUUID())
+                .query(query)
+                .maxResults(10)
+                .build();
+        return record(offset, event);
+    }
+
+    private static ConsumerRecord<String, SearchRequestEvent> record(long offset, SearchRequestEvent event) {
+        return new ConsumerRecord<>("search-requests", 0, offset, null, event);
+    }
 }
@@ -4,6 +4,7 @@ import com.northstar.funding.domain.Domain;
 import com.northstar.funding.domain.DomainStatus;
 import com.northstar.funding.kafka.events.SearchResultEvent;
 import com.northstar.funding.workflow.service.DomainBlacklistCache;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,7 +15,11 @@ import org.mockito.quality.Strictness;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -44,10 +49,11 @@ class SearchResultConsumerTest {
     @BeforeEach
     void setUp() {
         consumer = new SearchResultConsumer(blacklistCache, kafkaTemplate);
+        when(kafkaTemplate.send(anyString(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
     }
 
     @Test
-    void consumeSearchResult_whenValidNonBlacklistedDomain_shouldPublishToValidatedTopic() {
+    void consumeSearchResults_whenValidNonBlacklistedDomain_shouldPublishToValidatedTopic() {
         // Given
         UUID sessionId = UUID.randomUUID();
         SearchResultEvent event = SearchResultEvent.builder()
@@ -57,19 +63,19 @@ class SearchResultConsumerTest {
                 .description("Apply for education grants in Bulgaria")
                 .build();
 
-        when(blacklistCache.isBlacklisted("education.gov.bg")).thenReturn(false);
+        when(blacklistCache.areBlacklisted(List.of("education.gov.bg"))).thenReturn(Map.of("education.gov.bg", false));
 
         // When
-        consumer.consumeSearchResult(event, acknowledgment);
+        consumer.consumeSearchResults(List.of(record(0, event)), acknowledgment);
 
         // Then
-        verify(blacklistCache).isBlacklisted("education.gov.bg");
-        verify(kafkaTemplate).send(eq("search-results-validated"), any());
+        verify(blacklistCache).areBlacklisted(List.of("education.gov.bg"));
+        verify(kafkaTemplate).send(eq("search-results-validated"), any(), any());
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void consumeSearchResult_whenBlacklistedDomain_shouldNotPublishAndAcknowledge() {
+    void consumeSearchResults_whenBlacklistedDomain_shouldNotPublishAndAcknowledge() {
         // Given
         SearchResultEvent event = SearchResultEvent.builder()
                 .sessionId(UUID.randomUUID())
@@ -78,19 +84,19 @@ class SearchResultConsumerTest {
                 .description("Click here for free grants")
                 .build();
 
-        when(blacklistCache.isBlacklisted("spam.xyz")).thenReturn(true);
+        when(blacklistCache.areBlacklisted(List.of("spam.xyz"))).thenReturn(Map.of("spam.xyz", true));
 
         // When
-        consumer.consumeSearchResult(event, acknowledgment);
+        consumer.consumeSearchResults(List.of(record(0, event)), acknowledgment);
 
         // Then
-        verify(blacklistCache).isBlacklisted("spam.xyz");
-        verify(kafkaTemplate, never()).send(eq("search-results-validated"), any());
+        verify(blacklistCache).areBlacklisted(List.of("spam.xyz"));
+        verify(kafkaTemplate, never()).send(eq("search-results-validated"), any(), any());
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void consumeSearchResult_whenInvalidUrl_shouldLogErrorAndAcknowledge() {
+    void consumeSearchResults_whenInvalidUrl_shouldSkipAndAcknowledge() {
         // Given
         SearchResultEvent event = SearchResultEvent.builder()
                 .sessionId(UUID.randomUUID())
@@ -100,15 +106,15 @@ class SearchResultConsumerTest {
                 .build();
 
         // When
-        consumer.consumeSearchResult(event, acknowledgment);
+        consumer.consumeSearchResults(List.of(record(0, event)), acknowledgment);
 
         // Then
-        verify(kafkaTemplate, never()).send(anyString(), any());
+        verify(kafkaTemplate, never()).send(anyString(), any(), any());
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void consumeSearchResult_whenNullUrl_shouldHandleGracefully() {
+    void consumeSearchResults_whenNullUrl_shouldHandleGracefully() {
         // Given
         SearchResultEvent event = SearchResultEvent.builder()
                 .sessionId(UUID.randomUUID())
@@ -118,79 +124,113 @@ class SearchResultConsumerTest {
                 .build();
 
         // When/Then - should not throw exception
-        assertThatCode(() -> consumer.consumeSearchResult(event, acknowledgment))
+        assertThatCode(() -> consumer.consumeSearchResults(List.of(record(0, event)), acknowledgment))
                 .doesNotThrowAnyException();
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void consumeSearchResult_whenBlacklistCacheThrowsException_shouldPublishErrorAndAcknowledge() {
+    void consumeSearchResults_whenNullEvent_shouldHandleGracefully() {
+        // When/Then - should not throw exception
+        assertThatCode(() -> consumer.consumeSearchResults(List.of(record(0, null)), acknowledgment))
+                .doesNotThrowAnyException();
+        verify(kafkaTemplate, never()).send(anyString(), any(), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void consumeSearchResults_whenUrlWithPathOrSubdomain_shouldExtractFullHost() {
         // Given
-        SearchResultEvent event = SearchResultEvent.builder()
-                .sessionId(UUID.randomUUID())
-                .url("https://test.com/page")
-                .title("Test")
-                .description("Test description")
-                .build();
+        UUID sessionId = UUID.randomUUID();
+        List<ConsumerRecord<String, SearchResultEvent>> records = List.of(
+                record(0, resultEvent(sessionId, "https://www.example.org/programs/education/grants?year=2024")),
+                record(1, resultEvent(sessionId, "https://funding.research.edu.eu/opportunities")));
 
-        when(blacklistCache.isBlacklisted("test.com"))
-                .thenThrow(new RuntimeException("Database connection failed"));
+        when(blacklistCache.areBlacklisted(anyCollection())).thenReturn(Map.of());
 
         // When
-        consumer.consumeSearchResult(event, acknowledgment);
+        consumer.consumeSearchResults(records, acknowledgment);
 
         // Then
-        verify(kafkaTemplate).send(eq("workflow-errors"), any());
+        verify(blacklistCache).areBlacklisted(List.of("www.example.org", "funding.research.edu.eu"));
+        verify(kafkaTemplate, times(2)).send(eq("search-results-validated"), any(), any());
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void consumeSearchResult_whenNullEvent_shouldHandleGracefully() {
-        // When/Then - should not throw exception
-        assertThatCode(() -> consumer.consumeSearchResult(null, acknowledgment))
-                .doesNotThrowAnyException();
+    void consumeSearchResults_shouldLookUpBlacklistOnceAndAcknowledgeBatch() {
+        // Given - valid, blacklisted and invalid results in one poll
+        UUID sessionId = UUID.randomUUID();
+        List<ConsumerRecord<String, SearchResultEvent>> records = List.of(
+                record(0, resultEvent(sessionId, "https://education.gov.bg/grants")),
+                record(1, resultEvent(sessionId, "https://spam.xyz/casino")),
+                record(2, resultEvent(sessionId, null)),
+                record(3, resultEvent(sessionId, "https://education.gov.bg/other"))
+        );
+
+        when(blacklistCache.areBlacklisted(anyCollection()))
+                .thenReturn(Map.of("education.gov.bg", false, "spam.xyz", true));
+        when(kafkaTemplate.send(anyString(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        consumer.consumeSearchResults(records, acknowledgment);
+
+        // Then - one batch lookup, two validated sends, one bulk acknowledgment
+        verify(blacklistCache).areBlacklisted(anyCollection());
+        verify(blacklistCache, never()).isBlacklisted(anyString());
+        verify(kafkaTemplate, times(2)).send(eq("search-results-validated"), any(), any());
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void consumeSearchResult_whenUrlWithPath_shouldExtractDomainCorrectly() {
-        // Given
-        SearchResultEvent event = SearchResultEvent.builder()
-                .sessionId(UUID.randomUUID())
-                .url("https://www.example.org/programs/education/grants?year=2024")
-                .title("Education Grants")
-                .description("Various education grant opportunities")
-                .build();
+    void consumeSearchResults_whenSendFails_shouldNackFromFailedRecord() {
+        // Given - second validated send fails
+        UUID sessionId = UUID.randomUUID();
+        SearchResultEvent first = resultEvent(sessionId, "https://a.org/1");
+        SearchResultEvent second = resultEvent(sessionId, "https://b.org/2");
 
-        when(blacklistCache.isBlacklisted("www.example.org")).thenReturn(false);
+        when(blacklistCache.areBlacklisted(anyCollection())).thenReturn(Map.of("a.org", false, "b.org", false));
+        when(kafkaTemplate.send("search-results-validated", sessionId.toString(), first))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(kafkaTemplate.send("search-results-validated", sessionId.toString(), second))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
 
         // When
-        consumer.consumeSearchResult(event, acknowledgment);
+        consumer.consumeSearchResults(List.of(record(0, first), record(1, second)), acknowledgment);
 
-        // Then
-        verify(blacklistCache).isBlacklisted("www.example.org");
-        verify(kafkaTemplate).send(eq("search-results-validated"), any());
-        verify(acknowledgment).acknowledge();
+        // Then - first record committed, redelivery from the second
+        verify(acknowledgment, never()).acknowledge();
+        verify(acknowledgment).nack(eq(1), any(Duration.class));
     }
 
     @Test
-    void consumeSearchResult_whenSubdomain_shouldExtractFullDomainCorrectly() {
+    void consumeSearchResults_whenBatchLookupFails_shouldPublishErrorsAndAcknowledge() {
         // Given
-        SearchResultEvent event = SearchResultEvent.builder()
-                .sessionId(UUID.randomUUID())
-                .url("https://funding.research.edu.eu/opportunities")
-                .title("Research Funding")
-                .description("EU research funding opportunities")
-                .build();
-
-        when(blacklistCache.isBlacklisted("funding.research.edu.eu")).thenReturn(false);
+        UUID sessionId = UUID.randomUUID();
+        when(blacklistCache.areBlacklisted(anyCollection())).thenThrow(new RuntimeException("Database down"));
+        when(kafkaTemplate.send(anyString(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
 
         // When
-        consumer.consumeSearchResult(event, acknowledgment);
+        consumer.consumeSearchResults(List.of(
+                record(0, resultEvent(sessionId, "https://a.org/1")),
+                record(1, resultEvent(sessionId, "https://b.org/2"))), acknowledgment);
 
         // Then
-        verify(blacklistCache).isBlacklisted("funding.research.edu.eu");
-        verify(kafkaTemplate).send(eq("search-results-validated"), any());
+        verify(kafkaTemplate, times(2)).send(eq("workflow-errors"), any(), any());
+        verify(kafkaTemplate, never()).send(eq("search-results-validated"), any(), any());
         verify(acknowledgment).acknowledge();
     }
+
+    private static SearchResultEvent resultEvent(UUID sessionId, String url) {
+        return SearchResultEvent.builder()
+                .sessionId(sessionId)
+                .url(url)
+                .title("Title")
+                .description("Description")
+                .build();
+    }
+
+    private static ConsumerRecord<String, SearchResultEvent> record(long offset, SearchResultEvent event) {
+        return new ConsumerRecord<>("search-results-raw", 0, offset, null, event);
+    }
 }
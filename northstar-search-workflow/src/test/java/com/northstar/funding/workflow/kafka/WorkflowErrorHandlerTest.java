@@ -1,39 +1,69 @@
 package com.northstar.funding.workflow.kafka;
 
+import com.northstar.funding.domain.ErrorClassification;
+import com.northstar.funding.domain.WorkflowError;
+import com.northstar.funding.kafka.events.SearchRequestEvent;
 import com.northstar.funding.kafka.events.WorkflowErrorEvent;
+import com.northstar.funding.kafka.topics.KafkaTopics;
+import com.northstar.funding.kafka.topics.RetryHeaders;
+import com.northstar.funding.persistence.service.WorkflowErrorService;
+import com.northstar.funding.workflow.retry.RetryMetrics;
+import com.northstar.funding.workflow.retry.RetryPolicy;
+import com.northstar.funding.workflow.retry.SearchRequestPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
  * Test for WorkflowErrorHandler (Kafka consumer for workflow-errors topic).
  *
- * <p>Tests error logging, dead letter queue handling, and acknowledgment.
+ * <p>Tests error logging, dead letter queue handling, retry scheduling, and acknowledgment.
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class WorkflowErrorHandlerTest {
 
+    private static final Instant NOW = Instant.parse("2025-11-03T02:00:00Z");
+
     private WorkflowErrorHandler errorHandler;
     private Acknowledgment acknowledgment;
+    private WorkflowErrorService workflowErrorService;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     void setUp() {
-        errorHandler = new WorkflowErrorHandler();
+        workflowErrorService = mock(WorkflowErrorService.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        errorHandler = new WorkflowErrorHandler(workflowErrorService, kafkaTemplate,
+                new RetryPolicy(3, 30_000, 4.0, 900_000), new RetryMetrics(meterRegistry),
+                Clock.fixed(NOW, ZoneOffset.UTC));
         acknowledgment = mock(Acknowledgment.class);
     }
 
     @Test
-    void handleError_whenValidErrorEvent_shouldLogAndAcknowledge() {
+    void handleErrors_whenValidErrorEvent_shouldLogAndAcknowledge() {
         // Given
         UUID sessionId = UUID.randomUUID();
         WorkflowErrorEvent event = WorkflowErrorEvent.builder()
@@ -44,14 +74,14 @@ class WorkflowErrorHandlerTest {
                 .build();
 
         // When
-        errorHandler.handleError(event, acknowledgment);
+        errorHandler.handleErrors(List.of(errorRecord(0, event)), acknowledgment);
 
         // Then
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void handleError_whenErrorWithStackTrace_shouldLogAndAcknowledge() {
+    void handleErrors_whenErrorWithStackTrace_shouldLogAndAcknowledge() {
         // Given
         WorkflowErrorEvent event = WorkflowErrorEvent.builder()
                 .sessionId(UUID.randomUUID())
@@ -62,22 +92,22 @@ class WorkflowErrorHandlerTest {
                 .build();
 
         // When
-        errorHandler.handleError(event, acknowledgment);
+        errorHandler.handleErrors(List.of(errorRecord(0, event)), acknowledgment);
 
         // Then
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void handleError_whenNullEvent_shouldHandleGracefully() {
+    void handleErrors_whenNullEvent_shouldHandleGracefully() {
         // When/Then - should not throw exception
-        assertThatCode(() -> errorHandler.handleError(null, acknowledgment))
+        assertThatCode(() -> errorHandler.handleErrors(List.of(errorRecord(0, null)), acknowledgment))
                 .doesNotThrowAnyException();
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void handleError_whenMissingOptionalFields_shouldHandleGracefully() {
+    void handleErrors_whenMissingOptionalFields_shouldHandleGracefully() {
         // Given - only required fields populated
         WorkflowErrorEvent event = WorkflowErrorEvent.builder()
                 .sessionId(UUID.randomUUID())
@@ -87,13 +117,13 @@ class WorkflowErrorHandlerTest {
                 .build();
 
         // When/Then - should not throw exception
-        assertThatCode(() -> errorHandler.handleError(event, acknowledgment))
+        assertThatCode(() -> errorHandler.handleErrors(List.of(errorRecord(0, event)), acknowledgment))
                 .doesNotThrowAnyException();
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void handleError_whenMultipleErrors_shouldHandleAll() {
+    void handleErrors_whenMultipleErrors_shouldHandleAll() {
         // Given
         WorkflowErrorEvent error1 = WorkflowErrorEvent.builder()
                 .sessionId(UUID.randomUUID())
@@ -110,15 +140,15 @@ class WorkflowErrorHandlerTest {
                 .build();
 
         // When
-        errorHandler.handleError(error1, acknowledgment);
-        errorHandler.handleError(error2, acknowledgment);
+        errorHandler.handleErrors(List.of(errorRecord(0, error1), errorRecord(1, error2)), acknowledgment);
 
-        // Then
-        verify(acknowledgment, times(2)).acknowledge();
+        // Then - both stored, the batch acknowledged once
+        verify(workflowErrorService).recordAll(argThat(rows -> rows.size() == 2));
+        verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void handleError_whenSameSessionMultipleErrors_shouldHandleAll() {
+    void handleErrors_whenSameSessionMultipleErrors_shouldHandleAll() {
         // Given - same session, different errors
         UUID sessionId = UUID.randomUUID();
 
@@ -137,10 +167,140 @@ class WorkflowErrorHandlerTest {
                 .build();
 
         // When
-        errorHandler.handleError(error1, acknowledgment);
-        errorHandler.handleError(error2, acknowledgment);
+        errorHandler.handleErrors(List.of(errorRecord(0, error1), errorRecord(1, error2)), acknowledgment);
+
+        // Then - both stored, the batch acknowledged once
+        verify(workflowErrorService).recordAll(argThat(rows -> rows.size() == 2));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void handleErrors_whenTransientAdapterError_shouldScheduleRetryOnDelayTopic() {
+        // Given
+        SearchRequestEvent request = SearchRequestEvent.builder()
+                .requestId(UUID.randomUUID())
+                .sessionId(UUID.randomUUID())
+                .query("Bulgaria education grants")
+                .searchEngine("SEARXNG")
+                .maxResults(25)
+                .build();
+        WorkflowErrorEvent event = adapterError(request, "Read timed out", 1);
+
+        // When
+        errorHandler.handleErrors(List.of(errorRecord(0, event)), acknowledgment);
+
+        // Then - second retry, 30s * 4 later, same request
+        ArgumentCaptor<ProducerRecord<String, Object>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(sent.capture());
+        ProducerRecord<String, Object> retry = sent.getValue();
+        assertThat(retry.topic()).isEqualTo(KafkaTopics.SEARCH_REQUESTS_RETRY);
+        assertThat(retry.key()).isEqualTo(request.getSessionId().toString());
+        assertThat(retry.value()).isEqualTo(request);
+        assertThat(RetryHeaders.get(retry.headers(), RetryHeaders.ATTEMPT, -1)).isEqualTo(2);
+        assertThat(RetryHeaders.get(retry.headers(), RetryHeaders.NOT_BEFORE, -1))
+                .isEqualTo(NOW.toEpochMilli() + 120_000);
+        assertThat(meterRegistry.counter("northstar.workflow.retries.scheduled", "attempt", "2").count())
+                .isEqualTo(1);
+
+        ArgumentCaptor<List<WorkflowError>> stored = ArgumentCaptor.forClass(List.class);
+        verify(workflowErrorService).recordAll(stored.capture());
+        assertThat(stored.getValue()).singleElement().satisfies(row -> {
+            assertThat(row.getClassification()).isEqualTo(ErrorClassification.TRANSIENT);
+            assertThat(row.getRetryScheduled()).isTrue();
+            assertThat(row.getErrorId()).isEqualTo(event.getErrorId());
+        });
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void handleErrors_whenPermanentError_shouldStoreWithoutRetry() {
+        // Given
+        SearchRequestEvent request = SearchRequestEvent.builder()
+                .requestId(UUID.randomUUID())
+                .sessionId(UUID.randomUUID())
+                .query("grants")
+                .build();
+        WorkflowErrorEvent event = adapterError(request, "HTTP 401 Unauthorized", 0);
+
+        // When
+        errorHandler.handleErrors(List.of(errorRecord(0, event)), acknowledgment);
 
         // Then
-        verify(acknowledgment, times(2)).acknowledge();
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+        ArgumentCaptor<List<WorkflowError>> stored = ArgumentCaptor.forClass(List.class);
+        verify(workflowErrorService).recordAll(stored.capture());
+        assertThat(stored.getValue()).singleElement().satisfies(row -> {
+            assertThat(row.getClassification()).isEqualTo(ErrorClassification.PERMANENT);
+            assertThat(row.getRetryScheduled()).isFalse();
+        });
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void handleErrors_whenAttemptsExhausted_shouldNotRetry() {
+        // Given - third retry already failed
+        SearchRequestEvent request = SearchRequestEvent.builder()
+                .requestId(UUID.randomUUID())
+                .sessionId(UUID.randomUUID())
+                .query("grants")
+                .build();
+        WorkflowErrorEvent event = adapterError(request, "Connection reset", 3);
+
+        // When
+        errorHandler.handleErrors(List.of(errorRecord(0, event)), acknowledgment);
+
+        // Then
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+        assertThat(meterRegistry.counter("northstar.workflow.retries.exhausted").count()).isEqualTo(1);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void handleErrors_shouldStoreWholeBatchWithOneInsertAndSurviveStoreFailure() {
+        // Given
+        when(workflowErrorService.recordAll(anyList())).thenThrow(new IllegalStateException("connection refused"));
+        WorkflowErrorEvent error1 = WorkflowErrorEvent.builder()
+                .errorId(UUID.randomUUID())
+                .errorMessage("Invalid URL")
+                .errorType("VALIDATION_ERROR")
+                .stage("DOMAIN_PROCESSING")
+                .build();
+        WorkflowErrorEvent error2 = WorkflowErrorEvent.builder()
+                .errorId(UUID.randomUUID())
+                .errorMessage("Invalid URL")
+                .errorType("VALIDATION_ERROR")
+                .stage("DOMAIN_PROCESSING")
+                .build();
+
+        // When
+        errorHandler.handleErrors(List.of(errorRecord(0, error1), errorRecord(1, null), errorRecord(2, error2)),
+                acknowledgment);
+
+        // Then - one insert for both errors; the failure is counted, the batch still acknowledged
+        verify(workflowErrorService, times(1)).recordAll(argThat(rows -> rows.size() == 2));
+        assertThat(meterRegistry.counter("northstar.workflow.errors.store.failed").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("northstar.workflow.errors", "classification", "permanent").count())
+                .isEqualTo(2);
+        verify(acknowledgment).acknowledge();
+    }
+
+    private static WorkflowErrorEvent adapterError(SearchRequestEvent request, String message, int retryCount) {
+        return WorkflowErrorEvent.builder()
+                .errorId(UUID.randomUUID())
+                .requestId(request.getRequestId())
+                .sessionId(request.getSessionId())
+                .errorMessage("Search adapter failed: " + message)
+                .errorType("SEARCH_ADAPTER_ERROR")
+                .stage("SEARCH_EXECUTION")
+                .retryCount(retryCount)
+                .originalPayload(SearchRequestPayload.toJson(request))
+                .timestamp(NOW)
+                .build();
+    }
+
+    private static ConsumerRecord<String, WorkflowErrorEvent> errorRecord(long offset, WorkflowErrorEvent event) {
+        return new ConsumerRecord<>("workflow-errors", 0, offset, null, event);
     }
 }
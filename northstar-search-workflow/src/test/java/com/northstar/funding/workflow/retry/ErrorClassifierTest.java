@@ -0,0 +1,52 @@
+package com.northstar.funding.workflow.retry;
+
+import com.northstar.funding.domain.ErrorClassification;
+import com.northstar.funding.kafka.events.WorkflowErrorEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for ErrorClassifier.
+ */
+class ErrorClassifierTest {
+
+    @Test
+    void classify_whenNetworkOrThrottlingFailure_shouldBeTransient() {
+        assertThat(classify("SEARCH_ADAPTER_ERROR", "Search adapter failed: Read timed out", null))
+                .isEqualTo(ErrorClassification.TRANSIENT);
+        assertThat(classify("SEARCH_ADAPTER_ERROR", "Search adapter failed: 429 Too Many Requests", null))
+                .isEqualTo(ErrorClassification.TRANSIENT);
+        assertThat(classify("UNEXPECTED_ERROR", "Unexpected error: boom",
+                "java.net.ConnectException: Connection refused\n\tat ..."))
+                .isEqualTo(ErrorClassification.TRANSIENT);
+    }
+
+    @Test
+    void classify_whenClientOrProgrammingError_shouldBePermanent() {
+        assertThat(classify("SEARCH_ADAPTER_ERROR", "Search adapter failed: 401 Unauthorized (request timed out?)", null))
+                .isEqualTo(ErrorClassification.PERMANENT);
+        assertThat(classify("UNEXPECTED_ERROR", "Unexpected error: null",
+                "java.lang.NullPointerException\n\tat ..."))
+                .isEqualTo(ErrorClassification.PERMANENT);
+        assertThat(classify("VALIDATION_ERROR", "Result validation failed: timeout", null))
+                .isEqualTo(ErrorClassification.PERMANENT);
+    }
+
+    @Test
+    void classify_whenNoMarker_shouldFallBackToErrorType() {
+        assertThat(classify("SEARCH_ADAPTER_ERROR", "Search adapter failed: unexpected response", null))
+                .isEqualTo(ErrorClassification.TRANSIENT);
+        assertThat(classify("UNEXPECTED_ERROR", "Unexpected error: unexpected response", null))
+                .isEqualTo(ErrorClassification.PERMANENT);
+        assertThat(ErrorClassifier.classify(null)).isEqualTo(ErrorClassification.PERMANENT);
+    }
+
+    private static ErrorClassification classify(String errorType, String message, String stackTrace) {
+        return ErrorClassifier.classify(WorkflowErrorEvent.builder()
+                .errorType(errorType)
+                .errorMessage(message)
+                .stackTrace(stackTrace)
+                .build());
+    }
+}
@@ -2,21 +2,28 @@ package com.northstar.funding.workflow.service;
 
 import com.northstar.funding.domain.Domain;
 import com.northstar.funding.domain.DomainStatus;
+import com.northstar.funding.persistence.blacklist.DomainBlacklistChangedEvent;
+import com.northstar.funding.persistence.blacklist.DomainBlacklistIndex;
 import com.northstar.funding.persistence.service.DomainService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -25,140 +32,301 @@ import static org.mockito.Mockito.*;
 /**
  * Test for DomainBlacklistCache (Valkey integration).
  *
- * <p>Tests read-through caching, TTL, fallback to PostgreSQL, and cache invalidation.
+ * <p>Tests set membership lookups, SMISMEMBER batches, bootstrapping from PostgreSQL,
+ * sync on blacklist changes, and fallback to PostgreSQL.
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class DomainBlacklistCacheTest {
 
     @Mock
-    private RedisTemplate<String, Boolean> redisTemplate;
+    private StringRedisTemplate redisTemplate;
 
     @Mock
-    private ValueOperations<String, Boolean> valueOps;
+    private SetOperations<String, String> setOps;
 
     @Mock
     private DomainService domainService;
 
+    @Mock
+    private DomainBlacklistIndex blacklistIndex;
+
     private DomainBlacklistCache cache;
 
     @BeforeEach
     void setUp() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOps);
-        cache = new DomainBlacklistCache(redisTemplate, domainService);
+        when(redisTemplate.opsForSet()).thenReturn(setOps);
+        // Set already bootstrapped unless a test says otherwise
+        when(redisTemplate.hasKey(DomainBlacklistCache.READY_KEY)).thenReturn(true);
+        cache = new DomainBlacklistCache(redisTemplate, domainService, blacklistIndex);
+    }
+
+    @Test
+    void isBlacklisted_whenMemberOfSet_shouldReturnTrueWithoutDatabase() {
+        // Given
+        when(setOps.isMember(DomainBlacklistCache.SET_KEY, "spam.xyz")).thenReturn(true);
+
+        // When / Then
+        assertThat(cache.isBlacklisted("spam.xyz")).isTrue();
+        verifyNoInteractions(domainService);
+    }
+
+    @Test
+    void isBlacklisted_whenNotMember_shouldReturnFalseWithoutDatabaseOrNegativeEntry() {
+        // Given - unknown domain
+        when(setOps.isMember(DomainBlacklistCache.SET_KEY, "newdomain.edu")).thenReturn(false);
+
+        // When / Then
+        assertThat(cache.isBlacklisted("newdomain.edu")).isFalse();
+        verifyNoInteractions(domainService);
+        verify(setOps, never()).add(anyString(), any(String[].class));
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    void isBlacklisted_shouldLookUpLowerCasedDomain() {
+        // Given
+        when(setOps.isMember(DomainBlacklistCache.SET_KEY, "spam.xyz")).thenReturn(true);
+
+        // When / Then
+        assertThat(cache.isBlacklisted(" Spam.XYZ ")).isTrue();
     }
 
     @Test
-    void isBlacklisted_whenCacheHit_shouldReturnCachedValue() {
-        // Given - domain is in cache and blacklisted
-        when(valueOps.get("blacklist:spam.xyz")).thenReturn(true);
+    void isBlacklisted_whenValkeyUnavailable_shouldFallbackToDatabase() {
+        // Given - Valkey throws exception (connection refused)
+        when(setOps.isMember(DomainBlacklistCache.SET_KEY, "example.org"))
+                .thenThrow(new RuntimeException("Connection refused"));
+        when(domainService.findByDomainName("example.org"))
+                .thenReturn(Optional.of(domain("example.org", DomainStatus.DISCOVERED)));
 
         // When
-        boolean result = cache.isBlacklisted("spam.xyz");
+        boolean result = cache.isBlacklisted("example.org");
 
         // Then
-        assertThat(result).isTrue();
-        verify(valueOps).get("blacklist:spam.xyz");
-        verifyNoInteractions(domainService); // Should NOT hit database
+        assertThat(result).isFalse();
+        verify(domainService).findByDomainName("example.org");
     }
 
     @Test
-    void isBlacklisted_whenCacheMiss_shouldQueryDatabaseAndCache() {
-        // Given - cache miss, database says blacklisted
-        when(valueOps.get("blacklist:malware.info")).thenReturn(null);
+    void isBlacklisted_withNullDomain_shouldReturnFalse() {
+        // When/Then
+        assertThat(cache.isBlacklisted(null)).isFalse();
+        verifyNoInteractions(setOps, domainService);
+    }
 
-        Domain domain = Domain.builder()
-                .domainId(UUID.randomUUID())
-                .domainName("malware.info")
-                .status(DomainStatus.BLACKLISTED)
-                .discoveredAt(LocalDateTime.now())
-                .build();
+    @Test
+    void isBlacklisted_withEmptyDomain_shouldReturnFalse() {
+        // When/Then
+        assertThat(cache.isBlacklisted("")).isFalse();
+        assertThat(cache.isBlacklisted("   ")).isFalse();
+        verifyNoInteractions(setOps, domainService);
+    }
+
+    @Test
+    void isBlacklisted_whenIndexLoaded_shouldStillAskValkey() {
+        // Given - index loaded locally, but another node blacklisted the domain
+        when(blacklistIndex.isLoaded()).thenReturn(true);
+        when(blacklistIndex.isBlacklisted("spam.xyz")).thenReturn(false);
+        when(setOps.isMember(DomainBlacklistCache.SET_KEY, "spam.xyz")).thenReturn(true);
+
+        // When / Then - the shared set wins
+        assertThat(cache.isBlacklisted("spam.xyz")).isTrue();
+        verify(blacklistIndex, never()).isBlacklisted(anyString());
+        verifyNoInteractions(domainService);
+    }
 
-        when(domainService.findByDomainName("malware.info")).thenReturn(Optional.of(domain));
+    @Test
+    void isBlacklisted_whenValkeyUnavailableAndIndexLoaded_shouldFallbackToIndex() {
+        // Given
+        when(setOps.isMember(DomainBlacklistCache.SET_KEY, "spam.xyz"))
+                .thenThrow(new RuntimeException("Connection refused"));
+        when(blacklistIndex.isLoaded()).thenReturn(true);
+        when(blacklistIndex.isBlacklisted("spam.xyz")).thenReturn(true);
+
+        // When / Then
+        assertThat(cache.isBlacklisted("spam.xyz")).isTrue();
+        verifyNoInteractions(domainService);
+    }
+
+    @Test
+    void areBlacklisted_shouldAnswerWithOneSmismember() {
+        // Given
+        when(setOps.isMember(DomainBlacklistCache.SET_KEY, "spam.xyz", "new.org"))
+                .thenReturn(Map.of("spam.xyz", true, "new.org", false));
 
         // When
-        boolean result = cache.isBlacklisted("malware.info");
+        Map<String, Boolean> result = cache.areBlacklisted(List.of("spam.xyz", "new.org", "spam.xyz", " "));
 
         // Then
-        assertThat(result).isTrue();
-        verify(valueOps).get("blacklist:malware.info");
-        verify(domainService).findByDomainName("malware.info");
-        verify(valueOps).set("blacklist:malware.info", true, 24, TimeUnit.HOURS); // 24-hour TTL
+        assertThat(result).containsExactly(entry("spam.xyz", true), entry("new.org", false));
+        verify(setOps).isMember(DomainBlacklistCache.SET_KEY, "spam.xyz", "new.org");
+        verify(setOps, never()).isMember(anyString(), anyString());
+        verifyNoInteractions(domainService);
     }
 
     @Test
-    void isBlacklisted_whenDomainNotFoundInDatabase_shouldCacheFalse() {
-        // Given - cache miss, domain not in database (new domain)
-        when(valueOps.get("blacklist:newdomain.edu")).thenReturn(null);
-        when(domainService.findByDomainName("newdomain.edu")).thenReturn(Optional.empty());
+    void areBlacklisted_shouldMapLowerCasedMembersBackToInputDomains() {
+        // Given - both spellings collapse to one member
+        when(setOps.isMember(eq(DomainBlacklistCache.SET_KEY), any(Object[].class)))
+                .thenReturn(Map.of("spam.xyz", true));
 
         // When
-        boolean result = cache.isBlacklisted("newdomain.edu");
+        Map<String, Boolean> result = cache.areBlacklisted(List.of("Spam.xyz", "SPAM.XYZ"));
 
         // Then
-        assertThat(result).isFalse();
-        verify(valueOps).set("blacklist:newdomain.edu", false, 24, TimeUnit.HOURS);
+        assertThat(result).containsExactly(entry("Spam.xyz", true), entry("SPAM.XYZ", true));
     }
 
     @Test
-    void isBlacklisted_whenDomainNotBlacklisted_shouldCacheFalse() {
-        // Given - domain exists but not blacklisted
-        when(valueOps.get("blacklist:legit.edu")).thenReturn(null);
+    void areBlacklisted_whenValkeyUnavailable_shouldFallbackToDatabase() {
+        // Given
+        when(setOps.isMember(eq(DomainBlacklistCache.SET_KEY), any(Object[].class)))
+                .thenThrow(new RuntimeException("Connection refused"));
+        when(domainService.findByDomainName("malware.info"))
+                .thenReturn(Optional.of(domain("malware.info", DomainStatus.BLACKLISTED)));
+        when(domainService.findByDomainName("legit.org")).thenReturn(Optional.empty());
 
-        Domain domain = Domain.builder()
-                .domainId(UUID.randomUUID())
-                .domainName("legit.edu")
-                .status(DomainStatus.PROCESSED_HIGH_QUALITY)
-                .discoveredAt(LocalDateTime.now())
-                .build();
+        // When
+        Map<String, Boolean> result = cache.areBlacklisted(List.of("malware.info", "legit.org"));
+
+        // Then
+        assertThat(result).containsEntry("malware.info", true).containsEntry("legit.org", false);
+    }
 
-        when(domainService.findByDomainName("legit.edu")).thenReturn(Optional.of(domain));
+    @Test
+    void areBlacklisted_whenValkeyUnavailableAndIndexLoaded_shouldFallbackToIndex() {
+        // Given
+        when(setOps.isMember(eq(DomainBlacklistCache.SET_KEY), any(Object[].class)))
+                .thenThrow(new RuntimeException("Connection refused"));
+        when(blacklistIndex.isLoaded()).thenReturn(true);
+        when(blacklistIndex.isBlacklisted("spam.xyz")).thenReturn(true);
+        when(blacklistIndex.isBlacklisted("legit.org")).thenReturn(false);
 
         // When
-        boolean result = cache.isBlacklisted("legit.edu");
+        Map<String, Boolean> result = cache.areBlacklisted(List.of("spam.xyz", "legit.org"));
 
         // Then
-        assertThat(result).isFalse();
-        verify(valueOps).set("blacklist:legit.edu", false, 24, TimeUnit.HOURS);
+        assertThat(result).containsExactly(entry("spam.xyz", true), entry("legit.org", false));
+        verifyNoInteractions(domainService);
     }
 
     @Test
-    void isBlacklisted_whenValkeyUnavailable_shouldFallbackToDatabase() {
-        // Given - Valkey throws exception (connection refused)
-        when(valueOps.get("blacklist:example.org"))
-                .thenThrow(new RuntimeException("Connection refused"));
+    @SuppressWarnings("unchecked")
+    void lookup_whenSetNotBootstrapped_shouldLoadFromDatabaseAndSwapInWithRename() {
+        // Given - no ready marker, two blacklisted domains in PostgreSQL
+        when(redisTemplate.hasKey(DomainBlacklistCache.READY_KEY)).thenReturn(false);
+        when(domainService.getBlacklistedDomains()).thenReturn(List.of(
+                domain("Spam.XYZ", DomainStatus.BLACKLISTED),
+                domain("malware.info", DomainStatus.BLACKLISTED)));
+        when(setOps.isMember(DomainBlacklistCache.SET_KEY, "spam.xyz")).thenReturn(true);
 
-        Domain domain = Domain.builder()
-                .domainId(UUID.randomUUID())
-                .domainName("example.org")
-                .status(DomainStatus.DISCOVERED)
-                .discoveredAt(LocalDateTime.now())
-                .build();
+        // When
+        assertThat(cache.isBlacklisted("spam.xyz")).isTrue();
+
+        // Then - the pipeline fills a temporary key, renames it and sets the marker
+        ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+
+        RedisOperations<String, String> pipeline = mock(RedisOperations.class);
+        SetOperations<String, String> pipelineSetOps = mock(SetOperations.class);
+        ValueOperations<String, String> pipelineValueOps = mock(ValueOperations.class);
+        when(pipeline.opsForSet()).thenReturn(pipelineSetOps);
+        when(pipeline.opsForValue()).thenReturn(pipelineValueOps);
+        callback.getValue().execute(pipeline);
+
+        ArgumentCaptor<String> tempKey = ArgumentCaptor.forClass(String.class);
+        verify(pipelineSetOps).add(tempKey.capture(), eq("spam.xyz"), eq("malware.info"));
+        assertThat(tempKey.getValue()).startsWith(DomainBlacklistCache.SET_KEY + ":bootstrap:");
+        verify(pipeline).rename(tempKey.getValue(), DomainBlacklistCache.SET_KEY);
+        verify(pipelineValueOps).set(DomainBlacklistCache.READY_KEY, "1", DomainBlacklistCache.READY_TTL);
+        verify(domainService, never()).findByDomainName(anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bootstrap_withNoBlacklistedDomains_shouldDeleteSetAndSetMarker() {
+        // Given
+        when(redisTemplate.hasKey(DomainBlacklistCache.READY_KEY)).thenReturn(false);
+        when(domainService.getBlacklistedDomains()).thenReturn(List.of());
+
+        // When
+        cache.bootstrapOnStartup();
 
-        when(domainService.findByDomainName("example.org")).thenReturn(Optional.of(domain));
+        // Then
+        ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+
+        RedisOperations<String, String> pipeline = mock(RedisOperations.class);
+        ValueOperations<String, String> pipelineValueOps = mock(ValueOperations.class);
+        when(pipeline.opsForValue()).thenReturn(pipelineValueOps);
+        callback.getValue().execute(pipeline);
+
+        verify(pipeline).delete(DomainBlacklistCache.SET_KEY);
+        verify(pipeline, never()).rename(anyString(), anyString());
+        verify(pipelineValueOps).set(DomainBlacklistCache.READY_KEY, "1", DomainBlacklistCache.READY_TTL);
+    }
 
+    @Test
+    void lookups_shouldNotRecheckReadyMarkerOnEveryCall() {
         // When
-        boolean result = cache.isBlacklisted("example.org");
+        cache.isBlacklisted("a.org");
+        cache.isBlacklisted("b.org");
+        cache.areBlacklisted(List.of("c.org", "d.org"));
 
         // Then
-        assertThat(result).isFalse();
-        verify(domainService).findByDomainName("example.org");
-        // Should NOT attempt to cache when Valkey is down
+        verify(redisTemplate, times(1)).hasKey(DomainBlacklistCache.READY_KEY);
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
     }
 
     @Test
-    void invalidate_shouldRemoveFromCache() {
+    void onBlacklistChanged_shouldAddOrRemoveMember() {
+        // When
+        cache.onBlacklistChanged(new DomainBlacklistChangedEvent("Spam.XYZ", true));
+        cache.onBlacklistChanged(new DomainBlacklistChangedEvent("restored.org", false));
+
+        // Then
+        verify(setOps).add(DomainBlacklistCache.SET_KEY, "spam.xyz");
+        verify(setOps).remove(DomainBlacklistCache.SET_KEY, "restored.org");
+        verifyNoInteractions(domainService);
+    }
+
+    @Test
+    void onBlacklistChanged_whenValkeyUnavailable_shouldForceRebootstrap() {
+        // Given - marker checked once, then a sync fails
+        cache.isBlacklisted("a.org");
+        when(setOps.add(DomainBlacklistCache.SET_KEY, "spam.xyz"))
+                .thenThrow(new RuntimeException("Connection refused"));
+
+        // When
+        assertThatCode(() -> cache.onBlacklistChanged(new DomainBlacklistChangedEvent("spam.xyz", true)))
+                .doesNotThrowAnyException();
+        cache.isBlacklisted("b.org");
+
+        // Then - marker dropped and checked again on the next lookup
+        verify(redisTemplate).delete(DomainBlacklistCache.READY_KEY);
+        verify(redisTemplate, times(2)).hasKey(DomainBlacklistCache.READY_KEY);
+    }
+
+    @Test
+    void invalidate_shouldResyncMembershipFromDatabase() {
+        // Given
+        when(domainService.findByDomainName("updated.com"))
+                .thenReturn(Optional.of(domain("updated.com", DomainStatus.PROCESSED_HIGH_QUALITY)));
+
         // When
         cache.invalidate("updated.com");
 
         // Then
-        verify(redisTemplate).delete("blacklist:updated.com");
+        verify(setOps).remove(DomainBlacklistCache.SET_KEY, "updated.com");
     }
 
     @Test
     void invalidate_whenValkeyUnavailable_shouldHandleGracefully() {
         // Given
-        when(redisTemplate.delete("blacklist:example.com"))
+        when(domainService.findByDomainName("example.com"))
+                .thenReturn(Optional.of(domain("example.com", DomainStatus.BLACKLISTED)));
+        when(setOps.add(DomainBlacklistCache.SET_KEY, "example.com"))
                 .thenThrow(new RuntimeException("Connection refused"));
 
         // When/Then - should not throw exception
@@ -166,18 +334,12 @@ class DomainBlacklistCacheTest {
                 .doesNotThrowAnyException();
     }
 
-    @Test
-    void isBlacklisted_withNullDomain_shouldReturnFalse() {
-        // When/Then
-        assertThat(cache.isBlacklisted(null)).isFalse();
-        verifyNoInteractions(valueOps, domainService);
-    }
-
-    @Test
-    void isBlacklisted_withEmptyDomain_shouldReturnFalse() {
-        // When/Then
-        assertThat(cache.isBlacklisted("")).isFalse();
-        assertThat(cache.isBlacklisted("   ")).isFalse();
-        verifyNoInteractions(valueOps, domainService);
+    private static Domain domain(String name, DomainStatus status) {
+        return Domain.builder()
+                .domainId(UUID.randomUUID())
+                .domainName(name)
+                .status(status)
+                .discoveredAt(LocalDateTime.now())
+                .build();
     }
 }